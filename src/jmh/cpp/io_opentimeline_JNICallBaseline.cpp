@@ -0,0 +1,47 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <io_opentimeline_JNICallBaseline.h>
+#include <exceptions.h>
+#include <opentimelineio/item.h>
+#include <opentimelineio/version.h>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+/*
+ * Class:     io_opentimeline_JNICallBaseline
+ * Method:    getSourceRangeUncached
+ * Signature: (Lio/opentimeline/opentimelineio/Item;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_JNICallBaseline_getSourceRangeUncached
+        (JNIEnv *env, jclass thisClass, jobject itemObj) {
+    if (itemObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    jclass itemClass = env->GetObjectClass(itemObj);
+    jfieldID nativeManagerID = env->GetFieldID(
+            itemClass, "nativeManager", "Lio/opentimeline/OTIONative;");
+    jobject nativeManager = env->GetObjectField(itemObj, nativeManagerID);
+    jclass nativeManagerClass = env->GetObjectClass(nativeManager);
+    jfieldID nativeHandleID = env->GetFieldID(nativeManagerClass, "nativeHandle", "J");
+    jlong nativeHandle = env->GetLongField(nativeManager, nativeHandleID);
+    auto thisHandle =
+            reinterpret_cast<SerializableObject::Retainer<Item> *>(nativeHandle);
+    auto sourceRange = thisHandle->value->source_range();
+    if (sourceRange == nullopt) return nullptr;
+
+    jclass rtClass = env->FindClass("io/opentimeline/opentime/RationalTime");
+    jmethodID rtInit = env->GetMethodID(rtClass, "<init>", "(DD)V");
+    jobject startTime = env->NewObject(
+            rtClass, rtInit, sourceRange->start_time().value(), sourceRange->start_time().rate());
+    jobject duration = env->NewObject(
+            rtClass, rtInit, sourceRange->duration().value(), sourceRange->duration().rate());
+
+    jclass trClass = env->FindClass("io/opentimeline/opentime/TimeRange");
+    jmethodID trInit = env->GetMethodID(
+            trClass,
+            "<init>",
+            "(Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)V");
+    return env->NewObject(trClass, trInit, startTime, duration);
+}
@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_JNICallBaseline */
+
+#ifndef _Included_io_opentimeline_JNICallBaseline
+#define _Included_io_opentimeline_JNICallBaseline
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     io_opentimeline_JNICallBaseline
+ * Method:    getSourceRangeUncached
+ * Signature: (Lio/opentimeline/opentimelineio/Item;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_JNICallBaseline_getSourceRangeUncached
+  (JNIEnv *, jclass, jobject);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,102 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.Any;
+import io.opentimeline.opentimelineio.AnyDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures metadata access through AnyDictionary, each call crosses into libjotio.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnyDictionaryBenchmark {
+
+    @Param({"16", "1024"})
+    public int size;
+
+    private AnyDictionary dictionary;
+    private Any value;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        dictionary = new AnyDictionary();
+        keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "key" + i;
+            dictionary.put(keys[i], new Any(i));
+        }
+        value = new Any("value");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        value.close();
+        dictionary.close();
+    }
+
+    private String nextKey() {
+        String key = keys[next];
+        next = next + 1 == keys.length ? 0 : next + 1;
+        return key;
+    }
+
+    @Benchmark
+    public Any get() {
+        return dictionary.get(nextKey());
+    }
+
+    @Benchmark
+    public int getInt() {
+        return dictionary.get(nextKey()).safelyCastInt();
+    }
+
+    @Benchmark
+    public int getIntTyped() {
+        return dictionary.getInt(nextKey());
+    }
+
+    @Benchmark
+    public Any put() {
+        return dictionary.put(nextKey(), value);
+    }
+
+    @Benchmark
+    public void putIntTyped() {
+        String key = nextKey();
+        dictionary.putInt(key, next);
+    }
+
+    @Benchmark
+    public int readAll() {
+        int sum = 0;
+        for (String key : keys) {
+            sum += dictionary.get(key).safelyCastInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int readAllToJavaMap() {
+        int sum = 0;
+        for (Object v : dictionary.toJavaMap().values()) {
+            sum += (Integer) v;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public boolean containsKey() {
+        return dictionary.containsKey(nextKey());
+    }
+}
@@ -0,0 +1,65 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.Clip;
+import io.opentimeline.opentimelineio.Timeline;
+import io.opentimeline.util.TimelineGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a per clip check over a whole timeline, walking the clips
+ * sequentially against a parallel stream over Timeline.clipSpliterator().
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClipSpliteratorBenchmark {
+
+    @Param({"1000", "10000"})
+    public int itemsPerTrack;
+
+    private Timeline timeline;
+
+    @Setup
+    public void setUp() throws Exception {
+        timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(42)
+                .setTracks(8)
+                .setItemsPerTrack(itemsPerTrack)
+                .setMetadataDepth(2)
+                .build()
+                .generateTimeline();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        timeline.close();
+    }
+
+    private static boolean check(Clip clip) {
+        try {
+            return clip.getMetadata().size() > 0
+                    && clip.getAvailableRange().getDuration().getValue() > 0
+                    && !clip.getMediaReference().isMissingReference();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public long eachClip() throws Exception {
+        return timeline.eachClip().filter(ClipSpliteratorBenchmark::check).count();
+    }
+
+    @Benchmark
+    public long clipStreamParallel() throws Exception {
+        return timeline.clipStream(null, true).filter(ClipSpliteratorBenchmark::check).count();
+    }
+}
@@ -0,0 +1,138 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.ChildCursor;
+import io.opentimeline.opentimelineio.Clip;
+import io.opentimeline.opentimelineio.Composable;
+import io.opentimeline.opentimelineio.Stack;
+import io.opentimeline.opentimelineio.Track;
+import io.opentimeline.util.Pair;
+import io.opentimeline.util.TimelineGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures child lookups on a track of the given size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompositionBenchmark {
+
+    private static final double RATE = 24;
+
+    @Param({"100", "1000", "10000"})
+    public int items;
+
+    private Track track;
+    private Track indexedTrack;
+    // track inside a stack inside a track
+    private Track nestedTrack;
+    private RationalTime[] searchTimes;
+    private TimeRange searchRange;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        track = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(42)
+                .setItemsPerTrack(items)
+                .build()
+                .generateTrack(0);
+        indexedTrack = (Track) track.deepCopy();
+        indexedTrack.setTimeIndexEnabled(true);
+        Stack stack = new Stack.StackBuilder().build();
+        stack.appendChild((Track) track.deepCopy());
+        nestedTrack = new Track.TrackBuilder().build();
+        nestedTrack.appendChild(stack);
+        double duration = track.getDuration().getValue();
+        Random random = new Random(7);
+        searchTimes = new RationalTime[1024];
+        for (int i = 0; i < searchTimes.length; i++) {
+            searchTimes[i] = new RationalTime(Math.floor(random.nextDouble() * duration), RATE);
+        }
+        searchRange = new TimeRange(
+                new RationalTime(Math.floor(duration / 4), RATE),
+                new RationalTime(Math.floor(duration / 10), RATE));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        track.close();
+        indexedTrack.close();
+        nestedTrack.close();
+    }
+
+    @Benchmark
+    public Composable getChildAtTime() throws Exception {
+        RationalTime time = searchTimes[next];
+        next = next + 1 == searchTimes.length ? 0 : next + 1;
+        return track.getChildAtTime(time);
+    }
+
+    @Benchmark
+    public Composable getChildAtTimeIndexed() throws Exception {
+        RationalTime time = searchTimes[next];
+        next = next + 1 == searchTimes.length ? 0 : next + 1;
+        return indexedTrack.getChildAtTime(time);
+    }
+
+    @Benchmark
+    public Composable getChildAtTimeNested() throws Exception {
+        RationalTime time = searchTimes[next];
+        next = next + 1 == searchTimes.length ? 0 : next + 1;
+        return nestedTrack.getChildAtTime(time);
+    }
+
+    @Benchmark
+    public Pair<Composable, RationalTime> getChildAndLocalTimeAtTimeNested() throws Exception {
+        RationalTime time = searchTimes[next];
+        next = next + 1 == searchTimes.length ? 0 : next + 1;
+        return nestedTrack.getChildAndLocalTimeAtTime(time, false);
+    }
+
+    @Benchmark
+    public void eachChild(Blackhole blackhole) throws Exception {
+        track.eachChild(null, Composable.class, true).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void eachChildInRange(Blackhole blackhole) throws Exception {
+        track.eachChild(searchRange, Composable.class, true).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void eachChildInRangeIndexed(Blackhole blackhole) throws Exception {
+        indexedTrack.eachChild(searchRange, Composable.class, true).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void childCursor(Blackhole blackhole) throws Exception {
+        ChildCursor<Clip> cursor = track.childCursor(null, Clip.class, true);
+        while (cursor.hasNext()) {
+            blackhole.consume(cursor.next());
+        }
+    }
+
+    @Benchmark
+    public List<Clip> childrenIf() {
+        return track.childrenIf(Clip.class, Optional.empty(), true);
+    }
+
+    @Benchmark
+    public List<Clip> childrenIfInRange() {
+        return track.childrenIf(Clip.class, Optional.of(searchRange), true);
+    }
+}
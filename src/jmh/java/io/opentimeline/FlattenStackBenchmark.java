@@ -0,0 +1,59 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.Algorithms;
+import io.opentimeline.opentimelineio.Stack;
+import io.opentimeline.opentimelineio.Track;
+import io.opentimeline.util.TimelineGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Algorithms.flattenStack over stacks from TimelineGenerator of 1k to 1M items.
+ * Building the largest stack takes a while, it is done once per fork.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlattenStackBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int items;
+
+    @Param({"8"})
+    public int tracks;
+
+    private Stack stack;
+    private Algorithms algorithms;
+
+    @Setup
+    public void setUp() throws Exception {
+        stack = new Stack.StackBuilder().build();
+        new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(42)
+                .setTracks(tracks)
+                .setItemsPerTrack(items / tracks)
+                .build()
+                .generateInto(stack);
+        algorithms = new Algorithms();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        stack.close();
+    }
+
+    @Benchmark
+    public int flattenStack() throws Exception {
+        Track flat = algorithms.flattenStack(stack);
+        int count = flat.getChildrenCount();
+        flat.close();
+        return count;
+    }
+}
@@ -0,0 +1,28 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.Item;
+
+/**
+ * Natives used as baselines by the benchmarks, built from src/jmh/cpp into a
+ * separate library that is not shipped with the bindings.
+ */
+final class JNICallBaseline {
+
+    static {
+        LibraryLoader.load("jotio");
+        System.loadLibrary("jotiojmh");
+    }
+
+    private JNICallBaseline() {
+    }
+
+    /**
+     * Same as Item.getSourceRange() but resolves every class, method and field ID
+     * on each call, the way the bindings did before JNI_OnLoad caching.
+     */
+    static native TimeRange getSourceRangeUncached(Item item);
+}
@@ -0,0 +1,51 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.Item;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a simple native getter with class, method and field IDs
+ * cached in JNI_OnLoad against resolving them on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JNICallBenchmark {
+
+    private Item item;
+
+    @Setup
+    public void setUp() {
+        item = new Item.ItemBuilder()
+                .setName("benchmark")
+                .setSourceRange(new TimeRange(
+                        new RationalTime(0, 24),
+                        new RationalTime(48, 24)))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        item.close();
+    }
+
+    @Benchmark
+    public TimeRange getSourceRangeCached() {
+        return item.getSourceRange();
+    }
+
+    @Benchmark
+    public TimeRange getSourceRangeUncached() {
+        return JNICallBaseline.getSourceRangeUncached(item);
+    }
+}
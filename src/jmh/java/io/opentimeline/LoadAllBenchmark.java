@@ -0,0 +1,81 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.Deserialization;
+import io.opentimeline.opentimelineio.Timeline;
+import io.opentimeline.util.TimelineGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how Deserialization.loadAll() scales with the number of threads.
+ * Compare the score for each thread count against the single threaded one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoadAllBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"256"})
+    public int files;
+
+    private Path directory;
+    private List<Path> paths;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("loadAllBenchmark");
+        paths = new ArrayList<>(files);
+        for (int i = 0; i < files; i++) {
+            Timeline timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                    .setSeed(i)
+                    .setTracks(4)
+                    .setItemsPerTrack(100)
+                    .setMetadataDepth(1)
+                    .build()
+                    .generateTimeline();
+            Path path = directory.resolve("timeline" + i + ".otio");
+            timeline.toJSONFile(path.toString());
+            timeline.close();
+            paths.add(path);
+        }
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        executor.shutdown();
+        for (Path path : paths) {
+            Files.delete(path);
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public int loadAll() throws Exception {
+        int loaded = 0;
+        for (Deserialization.LoadResult result : Deserialization.loadAll(paths, executor).get()) {
+            if (result.isSuccess()) {
+                result.getObject().close();
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+}
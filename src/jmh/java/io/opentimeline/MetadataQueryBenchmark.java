@@ -0,0 +1,68 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.AnyDictionary;
+import io.opentimeline.opentimelineio.Clip;
+import io.opentimeline.opentimelineio.MetadataQuery;
+import io.opentimeline.opentimelineio.Track;
+import io.opentimeline.util.TimelineGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures finding clips by a nested metadata value, walking the metadata from Java
+ * against a MetadataQuery evaluated in native code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetadataQueryBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int items;
+
+    private Track track;
+    private MetadataQuery query;
+
+    @Setup
+    public void setUp() throws Exception {
+        track = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(42)
+                .setItemsPerTrack(items)
+                .setMetadataDepth(2)
+                .build()
+                .generateTrack(0);
+        // key3 is a nested dictionary, key2 a double in [0, 1)
+        query = MetadataQuery.compile("key3.key2 < 0.1");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        query.close();
+        track.close();
+    }
+
+    @Benchmark
+    public List<Clip> javaWalk() throws Exception {
+        return track.eachClip(null, false)
+                .filter(clip -> {
+                    AnyDictionary metadata = clip.getMetadata();
+                    return metadata.containsKey("key3")
+                            && metadata.get("key3").safelyCastAnyDictionary().getDouble("key2") < 0.1;
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Clip> metadataQuery() {
+        return query.find(track, Clip.class);
+    }
+}
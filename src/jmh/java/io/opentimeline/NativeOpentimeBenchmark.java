@@ -0,0 +1,13 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * Runs OpentimeBenchmark with every opentime operation crossing into libjotio.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Dio.opentimeline.opentime.engine=native")
+public class NativeOpentimeBenchmark extends OpentimeBenchmark {
+}
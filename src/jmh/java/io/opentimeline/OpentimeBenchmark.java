@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures RationalTime and TimeRange arithmetic with the default opentime engine.
+ * NativeOpentimeBenchmark runs the same benchmarks against libjotio.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OpentimeBenchmark {
+
+    private RationalTime time;
+    private RationalTime otherTime;
+    private TimeRange range;
+    private TimeRange otherRange;
+
+    @Setup
+    public void setUp() {
+        time = new RationalTime(86400, 24);
+        otherTime = new RationalTime(1001, 30000);
+        range = new TimeRange(new RationalTime(10, 24), new RationalTime(100, 24));
+        otherRange = new TimeRange(new RationalTime(50, 25), new RationalTime(200, 25));
+    }
+
+    @Benchmark
+    public RationalTime add() {
+        return time.add(otherTime);
+    }
+
+    @Benchmark
+    public RationalTime rescaledTo() {
+        return time.rescaledTo(otherTime);
+    }
+
+    @Benchmark
+    public double toSeconds() {
+        return time.toSeconds();
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return time.compareTo(otherTime);
+    }
+
+    @Benchmark
+    public RationalTime endTimeExclusive() {
+        return range.endTimeExclusive();
+    }
+
+    @Benchmark
+    public TimeRange extendedBy() {
+        return range.extendedBy(otherRange);
+    }
+
+    @Benchmark
+    public boolean overlaps() {
+        return range.overlaps(otherRange);
+    }
+
+    @Benchmark
+    public TimeRange clamped() {
+        return range.clamped(otherRange);
+    }
+}
@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentimelineio.Any;
+import io.opentimeline.opentimelineio.Composable;
+import io.opentimeline.opentimelineio.LazyTimeline;
+import io.opentimeline.opentimelineio.SerializableObject;
+import io.opentimeline.opentimelineio.Serialization;
+import io.opentimeline.opentimelineio.Timeline;
+import io.opentimeline.util.TimelineGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures JSON and binary round trips and deep copies of a synthetic timeline,
+ * and how much sooner a LazyTimeline answers peek queries than a full load.
+ * Results are closed right away so that native memory does not pile up behind the GC.
+ * The encoded sizes are reported as the jsonBytes and binaryBytes counters of
+ * the serialize benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    @Param({"1000", "10000"})
+    public int items;
+
+    private Timeline timeline;
+    private Any timelineAny;
+    private Serialization serialization;
+    private String json;
+    private byte[] binary;
+    private ByteBuffer jsonBuffer;
+
+    /**
+     * Sizes of the encoded timeline, reported next to the timings.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long jsonBytes;
+        public long binaryBytes;
+
+        @Setup
+        public void setUp(SerializationBenchmark benchmark) {
+            jsonBytes = benchmark.jsonBuffer.capacity();
+            binaryBytes = benchmark.binary.length;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(42)
+                .setTracks(4)
+                .setItemsPerTrack(items / 4)
+                .setMarkersPerItem(1)
+                .setMetadataDepth(2)
+                .build()
+                .generateTimeline();
+        timelineAny = new Any(timeline);
+        serialization = new Serialization();
+        json = serialization.serializeJSONToString(timelineAny);
+        binary = serialization.serializeBinary(timelineAny);
+        byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+        jsonBuffer = ByteBuffer.allocateDirect(jsonBytes.length);
+        jsonBuffer.put(jsonBytes).flip();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        timelineAny.close();
+        timeline.close();
+    }
+
+    @Benchmark
+    public String serializeJSONToString(EncodedSize size) throws Exception {
+        return serialization.serializeJSONToString(timelineAny);
+    }
+
+    @Benchmark
+    public int fromJSONString() throws Exception {
+        SerializableObject object = SerializableObject.fromJSONString(json);
+        int refCount = object.currentRefCount();
+        object.close();
+        return refCount;
+    }
+
+    @Benchmark
+    public byte[] serializeBinary(EncodedSize size) throws Exception {
+        return serialization.serializeBinary(timelineAny);
+    }
+
+    @Benchmark
+    public int fromBinary() throws Exception {
+        SerializableObject object = SerializableObject.fromBinary(binary);
+        int refCount = object.currentRefCount();
+        object.close();
+        return refCount;
+    }
+
+    @Benchmark
+    public int deepCopy() throws Exception {
+        SerializableObject copy = timeline.deepCopy();
+        int refCount = copy.currentRefCount();
+        copy.close();
+        return refCount;
+    }
+
+    @Benchmark
+    public RationalTime durationFullLoad() throws Exception {
+        Timeline loaded = (Timeline) SerializableObject.fromJSON(jsonBuffer.duplicate());
+        RationalTime duration = loaded.getDuration();
+        loaded.close();
+        return duration;
+    }
+
+    @Benchmark
+    public RationalTime durationLazy() throws Exception {
+        return LazyTimeline.fromJSON(jsonBuffer.duplicate()).getDuration();
+    }
+
+    @Benchmark
+    public String firstClipLazy() throws Exception {
+        Composable first = LazyTimeline.fromJSON(jsonBuffer.duplicate()).getChild(0, 0);
+        String name = first.getName();
+        first.close();
+        return name;
+    }
+}
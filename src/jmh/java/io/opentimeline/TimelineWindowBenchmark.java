@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.Clip;
+import io.opentimeline.opentimelineio.Timeline;
+import io.opentimeline.opentimelineio.TimelineWindow;
+import io.opentimeline.util.TimelineGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures drawing one viewport of a timeline: clipIf() on the window followed
+ * by getTrimmedRangeInParent() on every clip, against one itemsInWindow() call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimelineWindowBenchmark {
+
+    @Param({"1000", "10000"})
+    public int itemsPerTrack;
+
+    private Timeline timeline;
+    private TimeRange window;
+
+    @Setup
+    public void setUp() throws Exception {
+        timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(42)
+                .setTracks(8)
+                .setItemsPerTrack(itemsPerTrack)
+                .build()
+                .generateTimeline();
+        // 10 seconds in the middle of the timeline
+        RationalTime duration = timeline.getDuration();
+        window = new TimeRange(
+                new RationalTime(duration.getValue() / 2, duration.getRate()),
+                new RationalTime(10 * duration.getRate(), duration.getRate()));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        timeline.close();
+    }
+
+    @Benchmark
+    public double clipIfAndRanges() throws Exception {
+        double sum = 0;
+        for (Clip clip : timeline.clipIf(Optional.of(window), false)) {
+            sum += clip.getTrimmedRangeInParent().getDuration().toSeconds();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double itemsInWindow() throws Exception {
+        TimelineWindow items = timeline.itemsInWindow(window);
+        double sum = 0;
+        for (int i = 0; i < items.size(); i++) {
+            sum += items.getEndSeconds(i) - items.getStartSeconds(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,463 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <binary_codec.h>
+
+#include <opentime/rationalTime.h>
+#include <opentime/timeRange.h>
+#include <opentime/timeTransform.h>
+#include <opentimelineio/anyDictionary.h>
+#include <opentimelineio/anyVector.h>
+#include <opentimelineio/serializableObject.h>
+#include <opentimelineio/serialization.h>
+#include <opentimelineio/typeRegistry.h>
+
+// a namespace of our own, separate from the copy of rapidjson built into OTIO
+#ifndef RAPIDJSON_NAMESPACE
+#define RAPIDJSON_NAMESPACE jotio_rapidjson
+#define RAPIDJSON_NAMESPACE_BEGIN namespace jotio_rapidjson {
+#define RAPIDJSON_NAMESPACE_END }
+#endif
+
+#include <rapidjson/document.h>
+
+#include <cstdint>
+#include <cstdlib>
+#include <cstring>
+#include <unordered_map>
+#include <vector>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+namespace json = RAPIDJSON_NAMESPACE;
+
+namespace {
+
+const char magic[] = {'O', 'T', 'B', 1};
+
+// deeper documents are rejected instead of overflowing the stack
+const int maxDepth = 512;
+
+enum Tag : uint8_t {
+    TAG_NULL = 0,
+    TAG_FALSE = 1,
+    TAG_TRUE = 2,
+    TAG_INT = 3,
+    TAG_DOUBLE = 4,
+    TAG_STRING = 5,
+    TAG_ARRAY = 6,
+    TAG_DICTIONARY = 7,
+    TAG_OBJECT = 8,
+    TAG_RATIONAL_TIME = 9,
+    TAG_TIME_RANGE = 10,
+    TAG_TIME_TRANSFORM = 11
+};
+
+class BinaryWriter {
+public:
+    explicit BinaryWriter(std::string &out) : out(out) {}
+
+    void byte(uint8_t value) {
+        out.push_back(static_cast<char>(value));
+    }
+
+    void varint(uint64_t value) {
+        while (value >= 0x80) {
+            byte(static_cast<uint8_t>(value) | 0x80);
+            value >>= 7;
+        }
+        byte(static_cast<uint8_t>(value));
+    }
+
+    void zigzag(int64_t value) {
+        varint((static_cast<uint64_t>(value) << 1) ^ static_cast<uint64_t>(value >> 63));
+    }
+
+    void float64(double value) {
+        uint64_t bits;
+        memcpy(&bits, &value, sizeof(bits));
+        for (int i = 0; i < 8; i++) {
+            byte(static_cast<uint8_t>(bits >> (8 * i)));
+        }
+    }
+
+    void string(const char *value, size_t length) {
+        varint(length);
+        out.append(value, length);
+    }
+
+    void interned(const char *value, size_t length) {
+        std::string key(value, length);
+        auto it = table.find(key);
+        if (it != table.end()) {
+            varint(it->second + 1);
+            return;
+        }
+        uint64_t index = table.size();
+        table.emplace(std::move(key), index);
+        varint(0);
+        string(value, length);
+    }
+
+private:
+    std::string &out;
+    std::unordered_map<std::string, uint64_t> table;
+};
+
+typedef json::Value JSONValue;
+
+const JSONValue *
+member(const JSONValue &object, const char *name) {
+    auto it = object.FindMember(name);
+    return it == object.MemberEnd() ? nullptr : &it->value;
+}
+
+bool
+hasSchema(const JSONValue &object, const char *schema) {
+    const JSONValue *value = member(object, "OTIO_SCHEMA");
+    return value != nullptr && value->IsString() && strcmp(value->GetString(), schema) == 0;
+}
+
+bool
+number(const JSONValue *value, double &out) {
+    if (value == nullptr || !value->IsNumber()) return false;
+    out = value->GetDouble();
+    return true;
+}
+
+bool
+rationalTime(const JSONValue *object, double &value, double &rate) {
+    return object != nullptr && object->IsObject() && object->MemberCount() == 3 &&
+           hasSchema(*object, "RationalTime.1") &&
+           number(member(*object, "value"), value) &&
+           number(member(*object, "rate"), rate);
+}
+
+bool
+writeValue(BinaryWriter &writer, const JSONValue &value, int depth, ErrorStatus *errorStatus) {
+    if (depth > maxDepth) {
+        *errorStatus = ErrorStatus(ErrorStatus::Outcome::INTERNAL_ERROR, "document is nested too deeply");
+        return false;
+    }
+    switch (value.GetType()) {
+        case json::kNullType:
+            writer.byte(TAG_NULL);
+            return true;
+        case json::kFalseType:
+            writer.byte(TAG_FALSE);
+            return true;
+        case json::kTrueType:
+            writer.byte(TAG_TRUE);
+            return true;
+        case json::kNumberType:
+            if (value.IsInt64()) {
+                writer.byte(TAG_INT);
+                writer.zigzag(value.GetInt64());
+            } else if (value.IsUint64()) {
+                // the JSON reader coerces this to int64_t as well
+                writer.byte(TAG_INT);
+                writer.zigzag(static_cast<int64_t>(value.GetUint64()));
+            } else {
+                writer.byte(TAG_DOUBLE);
+                writer.float64(value.GetDouble());
+            }
+            return true;
+        case json::kStringType:
+            writer.byte(TAG_STRING);
+            writer.string(value.GetString(), value.GetStringLength());
+            return true;
+        case json::kArrayType:
+            writer.byte(TAG_ARRAY);
+            writer.varint(value.Size());
+            for (auto &element: value.GetArray()) {
+                if (!writeValue(writer, element, depth + 1, errorStatus)) return false;
+            }
+            return true;
+        case json::kObjectType:
+            break;
+    }
+
+    const JSONValue *schema = member(value, "OTIO_SCHEMA");
+    if (schema == nullptr || !schema->IsString()) {
+        writer.byte(TAG_DICTIONARY);
+        writer.varint(value.MemberCount());
+        for (auto &it: value.GetObject()) {
+            writer.interned(it.name.GetString(), it.name.GetStringLength());
+            if (!writeValue(writer, it.value, depth + 1, errorStatus)) return false;
+        }
+        return true;
+    }
+
+    double startValue, startRate, durationValue, durationRate, scale, rate;
+    if (rationalTime(&value, startValue, startRate)) {
+        writer.byte(TAG_RATIONAL_TIME);
+        writer.float64(startValue);
+        writer.float64(startRate);
+        return true;
+    }
+    if (hasSchema(value, "TimeRange.1") && value.MemberCount() == 3 &&
+        rationalTime(member(value, "start_time"), startValue, startRate) &&
+        rationalTime(member(value, "duration"), durationValue, durationRate)) {
+        writer.byte(TAG_TIME_RANGE);
+        writer.float64(startValue);
+        writer.float64(startRate);
+        writer.float64(durationValue);
+        writer.float64(durationRate);
+        return true;
+    }
+    if (hasSchema(value, "TimeTransform.1") && value.MemberCount() == 4 &&
+        rationalTime(member(value, "offset"), startValue, startRate) &&
+        number(member(value, "scale"), scale) &&
+        number(member(value, "rate"), rate)) {
+        writer.byte(TAG_TIME_TRANSFORM);
+        writer.float64(startValue);
+        writer.float64(startRate);
+        writer.float64(scale);
+        writer.float64(rate);
+        return true;
+    }
+
+    // "Clip.1" -> schema name "Clip", version 1
+    std::string schemaString(schema->GetString(), schema->GetStringLength());
+    size_t dot = schemaString.rfind('.');
+    char *end = nullptr;
+    long version = dot == std::string::npos ? -1 : strtol(schemaString.c_str() + dot + 1, &end, 10);
+    if (version < 0 || end == nullptr || *end != '\0') {
+        *errorStatus = ErrorStatus(ErrorStatus::Outcome::MALFORMED_SCHEMA,
+                                   "badly formed schema name '" + schemaString + "'");
+        return false;
+    }
+    writer.byte(TAG_OBJECT);
+    writer.interned(schemaString.data(), dot);
+    writer.varint(static_cast<uint64_t>(version));
+    writer.varint(value.MemberCount() - 1);
+    for (auto &it: value.GetObject()) {
+        if (&it.value == schema) continue;
+        writer.interned(it.name.GetString(), it.name.GetStringLength());
+        if (!writeValue(writer, it.value, depth + 1, errorStatus)) return false;
+    }
+    return true;
+}
+
+class BinaryReader {
+public:
+    BinaryReader(const char *data, size_t size)
+            : position(reinterpret_cast<const uint8_t *>(data)),
+              end(reinterpret_cast<const uint8_t *>(data) + size) {}
+
+    size_t remaining() const {
+        return static_cast<size_t>(end - position);
+    }
+
+    bool byte(uint8_t &value) {
+        if (position == end) return false;
+        value = *position++;
+        return true;
+    }
+
+    bool varint(uint64_t &value) {
+        value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            uint8_t b;
+            if (!byte(b)) return false;
+            value |= static_cast<uint64_t>(b & 0x7f) << shift;
+            if ((b & 0x80) == 0) return true;
+        }
+        return false;
+    }
+
+    bool zigzag(int64_t &value) {
+        uint64_t raw;
+        if (!varint(raw)) return false;
+        value = static_cast<int64_t>(raw >> 1) ^ -static_cast<int64_t>(raw & 1);
+        return true;
+    }
+
+    bool float64(double &value) {
+        if (remaining() < 8) return false;
+        uint64_t bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits |= static_cast<uint64_t>(position[i]) << (8 * i);
+        }
+        position += 8;
+        memcpy(&value, &bits, sizeof(value));
+        return true;
+    }
+
+    bool string(std::string &value) {
+        uint64_t length;
+        if (!varint(length) || length > remaining()) return false;
+        value.assign(reinterpret_cast<const char *>(position), static_cast<size_t>(length));
+        position += length;
+        return true;
+    }
+
+    bool interned(std::string &value) {
+        uint64_t reference;
+        if (!varint(reference)) return false;
+        if (reference == 0) {
+            if (!string(value)) return false;
+            table.push_back(value);
+            return true;
+        }
+        if (reference > table.size()) return false;
+        value = table[static_cast<size_t>(reference - 1)];
+        return true;
+    }
+
+    // every element takes at least one byte, so larger counts are corrupt
+    bool count(uint64_t &value) {
+        return varint(value) && value <= remaining();
+    }
+
+private:
+    const uint8_t *position;
+    const uint8_t *end;
+    std::vector<std::string> table;
+};
+
+bool
+malformed(ErrorStatus *errorStatus) {
+    *errorStatus = ErrorStatus(ErrorStatus::Outcome::MALFORMED_SCHEMA, "malformed OTIO binary document");
+    return false;
+}
+
+bool
+readRationalTime(BinaryReader &reader, RationalTime &time) {
+    double value, rate;
+    if (!reader.float64(value) || !reader.float64(rate)) return false;
+    time = RationalTime(value, rate);
+    return true;
+}
+
+bool
+readValue(BinaryReader &reader, any &out, int depth, ErrorStatus *errorStatus) {
+    uint8_t tag;
+    if (depth > maxDepth || !reader.byte(tag)) return malformed(errorStatus);
+    switch (tag) {
+        case TAG_NULL:
+            out = any();
+            return true;
+        case TAG_FALSE:
+        case TAG_TRUE:
+            out = any(tag == TAG_TRUE);
+            return true;
+        case TAG_INT: {
+            // like the JSON reader, which stores every integer as int64_t
+            int64_t value;
+            if (!reader.zigzag(value)) return malformed(errorStatus);
+            out = any(value);
+            return true;
+        }
+        case TAG_DOUBLE: {
+            double value;
+            if (!reader.float64(value)) return malformed(errorStatus);
+            out = any(value);
+            return true;
+        }
+        case TAG_STRING: {
+            std::string value;
+            if (!reader.string(value)) return malformed(errorStatus);
+            out = any(std::move(value));
+            return true;
+        }
+        case TAG_ARRAY: {
+            uint64_t count;
+            if (!reader.count(count)) return malformed(errorStatus);
+            AnyVector vector;
+            for (uint64_t i = 0; i < count; i++) {
+                vector.push_back(any());
+                if (!readValue(reader, vector.back(), depth + 1, errorStatus)) return false;
+            }
+            out = any(std::move(vector));
+            return true;
+        }
+        case TAG_DICTIONARY:
+        case TAG_OBJECT: {
+            std::string schemaName;
+            uint64_t version = 0;
+            if (tag == TAG_OBJECT && (!reader.interned(schemaName) || !reader.varint(version))) {
+                return malformed(errorStatus);
+            }
+            uint64_t count;
+            if (!reader.count(count)) return malformed(errorStatus);
+            AnyDictionary dictionary;
+            std::string key;
+            for (uint64_t i = 0; i < count; i++) {
+                if (!reader.interned(key)) return malformed(errorStatus);
+                any &value = dictionary[key];
+                if (!readValue(reader, value, depth + 1, errorStatus)) return false;
+            }
+            if (tag == TAG_DICTIONARY) {
+                out = any(std::move(dictionary));
+                return true;
+            }
+            SerializableObject *object = TypeRegistry::instance().instance_from_schema(
+                    schemaName, static_cast<int>(version), dictionary, errorStatus);
+            if (object == nullptr) return false;
+            out = any(SerializableObject::Retainer<>(object));
+            return true;
+        }
+        case TAG_RATIONAL_TIME: {
+            RationalTime time;
+            if (!readRationalTime(reader, time)) return malformed(errorStatus);
+            out = any(time);
+            return true;
+        }
+        case TAG_TIME_RANGE: {
+            RationalTime startTime, duration;
+            if (!readRationalTime(reader, startTime) || !readRationalTime(reader, duration)) {
+                return malformed(errorStatus);
+            }
+            out = any(TimeRange(startTime, duration));
+            return true;
+        }
+        case TAG_TIME_TRANSFORM: {
+            RationalTime offset;
+            double scale, rate;
+            if (!readRationalTime(reader, offset) || !reader.float64(scale) || !reader.float64(rate)) {
+                return malformed(errorStatus);
+            }
+            out = any(TimeTransform(offset, scale, rate));
+            return true;
+        }
+        default:
+            return malformed(errorStatus);
+    }
+}
+
+}
+
+bool
+encodeBinary(const any &value, std::string &out, ErrorStatus *errorStatus) {
+    // The OTIO writer is not public, so objects go through their JSON form,
+    // parsed in place without copying any of its strings.
+    std::string text = serialize_json_to_string(value, errorStatus, 0);
+    if (errorStatus->outcome != ErrorStatus::Outcome::OK) return false;
+    json::Document document;
+    document.ParseInsitu<json::kParseFullPrecisionFlag | json::kParseNanAndInfFlag>(&text[0]);
+    if (document.HasParseError()) {
+        *errorStatus = ErrorStatus(ErrorStatus::Outcome::JSON_PARSE_ERROR, "could not read the JSON form");
+        return false;
+    }
+    out.clear();
+    out.reserve(text.size() / 2);
+    out.append(magic, sizeof(magic));
+    BinaryWriter writer(out);
+    return writeValue(writer, document, 0, errorStatus);
+}
+
+bool
+decodeBinary(const char *data, size_t size, any *destination, ErrorStatus *errorStatus) {
+    if (size < sizeof(magic) || memcmp(data, magic, sizeof(magic)) != 0) {
+        *errorStatus = ErrorStatus(ErrorStatus::Outcome::MALFORMED_SCHEMA, "not an OTIO binary document");
+        return false;
+    }
+    BinaryReader reader(data + sizeof(magic), size - sizeof(magic));
+    // decoded aside, so that the caller's value is left alone on malformed input
+    any value;
+    if (!readValue(reader, value, 0, errorStatus)) return false;
+    if (reader.remaining() != 0) return malformed(errorStatus);
+    *destination = std::move(value);
+    return true;
+}
@@ -3,6 +3,7 @@
 
 #include <class_codes.h>
 #include <exceptions.h>
+#include <jni_cache.h>
 #include <opentimelineio/version.h>
 #include <opentime/errorStatus.h>
 #include <opentimelineio/any.h>
@@ -28,6 +29,7 @@
 #include <opentimelineio/stack.h>
 #include <opentimelineio/track.h>
 #include <opentimelineio/timeline.h>
+#include <metadata_query.h>
 #include <memory>
 
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
@@ -140,6 +142,8 @@ std::map<ClassCode, std::string> classCodeToString = {
                                             "io.opentimeline.opentimelineio.Track"},
         {ClassCode::_Timeline,
                                             "io.opentimeline.opentimelineio.Timeline"},
+        {ClassCode::_MetadataQuery,
+                                            "io.opentimeline.opentimelineio.MetadataQuery"},
 };
 
 ClassCode getClassCodeFromString(std::string str) {
@@ -177,12 +181,15 @@ ClassCode getClassCodeFromString(std::string str) {
         (*stringToClassCode)["io.opentimeline.opentimelineio.Stack"] = ClassCode::_Stack;
         (*stringToClassCode)["io.opentimeline.opentimelineio.Track"] = ClassCode::_Track;
         (*stringToClassCode)["io.opentimeline.opentimelineio.Timeline"] = ClassCode::_Timeline;
+        (*stringToClassCode)["io.opentimeline.opentimelineio.MetadataQuery"] = ClassCode::_MetadataQuery;
     });
     return (*stringToClassCode)[str];
 }
 
 void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
-    std::string className = env->GetStringUTFChars(nativeClassName, 0);
+    const char *classNameChars = env->GetStringUTFChars(nativeClassName, 0);
+    std::string className = classNameChars;
+    env->ReleaseStringUTFChars(nativeClassName, classNameChars);
     switch (getClassCodeFromString(className)) {
         case _Any: {
             auto obj = reinterpret_cast<any *>(nativeHandle);
@@ -380,19 +387,19 @@ void disposeObject(JNIEnv *env, jlong nativeHandle, jstring nativeClassName) {
             delete obj;
             break;
         }
+        case _MetadataQuery: {
+            auto obj = reinterpret_cast<MetadataQuery *>(nativeHandle);
+            delete obj;
+            break;
+        }
         default:
             throwRuntimeException(env, "Could not find class.");
     }
 }
 
 void disposeObject(JNIEnv *env, jobject thisObj) {
-    jclass thisClass = env->GetObjectClass(thisObj);
-    jfieldID nativeHandleID = env->GetFieldID(thisClass, "nativeHandle", "J");
-    jfieldID classNameID =
-            env->GetFieldID(thisClass, "className", "Ljava/lang/String;");
-
-    jlong nativeHandle = env->GetLongField(thisObj, nativeHandleID);
-    auto className = (jstring) env->GetObjectField(thisObj, classNameID);
+    jlong nativeHandle = env->GetLongField(thisObj, jniCache.otioNativeNativeHandle);
+    auto className = (jstring) env->GetObjectField(thisObj, jniCache.otioNativeClassName);
 
     disposeObject(env, nativeHandle, className);
 }
\ No newline at end of file
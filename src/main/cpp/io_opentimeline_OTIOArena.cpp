@@ -0,0 +1,38 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <io_opentimeline_OTIOArena.h>
+#include <class_codes.h>
+#include <vector>
+
+/*
+ * Class:     io_opentimeline_OTIOArena
+ * Method:    disposeAllNative
+ * Signature: ([J[Ljava/lang/String;)[I
+ */
+JNIEXPORT jintArray JNICALL
+Java_io_opentimeline_OTIOArena_disposeAllNative(
+        JNIEnv *env,
+        jclass thisClass,
+        jlongArray nativeHandles,
+        jobjectArray nativeClassNames) {
+    jsize count = env->GetArrayLength(nativeHandles);
+    std::vector<jlong> handles(count);
+    env->GetLongArrayRegion(nativeHandles, 0, count, handles.data());
+
+    std::vector<jint> failed;
+    for (jsize i = 0; i < count; i++) {
+        auto className = (jstring) env->GetObjectArrayElement(nativeClassNames, i);
+        disposeObject(env, handles[i], className);
+        env->DeleteLocalRef(className);
+        // keep going, a single unknown class must not leak the rest of the arena
+        if (env->ExceptionCheck()) {
+            env->ExceptionClear();
+            failed.push_back(i);
+        }
+    }
+
+    jintArray result = env->NewIntArray((jsize) failed.size());
+    env->SetIntArrayRegion(result, 0, (jsize) failed.size(), failed.data());
+    return result;
+}
@@ -30,24 +30,24 @@
 #include <opentimelineio/track.h>
 #include <opentimelineio/timeline.h>
 #include <otio_manager.h>
+#include <metadata_query.h>
 #include <exceptions.h>
 
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
 /*
  * Class:     io_opentimeline_OTIONative
- * Method:    getOTIOObjectNativeHandle
+ * Method:    getOTIOObjectNativeHandleNative
  * Signature: ()J
  */
-JNIEXPORT jlong JNICALL Java_io_opentimeline_OTIONative_getOTIOObjectNativeHandle
+JNIEXPORT jlong JNICALL Java_io_opentimeline_OTIONative_getOTIOObjectNativeHandleNative
         (JNIEnv *env, jobject thisObj) {
-    jclass thisClass = env->GetObjectClass(thisObj);
-    jfieldID nativeHandleID = env->GetFieldID(thisClass, "nativeHandle", "J");
-    jfieldID classNameID =
-            env->GetFieldID(thisClass, "className", "Ljava/lang/String;");
-    jlong nativeHandle = env->GetLongField(thisObj, nativeHandleID);
-    jstring nativeClassName = (jstring) env->GetObjectField(thisObj, classNameID);
-    std::string className = env->GetStringUTFChars(nativeClassName, 0);
+    jlong nativeHandle = env->GetLongField(thisObj, jniCache.otioNativeNativeHandle);
+    jstring nativeClassName = (jstring) env->GetObjectField(thisObj, jniCache.otioNativeClassName);
+    const char *classNameChars = env->GetStringUTFChars(nativeClassName, 0);
+    std::string className = classNameChars;
+    env->ReleaseStringUTFChars(nativeClassName, classNameChars);
+    env->DeleteLocalRef(nativeClassName);
     switch (getClassCodeFromString(className)) {
         case _Any: {
             auto obj = reinterpret_cast<OTIO_NS::any *>(nativeHandle);
@@ -226,6 +226,10 @@ JNIEXPORT jlong JNICALL Java_io_opentimeline_OTIONative_getOTIOObjectNativeHandl
             auto result = obj->value;
             return reinterpret_cast<jlong>(result);
         }
+        case _MetadataQuery: {
+            auto obj = reinterpret_cast<MetadataQuery *>(nativeHandle);
+            return reinterpret_cast<jlong>(obj);
+        }
         default:
             throwRuntimeException(env, "Could not find class.");
             return 0;
@@ -234,10 +238,10 @@ JNIEXPORT jlong JNICALL Java_io_opentimeline_OTIONative_getOTIOObjectNativeHandl
 
 /*
  * Class:     io_opentimeline_OTIONative
- * Method:    close
+ * Method:    dispose
  * Signature: ()V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_OTIONative_close(JNIEnv *env, jobject thisObj) {
+Java_io_opentimeline_OTIONative_dispose(JNIEnv *env, jobject thisObj) {
     disposeObject(env, thisObj);
 }
\ No newline at end of file
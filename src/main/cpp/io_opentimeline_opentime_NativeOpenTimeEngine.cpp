@@ -0,0 +1,527 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <io_opentimeline_opentime_NativeOpenTimeEngine.h>
+#include <opentime/rationalTime.h>
+#include <opentime/timeRange.h>
+#include <utilities.h>
+
+using opentime::RationalTime;
+using opentime::TimeRange;
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    isInvalidTimeNative
+ * Signature: (DD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_isInvalidTimeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble value, jdouble rate) {
+    return RationalTime(value, rate).is_invalid_time();
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    addNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_addNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble value, jdouble rate,
+        jdouble otherValue, jdouble otherRate) {
+    auto result = RationalTime(value, rate) + RationalTime(otherValue, otherRate);
+    return rationalTimeToJObject(env, result);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    subtractNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_subtractNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble value, jdouble rate,
+        jdouble otherValue, jdouble otherRate) {
+    auto result = RationalTime(value, rate) - RationalTime(otherValue, otherRate);
+    return rationalTimeToJObject(env, result);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    rescaledToNative
+ * Signature: (DDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_rescaledToNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble value, jdouble rate,
+        jdouble newRate) {
+    auto result = RationalTime(value, rate).rescaled_to(newRate);
+    return rationalTimeToJObject(env, result);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    valueRescaledToNative
+ * Signature: (DDD)D
+ */
+JNIEXPORT jdouble JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_valueRescaledToNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble value, jdouble rate,
+        jdouble newRate) {
+    return RationalTime(value, rate).value_rescaled_to(newRate);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    almostEqualNative
+ * Signature: (DDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_almostEqualNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble value, jdouble rate,
+        jdouble otherValue, jdouble otherRate,
+        jdouble delta) {
+    return RationalTime(value, rate).almost_equal(RationalTime(otherValue, otherRate), delta);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    durationFromStartEndTimeNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_durationFromStartEndTimeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startValue, jdouble startRate,
+        jdouble endValue, jdouble endRate) {
+    auto result = RationalTime::duration_from_start_end_time(
+            RationalTime(startValue, startRate), RationalTime(endValue, endRate));
+    return rationalTimeToJObject(env, result);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    timeEqualsNative
+ * Signature: (DDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_timeEqualsNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble value, jdouble rate,
+        jdouble otherValue, jdouble otherRate) {
+    return RationalTime(value, rate) == RationalTime(otherValue, otherRate);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    compareToNative
+ * Signature: (DDDD)I
+ */
+JNIEXPORT jint JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_compareToNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble value, jdouble rate,
+        jdouble otherValue, jdouble otherRate) {
+    RationalTime thisRT(value, rate);
+    RationalTime otherRT(otherValue, otherRate);
+    if (thisRT < otherRT) { return -1; }
+    else if (thisRT > otherRT) {
+        return 1;
+    } else if (thisRT == otherRT) {
+        return 0;
+    }
+    return -99;
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    endTimeInclusiveNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_endTimeInclusiveNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    return rationalTimeToJObject(env, tr.end_time_inclusive());
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    endTimeExclusiveNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_endTimeExclusiveNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    return rationalTimeToJObject(env, tr.end_time_exclusive());
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    durationExtendedByNative
+ * Signature: (DDDDDD)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_durationExtendedByNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherValue, jdouble otherRate) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto result = tr.duration_extended_by(RationalTime(otherValue, otherRate));
+    return timeRangeToJObject(env, result);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    extendedByNative
+ * Signature: (DDDDDDDD)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_extendedByNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherStartTimeValue, jdouble otherStartTimeRate,
+        jdouble otherDurationValue, jdouble otherDurationRate) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto otherTr = TimeRange(
+            RationalTime(otherStartTimeValue, otherStartTimeRate),
+            RationalTime(otherDurationValue, otherDurationRate));
+    return timeRangeToJObject(env, tr.extended_by(otherTr));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    clampedTimeNative
+ * Signature: (DDDDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_clampedTimeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherValue, jdouble otherRate) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    return rationalTimeToJObject(env, tr.clamped(RationalTime(otherValue, otherRate)));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    clampedRangeNative
+ * Signature: (DDDDDDDD)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_clampedRangeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherStartTimeValue, jdouble otherStartTimeRate,
+        jdouble otherDurationValue, jdouble otherDurationRate) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto otherTr = TimeRange(
+            RationalTime(otherStartTimeValue, otherStartTimeRate),
+            RationalTime(otherDurationValue, otherDurationRate));
+    return timeRangeToJObject(env, tr.clamped(otherTr));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    containsTimeNative
+ * Signature: (DDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_containsTimeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherValue, jdouble otherRate) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    return tr.contains(RationalTime(otherValue, otherRate));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    containsRangeNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_containsRangeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherStartTimeValue, jdouble otherStartTimeRate,
+        jdouble otherDurationValue, jdouble otherDurationRate,
+        jdouble epsilon) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto otherTr = TimeRange(
+            RationalTime(otherStartTimeValue, otherStartTimeRate),
+            RationalTime(otherDurationValue, otherDurationRate));
+    return tr.contains(otherTr, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    overlapsTimeNative
+ * Signature: (DDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_overlapsTimeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherValue, jdouble otherRate) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    return tr.overlaps(RationalTime(otherValue, otherRate));
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    overlapsRangeNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_overlapsRangeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherStartTimeValue, jdouble otherStartTimeRate,
+        jdouble otherDurationValue, jdouble otherDurationRate,
+        jdouble epsilon) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto otherTr = TimeRange(
+            RationalTime(otherStartTimeValue, otherStartTimeRate),
+            RationalTime(otherDurationValue, otherDurationRate));
+    return tr.overlaps(otherTr, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    beforeTimeNative
+ * Signature: (DDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_beforeTimeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherValue, jdouble otherRate,
+        jdouble epsilon) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    return tr.before(RationalTime(otherValue, otherRate), epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    beforeRangeNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_beforeRangeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherStartTimeValue, jdouble otherStartTimeRate,
+        jdouble otherDurationValue, jdouble otherDurationRate,
+        jdouble epsilon) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto otherTr = TimeRange(
+            RationalTime(otherStartTimeValue, otherStartTimeRate),
+            RationalTime(otherDurationValue, otherDurationRate));
+    return tr.before(otherTr, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    meetsNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_meetsNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherStartTimeValue, jdouble otherStartTimeRate,
+        jdouble otherDurationValue, jdouble otherDurationRate,
+        jdouble epsilon) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto otherTr = TimeRange(
+            RationalTime(otherStartTimeValue, otherStartTimeRate),
+            RationalTime(otherDurationValue, otherDurationRate));
+    return tr.meets(otherTr, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    beginsTimeNative
+ * Signature: (DDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_beginsTimeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherValue, jdouble otherRate,
+        jdouble epsilon) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    return tr.begins(RationalTime(otherValue, otherRate), epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    beginsRangeNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_beginsRangeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherStartTimeValue, jdouble otherStartTimeRate,
+        jdouble otherDurationValue, jdouble otherDurationRate,
+        jdouble epsilon) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto otherTr = TimeRange(
+            RationalTime(otherStartTimeValue, otherStartTimeRate),
+            RationalTime(otherDurationValue, otherDurationRate));
+    return tr.begins(otherTr, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    finishesTimeNative
+ * Signature: (DDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_finishesTimeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherValue, jdouble otherRate,
+        jdouble epsilon) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    return tr.finishes(RationalTime(otherValue, otherRate), epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    finishesRangeNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_finishesRangeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherStartTimeValue, jdouble otherStartTimeRate,
+        jdouble otherDurationValue, jdouble otherDurationRate,
+        jdouble epsilon) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto otherTr = TimeRange(
+            RationalTime(otherStartTimeValue, otherStartTimeRate),
+            RationalTime(otherDurationValue, otherDurationRate));
+    return tr.finishes(otherTr, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    intersectsNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_intersectsNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherStartTimeValue, jdouble otherStartTimeRate,
+        jdouble otherDurationValue, jdouble otherDurationRate,
+        jdouble epsilon) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto otherTr = TimeRange(
+            RationalTime(otherStartTimeValue, otherStartTimeRate),
+            RationalTime(otherDurationValue, otherDurationRate));
+    return tr.intersects(otherTr, epsilon);
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    rangeEqualsNative
+ * Signature: (DDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_rangeEqualsNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startTimeValue, jdouble startTimeRate,
+        jdouble durationValue, jdouble durationRate,
+        jdouble otherStartTimeValue, jdouble otherStartTimeRate,
+        jdouble otherDurationValue, jdouble otherDurationRate) {
+    auto tr = TimeRange(
+            RationalTime(startTimeValue, startTimeRate),
+            RationalTime(durationValue, durationRate));
+    auto otherTr = TimeRange(
+            RationalTime(otherStartTimeValue, otherStartTimeRate),
+            RationalTime(otherDurationValue, otherDurationRate));
+    return tr == otherTr;
+}
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    rangeFromStartEndTimeNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentime_NativeOpenTimeEngine_rangeFromStartEndTimeNative(
+        JNIEnv *env, jclass thisClass,
+        jdouble startValue, jdouble startRate,
+        jdouble endValue, jdouble endRate) {
+    auto result = TimeRange::range_from_start_end_time(
+            RationalTime(startValue, startRate), RationalTime(endValue, endRate));
+    return timeRangeToJObject(env, result);
+}
@@ -8,161 +8,6 @@
 
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    isInvalidTimeNative
- * Signature: (DD)Z
- */
-JNIEXPORT jboolean JNICALL
-Java_io_opentimeline_opentime_RationalTime_isInvalidTimeNative(
-        JNIEnv *env, jclass thisClass, jdouble value, jdouble rate) {
-    RationalTime rationalTime(value, rate);
-    return rationalTime.is_invalid_time();
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    add
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_add
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return nullptr;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    auto result = thisRT + otherRT;
-    return rationalTimeToJObject(env, result);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    subtract
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_subtract
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return nullptr;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    auto result = thisRT - otherRT;
-    return rationalTimeToJObject(env, result);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    rescaledTo
- * Signature: (D)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_rescaledTo__D
-        (JNIEnv *env, jobject thisObj, jdouble newRate) {
-    auto rt = rationalTimeFromJObject(env, thisObj);
-    auto result = rt.rescaled_to(newRate);
-    return rationalTimeToJObject(env, result);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    rescaledTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL
-Java_io_opentimeline_opentime_RationalTime_rescaledTo__Lio_opentimeline_opentime_RationalTime_2
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return nullptr;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    auto result = thisRT.rescaled_to(otherRT);
-    return rationalTimeToJObject(env, result);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    valueRescaledTo
- * Signature: (D)D
- */
-JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_RationalTime_valueRescaledTo__D
-        (JNIEnv *env, jobject thisObj, jdouble newRate) {
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    return thisRT.value_rescaled_to(newRate);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    valueRescaledTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)D
- */
-JNIEXPORT jdouble JNICALL
-Java_io_opentimeline_opentime_RationalTime_valueRescaledTo__Lio_opentimeline_opentime_RationalTime_2
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return 0;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    return thisRT.value_rescaled_to(otherRT);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    almostEqual
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Z
- */
-JNIEXPORT jboolean JNICALL
-Java_io_opentimeline_opentime_RationalTime_almostEqual__Lio_opentimeline_opentime_RationalTime_2
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return false;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    return thisRT.almost_equal(otherRT);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    almostEqual
- * Signature: (Lio/opentimeline/opentime/RationalTime;D)Z
- */
-JNIEXPORT jboolean JNICALL
-Java_io_opentimeline_opentime_RationalTime_almostEqual__Lio_opentimeline_opentime_RationalTime_2D
-        (JNIEnv *env, jobject thisObj, jobject otherObj, jdouble delta) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return false;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    return thisRT.almost_equal(otherRT, delta);
-}
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    durationFromStartEndTime
- * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_durationFromStartEndTime
-        (JNIEnv *env, jclass thisClass, jobject startTimeObj, jobject endTimeObj) {
-    if (startTimeObj == nullptr || endTimeObj == nullptr) {
-        throwNullPointerException(env, "");
-        return nullptr;
-    }
-    auto startTime = rationalTimeFromJObject(env, startTimeObj);
-    auto endTime = rationalTimeFromJObject(env, endTimeObj);
-    auto result = RationalTime::duration_from_start_end_time(startTime, endTime);
-    return rationalTimeToJObject(env, result);
-}
-
 /*
  * Class:     io_opentimeline_opentime_RationalTime
  * Method:    isValidTimecodeRate
@@ -243,22 +88,6 @@ JNIEXPORT jstring JNICALL Java_io_opentimeline_opentime_RationalTime_toTimeStrin
     return env->NewStringUTF(ts.c_str());
 }
 
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    equals
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Z
- */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_equals
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return false;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    return thisRT == otherRT;
-}
-
 /*
  * Class:     io_opentimeline_opentime_RationalTime
  * Method:    nearestValidTimecodeRate
@@ -268,26 +97,3 @@ JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_RationalTime_nearestVali
         (JNIEnv *env, jclass thisClass, jdouble rate) {
     return opentime::RationalTime::nearest_valid_timecode_rate(rate);
 }
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    compareTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)I
- */
-JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_compareTo
-        (JNIEnv *env, jobject thisObj, jobject otherObj) {
-    if (otherObj == nullptr) {
-        throwNullPointerException(env, "");
-        return false;
-    }
-    auto thisRT = rationalTimeFromJObject(env, thisObj);
-    auto otherRT = rationalTimeFromJObject(env, otherObj);
-    if (thisRT < otherRT) { return -1; }
-    else if (thisRT > otherRT) {
-        return 1;
-    } else if (thisRT == otherRT) {
-        return 0;
-    }
-    // this should never be possible
-    return -99;
-}
\ No newline at end of file
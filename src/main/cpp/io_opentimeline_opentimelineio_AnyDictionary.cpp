@@ -4,11 +4,15 @@
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_AnyDictionary.h>
+#include <java_values.h>
 #include <utilities.h>
 
 #include <opentimelineio/anyDictionary.h>
+#include <opentimelineio/safely_typed_any.h>
 #include <opentimelineio/version.h>
 
+#include <climits>
+
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
 /*
@@ -144,3 +148,296 @@ Java_io_opentimeline_opentimelineio_AnyDictionary_remove(
     return (jint)thisHandle->erase(env->GetStringUTFChars(keyStr, 0));
 }
 
+
+static std::string
+stringFromJString(JNIEnv *env, jstring keyStr) {
+    const char *keyChars = env->GetStringUTFChars(keyStr, nullptr);
+    std::string key(keyChars);
+    env->ReleaseStringUTFChars(keyStr, keyChars);
+    return key;
+}
+
+/*
+ * Returns the value of a key for the typed getters, or nullptr with
+ * a pending exception if the key is null or not mapped.
+ */
+static const any *
+typedGetValue(JNIEnv *env, jobject thisObj, jstring keyStr) {
+    if (keyStr == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto thisHandle = getHandle<AnyDictionary>(env, thisObj);
+    std::string key = stringFromJString(env, keyStr);
+    auto it = thisHandle->find(key);
+    if (it == thisHandle->end()) {
+        throwNoSuchElementException(env, key.c_str());
+        return nullptr;
+    }
+    return &it->second;
+}
+
+static void
+throwTypeMismatch(JNIEnv *env, jstring keyStr, const any &value, const char *expected) {
+    std::string type = value.empty() ? "null" : getAnyType(value.type());
+    std::string message = stringFromJString(env, keyStr) + " is " +
+                          (type.empty() ? "an unsupported type" : type) + ", not " + expected;
+    throwClassCastException(env, message.c_str());
+}
+
+/*
+ * Stores value under a key for the typed putters, replacing an existing value.
+ */
+static void
+typedPutValue(JNIEnv *env, jobject thisObj, jstring keyStr, any &&value) {
+    if (keyStr == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    auto thisHandle = getHandle<AnyDictionary>(env, thisObj);
+    (*thisHandle)[stringFromJString(env, keyStr)] = std::move(value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getBoolean
+ * Signature: (Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getBoolean(
+        JNIEnv *env, jobject thisObj, jstring keyStr) {
+    const any *value = typedGetValue(env, thisObj, keyStr);
+    if (value == nullptr) return false;
+    if (value->type() == typeid(bool)) return (jboolean) any_cast<bool>(*value);
+    throwTypeMismatch(env, keyStr, *value, "java.lang.Boolean");
+    return false;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getInt
+ * Signature: (Ljava/lang/String;)I
+ */
+JNIEXPORT jint JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getInt(
+        JNIEnv *env, jobject thisObj, jstring keyStr) {
+    const any *value = typedGetValue(env, thisObj, keyStr);
+    if (value == nullptr) return 0;
+    if (value->type() == typeid(int)) return any_cast<int>(*value);
+    if (value->type() == typeid(int64_t)) {
+        int64_t i = any_cast<int64_t>(*value);
+        if (i >= INT_MIN && i <= INT_MAX) return (jint) i;
+    }
+    throwTypeMismatch(env, keyStr, *value, "java.lang.Integer");
+    return 0;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getLong
+ * Signature: (Ljava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getLong(
+        JNIEnv *env, jobject thisObj, jstring keyStr) {
+    const any *value = typedGetValue(env, thisObj, keyStr);
+    if (value == nullptr) return 0;
+    if (value->type() == typeid(int64_t)) return (jlong) any_cast<int64_t>(*value);
+    if (value->type() == typeid(int)) return any_cast<int>(*value);
+    throwTypeMismatch(env, keyStr, *value, "java.lang.Long");
+    return 0;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getDouble
+ * Signature: (Ljava/lang/String;)D
+ */
+JNIEXPORT jdouble JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getDouble(
+        JNIEnv *env, jobject thisObj, jstring keyStr) {
+    const any *value = typedGetValue(env, thisObj, keyStr);
+    if (value == nullptr) return 0;
+    if (value->type() == typeid(double)) return any_cast<double>(*value);
+    if (value->type() == typeid(int64_t)) return (jdouble) any_cast<int64_t>(*value);
+    if (value->type() == typeid(int)) return any_cast<int>(*value);
+    throwTypeMismatch(env, keyStr, *value, "java.lang.Double");
+    return 0;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getString
+ * Signature: (Ljava/lang/String;)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getString(
+        JNIEnv *env, jobject thisObj, jstring keyStr) {
+    const any *value = typedGetValue(env, thisObj, keyStr);
+    if (value == nullptr) return nullptr;
+    if (value->type() == typeid(std::string)) {
+        return env->NewStringUTF(any_cast<const std::string &>(*value).c_str());
+    }
+    throwTypeMismatch(env, keyStr, *value, "java.lang.String");
+    return nullptr;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getRationalTime
+ * Signature: (Ljava/lang/String;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getRationalTime(
+        JNIEnv *env, jobject thisObj, jstring keyStr) {
+    const any *value = typedGetValue(env, thisObj, keyStr);
+    if (value == nullptr) return nullptr;
+    if (value->type() == typeid(RationalTime)) {
+        return rationalTimeToJObject(env, any_cast<RationalTime>(*value));
+    }
+    throwTypeMismatch(env, keyStr, *value, "io.opentimeline.opentime.RationalTime");
+    return nullptr;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getTimeRange
+ * Signature: (Ljava/lang/String;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_getTimeRange(
+        JNIEnv *env, jobject thisObj, jstring keyStr) {
+    const any *value = typedGetValue(env, thisObj, keyStr);
+    if (value == nullptr) return nullptr;
+    if (value->type() == typeid(TimeRange)) {
+        return timeRangeToJObject(env, any_cast<TimeRange>(*value));
+    }
+    throwTypeMismatch(env, keyStr, *value, "io.opentimeline.opentime.TimeRange");
+    return nullptr;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putBoolean
+ * Signature: (Ljava/lang/String;Z)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putBoolean(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jboolean value) {
+    bool b = value;
+    typedPutValue(env, thisObj, keyStr, create_safely_typed_any(std::move(b)));
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putInt
+ * Signature: (Ljava/lang/String;I)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putInt(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jint value) {
+    int i = value;
+    typedPutValue(env, thisObj, keyStr, create_safely_typed_any(std::move(i)));
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putLong
+ * Signature: (Ljava/lang/String;J)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putLong(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jlong value) {
+    auto l = (int64_t) value;
+    typedPutValue(env, thisObj, keyStr, create_safely_typed_any(std::move(l)));
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putDouble
+ * Signature: (Ljava/lang/String;D)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putDouble(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jdouble value) {
+    double d = value;
+    typedPutValue(env, thisObj, keyStr, create_safely_typed_any(std::move(d)));
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putString
+ * Signature: (Ljava/lang/String;Ljava/lang/String;)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putString(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jstring value) {
+    if (value == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    typedPutValue(env, thisObj, keyStr, create_safely_typed_any(stringFromJString(env, value)));
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putRationalTime
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentime/RationalTime;)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putRationalTime(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jobject value) {
+    if (value == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    typedPutValue(env, thisObj, keyStr, create_safely_typed_any(rationalTimeFromJObject(env, value)));
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putTimeRange
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentime/TimeRange;)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putTimeRange(
+        JNIEnv *env, jobject thisObj, jstring keyStr, jobject value) {
+    if (value == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    typedPutValue(env, thisObj, keyStr, create_safely_typed_any(timeRangeFromJObject(env, value)));
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    toJavaMap
+ * Signature: ()Ljava/util/Map;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_toJavaMap(
+        JNIEnv *env, jobject thisObj) {
+    auto thisHandle = getHandle<AnyDictionary>(env, thisObj);
+    return javaMapFromAnyDictionary(env, *thisHandle);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putAllFromJava
+ * Signature: (Ljava/util/Map;)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_AnyDictionary_putAllFromJava(
+        JNIEnv *env, jobject thisObj, jobject mapObj) {
+    if (mapObj == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    // converted aside first, so that a failure leaves the dictionary unchanged
+    AnyDictionary converted;
+    if (!anyDictionaryFromJavaMap(env, mapObj, &converted)) return;
+    auto thisHandle = getHandle<AnyDictionary>(env, thisObj);
+    for (auto &entry: converted) {
+        (*thisHandle)[entry.first] = std::move(entry.second);
+    }
+}
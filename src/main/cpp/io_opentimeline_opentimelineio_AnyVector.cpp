@@ -31,15 +31,14 @@ Java_io_opentimeline_opentimelineio_AnyVector_initialize(
 JNIEXPORT jobjectArray JNICALL Java_io_opentimeline_opentimelineio_AnyVector_getArray
         (JNIEnv *env, jobject thisObj) {
     auto thisHandle = getHandle<AnyVector>(env, thisObj);
-    jclass anyClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Any");
     jobjectArray result =
-            env->NewObjectArray((jsize)thisHandle->size(), anyClass, nullptr);
+            env->NewObjectArray((jsize)thisHandle->size(), jniCache.any.cls, nullptr);
     for (int i = 0; i < thisHandle->size(); i++) {
         auto newObj = anyFromNative(env, &thisHandle->at(i));
 //        registerObjectToOTIOFactory(env, newObj);
         env->SetObjectArrayElement(
                 result, i, newObj);
+        env->DeleteLocalRef(newObj);
     }
     return result;
 }
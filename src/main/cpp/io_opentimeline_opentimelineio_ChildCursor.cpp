@@ -0,0 +1,72 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <handle.h>
+#include <io_opentimeline_opentimelineio_ChildCursor.h>
+#include <jni_cache.h>
+#include <utilities.h>
+
+#include <opentimelineio/composition.h>
+#include <opentimelineio/version.h>
+
+#include <algorithm>
+#include <vector>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+/*
+ * Class:     io_opentimeline_opentimelineio_ChildCursor
+ * Method:    fetchNative
+ * Signature: (Lio/opentimeline/opentimelineio/Composition;[IIILjava/lang/Class;Z[Lio/opentimeline/opentimelineio/Composable;[Z)I
+ */
+JNIEXPORT jint JNICALL
+Java_io_opentimeline_opentimelineio_ChildCursor_fetchNative(
+        JNIEnv *env,
+        jobject thisObj,
+        jobject compositionObj,
+        jintArray positions,
+        jint from,
+        jint to,
+        jclass descendedFromClass,
+        jboolean shallowSearch,
+        jobjectArray childrenArray,
+        jbooleanArray matchesArray) {
+    auto compositionHandle =
+            getHandle<SerializableObject::Retainer<Composition>>(env, compositionObj);
+    auto &children = compositionHandle->value->children();
+    jint count = std::min(to - from, (jint) env->GetArrayLength(childrenArray));
+    if (count <= 0) return 0;
+
+    std::vector<jint> childPositions;
+    if (positions != nullptr) {
+        childPositions.resize(count);
+        env->GetIntArrayRegion(positions, from, count, childPositions.data());
+        if (env->ExceptionCheck()) return 0;
+    }
+
+    std::vector<jboolean> matches;
+    matches.reserve(count);
+    for (jint i = 0; i < count; i++) {
+        jint position = positions != nullptr ? childPositions[i] : from + i;
+        // the composition was edited since the cursor counted its children
+        if (position < 0 || position >= (jint) children.size()) break;
+        Composable *child = children[position].value;
+        bool descend = !shallowSearch && dynamic_cast<Composition *>(child) != nullptr;
+
+        // known schemas are filtered without creating a wrapper
+        const JavaClassEntry *javaClass = javaClassForSchema(child->schema_name());
+        bool match = javaClass != nullptr && env->IsAssignableFrom(javaClass->cls, descendedFromClass);
+        if (javaClass != nullptr && !match && !descend) continue;
+
+        jobject childObj = composableFromNative(env, child);
+        if (childObj == nullptr) return 0;
+        if (javaClass == nullptr) match = env->IsInstanceOf(childObj, descendedFromClass);
+        if (match || descend) {
+            env->SetObjectArrayElement(childrenArray, (jsize) matches.size(), childObj);
+            matches.push_back(match ? JNI_TRUE : JNI_FALSE);
+        }
+        env->DeleteLocalRef(childObj);
+    }
+    env->SetBooleanArrayRegion(matchesArray, 0, (jsize) matches.size(), matches.data());
+    return (jint) matches.size();
+}
@@ -46,11 +46,11 @@ Java_io_opentimeline_opentimelineio_Clip_initialize(
 
 /*
  * Class:     io_opentimeline_opentimelineio_Clip
- * Method:    setMediaReference
+ * Method:    setMediaReferenceNative
  * Signature: (Lio/opentimeline/opentimelineio/MediaReference;)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_Clip_setMediaReference(
+Java_io_opentimeline_opentimelineio_Clip_setMediaReferenceNative(
         JNIEnv *env, jobject thisObj, jobject mediaReferenceObj) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Clip>>(env, thisObj);
@@ -69,20 +69,77 @@ Java_io_opentimeline_opentimelineio_Composition_getChildrenNative(
     auto composition = thisHandle->value;
     const std::vector<SerializableObject::Retainer<Composable>> &
             result = composition->children();
-    return composableRetainerVectorToArray(
-            env,
-            *(new std::vector<
-                    SerializableObject::Retainer<Composable>>(
-                    result)));
+    return composableRetainerVectorToArray(env, result);
 }
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    clearChildren
+ * Method:    getChildrenCount
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL
+Java_io_opentimeline_opentimelineio_Composition_getChildrenCount(
+        JNIEnv *env, jobject thisObj) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<Composition>>(env, thisObj);
+    auto composition = thisHandle->value;
+    return (jint) composition->children().size();
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    getChild
+ * Signature: (I)Lio/opentimeline/opentimelineio/Composable;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentimelineio_Composition_getChild(
+        JNIEnv *env, jobject thisObj, jint index) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<Composition>>(env, thisObj);
+    auto composition = thisHandle->value;
+    auto &children = composition->children();
+    if (index < 0 || size_t(index) >= children.size()) {
+        throwIndexOutOfBoundsException(env, "");
+        return nullptr;
+    }
+    return composableFromNative(env, children[index].value);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    getIndexOfChild
+ * Signature: (Lio/opentimeline/opentimelineio/Composable;)I
+ */
+JNIEXPORT jint JNICALL
+Java_io_opentimeline_opentimelineio_Composition_getIndexOfChild(
+        JNIEnv *env, jobject thisObj, jobject composableChild) {
+    if (composableChild == nullptr) {
+        throwNullPointerException(env, "");
+        return -1;
+    }
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<Composition>>(env, thisObj);
+    auto composition = thisHandle->value;
+    auto childHandle =
+            getHandle<SerializableObject::Retainer<Composable>>(env, composableChild);
+    auto child = childHandle->value;
+    auto &children = composition->children();
+    for (size_t i = 0; i < children.size(); i++) {
+        if (children[i].value == child) return (jint) i;
+    }
+    auto errorStatus = OTIO_NS::ErrorStatus(
+            OTIO_NS::ErrorStatus::Outcome::NOT_A_CHILD, "not a child of this composition");
+    processOTIOErrorStatus(env, errorStatus);
+    return -1;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    clearChildrenNative
  * Signature: ()V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_Composition_clearChildren(
+Java_io_opentimeline_opentimelineio_Composition_clearChildrenNative(
         JNIEnv *env, jobject thisObj) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Composition>>(env, thisObj);
@@ -110,10 +167,10 @@ JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Composition_setChildr
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    insertChild
+ * Method:    insertChildNative
  * Signature: (ILio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_insertChild(
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_insertChildNative(
         JNIEnv *env,
         jobject thisObj,
         jint index,
@@ -135,10 +192,10 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_inser
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    setChild
+ * Method:    setChildNative
  * Signature: (ILio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setChild(
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setChildNative(
         JNIEnv *env,
         jobject thisObj,
         jint index,
@@ -160,10 +217,10 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setCh
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    removeChild
+ * Method:    removeChildNative
  * Signature: (I)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_removeChild(
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_removeChildNative(
         JNIEnv *env, jobject thisObj, jint index) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<OTIO_NS::Composition>>(env, thisObj);
@@ -176,10 +233,10 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_remov
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    appendChild
+ * Method:    appendChildNative
  * Signature: (Lio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_appendChild(
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_appendChildNative(
         JNIEnv *env,
         jobject thisObj,
         jobject composableChild) {
@@ -251,10 +308,9 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getHan
                      ? rationalTimeToJObject(env, result.second.value())
                      : nullptr;
 
-    jclass pairClass = env->FindClass("io/opentimeline/util/Pair");
-    jmethodID pairInit = env->GetMethodID(
-            pairClass, "<init>", "(Ljava/lang/Object;Ljava/lang/Object;)V");
-    jobject pairObject = env->NewObject(pairClass, pairInit, first, second);
+    jobject pairObject = env->NewObject(jniCache.pairClass, jniCache.pairInit, first, second);
+    env->DeleteLocalRef(first);
+    env->DeleteLocalRef(second);
     return pairObject;
 }
 
@@ -412,35 +468,102 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getRan
     auto result = composition->range_of_all_children(&errorStatus);
     processOTIOErrorStatus(env,errorStatus);
 
-    jclass hashMapClass = env->FindClass("java/util/HashMap");
-    jmethodID hashMapInit = env->GetMethodID(hashMapClass, "<init>", "(I)V");
-    jobject hashMapObj =
-            env->NewObject(hashMapClass, hashMapInit, result.size());
-    jmethodID hashMapPut = env->GetMethodID(
-            hashMapClass,
-            "put",
-            "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;");
-
-    jclass composableClass =
-            env->FindClass("io/opentimeline/opentimelineio/Composable");
-    jmethodID composableInit =
-            env->GetMethodID(composableClass, "<init>", "()V");
+    jobject hashMapObj = env->NewObject(
+            jniCache.hashMapClass, jniCache.hashMapInit, (jint) result.size());
 
     for (auto it: result) {
         auto first = it.first;
         auto second = it.second;
-
-        jobject composableObject =
-                env->NewObject(composableClass, composableInit);
-        setHandle(env, composableObject, first);
-
+        jobject composableObject = composableFromNative(env, first);
         jobject tr = timeRangeToJObject(env, second);
 
-        env->CallObjectMethod(hashMapObj, hashMapPut, composableObject, tr);
+        env->CallObjectMethod(hashMapObj, jniCache.hashMapPut, composableObject, tr);
+        env->DeleteLocalRef(composableObject);
+        env->DeleteLocalRef(tr);
     }
     return hashMapObj;
 }
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    getRangeOfAllChildrenNative
+ * Signature: ([D)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_Composition_getRangeOfAllChildrenNative(
+        JNIEnv *env, jobject thisObj, jdoubleArray out) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<OTIO_NS::Composition>>
+                    (env, thisObj);
+    auto composition = thisHandle->value;
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    auto rangeMap = composition->range_of_all_children(&errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    if (env->ExceptionCheck()) return -1;
+
+    auto &children = composition->children();
+    std::vector<TimeRange> ranges;
+    ranges.reserve(children.size());
+    for (auto &child: children) {
+        ranges.push_back(rangeMap[child.value]);
+    }
+    return timeRangesToDoubleArray(env, ranges, out);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    getChildAtTimeNative
+ * Signature: (DDZ[D)Lio/opentimeline/opentimelineio/Composable;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getChildAtTimeNative(
+        JNIEnv *env,
+        jobject thisObj,
+        jdouble searchTimeValue,
+        jdouble searchTimeRate,
+        jboolean shallowSearch,
+        jdoubleArray localTime) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<OTIO_NS::Composition>>
+                    (env, thisObj);
+    const Composition *composition = thisHandle->value;
+    auto time = RationalTime(searchTimeValue, searchTimeRate);
+    Composable *result = nullptr;
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    while (composition != nullptr) {
+        auto rangeMap = composition->range_of_all_children(&errorStatus);
+        processOTIOErrorStatus(env, errorStatus);
+        if (env->ExceptionCheck()) return nullptr;
+
+        // the first child in child order that overlaps time
+        result = nullptr;
+        TimeRange rangeInParent;
+        for (auto &child: composition->children()) {
+            auto it = rangeMap.find(child.value);
+            if (it != rangeMap.end() && it->second.overlaps(time)) {
+                result = child.value;
+                rangeInParent = it->second;
+                break;
+            }
+        }
+        if (result == nullptr) return nullptr;
+
+        // into the space of the child, what Item::transformed_time() works out
+        // by walking up to the root and back
+        if (auto item = dynamic_cast<Item *>(result)) {
+            auto trimmedRange = item->trimmed_range(&errorStatus);
+            processOTIOErrorStatus(env, errorStatus);
+            if (env->ExceptionCheck()) return nullptr;
+            time = time - rangeInParent.start_time() + trimmedRange.start_time();
+        }
+        composition = shallowSearch ? nullptr : dynamic_cast<Composition *>(result);
+    }
+
+    if (localTime != nullptr) {
+        jdouble out[2] = {time.value(), time.rate()};
+        env->SetDoubleArrayRegion(localTime, 0, 2, out);
+    }
+    return composableFromNative(env, result);
+}
+
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
  * Method:    childrenIfNative
@@ -0,0 +1,35 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <handle.h>
+#include <io_opentimeline_opentimelineio_CompositionTimeIndex.h>
+#include <opentimelineio/composition.h>
+#include <opentimelineio/version.h>
+
+#include <vector>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+/*
+ * Class:     io_opentimeline_opentimelineio_CompositionTimeIndex
+ * Method:    lineageNative
+ * Signature: (Lio/opentimeline/opentimelineio/Composable;)[J
+ */
+JNIEXPORT jlongArray JNICALL
+Java_io_opentimeline_opentimelineio_CompositionTimeIndex_lineageNative(
+        JNIEnv *env, jclass thisClass, jobject composableObj) {
+    auto composableHandle =
+            getHandle<SerializableObject::Retainer<Composable>>(env, composableObj);
+    // the same pointers as OTIONative.getOTIOObjectNativeHandle()
+    std::vector<jlong> lineage;
+    lineage.push_back(reinterpret_cast<jlong>(composableHandle->value));
+    for (Composition *parent = composableHandle->value->parent();
+         parent != nullptr;
+         parent = parent->parent()) {
+        lineage.push_back(reinterpret_cast<jlong>(parent));
+    }
+    jlongArray result = env->NewLongArray((jsize) lineage.size());
+    if (result == nullptr) return nullptr;
+    env->SetLongArrayRegion(result, 0, (jsize) lineage.size(), lineage.data());
+    return result;
+}
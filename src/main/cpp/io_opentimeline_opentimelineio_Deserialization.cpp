@@ -1,9 +1,12 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <binary_codec.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Deserialization.h>
+#include <json_streams.h>
+#include <metadata_filter.h>
 #include <opentimelineio/deserialization.h>
 #include <opentimelineio/version.h>
 
@@ -20,7 +23,9 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_d
         throwNullPointerException(env, "");
         return false;
     }
-    std::string inputStr = env->GetStringUTFChars(input, nullptr);
+    const char *inputChars = env->GetStringUTFChars(input, nullptr);
+    std::string inputStr = inputChars;
+    env->ReleaseStringUTFChars(input, inputChars);
     auto anyDestinationHandle =
             getHandle<any>(env, anyDestination);
     auto errorStatus = OTIO_NS::ErrorStatus();
@@ -41,12 +46,136 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_d
         throwNullPointerException(env, "");
         return false;
     }
-    std::string fileNameStr = env->GetStringUTFChars(fileName, nullptr);
+    const char *fileNameChars = env->GetStringUTFChars(fileName, nullptr);
+    std::string fileNameStr = fileNameChars;
+    env->ReleaseStringUTFChars(fileName, fileNameChars);
     auto anyDestinationHandle =
             getHandle<any>(env, anyDestination);
     auto errorStatus = OTIO_NS::ErrorStatus();
-    bool result = deserialize_json_from_string(
+    bool result = deserialize_json_from_file(
             fileNameStr, anyDestinationHandle, &errorStatus);
     processOTIOErrorStatus(env, errorStatus);
     return result;
 }
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromStringFilteredNative
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentimelineio/Any;I[Ljava/lang/String;Ljava/util/function/Predicate;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromStringFilteredNative
+        (JNIEnv *env, jobject thisObj, jstring input, jobject anyDestination,
+         jint filterMode, jobjectArray keyPaths, jobject predicate) {
+    if (anyDestination == nullptr || input == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    const char *inputChars = env->GetStringUTFChars(input, nullptr);
+    std::string inputStr = inputChars;
+    env->ReleaseStringUTFChars(input, inputChars);
+    MetadataFilter filter(env, filterMode, keyPaths, predicate);
+    auto anyDestinationHandle =
+            getHandle<any>(env, anyDestination);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    bool result = deserializeJSONStringFiltered(
+            inputStr, filter, anyDestinationHandle, &errorStatus);
+    if (env->ExceptionCheck()) return false;
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromFileFilteredNative
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentimelineio/Any;I[Ljava/lang/String;Ljava/util/function/Predicate;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromFileFilteredNative
+        (JNIEnv *env, jobject thisObj, jstring fileName, jobject anyDestination,
+         jint filterMode, jobjectArray keyPaths, jobject predicate) {
+    if (anyDestination == nullptr || fileName == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    const char *fileNameChars = env->GetStringUTFChars(fileName, nullptr);
+    std::string fileNameStr = fileNameChars;
+    env->ReleaseStringUTFChars(fileName, fileNameChars);
+    MetadataFilter filter(env, filterMode, keyPaths, predicate);
+    auto anyDestinationHandle =
+            getHandle<any>(env, anyDestination);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    bool result = deserializeJSONFileFiltered(
+            fileNameStr, filter, anyDestinationHandle, &errorStatus);
+    if (env->ExceptionCheck()) return false;
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromBufferNative
+ * Signature: (Ljava/nio/ByteBuffer;IILio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromBufferNative
+        (JNIEnv *env, jobject thisObj, jobject input, jint offset, jint length, jobject anyDestination) {
+    if (anyDestination == nullptr || input == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto data = static_cast<const char *>(env->GetDirectBufferAddress(input));
+    if (data == nullptr) {
+        throwRuntimeException(env, "deserializeJSONFromBuffer needs a direct ByteBuffer");
+        return false;
+    }
+    auto anyDestinationHandle =
+            getHandle<any>(env, anyDestination);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    bool result = deserializeJSONFromBytes(
+            data + offset, static_cast<size_t>(length), anyDestinationHandle, &errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeBinaryNative
+ * Signature: ([BLio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeBinaryNative
+        (JNIEnv *env, jobject thisObj, jbyteArray input, jobject anyDestination) {
+    if (anyDestination == nullptr || input == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    jsize length = env->GetArrayLength(input);
+    jbyte *bytes = env->GetByteArrayElements(input, nullptr);
+    if (bytes == nullptr) return false;
+    auto anyDestinationHandle =
+            getHandle<any>(env, anyDestination);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    bool result = decodeBinary(
+            reinterpret_cast<const char *>(bytes), static_cast<size_t>(length), anyDestinationHandle, &errorStatus);
+    env->ReleaseByteArrayElements(input, bytes, JNI_ABORT);
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromChannelNative
+ * Signature: (Ljava/nio/channels/ReadableByteChannel;Ljava/nio/ByteBuffer;Lio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromChannelNative
+        (JNIEnv *env, jobject thisObj, jobject input, jobject buffer, jobject anyDestination) {
+    if (anyDestination == nullptr || input == nullptr || buffer == nullptr) {
+        throwNullPointerException(env, "");
+        return false;
+    }
+    auto anyDestinationHandle =
+            getHandle<any>(env, anyDestination);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    bool result = deserializeJSONFromChannel(
+            env, input, buffer, anyDestinationHandle, &errorStatus);
+    if (env->ExceptionCheck()) return false;
+    processOTIOErrorStatus(env, errorStatus);
+    return result;
+}
@@ -117,11 +117,11 @@ Java_io_opentimeline_opentimelineio_Item_getSourceRange(
 
 /*
  * Class:     io_opentimeline_opentimelineio_Item
- * Method:    setSourceRange
+ * Method:    setSourceRangeNative
  * Signature: (Lio/opentimeline/opentime/TimeRange;)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_Item_setSourceRange(
+Java_io_opentimeline_opentimelineio_Item_setSourceRangeNative(
         JNIEnv *env, jobject thisObj, jobject sourceRangeObj) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<Item>>(env, thisObj);
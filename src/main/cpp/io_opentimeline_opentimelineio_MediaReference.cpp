@@ -59,11 +59,11 @@ Java_io_opentimeline_opentimelineio_MediaReference_getAvailableRange(
 
 /*
  * Class:     io_opentimeline_opentimelineio_MediaReference
- * Method:    setAvailableRange
+ * Method:    setAvailableRangeNative
  * Signature: (Lio/opentimeline/opentime/TimeRange;)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_MediaReference_setAvailableRange(
+Java_io_opentimeline_opentimelineio_MediaReference_setAvailableRangeNative(
         JNIEnv *env, jobject thisObj, jobject availableRangeObj) {
     auto thisHandle =
             getHandle<SerializableObject::Retainer<MediaReference>>(env, thisObj);
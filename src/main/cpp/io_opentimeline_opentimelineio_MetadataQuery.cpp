@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <exceptions.h>
+#include <handle.h>
+#include <io_opentimeline_opentimelineio_MetadataQuery.h>
+#include <metadata_query.h>
+#include <utilities.h>
+
+#include <opentimelineio/composition.h>
+#include <opentimelineio/version.h>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+/* depth first, a composition comes before its children like in Composition.eachChild() */
+static void
+collectMatches(
+        const Composition *composition,
+        const MetadataQuery &query,
+        std::vector<Composable *> &matches) {
+    for (const auto &child: composition->children()) {
+        Composable *composable = child.value;
+        if (query.matches(composable->metadata())) matches.push_back(composable);
+        if (auto childComposition = dynamic_cast<Composition *>(composable)) {
+            collectMatches(childComposition, query, matches);
+        }
+    }
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_MetadataQuery
+ * Method:    initialize
+ * Signature: ([I[Ljava/lang/String;[Ljava/lang/String;[J[D)V
+ */
+JNIEXPORT void JNICALL
+Java_io_opentimeline_opentimelineio_MetadataQuery_initialize(
+        JNIEnv *env, jobject thisObj,
+        jintArray code, jobjectArray keys, jobjectArray strings, jlongArray integers, jdoubleArray doubles) {
+    auto query = new MetadataQuery(env, code, keys, strings, integers, doubles);
+    if (!query->valid()) {
+        delete query;
+        return;
+    }
+    setHandle(env, thisObj, query);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_MetadataQuery
+ * Method:    matchesNative
+ * Signature: (Lio/opentimeline/opentimelineio/SerializableObjectWithMetadata;)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_io_opentimeline_opentimelineio_MetadataQuery_matchesNative(
+        JNIEnv *env, jobject thisObj, jobject serializableObjectWithMetadataObj) {
+    auto query = getHandle<MetadataQuery>(env, thisObj);
+    auto objectHandle =
+            getHandle<SerializableObject::Retainer<SerializableObjectWithMetadata>>(
+                    env, serializableObjectWithMetadataObj);
+    return query->matches(objectHandle->value->metadata());
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_MetadataQuery
+ * Method:    findNative
+ * Signature: (Lio/opentimeline/opentimelineio/Composition;Ljava/lang/Class;)[Lio/opentimeline/opentimelineio/Composable;
+ */
+JNIEXPORT jobjectArray JNICALL
+Java_io_opentimeline_opentimelineio_MetadataQuery_findNative(
+        JNIEnv *env, jobject thisObj, jobject rootObj, jclass descendedFromClass) {
+    auto query = getHandle<MetadataQuery>(env, thisObj);
+    auto rootHandle = getHandle<SerializableObject::Retainer<Composition>>(env, rootObj);
+
+    std::vector<Composable *> matches;
+    collectMatches(rootHandle->value, *query, matches);
+
+    // known schemas are filtered without creating a wrapper
+    std::vector<Composable *> candidates;
+    candidates.reserve(matches.size());
+    bool unknown = false;
+    for (Composable *composable: matches) {
+        const JavaClassEntry *javaClass = javaClassForSchema(composable->schema_name());
+        if (javaClass == nullptr) {
+            unknown = true;
+            candidates.push_back(composable);
+        } else if (env->IsAssignableFrom(javaClass->cls, descendedFromClass)) {
+            candidates.push_back(composable);
+        }
+    }
+    if (!unknown) return nativeVectorToArray(env, descendedFromClass, candidates, composableFromNative);
+
+    // the wrappers of other schemas are tested themselves, like ChildCursor does
+    jobjectArray wrappers = env->NewObjectArray((jsize) candidates.size(), jniCache.composableClass, nullptr);
+    if (wrappers == nullptr) return nullptr;
+    jsize count = 0;
+    for (Composable *composable: candidates) {
+        jobject wrapper = composableFromNative(env, composable);
+        if (wrapper == nullptr) return nullptr;
+        if (env->IsInstanceOf(wrapper, descendedFromClass)) {
+            env->SetObjectArrayElement(wrappers, count++, wrapper);
+        }
+        env->DeleteLocalRef(wrapper);
+    }
+    jobjectArray result = env->NewObjectArray(count, descendedFromClass, nullptr);
+    if (result == nullptr) return nullptr;
+    for (jsize i = 0; i < count; i++) {
+        jobject wrapper = env->GetObjectArrayElement(wrappers, i);
+        env->SetObjectArrayElement(result, i, wrapper);
+        env->DeleteLocalRef(wrapper);
+    }
+    env->DeleteLocalRef(wrappers);
+    return result;
+}
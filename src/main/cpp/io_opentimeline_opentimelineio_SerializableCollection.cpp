@@ -47,14 +47,8 @@ Java_io_opentimeline_opentimelineio_SerializableCollection_getChildrenNative(
     auto thisHandle =
             getHandle<SerializableObject::Retainer<SerializableCollection>>(env, thisObj);
     auto serializableCollection = thisHandle->value;
-    std::vector<
-            SerializableObject::Retainer<SerializableObject>>
-            children = serializableCollection->children();
     return serializableObjectRetainerVectorToArray(
-            env,
-            *(new std::vector<
-                    SerializableObject::Retainer<SerializableObject>>(
-                    children)));
+            env, serializableCollection->children());
 }
 
 /*
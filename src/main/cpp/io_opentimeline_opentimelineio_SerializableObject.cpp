@@ -1,15 +1,37 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <binary_codec.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_SerializableObject.h>
+#include <json_streams.h>
+#include <metadata_filter.h>
 #include <opentimelineio/serializableObject.h>
+#include <opentimelineio/stringUtils.h>
 #include <opentimelineio/version.h>
 #include <utilities.h>
 
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
+/*
+ * Wraps the SerializableObject held by a deserialized any, like from_json_string() does.
+ * The wrapper takes its own reference before the any releases this one.
+ */
+static jobject
+serializableObjectFromAny(JNIEnv *env, any &value) {
+    if (value.type() != typeid(SerializableObject::Retainer<>)) {
+        auto errorStatus = OTIO_NS::ErrorStatus(
+                OTIO_NS::ErrorStatus::Outcome::TYPE_MISMATCH,
+                "Expected a SerializableObject*, found object of type '" +
+                type_name_for_error_message(value.type()) + "' instead");
+        processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    return serializableObjectFromNative(
+            env, any_cast<SerializableObject::Retainer<> &>(value).value);
+}
+
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
  * Method:    initialize
@@ -116,8 +138,9 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject
         return nullptr;
     }
     auto errorStatus = OTIO_NS::ErrorStatus();
-    auto result = SerializableObject::from_json_file(
-            env->GetStringUTFChars(fileNameStr, 0), &errorStatus);
+    const char *fileName = env->GetStringUTFChars(fileNameStr, nullptr);
+    auto result = SerializableObject::from_json_file(fileName, &errorStatus);
+    env->ReleaseStringUTFChars(fileNameStr, fileName);
     processOTIOErrorStatus(env, errorStatus);
     return serializableObjectFromNative(env, result);
 }
@@ -134,12 +157,150 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject
         return nullptr;
     }
     auto errorStatus = OTIO_NS::ErrorStatus();
-    auto result = SerializableObject::from_json_string(
-            env->GetStringUTFChars(JSONStr, 0), &errorStatus);
+    const char *json = env->GetStringUTFChars(JSONStr, nullptr);
+    auto result = SerializableObject::from_json_string(json, &errorStatus);
+    env->ReleaseStringUTFChars(JSONStr, json);
     processOTIOErrorStatus(env, errorStatus);
     return serializableObjectFromNative(env, result);
 }
 
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromJSONFileFilteredNative
+ * Signature: (Ljava/lang/String;I[Ljava/lang/String;Ljava/util/function/Predicate;)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONFileFilteredNative(
+        JNIEnv *env, jclass thisClass, jstring fileName, jint filterMode, jobjectArray keyPaths, jobject predicate) {
+    if (fileName == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    const char *fileNameChars = env->GetStringUTFChars(fileName, nullptr);
+    std::string fileNameStr = fileNameChars;
+    env->ReleaseStringUTFChars(fileName, fileNameChars);
+    MetadataFilter filter(env, filterMode, keyPaths, predicate);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    any destination;
+    if (!deserializeJSONFileFiltered(fileNameStr, filter, &destination, &errorStatus)) {
+        if (!env->ExceptionCheck()) processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    return serializableObjectFromAny(env, destination);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromJSONStringFilteredNative
+ * Signature: (Ljava/lang/String;I[Ljava/lang/String;Ljava/util/function/Predicate;)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONStringFilteredNative(
+        JNIEnv *env, jclass thisClass, jstring JSONStr, jint filterMode, jobjectArray keyPaths, jobject predicate) {
+    if (JSONStr == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    const char *json = env->GetStringUTFChars(JSONStr, nullptr);
+    std::string input = json;
+    env->ReleaseStringUTFChars(JSONStr, json);
+    MetadataFilter filter(env, filterMode, keyPaths, predicate);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    any destination;
+    if (!deserializeJSONStringFiltered(input, filter, &destination, &errorStatus)) {
+        if (!env->ExceptionCheck()) processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    return serializableObjectFromAny(env, destination);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromJSONBufferNative
+ * Signature: (Ljava/nio/ByteBuffer;II)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONBufferNative(
+        JNIEnv *env, jclass thisClass, jobject input, jint offset, jint length) {
+    if (input == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto data = static_cast<const char *>(env->GetDirectBufferAddress(input));
+    if (data == nullptr) {
+        throwRuntimeException(env, "fromJSON needs a direct ByteBuffer");
+        return nullptr;
+    }
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    any destination;
+    if (!deserializeJSONFromBytes(data + offset, static_cast<size_t>(length), &destination, &errorStatus)) {
+        processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    return serializableObjectFromAny(env, destination);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromJSONChannelNative
+ * Signature: (Ljava/nio/channels/ReadableByteChannel;Ljava/nio/ByteBuffer;)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONChannelNative(
+        JNIEnv *env, jclass thisClass, jobject input, jobject buffer) {
+    if (input == nullptr || buffer == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    any destination;
+    if (!deserializeJSONFromChannel(env, input, buffer, &destination, &errorStatus)) {
+        if (!env->ExceptionCheck()) processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    return serializableObjectFromAny(env, destination);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    toBinary
+ * Signature: ()[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toBinary(
+        JNIEnv *env, jobject thisObj) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<SerializableObject>>(env, thisObj);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    std::string bytes;
+    if (!encodeBinary(any(SerializableObject::Retainer<>(thisHandle->value)), bytes, &errorStatus)) {
+        processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    return bytesToByteArray(env, bytes);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromBinaryNative
+ * Signature: ([B)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromBinaryNative(
+        JNIEnv *env, jclass thisClass, jbyteArray input) {
+    if (input == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    jsize length = env->GetArrayLength(input);
+    jbyte *bytes = env->GetByteArrayElements(input, nullptr);
+    if (bytes == nullptr) return nullptr;
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    any destination;
+    bool decoded = decodeBinary(
+            reinterpret_cast<const char *>(bytes), static_cast<size_t>(length), &destination, &errorStatus);
+    env->ReleaseByteArrayElements(input, bytes, JNI_ABORT);
+    if (!decoded) {
+        processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    return serializableObjectFromAny(env, destination);
+}
+
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
  * Method:    isEquivalentTo
@@ -1,15 +1,39 @@
 // SPDX-License-Identifier: Apache-2.0
 // Copyright Contributors to the OpenTimelineIO Project.
 
+#include <binary_codec.h>
 #include <exceptions.h>
 #include <handle.h>
 #include <io_opentimeline_opentimelineio_Serialization.h>
+#include <jni_cache.h>
+#include <json_streams.h>
 #include <opentimelineio/serialization.h>
 #include <opentimelineio/version.h>
 #include <utilities.h>
 
+#include <algorithm>
+#include <climits>
+#include <cstring>
+
+#ifdef OTIO_JAVA_HAS_NATIVE_PIPE
+#include <cerrno>
+#include <thread>
+#include <unistd.h>
+#endif
+
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
+/*
+ * Passes the first length bytes of the direct buffer to Serialization.writeChunk().
+ * Returns false if it threw.
+ */
+static bool
+writeChunk(JNIEnv *env, jobject channel, jobject buffer, jint length) {
+    env->CallStaticVoidMethod(
+            jniCache.serializationClass, jniCache.serializationWriteChunk, channel, buffer, length);
+    return !env->ExceptionCheck();
+}
+
 /*
  * Class:     io_opentimeline_opentimelineio_Serialization
  * Method:    serializeJSONToStringNative
@@ -48,4 +72,105 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Serialization_ser
             *anyValueHandle, fileNameStr, &errorStatus, indent);
     processOTIOErrorStatus(env, errorStatus);
     return result;
-}
\ No newline at end of file
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    serializeJSONToChannelNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;ILjava/nio/channels/WritableByteChannel;Ljava/nio/ByteBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeJSONToChannelNative
+        (JNIEnv *env, jobject thisObj, jobject anyValueObj, jint indent, jobject channel, jobject buffer) {
+    if (anyValueObj == nullptr || channel == nullptr || buffer == nullptr) {
+        throwNullPointerException(env, "");
+        return;
+    }
+    auto data = static_cast<char *>(env->GetDirectBufferAddress(buffer));
+    jlong capacity = env->GetDirectBufferCapacity(buffer);
+    if (data == nullptr || capacity <= 0) {
+        throwRuntimeException(env, "serializeJSON needs a direct ByteBuffer");
+        return;
+    }
+    jint chunkSize = capacity > INT_MAX ? INT_MAX : static_cast<jint>(capacity);
+    auto anyValueHandle = getHandle<any>(env, anyValueObj);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    bool writing = true;
+#ifdef OTIO_JAVA_HAS_NATIVE_PIPE
+    // serialize_json_to_file() writes through a std::ofstream. Pointing it at the
+    // write end of a pipe lets this thread pass the JSON on while the rest is still
+    // being produced, with no more than the pipe and the buffer in flight.
+    NativePipe pipe;
+    if (!pipe.open()) {
+        throwIOException(env, strerror(errno));
+        return;
+    }
+    bool serialized = false;
+    std::thread producer([&]() {
+        blockSigpipe();
+        serialized = serialize_json_to_file(*anyValueHandle, pipe.writePath(), &errorStatus, indent);
+        pipe.closeWrite();
+    });
+    jint filled = 0;
+    int readError = 0;
+    for (;;) {
+        ssize_t count = read(pipe.readFd(), data + filled, chunkSize - filled);
+        if (count < 0 && errno == EINTR) continue;
+        if (count < 0) {
+            readError = errno;
+            break;
+        }
+        if (count == 0) break;
+        // after a failed write the rest is drained and dropped so the producer can finish
+        if (!writing) continue;
+        filled += static_cast<jint>(count);
+        if (filled == chunkSize) {
+            writing = writeChunk(env, channel, buffer, filled);
+            filled = 0;
+        }
+    }
+    if (readError != 0) {
+        // unblocks the producer, its writes fail once nobody can read them
+        pipe.closeRead();
+        producer.join();
+        if (!env->ExceptionCheck()) throwIOException(env, strerror(readError));
+        return;
+    }
+    if (writing && filled > 0) writing = writeChunk(env, channel, buffer, filled);
+    producer.join();
+    if (!writing) return;
+    if (!serialized && errorStatus.outcome == OTIO_NS::ErrorStatus::Outcome::OK) {
+        throwIOException(env, "could not open the serialization pipe");
+        return;
+    }
+#else
+    std::string json = serialize_json_to_string(*anyValueHandle, &errorStatus, indent);
+    for (size_t offset = 0; writing && offset < json.size(); offset += chunkSize) {
+        jint length = static_cast<jint>(std::min(json.size() - offset, static_cast<size_t>(chunkSize)));
+        memcpy(data, json.data() + offset, length);
+        writing = writeChunk(env, channel, buffer, length);
+    }
+    if (!writing) return;
+#endif
+    processOTIOErrorStatus(env, errorStatus);
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    serializeBinaryNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeBinaryNative
+        (JNIEnv *env, jobject thisObj, jobject anyValueObj) {
+    if (anyValueObj == nullptr) {
+        throwNullPointerException(env, "");
+        return nullptr;
+    }
+    auto anyValueHandle = getHandle<any>(env, anyValueObj);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    std::string bytes;
+    if (!encodeBinary(*anyValueHandle, bytes, &errorStatus)) {
+        processOTIOErrorStatus(env, errorStatus);
+        return nullptr;
+    }
+    return bytesToByteArray(env, bytes);
+}
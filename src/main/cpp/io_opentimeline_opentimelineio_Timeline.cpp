@@ -216,4 +216,141 @@ Java_io_opentimeline_opentimelineio_Timeline_clipIfNative(
         return nullptr;
     }
     return getClipIfResult<Timeline>(env, thisObj, searchRangeTimeRangeOptional, shallowSearch);
-}
\ No newline at end of file
+}
+
+/*
+ * Calls visit(item, range) for the items of a track in order, with the ranges in the
+ * track that Track::range_of_all_children() gives them, until visit returns false.
+ * The ranges are summed up from the start of the track and no map of all children is
+ * built, so a caller that stops past a window only pays for the children before it.
+ */
+template<typename Visit>
+static void
+forEachItemRangeInTrack(const Track *track, OTIO_NS::ErrorStatus *errorStatus, Visit visit) {
+    auto &children = track->children();
+    if (children.empty()) return;
+    RationalTime lastEndTime(0, 1);
+    if (auto first = dynamic_cast<Item *>(children.front().value)) {
+        auto firstRange = first->trimmed_range(errorStatus);
+        if (errorStatus->outcome != OTIO_NS::ErrorStatus::Outcome::OK) return;
+        lastEndTime = RationalTime(0, firstRange.duration().rate());
+    }
+    for (auto &child: children) {
+        // transitions overlap their neighbours and do not move the items after them
+        auto item = dynamic_cast<Item *>(child.value);
+        if (item == nullptr) continue;
+        auto duration = item->trimmed_range(errorStatus).duration();
+        if (errorStatus->outcome != OTIO_NS::ErrorStatus::Outcome::OK) return;
+        auto range = TimeRange(lastEndTime, duration);
+        lastEndTime = range.end_time_exclusive();
+        if (!visit(item, range)) return;
+    }
+}
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Timeline
+ * Method:    itemsInWindowNative
+ * Signature: (DDDD)Lio/opentimeline/opentimelineio/TimelineWindow;
+ */
+JNIEXPORT jobject JNICALL
+Java_io_opentimeline_opentimelineio_Timeline_itemsInWindowNative(
+        JNIEnv *env,
+        jobject thisObj,
+        jdouble startValue,
+        jdouble startRate,
+        jdouble durationValue,
+        jdouble durationRate) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<Timeline>>(env, thisObj);
+    auto timeline = thisHandle->value;
+    const Stack *stack = timeline->tracks();
+    auto windowStart = RationalTime(startValue, startRate);
+    auto windowEnd = windowStart + RationalTime(durationValue, durationRate);
+    bool playhead = !(windowStart < windowEnd);
+    auto errorStatus = OTIO_NS::ErrorStatus();
+
+    // time in the stack to global time
+    auto stackRange = stack->trimmed_range(&errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    if (env->ExceptionCheck()) return nullptr;
+    auto globalStartTime = timeline->global_start_time();
+    auto stackOffset = (globalStartTime ? *globalStartTime : RationalTime(0, stackRange.start_time().rate()))
+                       - stackRange.start_time();
+
+    auto trackRanges = stack->range_of_all_children(&errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    if (env->ExceptionCheck()) return nullptr;
+
+    std::vector<Item *> items;
+    std::vector<jint> trackIndices;
+    std::vector<TimeRange> ranges;
+    auto &tracks = stack->children();
+    for (size_t trackIndex = 0; trackIndex < tracks.size(); trackIndex++) {
+        auto track = dynamic_cast<Composition *>(tracks[trackIndex].value);
+        if (track == nullptr) continue;
+        auto trackRange = trackRanges.find(track);
+        if (trackRange == trackRanges.end()) continue;
+        auto trackTrimmedRange = track->trimmed_range(&errorStatus);
+        processOTIOErrorStatus(env, errorStatus);
+        if (env->ExceptionCheck()) return nullptr;
+        // time in the track to time in the stack
+        auto trackOffset = trackRange->second.start_time() - trackTrimmedRange.start_time();
+        // children of a Track follow each other, nothing after one starting
+        // past the window can be in it
+        auto sequence = dynamic_cast<Track *>(track);
+        bool sequential = sequence != nullptr;
+
+        // false once the rest of a track cannot be in the window
+        auto visit = [&](Item *item, const TimeRange &childRange) -> bool {
+            auto trimmedInTrack = track->trim_child_range(childRange);
+            if (!trimmedInTrack) {
+                return !sequential || childRange.start_time() < trackTrimmedRange.end_time_exclusive();
+            }
+            auto trimmedInStack = stack->trim_child_range(TimeRange(
+                    trimmedInTrack->start_time() + trackOffset, trimmedInTrack->duration()));
+            if (!trimmedInStack) return true;
+
+            auto start = trimmedInStack->start_time() + stackOffset;
+            auto end = start + trimmedInStack->duration();
+            bool inWindow = playhead
+                            ? !(windowStart < start) && windowStart < end
+                            : start < windowEnd && windowStart < end;
+            if (inWindow) {
+                items.push_back(item);
+                trackIndices.push_back((jint) trackIndex);
+                ranges.emplace_back(start, trimmedInStack->duration());
+            } else if (sequential && (playhead ? windowStart < start : !(start < windowEnd))) {
+                return false;
+            }
+            return true;
+        };
+
+        if (sequential) {
+            forEachItemRangeInTrack(sequence, &errorStatus, visit);
+            processOTIOErrorStatus(env, errorStatus);
+            if (env->ExceptionCheck()) return nullptr;
+        } else {
+            auto childRanges = track->range_of_all_children(&errorStatus);
+            processOTIOErrorStatus(env, errorStatus);
+            if (env->ExceptionCheck()) return nullptr;
+            for (auto &child: track->children()) {
+                auto item = dynamic_cast<Item *>(child.value);
+                if (item == nullptr) continue;
+                auto childRange = childRanges.find(item);
+                if (childRange == childRanges.end()) continue;
+                visit(item, childRange->second);
+            }
+        }
+    }
+
+    jobjectArray itemArray = nativeVectorToArray(env, jniCache.itemClass, items, itemFromNative);
+    if (itemArray == nullptr || env->ExceptionCheck()) return nullptr;
+    jintArray trackIndexArray = env->NewIntArray((jsize) trackIndices.size());
+    if (trackIndexArray == nullptr) return nullptr;
+    env->SetIntArrayRegion(trackIndexArray, 0, (jsize) trackIndices.size(), trackIndices.data());
+    jdoubleArray rangeArray = env->NewDoubleArray((jsize) (ranges.size() * 4));
+    if (rangeArray == nullptr) return nullptr;
+    if (timeRangesToDoubleArray(env, ranges, rangeArray) < 0) return nullptr;
+    return env->NewObject(
+            jniCache.timelineWindowClass, jniCache.timelineWindowInit, itemArray, trackIndexArray, rangeArray);
+}
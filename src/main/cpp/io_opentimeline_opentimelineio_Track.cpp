@@ -8,6 +8,7 @@
 #include <opentimelineio/track.h>
 #include <opentimelineio/version.h>
 #include <utilities.h>
+#include <limits>
 
 using namespace opentimelineio::OPENTIMELINEIO_VERSION;
 
@@ -152,10 +153,9 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Track_getHandlesOf
                      ? rationalTimeToJObject(env, result.second.value())
                      : nullptr;
 
-    jclass pairClass = env->FindClass("io/opentimeline/util/Pair");
-    jmethodID pairInit = env->GetMethodID(
-            pairClass, "<init>", "(Ljava/lang/Object;Ljava/lang/Object;)V");
-    jobject pairObject = env->NewObject(pairClass, pairInit, first, second);
+    jobject pairObject = env->NewObject(jniCache.pairClass, jniCache.pairInit, first, second);
+    env->DeleteLocalRef(first);
+    env->DeleteLocalRef(second);
     return pairObject;
 }
 
@@ -192,10 +192,9 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Track_getNeighbors
     jobject first = composableFromNative(env, result.first);
     jobject second = composableFromNative(env, result.second);
 
-    jclass pairClass = env->FindClass("io/opentimeline/util/Pair");
-    jmethodID pairInit = env->GetMethodID(
-            pairClass, "<init>", "(Ljava/lang/Object;Ljava/lang/Object;)V");
-    jobject pairObject = env->NewObject(pairClass, pairInit, first, second);
+    jobject pairObject = env->NewObject(jniCache.pairClass, jniCache.pairInit, first, second);
+    env->DeleteLocalRef(first);
+    env->DeleteLocalRef(second);
     return pairObject;
 }
 
@@ -213,14 +212,8 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Track_getRangeOfAl
     auto result = track->range_of_all_children(&errorStatus);
     processOTIOErrorStatus(env, errorStatus);
 
-    jclass hashMapClass = env->FindClass("java/util/HashMap");
-    jmethodID hashMapInit = env->GetMethodID(hashMapClass, "<init>", "(I)V");
-    jobject hashMapObj =
-            env->NewObject(hashMapClass, hashMapInit, result.size());
-    jmethodID hashMapPut = env->GetMethodID(
-            hashMapClass,
-            "put",
-            "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;");
+    jobject hashMapObj = env->NewObject(
+            jniCache.hashMapClass, jniCache.hashMapInit, (jint) result.size());
 
     for (auto it: result) {
         auto first = it.first;
@@ -228,12 +221,42 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Track_getRangeOfAl
         jobject composableObject = composableFromNative(env, first);
         jobject tr = timeRangeToJObject(env, second);
 
-        env->CallObjectMethod(hashMapObj, hashMapPut, composableObject, tr);
+        env->CallObjectMethod(hashMapObj, jniCache.hashMapPut, composableObject, tr);
+        env->DeleteLocalRef(composableObject);
+        env->DeleteLocalRef(tr);
     }
 
     return hashMapObj;
 }
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Track
+ * Method:    trimmedRangesOfAllChildren
+ * Signature: ([D)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_Track_trimmedRangesOfAllChildren(
+        JNIEnv *env, jobject thisObj, jdoubleArray out) {
+    auto thisHandle =
+            getHandle<SerializableObject::Retainer<Track>>(env, thisObj);
+    auto track = thisHandle->value;
+    auto errorStatus = OTIO_NS::ErrorStatus();
+    auto rangeMap = track->range_of_all_children(&errorStatus);
+    processOTIOErrorStatus(env, errorStatus);
+    if (env->ExceptionCheck()) return -1;
+
+    // children trimmed away entirely are reported as NaN ranges rather than failing the whole track
+    const double nan = std::numeric_limits<double>::quiet_NaN();
+    const TimeRange trimmedAway(RationalTime(nan, nan), RationalTime(nan, nan));
+    auto &children = track->children();
+    std::vector<TimeRange> ranges;
+    ranges.reserve(children.size());
+    for (auto &child: children) {
+        auto trimmed = track->trim_child_range(rangeMap[child.value]);
+        ranges.push_back(trimmed ? *trimmed : trimmedAway);
+    }
+    return timeRangesToDoubleArray(env, ranges, out);
+}
+
 /*
  * Class:     io_opentimeline_opentimelineio_Track
  * Method:    clipIfNative
@@ -109,11 +109,11 @@ Java_io_opentimeline_opentimelineio_Transition_getInOffset(
 
 /*
  * Class:     io_opentimeline_opentimelineio_Transition
- * Method:    setInOffset
+ * Method:    setInOffsetNative
  * Signature: (Lio/opentimeline/opentime/RationalTime;)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_Transition_setInOffset(
+Java_io_opentimeline_opentimelineio_Transition_setInOffsetNative(
         JNIEnv *env, jobject thisObj, jobject inOffsetRationalTime) {
     if (inOffsetRationalTime == nullptr) {
         throwNullPointerException(env, "");
@@ -143,11 +143,11 @@ Java_io_opentimeline_opentimelineio_Transition_getOutOffset(
 
 /*
  * Class:     io_opentimeline_opentimelineio_Transition
- * Method:    setOutOffset
+ * Method:    setOutOffsetNative
  * Signature: (Lio/opentimeline/opentime/RationalTime;)V
  */
 JNIEXPORT void JNICALL
-Java_io_opentimeline_opentimelineio_Transition_setOutOffset(
+Java_io_opentimeline_opentimelineio_Transition_setOutOffsetNative(
         JNIEnv *env, jobject thisObj, jobject outOffsetRationalTime) {
     if (outOffsetRationalTime == nullptr) {
         throwNullPointerException(env, "");
@@ -0,0 +1,222 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <exceptions.h>
+#include <handle.h>
+#include <java_values.h>
+#include <jni_cache.h>
+#include <utilities.h>
+
+#include <opentimelineio/safely_typed_any.h>
+
+#include <string>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+jobject
+javaValueFromAny(JNIEnv *env, const any &value) {
+    if (value.empty()) return nullptr;
+    const std::type_info &type = value.type();
+    if (type == typeid(bool)) {
+        return env->CallStaticObjectMethod(
+                jniCache.booleanClass, jniCache.booleanValueOf, (jboolean) any_cast<bool>(value));
+    } else if (type == typeid(int)) {
+        return env->CallStaticObjectMethod(
+                jniCache.integerClass, jniCache.integerValueOf, (jint) any_cast<int>(value));
+    } else if (type == typeid(int64_t)) {
+        return env->CallStaticObjectMethod(
+                jniCache.longClass, jniCache.longValueOf, (jlong) any_cast<int64_t>(value));
+    } else if (type == typeid(double)) {
+        return env->CallStaticObjectMethod(
+                jniCache.doubleClass, jniCache.doubleValueOf, (jdouble) any_cast<double>(value));
+    } else if (type == typeid(std::string)) {
+        return env->NewStringUTF(any_cast<const std::string &>(value).c_str());
+    } else if (type == typeid(RationalTime)) {
+        return rationalTimeToJObject(env, any_cast<RationalTime>(value));
+    } else if (type == typeid(TimeRange)) {
+        return timeRangeToJObject(env, any_cast<TimeRange>(value));
+    } else if (type == typeid(TimeTransform)) {
+        return timeTransformToJObject(env, any_cast<TimeTransform>(value));
+    } else if (type == typeid(AnyDictionary)) {
+        return javaMapFromAnyDictionary(env, any_cast<const AnyDictionary &>(value));
+    } else if (type == typeid(AnyVector)) {
+        return javaListFromAnyVector(env, any_cast<const AnyVector &>(value));
+    } else if (type == typeid(SerializableObject::Retainer<>)) {
+        return serializableObjectFromNative(
+                env, any_cast<const SerializableObject::Retainer<> &>(value).value);
+    }
+    return anyFromNative(env, const_cast<any *>(&value));
+}
+
+jobject
+javaMapFromAnyDictionary(JNIEnv *env, const AnyDictionary &dictionary) {
+    // sized so that the map is never rehashed while it is filled
+    auto capacity = static_cast<jint>(dictionary.size() * 4 / 3 + 1);
+    jobject map = env->NewObject(jniCache.hashMapClass, jniCache.hashMapInit, capacity);
+    if (map == nullptr) return nullptr;
+    for (const auto &entry: dictionary) {
+        jstring key = env->NewStringUTF(entry.first.c_str());
+        if (key == nullptr) {
+            env->DeleteLocalRef(map);
+            return nullptr;
+        }
+        jobject value = javaValueFromAny(env, entry.second);
+        if (env->ExceptionCheck()) {
+            env->DeleteLocalRef(key);
+            env->DeleteLocalRef(map);
+            return nullptr;
+        }
+        jobject previous = env->CallObjectMethod(map, jniCache.hashMapPut, key, value);
+        if (previous != nullptr) env->DeleteLocalRef(previous);
+        env->DeleteLocalRef(key);
+        if (value != nullptr) env->DeleteLocalRef(value);
+    }
+    return map;
+}
+
+jobject
+javaListFromAnyVector(JNIEnv *env, const AnyVector &vector) {
+    auto capacity = static_cast<jint>(vector.size());
+    jobject list = env->NewObject(jniCache.arrayListClass, jniCache.arrayListInit, capacity);
+    if (list == nullptr) return nullptr;
+    for (const auto &element: vector) {
+        jobject value = javaValueFromAny(env, element);
+        if (env->ExceptionCheck()) {
+            env->DeleteLocalRef(list);
+            return nullptr;
+        }
+        env->CallBooleanMethod(list, jniCache.arrayListAdd, value);
+        if (value != nullptr) env->DeleteLocalRef(value);
+    }
+    return list;
+}
+
+static std::string
+stringFromJava(JNIEnv *env, jstring string) {
+    const char *chars = env->GetStringUTFChars(string, nullptr);
+    if (chars == nullptr) return std::string();
+    std::string result(chars);
+    env->ReleaseStringUTFChars(string, chars);
+    return result;
+}
+
+static void
+throwUnsupportedValue(JNIEnv *env, jobject value) {
+    jclass cls = env->GetObjectClass(value);
+    auto className = (jstring) env->CallObjectMethod(cls, jniCache.classGetName);
+    env->DeleteLocalRef(cls);
+    if (className == nullptr) return;
+    std::string message = "No OTIO value type for " + stringFromJava(env, className);
+    env->DeleteLocalRef(className);
+    throwIllegalArgumentException(env, message.c_str());
+}
+
+static bool
+anyVectorFromJavaIterable(JNIEnv *env, jobject iterable, AnyVector *destination) {
+    jobject iterator = env->CallObjectMethod(iterable, jniCache.iterableIterator);
+    if (env->ExceptionCheck()) return false;
+    bool result = true;
+    while (result && env->CallBooleanMethod(iterator, jniCache.iteratorHasNext)) {
+        jobject element = env->CallObjectMethod(iterator, jniCache.iteratorNext);
+        if (env->ExceptionCheck()) {
+            result = false;
+            break;
+        }
+        any value;
+        result = anyFromJavaValue(env, element, &value);
+        if (result) destination->push_back(std::move(value));
+        if (element != nullptr) env->DeleteLocalRef(element);
+    }
+    env->DeleteLocalRef(iterator);
+    return result && !env->ExceptionCheck();
+}
+
+bool
+anyFromJavaValue(JNIEnv *env, jobject value, any *destination) {
+    if (value == nullptr) {
+        *destination = any();
+    } else if (env->IsInstanceOf(value, jniCache.stringClass)) {
+        *destination = create_safely_typed_any(stringFromJava(env, (jstring) value));
+    } else if (env->IsInstanceOf(value, jniCache.booleanClass)) {
+        bool b = env->CallBooleanMethod(value, jniCache.booleanBooleanValue);
+        *destination = create_safely_typed_any(std::move(b));
+    } else if (env->IsInstanceOf(value, jniCache.integerClass) ||
+               env->IsInstanceOf(value, jniCache.shortClass) ||
+               env->IsInstanceOf(value, jniCache.byteClass)) {
+        int i = env->CallIntMethod(value, jniCache.numberIntValue);
+        *destination = create_safely_typed_any(std::move(i));
+    } else if (env->IsInstanceOf(value, jniCache.longClass)) {
+        auto l = (int64_t) env->CallLongMethod(value, jniCache.numberLongValue);
+        *destination = create_safely_typed_any(std::move(l));
+    } else if (env->IsInstanceOf(value, jniCache.doubleClass) ||
+               env->IsInstanceOf(value, jniCache.floatClass)) {
+        double d = env->CallDoubleMethod(value, jniCache.numberDoubleValue);
+        *destination = create_safely_typed_any(std::move(d));
+    } else if (env->IsInstanceOf(value, jniCache.rationalTimeClass)) {
+        *destination = create_safely_typed_any(rationalTimeFromJObject(env, value));
+    } else if (env->IsInstanceOf(value, jniCache.timeRangeClass)) {
+        *destination = create_safely_typed_any(timeRangeFromJObject(env, value));
+    } else if (env->IsInstanceOf(value, jniCache.timeTransformClass)) {
+        *destination = create_safely_typed_any(timeTransformFromJObject(env, value));
+    } else if (env->IsInstanceOf(value, jniCache.any.cls)) {
+        *destination = *getHandle<any>(env, value);
+    } else if (env->IsInstanceOf(value, jniCache.anyDictionary.cls)) {
+        AnyDictionary dictionary(*getHandle<AnyDictionary>(env, value));
+        *destination = create_safely_typed_any(std::move(dictionary));
+    } else if (env->IsInstanceOf(value, jniCache.anyVector.cls)) {
+        AnyVector vector(*getHandle<AnyVector>(env, value));
+        *destination = create_safely_typed_any(std::move(vector));
+    } else if (env->IsInstanceOf(value, jniCache.serializableObjectClass)) {
+        auto retainer = getHandle<SerializableObject::Retainer<SerializableObject>>(env, value);
+        *destination = create_safely_typed_any(retainer->value);
+    } else if (env->IsInstanceOf(value, jniCache.mapClass)) {
+        AnyDictionary dictionary;
+        if (!anyDictionaryFromJavaMap(env, value, &dictionary)) return false;
+        *destination = create_safely_typed_any(std::move(dictionary));
+    } else if (env->IsInstanceOf(value, jniCache.iterableClass)) {
+        AnyVector vector;
+        if (!anyVectorFromJavaIterable(env, value, &vector)) return false;
+        *destination = create_safely_typed_any(std::move(vector));
+    } else {
+        throwUnsupportedValue(env, value);
+        return false;
+    }
+    return !env->ExceptionCheck();
+}
+
+bool
+anyDictionaryFromJavaMap(JNIEnv *env, jobject map, AnyDictionary *destination) {
+    jobject entrySet = env->CallObjectMethod(map, jniCache.mapEntrySet);
+    if (env->ExceptionCheck()) return false;
+    jobject iterator = env->CallObjectMethod(entrySet, jniCache.iterableIterator);
+    env->DeleteLocalRef(entrySet);
+    if (env->ExceptionCheck()) return false;
+    bool result = true;
+    while (result && env->CallBooleanMethod(iterator, jniCache.iteratorHasNext)) {
+        jobject entry = env->CallObjectMethod(iterator, jniCache.iteratorNext);
+        if (env->ExceptionCheck()) {
+            result = false;
+            break;
+        }
+        jobject key = env->CallObjectMethod(entry, jniCache.mapEntryGetKey);
+        jobject value = env->ExceptionCheck() ? nullptr : env->CallObjectMethod(entry, jniCache.mapEntryGetValue);
+        env->DeleteLocalRef(entry);
+        if (env->ExceptionCheck()) {
+            result = false;
+        } else if (key == nullptr) {
+            throwNullPointerException(env, "AnyDictionary keys cannot be null");
+            result = false;
+        } else if (!env->IsInstanceOf(key, jniCache.stringClass)) {
+            throwClassCastException(env, "AnyDictionary keys must be Strings");
+            result = false;
+        } else {
+            any converted;
+            result = anyFromJavaValue(env, value, &converted);
+            if (result) (*destination)[stringFromJava(env, (jstring) key)] = std::move(converted);
+        }
+        if (key != nullptr) env->DeleteLocalRef(key);
+        if (value != nullptr) env->DeleteLocalRef(value);
+    }
+    env->DeleteLocalRef(iterator);
+    return result && !env->ExceptionCheck();
+}
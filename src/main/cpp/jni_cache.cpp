@@ -0,0 +1,299 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <jni_cache.h>
+
+JNICache jniCache;
+
+static jclass
+findGlobalClass(JNIEnv *env, const char *name) {
+    jclass localClass = env->FindClass(name);
+    if (localClass == nullptr) return nullptr;
+    auto globalClass = (jclass) env->NewGlobalRef(localClass);
+    env->DeleteLocalRef(localClass);
+    return globalClass;
+}
+
+static bool
+findWrapperClass(JNIEnv *env, const char *name, JavaClassEntry &entry) {
+    entry.cls = findGlobalClass(env, name);
+    if (entry.cls == nullptr) return false;
+    entry.init = env->GetMethodID(entry.cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
+    return entry.init != nullptr;
+}
+
+static bool
+initOTIOClasses(JNIEnv *env) {
+    jniCache.otioObjectClass = findGlobalClass(env, "io/opentimeline/OTIOObject");
+    if (jniCache.otioObjectClass == nullptr) return false;
+    jniCache.otioObjectNativeManager = env->GetFieldID(
+            jniCache.otioObjectClass, "nativeManager", "Lio/opentimeline/OTIONative;");
+
+    jniCache.otioNativeClass = findGlobalClass(env, "io/opentimeline/OTIONative");
+    if (jniCache.otioNativeClass == nullptr) return false;
+    jniCache.otioNativeInit = env->GetMethodID(jniCache.otioNativeClass, "<init>", "(J)V");
+    jniCache.otioNativeNativeHandle = env->GetFieldID(jniCache.otioNativeClass, "nativeHandle", "J");
+    jniCache.otioNativeClassName = env->GetFieldID(
+            jniCache.otioNativeClass, "className", "Ljava/lang/String;");
+
+    jniCache.otioFactoryClass = findGlobalClass(env, "io/opentimeline/OTIOFactory");
+    if (jniCache.otioFactoryClass == nullptr) return false;
+    jniCache.otioFactoryGetInstance = env->GetStaticMethodID(
+            jniCache.otioFactoryClass, "getInstance", "()Lio/opentimeline/OTIOFactory;");
+    jniCache.otioFactoryRegisterObject = env->GetMethodID(
+            jniCache.otioFactoryClass, "registerObject", "(Lio/opentimeline/OTIOObject;)V");
+
+    jniCache.wrapperCacheClass = findGlobalClass(env, "io/opentimeline/OTIOWrapperCache");
+    if (jniCache.wrapperCacheClass == nullptr) return false;
+    jniCache.wrapperCacheLookup = env->GetStaticMethodID(
+            jniCache.wrapperCacheClass, "lookup", "(J)Lio/opentimeline/OTIOObject;");
+    jniCache.wrapperCacheRegister = env->GetStaticMethodID(
+            jniCache.wrapperCacheClass, "register", "(Lio/opentimeline/OTIOObject;J)V");
+
+    jniCache.pairClass = findGlobalClass(env, "io/opentimeline/util/Pair");
+    if (jniCache.pairClass == nullptr) return false;
+    jniCache.pairInit = env->GetMethodID(
+            jniCache.pairClass, "<init>", "(Ljava/lang/Object;Ljava/lang/Object;)V");
+
+    return !env->ExceptionCheck();
+}
+
+static bool
+initOpentimeClasses(JNIEnv *env) {
+    jniCache.rationalTimeClass = findGlobalClass(env, "io/opentimeline/opentime/RationalTime");
+    if (jniCache.rationalTimeClass == nullptr) return false;
+    jniCache.rationalTimeInit = env->GetMethodID(jniCache.rationalTimeClass, "<init>", "(DD)V");
+    jniCache.rationalTimeValue = env->GetFieldID(jniCache.rationalTimeClass, "value", "D");
+    jniCache.rationalTimeRate = env->GetFieldID(jniCache.rationalTimeClass, "rate", "D");
+
+    jniCache.timeRangeClass = findGlobalClass(env, "io/opentimeline/opentime/TimeRange");
+    if (jniCache.timeRangeClass == nullptr) return false;
+    jniCache.timeRangeInit = env->GetMethodID(jniCache.timeRangeClass, "<init>", "(DDDD)V");
+    jniCache.timeRangeStartTime = env->GetFieldID(
+            jniCache.timeRangeClass, "startTime", "Lio/opentimeline/opentime/RationalTime;");
+    jniCache.timeRangeDuration = env->GetFieldID(
+            jniCache.timeRangeClass, "duration", "Lio/opentimeline/opentime/RationalTime;");
+
+    jniCache.timeTransformClass = findGlobalClass(env, "io/opentimeline/opentime/TimeTransform");
+    if (jniCache.timeTransformClass == nullptr) return false;
+    jniCache.timeTransformInit = env->GetMethodID(
+            jniCache.timeTransformClass, "<init>", "(Lio/opentimeline/opentime/RationalTime;DD)V");
+    jniCache.timeTransformOffset = env->GetFieldID(
+            jniCache.timeTransformClass, "offset", "Lio/opentimeline/opentime/RationalTime;");
+    jniCache.timeTransformScale = env->GetFieldID(jniCache.timeTransformClass, "scale", "D");
+    jniCache.timeTransformRate = env->GetFieldID(jniCache.timeTransformClass, "rate", "D");
+
+    return !env->ExceptionCheck();
+}
+
+static bool
+initOTIOWrapperClasses(JNIEnv *env) {
+    if (!findWrapperClass(env, "io/opentimeline/opentimelineio/Any", jniCache.any)) return false;
+    jniCache.anyTypeClass = env->GetFieldID(jniCache.any.cls, "anyTypeClass", "Ljava/lang/String;");
+    if (!findWrapperClass(env, "io/opentimeline/opentimelineio/AnyDictionary", jniCache.anyDictionary)) return false;
+    if (!findWrapperClass(env, "io/opentimeline/opentimelineio/AnyVector", jniCache.anyVector)) return false;
+    // inner classes, their constructor takes the enclosing instance first
+    jniCache.anyDictionaryIterator.cls = findGlobalClass(
+            env, "io/opentimeline/opentimelineio/AnyDictionary$Iterator");
+    if (jniCache.anyDictionaryIterator.cls == nullptr) return false;
+    jniCache.anyDictionaryIterator.init = env->GetMethodID(
+            jniCache.anyDictionaryIterator.cls, "<init>",
+            "(Lio/opentimeline/opentimelineio/AnyDictionary;Lio/opentimeline/OTIONative;)V");
+    jniCache.anyVectorIterator.cls = findGlobalClass(env, "io/opentimeline/opentimelineio/AnyVector$Iterator");
+    if (jniCache.anyVectorIterator.cls == nullptr) return false;
+    jniCache.anyVectorIterator.init = env->GetMethodID(
+            jniCache.anyVectorIterator.cls, "<init>",
+            "(Lio/opentimeline/opentimelineio/AnyVector;Lio/opentimeline/OTIONative;)V");
+
+    // schema name -> Java class, mirrors getSerializableObjectJavaClassFromNative()
+    static const char *schemas[] = {
+            "Clip", "Composable", "Composition", "Effect", "ExternalReference", "FreezeFrame", "Gap",
+            "GeneratorReference", "ImageSequenceReference", "Item", "LinearTimeWarp", "Marker",
+            "MediaReference", "MissingReference", "SerializableCollection", "SerializableObject",
+            "SerializableObjectWithMetadata", "Stack", "TimeEffect", "Timeline", "Track", "Transition",
+            "UnknownSchema"};
+    for (const char *schema: schemas) {
+        std::string javaClassName = std::string("io/opentimeline/opentimelineio/") + schema;
+        JavaClassEntry entry{};
+        if (!findWrapperClass(env, javaClassName.c_str(), entry)) return false;
+        jniCache.schemaClasses[schema] = entry;
+
+        std::string canonicalName = std::string("io.opentimeline.opentimelineio.") + schema;
+        jstring localName = env->NewStringUTF(canonicalName.c_str());
+        jniCache.classNames[canonicalName] = (jstring) env->NewGlobalRef(localName);
+        env->DeleteLocalRef(localName);
+    }
+
+    static const char *otherClassNames[] = {
+            "io.opentimeline.opentimelineio.Any",
+            "io.opentimeline.opentimelineio.AnyDictionary",
+            "io.opentimeline.opentimelineio.AnyDictionary.Iterator",
+            "io.opentimeline.opentimelineio.AnyVector",
+            "io.opentimeline.opentimelineio.AnyVector.Iterator"};
+    for (const char *canonicalName: otherClassNames) {
+        jstring localName = env->NewStringUTF(canonicalName);
+        jniCache.classNames[canonicalName] = (jstring) env->NewGlobalRef(localName);
+        env->DeleteLocalRef(localName);
+    }
+
+    jniCache.serializableObjectClass = jniCache.schemaClasses["SerializableObject"].cls;
+    jniCache.effectClass = jniCache.schemaClasses["Effect"].cls;
+    jniCache.markerClass = jniCache.schemaClasses["Marker"].cls;
+    jniCache.composableClass = jniCache.schemaClasses["Composable"].cls;
+    jniCache.compositionClass = jniCache.schemaClasses["Composition"].cls;
+    jniCache.itemClass = jniCache.schemaClasses["Item"].cls;
+    jniCache.clipClass = jniCache.schemaClasses["Clip"].cls;
+    jniCache.gapClass = jniCache.schemaClasses["Gap"].cls;
+    jniCache.stackClass = jniCache.schemaClasses["Stack"].cls;
+    jniCache.trackClass = jniCache.schemaClasses["Track"].cls;
+    jniCache.transitionClass = jniCache.schemaClasses["Transition"].cls;
+
+    jniCache.serializationClass = findGlobalClass(env, "io/opentimeline/opentimelineio/Serialization");
+    if (jniCache.serializationClass == nullptr) return false;
+    jniCache.serializationWriteChunk = env->GetStaticMethodID(
+            jniCache.serializationClass, "writeChunk", "(Ljava/nio/channels/WritableByteChannel;Ljava/nio/ByteBuffer;I)V");
+
+    jniCache.deserializationClass = findGlobalClass(env, "io/opentimeline/opentimelineio/Deserialization");
+    if (jniCache.deserializationClass == nullptr) return false;
+    jniCache.deserializationReadChunk = env->GetStaticMethodID(
+            jniCache.deserializationClass, "readChunk", "(Ljava/nio/channels/ReadableByteChannel;Ljava/nio/ByteBuffer;)I");
+
+    jniCache.timelineWindowClass = findGlobalClass(env, "io/opentimeline/opentimelineio/TimelineWindow");
+    if (jniCache.timelineWindowClass == nullptr) return false;
+    jniCache.timelineWindowInit = env->GetMethodID(
+            jniCache.timelineWindowClass, "<init>", "([Lio/opentimeline/opentimelineio/Item;[I[D)V");
+
+    return !env->ExceptionCheck();
+}
+
+static bool
+initJavaValueClasses(JNIEnv *env) {
+    jniCache.booleanClass = findGlobalClass(env, "java/lang/Boolean");
+    if (jniCache.booleanClass == nullptr) return false;
+    jniCache.booleanValueOf = env->GetStaticMethodID(
+            jniCache.booleanClass, "valueOf", "(Z)Ljava/lang/Boolean;");
+    jniCache.booleanBooleanValue = env->GetMethodID(jniCache.booleanClass, "booleanValue", "()Z");
+
+    jniCache.numberClass = findGlobalClass(env, "java/lang/Number");
+    if (jniCache.numberClass == nullptr) return false;
+    jniCache.numberIntValue = env->GetMethodID(jniCache.numberClass, "intValue", "()I");
+    jniCache.numberLongValue = env->GetMethodID(jniCache.numberClass, "longValue", "()J");
+    jniCache.numberDoubleValue = env->GetMethodID(jniCache.numberClass, "doubleValue", "()D");
+
+    jniCache.integerClass = findGlobalClass(env, "java/lang/Integer");
+    if (jniCache.integerClass == nullptr) return false;
+    jniCache.integerValueOf = env->GetStaticMethodID(
+            jniCache.integerClass, "valueOf", "(I)Ljava/lang/Integer;");
+    jniCache.shortClass = findGlobalClass(env, "java/lang/Short");
+    if (jniCache.shortClass == nullptr) return false;
+    jniCache.byteClass = findGlobalClass(env, "java/lang/Byte");
+    if (jniCache.byteClass == nullptr) return false;
+
+    jniCache.longClass = findGlobalClass(env, "java/lang/Long");
+    if (jniCache.longClass == nullptr) return false;
+    jniCache.longValueOf = env->GetStaticMethodID(jniCache.longClass, "valueOf", "(J)Ljava/lang/Long;");
+
+    jniCache.doubleClass = findGlobalClass(env, "java/lang/Double");
+    if (jniCache.doubleClass == nullptr) return false;
+    jniCache.doubleValueOf = env->GetStaticMethodID(
+            jniCache.doubleClass, "valueOf", "(D)Ljava/lang/Double;");
+    jniCache.floatClass = findGlobalClass(env, "java/lang/Float");
+    if (jniCache.floatClass == nullptr) return false;
+
+    jniCache.stringClass = findGlobalClass(env, "java/lang/String");
+    if (jniCache.stringClass == nullptr) return false;
+
+    jniCache.mapClass = findGlobalClass(env, "java/util/Map");
+    if (jniCache.mapClass == nullptr) return false;
+    jniCache.mapEntrySet = env->GetMethodID(jniCache.mapClass, "entrySet", "()Ljava/util/Set;");
+
+    jniCache.mapEntryClass = findGlobalClass(env, "java/util/Map$Entry");
+    if (jniCache.mapEntryClass == nullptr) return false;
+    jniCache.mapEntryGetKey = env->GetMethodID(jniCache.mapEntryClass, "getKey", "()Ljava/lang/Object;");
+    jniCache.mapEntryGetValue = env->GetMethodID(jniCache.mapEntryClass, "getValue", "()Ljava/lang/Object;");
+
+    jniCache.iterableClass = findGlobalClass(env, "java/lang/Iterable");
+    if (jniCache.iterableClass == nullptr) return false;
+    jniCache.iterableIterator = env->GetMethodID(jniCache.iterableClass, "iterator", "()Ljava/util/Iterator;");
+
+    jniCache.iteratorClass = findGlobalClass(env, "java/util/Iterator");
+    if (jniCache.iteratorClass == nullptr) return false;
+    jniCache.iteratorHasNext = env->GetMethodID(jniCache.iteratorClass, "hasNext", "()Z");
+    jniCache.iteratorNext = env->GetMethodID(jniCache.iteratorClass, "next", "()Ljava/lang/Object;");
+
+    jniCache.arrayListClass = findGlobalClass(env, "java/util/ArrayList");
+    if (jniCache.arrayListClass == nullptr) return false;
+    jniCache.arrayListInit = env->GetMethodID(jniCache.arrayListClass, "<init>", "(I)V");
+    jniCache.arrayListAdd = env->GetMethodID(jniCache.arrayListClass, "add", "(Ljava/lang/Object;)Z");
+
+    return !env->ExceptionCheck();
+}
+
+static bool
+initJavaClasses(JNIEnv *env) {
+    jniCache.classClass = findGlobalClass(env, "java/lang/Class");
+    if (jniCache.classClass == nullptr) return false;
+    jniCache.classGetName = env->GetMethodID(jniCache.classClass, "getName", "()Ljava/lang/String;");
+
+    jniCache.optionalClass = findGlobalClass(env, "java/util/Optional");
+    if (jniCache.optionalClass == nullptr) return false;
+    jniCache.optionalIsPresent = env->GetMethodID(jniCache.optionalClass, "isPresent", "()Z");
+    jniCache.optionalGet = env->GetMethodID(jniCache.optionalClass, "get", "()Ljava/lang/Object;");
+
+    jniCache.hashMapClass = findGlobalClass(env, "java/util/HashMap");
+    if (jniCache.hashMapClass == nullptr) return false;
+    jniCache.hashMapInit = env->GetMethodID(jniCache.hashMapClass, "<init>", "(I)V");
+    jniCache.hashMapPut = env->GetMethodID(
+            jniCache.hashMapClass, "put", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;");
+
+    jniCache.predicateClass = findGlobalClass(env, "java/util/function/Predicate");
+    if (jniCache.predicateClass == nullptr) return false;
+    jniCache.predicateTest = env->GetMethodID(jniCache.predicateClass, "test", "(Ljava/lang/Object;)Z");
+
+    return !env->ExceptionCheck() && initJavaValueClasses(env);
+}
+
+JNIEXPORT jint JNICALL
+JNI_OnLoad(JavaVM *vm, void *reserved) {
+    JNIEnv *env;
+    if (vm->GetEnv(reinterpret_cast<void **>(&env), JNI_VERSION_1_6) != JNI_OK) {
+        return JNI_ERR;
+    }
+    if (!initJavaClasses(env) ||
+        !initOTIOClasses(env) ||
+        !initOpentimeClasses(env) ||
+        !initOTIOWrapperClasses(env)) {
+        return JNI_ERR;
+    }
+    return JNI_VERSION_1_6;
+}
+
+JNIEXPORT void JNICALL
+JNI_OnUnload(JavaVM *vm, void *reserved) {
+    JNIEnv *env;
+    if (vm->GetEnv(reinterpret_cast<void **>(&env), JNI_VERSION_1_6) != JNI_OK) {
+        return;
+    }
+    jclass globalClasses[] = {
+            jniCache.otioObjectClass, jniCache.otioNativeClass, jniCache.otioFactoryClass, jniCache.wrapperCacheClass,
+            jniCache.pairClass, jniCache.rationalTimeClass, jniCache.timeRangeClass,
+            jniCache.timeTransformClass, jniCache.any.cls, jniCache.anyDictionary.cls,
+            jniCache.anyVector.cls, jniCache.anyDictionaryIterator.cls, jniCache.anyVectorIterator.cls,
+            jniCache.serializationClass, jniCache.deserializationClass,
+            jniCache.timelineWindowClass, jniCache.classClass, jniCache.optionalClass, jniCache.hashMapClass,
+            jniCache.predicateClass, jniCache.booleanClass, jniCache.numberClass, jniCache.integerClass,
+            jniCache.shortClass, jniCache.byteClass, jniCache.longClass, jniCache.doubleClass,
+            jniCache.floatClass, jniCache.stringClass, jniCache.mapClass, jniCache.mapEntryClass,
+            jniCache.iterableClass, jniCache.iteratorClass, jniCache.arrayListClass};
+    for (jclass cls: globalClasses) {
+        if (cls != nullptr) env->DeleteGlobalRef(cls);
+    }
+    for (auto &it: jniCache.schemaClasses) {
+        env->DeleteGlobalRef(it.second.cls);
+    }
+    for (auto &it: jniCache.classNames) {
+        env->DeleteGlobalRef(it.second);
+    }
+    jniCache.schemaClasses.clear();
+    jniCache.classNames.clear();
+}
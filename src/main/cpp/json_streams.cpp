@@ -0,0 +1,196 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <exceptions.h>
+#include <jni_cache.h>
+#include <json_streams.h>
+#include <opentimelineio/deserialization.h>
+
+#include <cstring>
+
+#ifdef OTIO_JAVA_HAS_NATIVE_PIPE
+#include <cerrno>
+#include <csignal>
+#include <pthread.h>
+#include <thread>
+#include <unistd.h>
+#endif
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+// below this size copying into a std::string is cheaper than starting a feeder thread
+static const size_t pipeThreshold = 1 << 20;
+
+#ifdef OTIO_JAVA_HAS_NATIVE_PIPE
+
+NativePipe::NativePipe() {
+    fds[0] = -1;
+    fds[1] = -1;
+}
+
+NativePipe::~NativePipe() {
+    closeRead();
+    closeWrite();
+}
+
+bool
+NativePipe::open() {
+    return pipe(fds) == 0;
+}
+
+std::string
+NativePipe::readPath() const {
+    return "/dev/fd/" + std::to_string(fds[0]);
+}
+
+std::string
+NativePipe::writePath() const {
+    return "/dev/fd/" + std::to_string(fds[1]);
+}
+
+void
+NativePipe::closeRead() {
+    if (fds[0] != -1) {
+        close(fds[0]);
+        fds[0] = -1;
+    }
+}
+
+void
+NativePipe::closeWrite() {
+    if (fds[1] != -1) {
+        close(fds[1]);
+        fds[1] = -1;
+    }
+}
+
+void
+blockSigpipe() {
+    sigset_t set;
+    sigemptyset(&set);
+    sigaddset(&set, SIGPIPE);
+    pthread_sigmask(SIG_BLOCK, &set, nullptr);
+}
+
+bool
+writeFully(int fd, const char *data, size_t size) {
+    while (size > 0) {
+        ssize_t count = write(fd, data, size);
+        if (count < 0) {
+            if (errno == EINTR) continue;
+            return false;
+        }
+        data += count;
+        size -= static_cast<size_t>(count);
+    }
+    return true;
+}
+
+PipedParser::PipedParser(NativePipe &pipe, any *destination, ErrorStatus *errorStatus)
+        : pipe(pipe), done(false), result(false) {
+    std::string readPath = pipe.readPath();
+    parser = std::thread([this, readPath, destination, errorStatus]() {
+        result = deserialize_json_from_file(readPath, destination, errorStatus);
+        done = true;
+        char discard[4096];
+        for (;;) {
+            ssize_t count = read(this->pipe.readFd(), discard, sizeof(discard));
+            if (count > 0 || (count < 0 && errno == EINTR)) continue;
+            break;
+        }
+    });
+}
+
+PipedParser::~PipedParser() {
+    if (parser.joinable()) finish();
+}
+
+bool
+PipedParser::finish() {
+    pipe.closeWrite();
+    parser.join();
+    return result;
+}
+
+#endif
+
+bool
+deserializeJSONFromBytes(
+        const char *data,
+        size_t size,
+        any *destination,
+        ErrorStatus *errorStatus) {
+#ifdef OTIO_JAVA_HAS_NATIVE_PIPE
+    NativePipe pipe;
+    if (size >= pipeThreshold && pipe.open()) {
+        std::thread feeder([&]() {
+            blockSigpipe();
+            writeFully(pipe.writeFd(), data, size);
+            pipe.closeWrite();
+        });
+        bool result = deserialize_json_from_file(pipe.readPath(), destination, errorStatus);
+        // a parser that stopped early leaves the feeder blocked until nobody can read
+        pipe.closeRead();
+        feeder.join();
+        return result;
+    }
+#endif
+    return deserialize_json_from_string(std::string(data, size), destination, errorStatus);
+}
+
+// returns the number of bytes placed at the start of buffer, -1 at the end of the channel
+static jint
+readChunk(JNIEnv *env, jobject channel, jobject buffer) {
+    jint count = env->CallStaticIntMethod(
+            jniCache.deserializationClass, jniCache.deserializationReadChunk, channel, buffer);
+    return env->ExceptionCheck() ? -1 : count;
+}
+
+bool
+deserializeJSONFromChannel(
+        JNIEnv *env,
+        jobject channel,
+        jobject buffer,
+        any *destination,
+        ErrorStatus *errorStatus) {
+    auto data = static_cast<const char *>(env->GetDirectBufferAddress(buffer));
+    if (data == nullptr) {
+        throwRuntimeException(env, "reading JSON from a channel needs a direct ByteBuffer");
+        return false;
+    }
+#ifdef OTIO_JAVA_HAS_NATIVE_PIPE
+    NativePipe pipe;
+    if (!pipe.open()) {
+        throwIOException(env, strerror(errno));
+        return false;
+    }
+    // The parser runs on its own thread since it must not call into Java, while
+    // this thread pulls chunks from the channel and writes them into the pipe.
+    PipedParser parser(pipe, destination, errorStatus);
+    int writeError = 0;
+    while (!parser.isDone()) {
+        jint count = readChunk(env, channel, buffer);
+        if (count < 0) break;
+        if (!writeFully(pipe.writeFd(), data, static_cast<size_t>(count))) {
+            writeError = errno;
+            break;
+        }
+    }
+    bool result = parser.finish();
+    if (env->ExceptionCheck()) return false;
+    if (writeError != 0) {
+        throwIOException(env, strerror(writeError));
+        return false;
+    }
+    return result;
+#else
+    std::string json;
+    for (;;) {
+        jint count = readChunk(env, channel, buffer);
+        if (count < 0) break;
+        json.append(data, static_cast<size_t>(count));
+    }
+    if (env->ExceptionCheck()) return false;
+    return deserialize_json_from_string(json, destination, errorStatus);
+#endif
+}
@@ -0,0 +1,357 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <jni_cache.h>
+#include <json_streams.h>
+#include <metadata_filter.h>
+#include <opentimelineio/deserialization.h>
+
+// a namespace of our own, separate from the copy of rapidjson built into OTIO
+#ifndef RAPIDJSON_NAMESPACE
+#define RAPIDJSON_NAMESPACE jotio_rapidjson
+#define RAPIDJSON_NAMESPACE_BEGIN namespace jotio_rapidjson {
+#define RAPIDJSON_NAMESPACE_END }
+#endif
+
+#include <rapidjson/error/en.h>
+#include <rapidjson/filereadstream.h>
+#include <rapidjson/reader.h>
+#include <rapidjson/writer.h>
+
+#include <cstdio>
+#include <memory>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+namespace json = RAPIDJSON_NAMESPACE;
+
+MetadataFilter::MetadataFilter(JNIEnv *env, jint mode, jobjectArray keyPaths, jobject predicate)
+        : env(env), mode(static_cast<Mode>(mode)), predicate(predicate) {
+    jsize count = keyPaths == nullptr ? 0 : env->GetArrayLength(keyPaths);
+    for (jsize i = 0; i < count; i++) {
+        auto keyPath = (jstring) env->GetObjectArrayElement(keyPaths, i);
+        const char *keyPathChars = env->GetStringUTFChars(keyPath, nullptr);
+        this->keyPaths.emplace_back(keyPathChars);
+        env->ReleaseStringUTFChars(keyPath, keyPathChars);
+        env->DeleteLocalRef(keyPath);
+    }
+}
+
+bool
+MetadataFilter::keep(const std::string &keyPath) {
+    auto it = decisions.find(keyPath);
+    if (it != decisions.end()) return it->second;
+    bool decision = decide(keyPath);
+    if (env->ExceptionCheck()) return false;
+    decisions.emplace(keyPath, decision);
+    return decision;
+}
+
+static bool
+startsWith(const std::string &value, const std::string &prefix) {
+    return value.size() > prefix.size() &&
+           value.compare(0, prefix.size(), prefix) == 0 &&
+           value[prefix.size()] == '.';
+}
+
+bool
+MetadataFilter::decide(const std::string &keyPath) {
+    switch (mode) {
+        case ALLOW:
+            // allowed entries, everything below them and the dictionaries leading to them
+            for (const auto &allowed: keyPaths) {
+                if (keyPath == allowed || startsWith(keyPath, allowed) || startsWith(allowed, keyPath)) {
+                    return true;
+                }
+            }
+            return false;
+        case DENY:
+            // entries below a denied one are never asked for
+            for (const auto &denied: keyPaths) {
+                if (keyPath == denied) return false;
+            }
+            return true;
+        case PREDICATE: {
+            jstring keyPathString = env->NewStringUTF(keyPath.c_str());
+            if (keyPathString == nullptr) return false;
+            jboolean result = env->CallBooleanMethod(predicate, jniCache.predicateTest, keyPathString);
+            env->DeleteLocalRef(keyPathString);
+            return !env->ExceptionCheck() && result;
+        }
+    }
+    return true;
+}
+
+namespace {
+
+const unsigned parseFlags = json::kParseFullPrecisionFlag | json::kParseNanAndInfFlag;
+
+// appends to a std::string
+class StringOutputStream {
+public:
+    typedef char Ch;
+
+    explicit StringOutputStream(std::string &out) : out(out) {}
+
+    void Put(char c) { out.push_back(c); }
+
+    void Flush() {}
+
+    bool ok() const { return true; }
+
+private:
+    std::string &out;
+};
+
+#ifdef OTIO_JAVA_HAS_NATIVE_PIPE
+
+// writes to the pipe of a PipedParser in large chunks, stops once the parser is done
+class PipeOutputStream {
+public:
+    typedef char Ch;
+
+    PipeOutputStream(int fd, const PipedParser &parser) : fd(fd), parser(parser), size(0), failed(false) {}
+
+    void Put(char c) {
+        buffer[size++] = c;
+        if (size == sizeof(buffer)) Flush();
+    }
+
+    void Flush() {
+        if (size > 0 && ok()) failed = !writeFully(fd, buffer, size);
+        size = 0;
+    }
+
+    bool ok() const { return !failed && !parser.isDone(); }
+
+private:
+    int fd;
+    const PipedParser &parser;
+    char buffer[64 * 1024];
+    size_t size;
+    bool failed;
+};
+
+#endif
+
+/*
+ * SAX handler copying events to a Writer, except for the metadata entries that
+ * the filter drops. The metadata of an object is the object value of its
+ * "metadata" key. Within metadata, containers extend the key path of their key
+ * and array elements share the path of their array. An object stored in
+ * metadata is copied whole from its OTIO_SCHEMA key on, which OTIO writes first,
+ * and the filter is not asked for it: an object missing its schema would come
+ * back as a dictionary, one missing a field it requires would fail to load.
+ */
+template<typename OutputStream>
+class FilterHandler {
+public:
+    typedef json::Writer<OutputStream, json::UTF8<>, json::UTF8<>, json::CrtAllocator, json::kWriteNanAndInfFlag>
+            Writer;
+
+    FilterHandler(OutputStream &out, MetadataFilter &filter)
+            : out(out), writer(out), filter(filter), metadataLevel(-1), schemaLevel(-1), pendingMetadata(false),
+              skipping(false), skipNesting(0) {}
+
+    // true if parsing stopped because of the filter or the output, not the input
+    bool aborted() const { return filter.failed() || !out.ok(); }
+
+    bool Null() { return skipScalar() ? proceed() : writer.Null() && proceed(); }
+
+    bool Bool(bool b) { return skipScalar() ? proceed() : writer.Bool(b) && proceed(); }
+
+    bool Int(int i) { return skipScalar() ? proceed() : writer.Int(i) && proceed(); }
+
+    bool Uint(unsigned u) { return skipScalar() ? proceed() : writer.Uint(u) && proceed(); }
+
+    bool Int64(int64_t i) { return skipScalar() ? proceed() : writer.Int64(i) && proceed(); }
+
+    bool Uint64(uint64_t u) { return skipScalar() ? proceed() : writer.Uint64(u) && proceed(); }
+
+    bool Double(double d) { return skipScalar() ? proceed() : writer.Double(d) && proceed(); }
+
+    bool RawNumber(const char *str, json::SizeType length, bool copy) {
+        return skipScalar() ? proceed() : writer.RawValue(str, length, json::kNumberType) && proceed();
+    }
+
+    bool String(const char *str, json::SizeType length, bool copy) {
+        return skipScalar() ? proceed() : writer.String(str, length, copy) && proceed();
+    }
+
+    bool StartObject() {
+        if (skipping) {
+            skipNesting++;
+            return true;
+        }
+        enter(false);
+        return writer.StartObject() && proceed();
+    }
+
+    bool Key(const char *str, json::SizeType length, bool copy) {
+        if (skipping) return true;
+        if (metadataLevel >= 0 && schemaLevel < 0) {
+            std::string key(str, length);
+            std::string keyPath = path.empty() ? key : path + "." + key;
+            if (!path.empty() && key == "OTIO_SCHEMA") {
+                schemaLevel = static_cast<int>(frames.size()) - 1;
+            } else if (!filter.keep(keyPath)) {
+                skipping = true;
+                skipNesting = 0;
+                return proceed();
+            }
+            pendingPath = keyPath;
+        } else if (metadataLevel < 0) {
+            pendingMetadata = length == 8 && std::string(str, length) == "metadata";
+        }
+        return writer.Key(str, length, copy) && proceed();
+    }
+
+    bool EndObject(json::SizeType memberCount) {
+        if (skipping) return endSkipped();
+        leave();
+        return writer.EndObject() && proceed();
+    }
+
+    bool StartArray() {
+        if (skipping) {
+            skipNesting++;
+            return true;
+        }
+        enter(true);
+        return writer.StartArray() && proceed();
+    }
+
+    bool EndArray(json::SizeType elementCount) {
+        if (skipping) return endSkipped();
+        leave();
+        return writer.EndArray() && proceed();
+    }
+
+private:
+    struct Frame {
+        size_t pathLength;
+    };
+
+    OutputStream &out;
+    Writer writer;
+    MetadataFilter &filter;
+    std::vector<Frame> frames;
+    // index in frames of the metadata dictionary being copied, -1 outside metadata
+    int metadataLevel;
+    // index in frames of the object within metadata being copied whole, -1 if none
+    int schemaLevel;
+    std::string path;
+    std::string pendingPath;
+    bool pendingMetadata;
+    // a dropped value is being skipped, skipNesting counts the containers open inside it
+    bool skipping;
+    int skipNesting;
+
+    bool proceed() const { return !aborted(); }
+
+    // true if the scalar belongs to a dropped value
+    bool skipScalar() {
+        pendingPath.clear();
+        pendingMetadata = false;
+        if (!skipping) return false;
+        if (skipNesting == 0) skipping = false;
+        return true;
+    }
+
+    bool endSkipped() {
+        if (--skipNesting == 0) skipping = false;
+        return true;
+    }
+
+    void enter(bool array) {
+        Frame frame;
+        frame.pathLength = path.size();
+        if (metadataLevel >= 0) {
+            if (!pendingPath.empty()) path = pendingPath;
+        } else if (pendingMetadata && !array) {
+            metadataLevel = static_cast<int>(frames.size());
+        }
+        pendingPath.clear();
+        pendingMetadata = false;
+        frames.push_back(frame);
+    }
+
+    void leave() {
+        path.resize(frames.back().pathLength);
+        frames.pop_back();
+        if (metadataLevel == static_cast<int>(frames.size())) metadataLevel = -1;
+        if (schemaLevel == static_cast<int>(frames.size())) schemaLevel = -1;
+        pendingPath.clear();
+        pendingMetadata = false;
+    }
+};
+
+template<typename InputStream, typename OutputStream>
+bool
+filterJSON(InputStream &input, OutputStream &out, MetadataFilter &filter, ErrorStatus *errorStatus) {
+    FilterHandler<OutputStream> handler(out, filter);
+    json::Reader reader;
+    if (reader.Parse<parseFlags>(input, handler)) {
+        out.Flush();
+        return true;
+    }
+    if (!handler.aborted()) {
+        *errorStatus = ErrorStatus(
+                ErrorStatus::Outcome::JSON_PARSE_ERROR,
+                std::string(json::GetParseError_En(reader.GetParseErrorCode())) +
+                " (offset " + std::to_string(reader.GetErrorOffset()) + ")");
+    }
+    return false;
+}
+
+}
+
+bool
+deserializeJSONStringFiltered(
+        const std::string &input,
+        MetadataFilter &filter,
+        any *destination,
+        ErrorStatus *errorStatus) {
+    json::StringStream stream(input.c_str());
+    std::string filtered;
+    StringOutputStream out(filtered);
+    if (!filterJSON(stream, out, filter, errorStatus)) return false;
+    return deserialize_json_from_string(filtered, destination, errorStatus);
+}
+
+bool
+deserializeJSONFileFiltered(
+        const std::string &fileName,
+        MetadataFilter &filter,
+        any *destination,
+        ErrorStatus *errorStatus) {
+    std::unique_ptr<FILE, int (*)(FILE *)> file(fopen(fileName.c_str(), "rb"), fclose);
+    if (!file) {
+        *errorStatus = ErrorStatus(ErrorStatus::Outcome::FILE_OPEN_FAILED, fileName);
+        return false;
+    }
+    std::vector<char> readBuffer(64 * 1024);
+    json::FileReadStream stream(file.get(), readBuffer.data(), readBuffer.size());
+#ifdef OTIO_JAVA_HAS_NATIVE_PIPE
+    NativePipe pipe;
+    if (pipe.open()) {
+        // this thread filters, which may call the Java predicate, and OTIO parses the result
+        PipedParser parser(pipe, destination, errorStatus);
+        PipeOutputStream out(pipe.writeFd(), parser);
+        ErrorStatus filterStatus;
+        bool filtered = filterJSON(stream, out, filter, &filterStatus);
+        bool result = parser.finish();
+        if (filter.failed()) return false;
+        if (!filtered && filterStatus.outcome != ErrorStatus::Outcome::OK) {
+            // the parser only saw the document up to the error, report the error itself
+            *errorStatus = filterStatus;
+            return false;
+        }
+        return result;
+    }
+#endif
+    std::string filtered;
+    StringOutputStream out(filtered);
+    if (!filterJSON(stream, out, filter, errorStatus)) return false;
+    return deserialize_json_from_string(filtered, destination, errorStatus);
+}
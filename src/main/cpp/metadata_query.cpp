@@ -0,0 +1,203 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <exceptions.h>
+#include <metadata_query.h>
+
+using namespace opentimelineio::OPENTIMELINEIO_VERSION;
+
+static std::vector<std::string>
+stringVectorFromArray(JNIEnv *env, jobjectArray array) {
+    std::vector<std::string> result;
+    jsize count = env->GetArrayLength(array);
+    result.reserve(count);
+    for (jsize i = 0; i < count; i++) {
+        auto string = (jstring) env->GetObjectArrayElement(array, i);
+        const char *chars = env->GetStringUTFChars(string, nullptr);
+        result.emplace_back(chars);
+        env->ReleaseStringUTFChars(string, chars);
+        env->DeleteLocalRef(string);
+    }
+    return result;
+}
+
+MetadataQuery::MetadataQuery(
+        JNIEnv *env,
+        jintArray code,
+        jobjectArray keys,
+        jobjectArray strings,
+        jlongArray integers,
+        jdoubleArray doubles) : root(-1) {
+    this->keys = stringVectorFromArray(env, keys);
+    this->strings = stringVectorFromArray(env, strings);
+    this->integers.resize(env->GetArrayLength(integers));
+    static_assert(sizeof(jlong) == sizeof(int64_t), "jlong is 64 bit");
+    env->GetLongArrayRegion(integers, 0, (jsize) this->integers.size(),
+                            reinterpret_cast<jlong *>(this->integers.data()));
+    this->doubles.resize(env->GetArrayLength(doubles));
+    env->GetDoubleArrayRegion(doubles, 0, (jsize) this->doubles.size(), this->doubles.data());
+
+    std::vector<jint> instructions(env->GetArrayLength(code));
+    env->GetIntArrayRegion(code, 0, (jsize) instructions.size(), instructions.data());
+
+    // postfix to tree, every operand is a node index on the stack
+    std::vector<int> stack;
+    bool wellFormed = instructions.size() % instructionSize == 0;
+    for (size_t i = 0; wellFormed && i < instructions.size(); i += instructionSize) {
+        Node node;
+        node.opcode = instructions[i];
+        node.firstKey = instructions[i + 1];
+        node.keyCount = instructions[i + 2];
+        node.op = instructions[i + 3];
+        node.literalKind = instructions[i + 4];
+        node.literal = instructions[i + 5];
+        node.left = -1;
+        node.right = -1;
+        switch (node.opcode) {
+            case COMPARE:
+                if (node.op < EQ || node.op > GE) wellFormed = false;
+                if (node.literalKind == STRING_LITERAL) {
+                    wellFormed &= node.literal >= 0 && node.literal < (int) this->strings.size();
+                } else if (node.literalKind == INTEGER_LITERAL) {
+                    wellFormed &= node.literal >= 0 && node.literal < (int) this->integers.size();
+                } else if (node.literalKind == DOUBLE_LITERAL) {
+                    wellFormed &= node.literal >= 0 && node.literal < (int) this->doubles.size();
+                } else if (node.literalKind != BOOLEAN_LITERAL && node.literalKind != NULL_LITERAL) {
+                    wellFormed = false;
+                }
+                // fall through, both name a key path
+            case EXISTS:
+                wellFormed &= node.keyCount > 0 && node.firstKey >= 0 &&
+                              node.firstKey + node.keyCount <= (int) this->keys.size();
+                break;
+            case NOT:
+                if (stack.empty()) {
+                    wellFormed = false;
+                    break;
+                }
+                node.left = stack.back();
+                stack.pop_back();
+                break;
+            case AND:
+            case OR:
+                if (stack.size() < 2) {
+                    wellFormed = false;
+                    break;
+                }
+                node.right = stack.back();
+                stack.pop_back();
+                node.left = stack.back();
+                stack.pop_back();
+                break;
+            default:
+                wellFormed = false;
+        }
+        if (!wellFormed) break;
+        nodes.push_back(node);
+        stack.push_back((int) nodes.size() - 1);
+    }
+    if (wellFormed && stack.size() == 1) {
+        root = stack.back();
+    } else {
+        throwIllegalArgumentException(env, "malformed metadata query");
+    }
+}
+
+bool
+MetadataQuery::matches(const AnyDictionary &metadata) const {
+    return evaluate(nodes[root], metadata);
+}
+
+bool
+MetadataQuery::evaluate(const Node &node, const AnyDictionary &metadata) const {
+    switch (node.opcode) {
+        case EXISTS: {
+            const any *value = lookup(node, metadata);
+            return value != nullptr && !value->empty();
+        }
+        case COMPARE: {
+            const any *value = lookup(node, metadata);
+            return value != nullptr && compare(node, *value);
+        }
+        case NOT:
+            return !evaluate(nodes[node.left], metadata);
+        case AND:
+            return evaluate(nodes[node.left], metadata) && evaluate(nodes[node.right], metadata);
+        case OR:
+            return evaluate(nodes[node.left], metadata) || evaluate(nodes[node.right], metadata);
+        default:
+            return false;
+    }
+}
+
+const any *
+MetadataQuery::lookup(const Node &node, const AnyDictionary &metadata) const {
+    const AnyDictionary *dictionary = &metadata;
+    const any *value = nullptr;
+    for (int i = node.firstKey; i < node.firstKey + node.keyCount; i++) {
+        if (value != nullptr) {
+            if (value->type() != typeid(AnyDictionary)) return nullptr;
+            dictionary = &any_cast<const AnyDictionary &>(*value);
+        }
+        auto it = dictionary->find(keys[i]);
+        if (it == dictionary->end()) return nullptr;
+        value = &it->second;
+    }
+    return value;
+}
+
+template<typename T>
+static bool
+compareValues(int op, const T &a, const T &b) {
+    switch (op) {
+        case MetadataQuery::EQ:
+            return a == b;
+        case MetadataQuery::NE:
+            return a != b;
+        case MetadataQuery::LT:
+            return a < b;
+        case MetadataQuery::LE:
+            return a <= b;
+        case MetadataQuery::GT:
+            return a > b;
+        case MetadataQuery::GE:
+            return a >= b;
+        default:
+            return false;
+    }
+}
+
+bool
+MetadataQuery::compare(const Node &node, const any &value) const {
+    const std::type_info &type = value.type();
+    switch (node.literalKind) {
+        case STRING_LITERAL:
+            return type == typeid(std::string) &&
+                   compareValues(node.op, any_cast<const std::string &>(value), strings[node.literal]);
+        case BOOLEAN_LITERAL:
+            return type == typeid(bool) && compareValues(node.op, any_cast<bool>(value), node.literal != 0);
+        case NULL_LITERAL:
+            return node.op == EQ ? value.empty() : !value.empty();
+        case INTEGER_LITERAL:
+            // exact for integer values, the JSON reader stores them as int64_t
+            if (type == typeid(int64_t)) {
+                return compareValues(node.op, any_cast<int64_t>(value), integers[node.literal]);
+            } else if (type == typeid(int)) {
+                return compareValues(node.op, (int64_t) any_cast<int>(value), integers[node.literal]);
+            } else if (type == typeid(double)) {
+                return compareValues(node.op, any_cast<double>(value), (double) integers[node.literal]);
+            }
+            return false;
+        case DOUBLE_LITERAL:
+            if (type == typeid(double)) {
+                return compareValues(node.op, any_cast<double>(value), doubles[node.literal]);
+            } else if (type == typeid(int64_t)) {
+                return compareValues(node.op, (double) any_cast<int64_t>(value), doubles[node.literal]);
+            } else if (type == typeid(int)) {
+                return compareValues(node.op, (double) any_cast<int>(value), doubles[node.literal]);
+            }
+            return false;
+        default:
+            return false;
+    }
+}
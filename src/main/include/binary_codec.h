@@ -0,0 +1,60 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <opentimelineio/any.h>
+#include <opentimelineio/errorStatus.h>
+#include <opentimelineio/version.h>
+
+#include <cstddef>
+#include <string>
+
+#ifndef _BINARY_CODEC_H_INCLUDED_
+#define _BINARY_CODEC_H_INCLUDED_
+
+/*
+ * Compact binary encoding of the OTIO object model.
+ *
+ * It carries exactly what OTIO's JSON carries, so a value survives
+ * JSON -> binary -> objects unchanged, but:
+ *  - dictionary keys and schema names are written once and then referenced
+ *    by index,
+ *  - RationalTime, TimeRange and TimeTransform are raw little endian doubles,
+ *  - integers are zigzag varints and every length is a varint prefix.
+ *
+ * document     := "OTB" formatVersion(=1) value
+ * value        := tag payload
+ *   NULL, FALSE, TRUE    no payload
+ *   INT                  zigzag varint
+ *   DOUBLE               float64
+ *   STRING               varint length, UTF-8 bytes
+ *   ARRAY                varint count, value*
+ *   DICTIONARY           varint count, (interned key, value)*
+ *   OBJECT               interned schema name, varint schema version,
+ *                        varint count, (interned key, value)*
+ *   RATIONAL_TIME        float64 value, float64 rate
+ *   TIME_RANGE           rational time start, rational time duration
+ *   TIME_TRANSFORM       rational time offset, float64 scale, float64 rate
+ * interned     := varint 0, varint length, UTF-8 bytes   (adds to the table)
+ *               | varint index + 1                        (earlier entry)
+ */
+
+/*
+ * Encodes a value such as a SerializableObject::Retainer<> held in an any.
+ */
+bool encodeBinary(
+        const OTIO_NS::any &value,
+        std::string &out,
+        OTIO_NS::ErrorStatus *errorStatus);
+
+/*
+ * Decodes a document written by encodeBinary(), instantiating schemas
+ * through OTIO's TypeRegistry just as the JSON reader does. destination
+ * is only assigned once the whole document decoded.
+ */
+bool decodeBinary(
+        const char *data,
+        size_t size,
+        OTIO_NS::any *destination,
+        OTIO_NS::ErrorStatus *errorStatus);
+
+#endif
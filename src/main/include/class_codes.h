@@ -39,6 +39,7 @@ enum ClassCode {
     _Stack,
     _Track,
     _Timeline,
+    _MetadataQuery,
 };
 
 //extern std::map<std::string, ClassCode> stringToClassCode;
@@ -21,7 +21,7 @@ inline jint throwNoSuchElementException(JNIEnv *env, const char *message) {
 }
 
 inline jint throwIndexOutOfBoundsException(JNIEnv *env, const char *message) {
-    const char *className = "java/util/IndexOutOfBoundsException";
+    const char *className = "java/lang/IndexOutOfBoundsException";
     jclass exClass = env->FindClass(className);
     return env->ThrowNew(exClass, message);
 }
@@ -32,6 +32,24 @@ inline jint throwRuntimeException(JNIEnv *env, const char *message) {
     return env->ThrowNew(exClass, message);
 }
 
+inline jint throwClassCastException(JNIEnv *env, const char *message) {
+    const char *className = "java/lang/ClassCastException";
+    jclass exClass = env->FindClass(className);
+    return env->ThrowNew(exClass, message);
+}
+
+inline jint throwIllegalArgumentException(JNIEnv *env, const char *message) {
+    const char *className = "java/lang/IllegalArgumentException";
+    jclass exClass = env->FindClass(className);
+    return env->ThrowNew(exClass, message);
+}
+
+inline jint throwIOException(JNIEnv *env, const char *message) {
+    const char *className = "java/io/IOException";
+    jclass exClass = env->FindClass(className);
+    return env->ThrowNew(exClass, message);
+}
+
 jint processOpenTimeErrorStatus(JNIEnv *env, opentime::ErrorStatus &errorStatus);
 
 jint processOTIOErrorStatus(JNIEnv *env, OTIO_NS::ErrorStatus &errorStatus);
@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_OTIOArena */
+
+#ifndef _Included_io_opentimeline_OTIOArena
+#define _Included_io_opentimeline_OTIOArena
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     io_opentimeline_OTIOArena
+ * Method:    disposeAllNative
+ * Signature: ([J[Ljava/lang/String;)[I
+ */
+JNIEXPORT jintArray JNICALL Java_io_opentimeline_OTIOArena_disposeAllNative
+  (JNIEnv *, jclass, jlongArray, jobjectArray);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -9,18 +9,18 @@ extern "C" {
 #endif
 /*
  * Class:     io_opentimeline_OTIONative
- * Method:    getOTIOObjectNativeHandle
+ * Method:    getOTIOObjectNativeHandleNative
  * Signature: ()J
  */
-JNIEXPORT jlong JNICALL Java_io_opentimeline_OTIONative_getOTIOObjectNativeHandle
+JNIEXPORT jlong JNICALL Java_io_opentimeline_OTIONative_getOTIOObjectNativeHandleNative
   (JNIEnv *, jobject);
 
 /*
  * Class:     io_opentimeline_OTIONative
- * Method:    close
+ * Method:    dispose
  * Signature: ()V
  */
-JNIEXPORT void JNICALL Java_io_opentimeline_OTIONative_close
+JNIEXPORT void JNICALL Java_io_opentimeline_OTIONative_dispose
   (JNIEnv *, jobject);
 
 #ifdef __cplusplus
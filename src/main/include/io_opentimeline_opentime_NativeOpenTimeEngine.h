@@ -0,0 +1,245 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_opentime_NativeOpenTimeEngine */
+
+#ifndef _Included_io_opentimeline_opentime_NativeOpenTimeEngine
+#define _Included_io_opentimeline_opentime_NativeOpenTimeEngine
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    isInvalidTimeNative
+ * Signature: (DD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_isInvalidTimeNative
+  (JNIEnv *, jclass, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    addNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_addNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    subtractNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_subtractNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    rescaledToNative
+ * Signature: (DDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_rescaledToNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    valueRescaledToNative
+ * Signature: (DDD)D
+ */
+JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_valueRescaledToNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    almostEqualNative
+ * Signature: (DDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_almostEqualNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    durationFromStartEndTimeNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_durationFromStartEndTimeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    timeEqualsNative
+ * Signature: (DDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_timeEqualsNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    compareToNative
+ * Signature: (DDDD)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_compareToNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    endTimeInclusiveNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_endTimeInclusiveNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    endTimeExclusiveNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_endTimeExclusiveNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    durationExtendedByNative
+ * Signature: (DDDDDD)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_durationExtendedByNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    extendedByNative
+ * Signature: (DDDDDDDD)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_extendedByNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    clampedTimeNative
+ * Signature: (DDDDDD)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_clampedTimeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    clampedRangeNative
+ * Signature: (DDDDDDDD)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_clampedRangeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    containsTimeNative
+ * Signature: (DDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_containsTimeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    containsRangeNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_containsRangeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    overlapsTimeNative
+ * Signature: (DDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_overlapsTimeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    overlapsRangeNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_overlapsRangeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    beforeTimeNative
+ * Signature: (DDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_beforeTimeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    beforeRangeNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_beforeRangeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    meetsNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_meetsNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    beginsTimeNative
+ * Signature: (DDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_beginsTimeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    beginsRangeNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_beginsRangeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    finishesTimeNative
+ * Signature: (DDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_finishesTimeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    finishesRangeNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_finishesRangeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    intersectsNative
+ * Signature: (DDDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_intersectsNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    rangeEqualsNative
+ * Signature: (DDDDDDDD)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_rangeEqualsNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentime_NativeOpenTimeEngine
+ * Method:    rangeFromStartEndTimeNative
+ * Signature: (DDDD)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_NativeOpenTimeEngine_rangeFromStartEndTimeNative
+  (JNIEnv *, jclass, jdouble, jdouble, jdouble, jdouble);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
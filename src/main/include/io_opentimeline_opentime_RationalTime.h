@@ -7,86 +7,6 @@
 #ifdef __cplusplus
 extern "C" {
 #endif
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    isInvalidTimeNative
- * Signature: (DD)Z
- */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_isInvalidTimeNative
-  (JNIEnv *, jclass, jdouble, jdouble);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    add
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_add
-  (JNIEnv *, jobject, jobject);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    subtract
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_subtract
-  (JNIEnv *, jobject, jobject);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    rescaledTo
- * Signature: (D)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_rescaledTo__D
-  (JNIEnv *, jobject, jdouble);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    rescaledTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_rescaledTo__Lio_opentimeline_opentime_RationalTime_2
-  (JNIEnv *, jobject, jobject);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    valueRescaledTo
- * Signature: (D)D
- */
-JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_RationalTime_valueRescaledTo__D
-  (JNIEnv *, jobject, jdouble);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    valueRescaledTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)D
- */
-JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_RationalTime_valueRescaledTo__Lio_opentimeline_opentime_RationalTime_2
-  (JNIEnv *, jobject, jobject);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    almostEqual
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Z
- */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_almostEqual__Lio_opentimeline_opentime_RationalTime_2
-  (JNIEnv *, jobject, jobject);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    almostEqual
- * Signature: (Lio/opentimeline/opentime/RationalTime;D)Z
- */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_almostEqual__Lio_opentimeline_opentime_RationalTime_2D
-  (JNIEnv *, jobject, jobject, jdouble);
-
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    durationFromStartEndTime
- * Signature: (Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)Lio/opentimeline/opentime/RationalTime;
- */
-JNIEXPORT jobject JNICALL Java_io_opentimeline_opentime_RationalTime_durationFromStartEndTime
-  (JNIEnv *, jclass, jobject, jobject);
-
 /*
  * Class:     io_opentimeline_opentime_RationalTime
  * Method:    isValidTimecodeRate
@@ -127,14 +47,6 @@ JNIEXPORT jstring JNICALL Java_io_opentimeline_opentime_RationalTime_toTimecodeN
 JNIEXPORT jstring JNICALL Java_io_opentimeline_opentime_RationalTime_toTimeString
   (JNIEnv *, jobject);
 
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    equals
- * Signature: (Lio/opentimeline/opentime/RationalTime;)Z
- */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_equals
-  (JNIEnv *, jobject, jobject);
-
 /*
  * Class:     io_opentimeline_opentime_RationalTime
  * Method:    nearestValidTimecodeRate
@@ -143,14 +55,6 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentime_RationalTime_equals
 JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentime_RationalTime_nearestValidTimecodeRate
   (JNIEnv *, jclass, jdouble);
 
-/*
- * Class:     io_opentimeline_opentime_RationalTime
- * Method:    compareTo
- * Signature: (Lio/opentimeline/opentime/RationalTime;)I
- */
-JNIEXPORT jint JNICALL Java_io_opentimeline_opentime_RationalTime_compareTo
-  (JNIEnv *, jobject, jobject);
-
 #ifdef __cplusplus
 }
 #endif
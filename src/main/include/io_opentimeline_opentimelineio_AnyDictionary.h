@@ -71,6 +71,134 @@ JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_clear
 JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_remove
   (JNIEnv *, jobject, jstring);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getBoolean
+ * Signature: (Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_getBoolean
+  (JNIEnv *, jobject, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getInt
+ * Signature: (Ljava/lang/String;)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_getInt
+  (JNIEnv *, jobject, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getLong
+ * Signature: (Ljava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_getLong
+  (JNIEnv *, jobject, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getDouble
+ * Signature: (Ljava/lang/String;)D
+ */
+JNIEXPORT jdouble JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_getDouble
+  (JNIEnv *, jobject, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getString
+ * Signature: (Ljava/lang/String;)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_getString
+  (JNIEnv *, jobject, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getRationalTime
+ * Signature: (Ljava/lang/String;)Lio/opentimeline/opentime/RationalTime;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_getRationalTime
+  (JNIEnv *, jobject, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    getTimeRange
+ * Signature: (Ljava/lang/String;)Lio/opentimeline/opentime/TimeRange;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_getTimeRange
+  (JNIEnv *, jobject, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putBoolean
+ * Signature: (Ljava/lang/String;Z)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_putBoolean
+  (JNIEnv *, jobject, jstring, jboolean);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putInt
+ * Signature: (Ljava/lang/String;I)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_putInt
+  (JNIEnv *, jobject, jstring, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putLong
+ * Signature: (Ljava/lang/String;J)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_putLong
+  (JNIEnv *, jobject, jstring, jlong);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putDouble
+ * Signature: (Ljava/lang/String;D)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_putDouble
+  (JNIEnv *, jobject, jstring, jdouble);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putString
+ * Signature: (Ljava/lang/String;Ljava/lang/String;)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_putString
+  (JNIEnv *, jobject, jstring, jstring);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putRationalTime
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentime/RationalTime;)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_putRationalTime
+  (JNIEnv *, jobject, jstring, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putTimeRange
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentime/TimeRange;)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_putTimeRange
+  (JNIEnv *, jobject, jstring, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    toJavaMap
+ * Signature: ()Ljava/util/Map;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_toJavaMap
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_AnyDictionary
+ * Method:    putAllFromJava
+ * Signature: (Ljava/util/Map;)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_AnyDictionary_putAllFromJava
+  (JNIEnv *, jobject, jobject);
+
 #ifdef __cplusplus
 }
 #endif
@@ -0,0 +1,23 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_opentimelineio_ChildCursor */
+
+#ifndef _Included_io_opentimeline_opentimelineio_ChildCursor
+#define _Included_io_opentimeline_opentimelineio_ChildCursor
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef io_opentimeline_opentimelineio_ChildCursor_BATCH_SIZE
+#define io_opentimeline_opentimelineio_ChildCursor_BATCH_SIZE 64L
+/*
+ * Class:     io_opentimeline_opentimelineio_ChildCursor
+ * Method:    fetchNative
+ * Signature: (Lio/opentimeline/opentimelineio/Composition;[IIILjava/lang/Class;Z[Lio/opentimeline/opentimelineio/Composable;[Z)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_ChildCursor_fetchNative
+  (JNIEnv *, jobject, jobject, jintArray, jint, jint, jclass, jboolean, jobjectArray, jbooleanArray);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -17,10 +17,10 @@ JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Clip_initialize
 
 /*
  * Class:     io_opentimeline_opentimelineio_Clip
- * Method:    setMediaReference
+ * Method:    setMediaReferenceNative
  * Signature: (Lio/opentimeline/opentimelineio/MediaReference;)V
  */
-JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Clip_setMediaReference
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Clip_setMediaReferenceNative
   (JNIEnv *, jobject, jobject);
 
 /*
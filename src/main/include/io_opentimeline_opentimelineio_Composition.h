@@ -33,10 +33,34 @@ JNIEXPORT jobjectArray JNICALL Java_io_opentimeline_opentimelineio_Composition_g
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    clearChildren
+ * Method:    getChildrenCount
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_Composition_getChildrenCount
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    getChild
+ * Signature: (I)Lio/opentimeline/opentimelineio/Composable;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getChild
+  (JNIEnv *, jobject, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    getIndexOfChild
+ * Signature: (Lio/opentimeline/opentimelineio/Composable;)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_Composition_getIndexOfChild
+  (JNIEnv *, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    clearChildrenNative
  * Signature: ()V
  */
-JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Composition_clearChildren
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Composition_clearChildrenNative
   (JNIEnv *, jobject);
 
 /*
@@ -49,34 +73,34 @@ JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Composition_setChildr
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    insertChild
+ * Method:    insertChildNative
  * Signature: (ILio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_insertChild
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_insertChildNative
   (JNIEnv *, jobject, jint, jobject);
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    setChild
+ * Method:    setChildNative
  * Signature: (ILio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setChild
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_setChildNative
   (JNIEnv *, jobject, jint, jobject);
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    removeChild
+ * Method:    removeChildNative
  * Signature: (I)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_removeChild
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_removeChildNative
   (JNIEnv *, jobject, jint);
 
 /*
  * Class:     io_opentimeline_opentimelineio_Composition
- * Method:    appendChild
+ * Method:    appendChildNative
  * Signature: (Lio/opentimeline/opentimelineio/Composable;)Z
  */
-JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_appendChild
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_appendChildNative
   (JNIEnv *, jobject, jobject);
 
 /*
@@ -159,6 +183,22 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Composition_hasCh
 JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getRangeOfAllChildren
   (JNIEnv *, jobject);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    getRangeOfAllChildrenNative
+ * Signature: ([D)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_Composition_getRangeOfAllChildrenNative
+  (JNIEnv *, jobject, jdoubleArray);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Composition
+ * Method:    getChildAtTimeNative
+ * Signature: (DDZ[D)Lio/opentimeline/opentimelineio/Composable;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Composition_getChildAtTimeNative
+  (JNIEnv *, jobject, jdouble, jdouble, jboolean, jdoubleArray);
+
 #ifdef __cplusplus
 }
 #endif
@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_opentimelineio_CompositionTimeIndex */
+
+#ifndef _Included_io_opentimeline_opentimelineio_CompositionTimeIndex
+#define _Included_io_opentimeline_opentimelineio_CompositionTimeIndex
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     io_opentimeline_opentimelineio_CompositionTimeIndex
+ * Method:    lineageNative
+ * Signature: (Lio/opentimeline/opentimelineio/Composable;)[J
+ */
+JNIEXPORT jlongArray JNICALL Java_io_opentimeline_opentimelineio_CompositionTimeIndex_lineageNative
+  (JNIEnv *, jclass, jobject);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
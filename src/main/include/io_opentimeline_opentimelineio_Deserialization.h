@@ -23,6 +23,46 @@ JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_d
 JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromFile
   (JNIEnv *, jobject, jstring, jobject);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromStringFilteredNative
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentimelineio/Any;I[Ljava/lang/String;Ljava/util/function/Predicate;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromStringFilteredNative
+  (JNIEnv *, jobject, jstring, jobject, jint, jobjectArray, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromFileFilteredNative
+ * Signature: (Ljava/lang/String;Lio/opentimeline/opentimelineio/Any;I[Ljava/lang/String;Ljava/util/function/Predicate;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromFileFilteredNative
+  (JNIEnv *, jobject, jstring, jobject, jint, jobjectArray, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromBufferNative
+ * Signature: (Ljava/nio/ByteBuffer;IILio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromBufferNative
+  (JNIEnv *, jobject, jobject, jint, jint, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeJSONFromChannelNative
+ * Signature: (Ljava/nio/channels/ReadableByteChannel;Ljava/nio/ByteBuffer;Lio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeJSONFromChannelNative
+  (JNIEnv *, jobject, jobject, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Deserialization
+ * Method:    deserializeBinaryNative
+ * Signature: ([BLio/opentimeline/opentimelineio/Any;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Deserialization_deserializeBinaryNative
+  (JNIEnv *, jobject, jbyteArray, jobject);
+
 #ifdef __cplusplus
 }
 #endif
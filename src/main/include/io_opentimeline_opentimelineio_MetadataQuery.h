@@ -0,0 +1,71 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_opentimeline_opentimelineio_MetadataQuery */
+
+#ifndef _Included_io_opentimeline_opentimelineio_MetadataQuery
+#define _Included_io_opentimeline_opentimelineio_MetadataQuery
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef io_opentimeline_opentimelineio_MetadataQuery_INSTRUCTION_SIZE
+#define io_opentimeline_opentimelineio_MetadataQuery_INSTRUCTION_SIZE 6L
+#undef io_opentimeline_opentimelineio_MetadataQuery_EXISTS
+#define io_opentimeline_opentimelineio_MetadataQuery_EXISTS 0L
+#undef io_opentimeline_opentimelineio_MetadataQuery_COMPARE
+#define io_opentimeline_opentimelineio_MetadataQuery_COMPARE 1L
+#undef io_opentimeline_opentimelineio_MetadataQuery_NOT
+#define io_opentimeline_opentimelineio_MetadataQuery_NOT 2L
+#undef io_opentimeline_opentimelineio_MetadataQuery_AND
+#define io_opentimeline_opentimelineio_MetadataQuery_AND 3L
+#undef io_opentimeline_opentimelineio_MetadataQuery_OR
+#define io_opentimeline_opentimelineio_MetadataQuery_OR 4L
+#undef io_opentimeline_opentimelineio_MetadataQuery_EQ
+#define io_opentimeline_opentimelineio_MetadataQuery_EQ 0L
+#undef io_opentimeline_opentimelineio_MetadataQuery_NE
+#define io_opentimeline_opentimelineio_MetadataQuery_NE 1L
+#undef io_opentimeline_opentimelineio_MetadataQuery_LT
+#define io_opentimeline_opentimelineio_MetadataQuery_LT 2L
+#undef io_opentimeline_opentimelineio_MetadataQuery_LE
+#define io_opentimeline_opentimelineio_MetadataQuery_LE 3L
+#undef io_opentimeline_opentimelineio_MetadataQuery_GT
+#define io_opentimeline_opentimelineio_MetadataQuery_GT 4L
+#undef io_opentimeline_opentimelineio_MetadataQuery_GE
+#define io_opentimeline_opentimelineio_MetadataQuery_GE 5L
+#undef io_opentimeline_opentimelineio_MetadataQuery_STRING
+#define io_opentimeline_opentimelineio_MetadataQuery_STRING 0L
+#undef io_opentimeline_opentimelineio_MetadataQuery_INTEGER
+#define io_opentimeline_opentimelineio_MetadataQuery_INTEGER 1L
+#undef io_opentimeline_opentimelineio_MetadataQuery_DOUBLE
+#define io_opentimeline_opentimelineio_MetadataQuery_DOUBLE 2L
+#undef io_opentimeline_opentimelineio_MetadataQuery_BOOLEAN
+#define io_opentimeline_opentimelineio_MetadataQuery_BOOLEAN 3L
+#undef io_opentimeline_opentimelineio_MetadataQuery_NULL
+#define io_opentimeline_opentimelineio_MetadataQuery_NULL 4L
+/*
+ * Class:     io_opentimeline_opentimelineio_MetadataQuery
+ * Method:    initialize
+ * Signature: ([I[Ljava/lang/String;[Ljava/lang/String;[J[D)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_MetadataQuery_initialize
+  (JNIEnv *, jobject, jintArray, jobjectArray, jobjectArray, jlongArray, jdoubleArray);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_MetadataQuery
+ * Method:    matchesNative
+ * Signature: (Lio/opentimeline/opentimelineio/SerializableObjectWithMetadata;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_MetadataQuery_matchesNative
+  (JNIEnv *, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_MetadataQuery
+ * Method:    findNative
+ * Signature: (Lio/opentimeline/opentimelineio/Composition;Ljava/lang/Class;)[Lio/opentimeline/opentimelineio/Composable;
+ */
+JNIEXPORT jobjectArray JNICALL Java_io_opentimeline_opentimelineio_MetadataQuery_findNative
+  (JNIEnv *, jobject, jobject, jclass);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -63,6 +63,54 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject
 JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONString
   (JNIEnv *, jclass, jstring);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromJSONFileFilteredNative
+ * Signature: (Ljava/lang/String;I[Ljava/lang/String;Ljava/util/function/Predicate;)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONFileFilteredNative
+  (JNIEnv *, jclass, jstring, jint, jobjectArray, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromJSONStringFilteredNative
+ * Signature: (Ljava/lang/String;I[Ljava/lang/String;Ljava/util/function/Predicate;)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONStringFilteredNative
+  (JNIEnv *, jclass, jstring, jint, jobjectArray, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromJSONBufferNative
+ * Signature: (Ljava/nio/ByteBuffer;II)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONBufferNative
+  (JNIEnv *, jclass, jobject, jint, jint);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromJSONChannelNative
+ * Signature: (Ljava/nio/channels/ReadableByteChannel;Ljava/nio/ByteBuffer;)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromJSONChannelNative
+  (JNIEnv *, jclass, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    toBinary
+ * Signature: ()[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_toBinary
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_SerializableObject
+ * Method:    fromBinaryNative
+ * Signature: ([B)Lio/opentimeline/opentimelineio/SerializableObject;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_SerializableObject_fromBinaryNative
+  (JNIEnv *, jclass, jbyteArray);
+
 /*
  * Class:     io_opentimeline_opentimelineio_SerializableObject
  * Method:    isEquivalentTo
@@ -7,6 +7,8 @@
 #ifdef __cplusplus
 extern "C" {
 #endif
+#undef io_opentimeline_opentimelineio_Serialization_STREAM_BUFFER_SIZE
+#define io_opentimeline_opentimelineio_Serialization_STREAM_BUFFER_SIZE 65536L
 /*
  * Class:     io_opentimeline_opentimelineio_Serialization
  * Method:    serializeJSONToStringNative
@@ -23,6 +25,22 @@ JNIEXPORT jstring JNICALL Java_io_opentimeline_opentimelineio_Serialization_seri
 JNIEXPORT jboolean JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeJSONToFileNative
   (JNIEnv *, jobject, jobject, jstring, jint);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    serializeJSONToChannelNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;ILjava/nio/channels/WritableByteChannel;Ljava/nio/ByteBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeJSONToChannelNative
+  (JNIEnv *, jobject, jobject, jint, jobject, jobject);
+
+/*
+ * Class:     io_opentimeline_opentimelineio_Serialization
+ * Method:    serializeBinaryNative
+ * Signature: (Lio/opentimeline/opentimelineio/Any;)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_io_opentimeline_opentimelineio_Serialization_serializeBinaryNative
+  (JNIEnv *, jobject, jobject);
+
 #ifdef __cplusplus
 }
 #endif
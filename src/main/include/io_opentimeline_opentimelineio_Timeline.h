@@ -79,6 +79,14 @@ JNIEXPORT jobjectArray JNICALL Java_io_opentimeline_opentimelineio_Timeline_getA
 JNIEXPORT jobjectArray JNICALL Java_io_opentimeline_opentimelineio_Timeline_getVideoTracksNative
   (JNIEnv *, jobject);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Timeline
+ * Method:    itemsInWindowNative
+ * Signature: (DDDD)Lio/opentimeline/opentimelineio/TimelineWindow;
+ */
+JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Timeline_itemsInWindowNative
+  (JNIEnv *, jobject, jdouble, jdouble, jdouble, jdouble);
+
 /*
  * Class:     io_opentimeline_opentimelineio_Timeline
  * Method:    childrenIfNative
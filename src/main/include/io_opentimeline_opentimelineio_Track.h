@@ -79,6 +79,14 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Track_getNeighbors
 JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Track_getRangeOfAllChildren
   (JNIEnv *, jobject);
 
+/*
+ * Class:     io_opentimeline_opentimelineio_Track
+ * Method:    trimmedRangesOfAllChildren
+ * Signature: ([D)I
+ */
+JNIEXPORT jint JNICALL Java_io_opentimeline_opentimelineio_Track_trimmedRangesOfAllChildren
+  (JNIEnv *, jobject, jdoubleArray);
+
 /*
  * Class:     io_opentimeline_opentimelineio_Track
  * Method:    clipIfNative
@@ -49,10 +49,10 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Transition_getInOf
 
 /*
  * Class:     io_opentimeline_opentimelineio_Transition
- * Method:    setInOffset
+ * Method:    setInOffsetNative
  * Signature: (Lio/opentimeline/opentime/RationalTime;)V
  */
-JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Transition_setInOffset
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Transition_setInOffsetNative
   (JNIEnv *, jobject, jobject);
 
 /*
@@ -65,10 +65,10 @@ JNIEXPORT jobject JNICALL Java_io_opentimeline_opentimelineio_Transition_getOutO
 
 /*
  * Class:     io_opentimeline_opentimelineio_Transition
- * Method:    setOutOffset
+ * Method:    setOutOffsetNative
  * Signature: (Lio/opentimeline/opentime/RationalTime;)V
  */
-JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Transition_setOutOffset
+JNIEXPORT void JNICALL Java_io_opentimeline_opentimelineio_Transition_setOutOffsetNative
   (JNIEnv *, jobject, jobject);
 
 /*
@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <jni.h>
+
+#include <opentimelineio/any.h>
+#include <opentimelineio/anyDictionary.h>
+#include <opentimelineio/anyVector.h>
+#include <opentimelineio/version.h>
+
+#ifndef _JAVA_VALUES_H_INCLUDED_
+#define _JAVA_VALUES_H_INCLUDED_
+
+/*
+ * Conversion of whole OTIO value trees to and from plain Java values, without
+ * an Any wrapper per value:
+ *
+ *   bool                     java.lang.Boolean
+ *   int                      java.lang.Integer (from Integer, Short, Byte)
+ *   int64_t                  java.lang.Long
+ *   double                   java.lang.Double (from Double, Float)
+ *   std::string              java.lang.String
+ *   RationalTime, TimeRange, TimeTransform   the io.opentimeline.opentime classes
+ *   AnyDictionary            java.util.HashMap (from any java.util.Map with String keys)
+ *   AnyVector                java.util.ArrayList (from any other java.lang.Iterable)
+ *   SerializableObject       its Java wrapper
+ *   empty any                null
+ *
+ * Values of other native types are returned as Any. Any, AnyDictionary and
+ * AnyVector wrappers passed from Java are copied as they are.
+ */
+
+/*
+ * Returns a new local reference to the Java value of value,
+ * or nullptr, with a pending exception if the conversion failed.
+ */
+jobject
+javaValueFromAny(JNIEnv *env, const OTIO_NS::any &value);
+
+jobject
+javaMapFromAnyDictionary(JNIEnv *env, const OTIO_NS::AnyDictionary &dictionary);
+
+jobject
+javaListFromAnyVector(JNIEnv *env, const OTIO_NS::AnyVector &vector);
+
+/*
+ * Converts a Java value into destination. Returns false with a pending
+ * exception if value, or a value nested in it, has no OTIO counterpart.
+ */
+bool
+anyFromJavaValue(JNIEnv *env, jobject value, OTIO_NS::any *destination);
+
+/*
+ * Adds the entries of a java.util.Map to destination, replacing existing keys.
+ * Returns false with a pending exception if an entry could not be converted,
+ * the entries converted up to that point are kept.
+ */
+bool
+anyDictionaryFromJavaMap(JNIEnv *env, jobject map, OTIO_NS::AnyDictionary *destination);
+
+#endif
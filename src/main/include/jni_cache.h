@@ -0,0 +1,180 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <jni.h>
+#include <string>
+#include <unordered_map>
+
+#ifndef _JNI_CACHE_H_INCLUDED_
+#define _JNI_CACHE_H_INCLUDED_
+
+/*
+ * A Java class together with its (Lio/opentimeline/OTIONative;)V constructor.
+ */
+struct JavaClassEntry {
+    jclass cls;
+    jmethodID init;
+};
+
+/*
+ * Global class references, method IDs and field IDs used by the bindings.
+ * Everything in here is resolved once in JNI_OnLoad and stays valid until
+ * the library is unloaded, so it can be read from any thread without locking.
+ */
+struct JNICache {
+    // io.opentimeline
+    jclass otioObjectClass;
+    jfieldID otioObjectNativeManager;
+
+    jclass otioNativeClass;
+    jmethodID otioNativeInit;
+    jfieldID otioNativeNativeHandle;
+    jfieldID otioNativeClassName;
+
+    jclass otioFactoryClass;
+    jmethodID otioFactoryGetInstance;
+    jmethodID otioFactoryRegisterObject;
+
+    jclass wrapperCacheClass;
+    jmethodID wrapperCacheLookup;
+    jmethodID wrapperCacheRegister;
+
+    jclass pairClass;
+    jmethodID pairInit;
+
+    // io.opentimeline.opentime
+    // RationalTime, TimeRange and TimeTransform are immutable value classes,
+    // so their fields are read directly instead of through the getters.
+    jclass rationalTimeClass;
+    jmethodID rationalTimeInit;
+    jfieldID rationalTimeValue;
+    jfieldID rationalTimeRate;
+
+    jclass timeRangeClass;
+    jmethodID timeRangeInit;
+    jfieldID timeRangeStartTime;
+    jfieldID timeRangeDuration;
+
+    jclass timeTransformClass;
+    jmethodID timeTransformInit;
+    jfieldID timeTransformOffset;
+    jfieldID timeTransformScale;
+    jfieldID timeTransformRate;
+
+    // io.opentimeline.opentimelineio
+    JavaClassEntry any;
+    jfieldID anyTypeClass;
+    JavaClassEntry anyDictionary;
+    JavaClassEntry anyVector;
+    // init takes the enclosing AnyDictionary / AnyVector before the OTIONative
+    JavaClassEntry anyDictionaryIterator;
+    JavaClassEntry anyVectorIterator;
+
+    jclass serializableObjectClass;
+    jclass effectClass;
+    jclass markerClass;
+    jclass composableClass;
+    jclass compositionClass;
+    jclass itemClass;
+    jclass clipClass;
+    jclass gapClass;
+    jclass stackClass;
+    jclass trackClass;
+    jclass transitionClass;
+
+    jclass serializationClass;
+    jmethodID serializationWriteChunk;
+
+    jclass deserializationClass;
+    jmethodID deserializationReadChunk;
+
+    jclass timelineWindowClass;
+    jmethodID timelineWindowInit;
+
+    // java
+    jclass classClass;
+    jmethodID classGetName;
+
+    jclass optionalClass;
+    jmethodID optionalIsPresent;
+    jmethodID optionalGet;
+
+    jclass hashMapClass;
+    jmethodID hashMapInit;
+    jmethodID hashMapPut;
+
+    jclass predicateClass;
+    jmethodID predicateTest;
+
+    // boxed values and collections, for converting whole dictionaries in one call
+    jclass booleanClass;
+    jmethodID booleanValueOf;
+    jmethodID booleanBooleanValue;
+
+    jclass numberClass;
+    jmethodID numberIntValue;
+    jmethodID numberLongValue;
+    jmethodID numberDoubleValue;
+
+    jclass integerClass;
+    jmethodID integerValueOf;
+    jclass shortClass;
+    jclass byteClass;
+
+    jclass longClass;
+    jmethodID longValueOf;
+
+    jclass doubleClass;
+    jmethodID doubleValueOf;
+    jclass floatClass;
+
+    jclass stringClass;
+
+    jclass mapClass;
+    jmethodID mapEntrySet;
+
+    jclass mapEntryClass;
+    jmethodID mapEntryGetKey;
+    jmethodID mapEntryGetValue;
+
+    jclass iterableClass;
+    jmethodID iterableIterator;
+
+    jclass iteratorClass;
+    jmethodID iteratorHasNext;
+    jmethodID iteratorNext;
+
+    jclass arrayListClass;
+    jmethodID arrayListInit;
+    jmethodID arrayListAdd;
+
+    // schema name of a native SerializableObject -> Java wrapper class
+    std::unordered_map<std::string, JavaClassEntry> schemaClasses;
+
+    // canonical Java class name stored in OTIONative.className -> interned String
+    std::unordered_map<std::string, jstring> classNames;
+};
+
+extern JNICache jniCache;
+
+/*
+ * Returns the Java wrapper class for a native schema name,
+ * or nullptr if the schema has no Java counterpart.
+ */
+inline const JavaClassEntry *
+javaClassForSchema(const std::string &schemaName) {
+    auto it = jniCache.schemaClasses.find(schemaName);
+    return it == jniCache.schemaClasses.end() ? nullptr : &it->second;
+}
+
+/*
+ * Returns a global reference to the interned OTIONative.className String
+ * for a canonical Java class name, or nullptr if it is not a known class.
+ */
+inline jstring
+cachedClassName(const std::string &className) {
+    auto it = jniCache.classNames.find(className);
+    return it == jniCache.classNames.end() ? nullptr : it->second;
+}
+
+#endif
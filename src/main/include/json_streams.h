@@ -0,0 +1,126 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <opentimelineio/any.h>
+#include <opentimelineio/errorStatus.h>
+#include <opentimelineio/version.h>
+
+#include <jni.h>
+
+#include <cstddef>
+#include <string>
+
+#ifndef _WIN32
+#include <atomic>
+#include <thread>
+#endif
+
+#ifndef _JSON_STREAMS_H_INCLUDED_
+#define _JSON_STREAMS_H_INCLUDED_
+
+#ifndef _WIN32
+#define OTIO_JAVA_HAS_NATIVE_PIPE 1
+
+/*
+ * A pipe whose ends are handed to OTIO's file based (de)serialization as
+ * /dev/fd paths, so that documents can be streamed in and out without being
+ * held in memory as a whole. Open ends are closed on destruction.
+ */
+class NativePipe {
+public:
+    NativePipe();
+
+    ~NativePipe();
+
+    NativePipe(const NativePipe &) = delete;
+
+    NativePipe &operator=(const NativePipe &) = delete;
+
+    // returns false and leaves errno set if the pipe could not be created
+    bool open();
+
+    int readFd() const { return fds[0]; }
+
+    int writeFd() const { return fds[1]; }
+
+    std::string readPath() const;
+
+    std::string writePath() const;
+
+    void closeRead();
+
+    void closeWrite();
+
+private:
+    int fds[2];
+};
+
+/*
+ * Makes writes to a pipe without readers fail with EPIPE on the calling
+ * thread instead of raising SIGPIPE. Meant for short lived helper threads.
+ */
+void blockSigpipe();
+
+/*
+ * Writes all bytes, retrying on EINTR. Returns false on any other error.
+ */
+bool writeFully(int fd, const char *data, size_t size);
+
+/*
+ * OTIO's JSON parser running on a helper thread and reading from the read end
+ * of a NativePipe, while the calling thread writes the document into the other
+ * end. The helper thread never calls into Java. Once the parser is done, for
+ * example because the document was malformed, the rest of the input is read
+ * and dropped so that writers never block.
+ */
+class PipedParser {
+public:
+    PipedParser(NativePipe &pipe, OTIO_NS::any *destination, OTIO_NS::ErrorStatus *errorStatus);
+
+    ~PipedParser();
+
+    PipedParser(const PipedParser &) = delete;
+
+    PipedParser &operator=(const PipedParser &) = delete;
+
+    // true once the parser has stopped and further input is dropped
+    bool isDone() const { return done; }
+
+    // closes the write end of the pipe, waits for the parser and returns its result
+    bool finish();
+
+private:
+    NativePipe &pipe;
+    std::atomic<bool> done;
+    bool result;
+    std::thread parser;
+};
+
+#endif
+
+/*
+ * Deserializes UTF-8 JSON held in native memory, such as a direct ByteBuffer.
+ * Large documents are fed to the parser through a NativePipe instead of being
+ * copied into a std::string first.
+ */
+bool deserializeJSONFromBytes(
+        const char *data,
+        size_t size,
+        OTIO_NS::any *destination,
+        OTIO_NS::ErrorStatus *errorStatus);
+
+/*
+ * Deserializes UTF-8 JSON pulled chunk by chunk from a Java ReadableByteChannel
+ * through Deserialization.readChunk() into the given direct ByteBuffer.
+ * The parser runs on a helper thread and reads the chunks through a NativePipe,
+ * so neither the Java heap nor native memory ever holds the whole document.
+ * Returns false with a pending Java exception if reading the channel failed.
+ */
+bool deserializeJSONFromChannel(
+        JNIEnv *env,
+        jobject channel,
+        jobject buffer,
+        OTIO_NS::any *destination,
+        OTIO_NS::ErrorStatus *errorStatus);
+
+#endif
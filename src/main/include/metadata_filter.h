@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <jni.h>
+#include <opentimelineio/any.h>
+#include <opentimelineio/errorStatus.h>
+#include <opentimelineio/version.h>
+
+#include <string>
+#include <unordered_map>
+#include <vector>
+
+#ifndef _METADATA_FILTER_H_INCLUDED_
+#define _METADATA_FILTER_H_INCLUDED_
+
+/*
+ * Native side of io.opentimeline.opentimelineio.MetadataFilter, deciding which
+ * entries of metadata dictionaries survive deserialization. Entries are named
+ * by key paths, the keys from the metadata dictionary down to the entry joined
+ * with dots. Decisions are cached per key path, so a Java predicate is called
+ * once for every distinct path in a document.
+ */
+class MetadataFilter {
+public:
+    // the constants of the Java class
+    enum Mode {
+        ALLOW = 0,
+        DENY = 1,
+        PREDICATE = 2
+    };
+
+    MetadataFilter(JNIEnv *env, jint mode, jobjectArray keyPaths, jobject predicate);
+
+    // false if the entry and everything below it is dropped, also when
+    // the predicate threw, which leaves the exception pending
+    bool keep(const std::string &keyPath);
+
+    bool failed() const { return env->ExceptionCheck(); }
+
+private:
+    JNIEnv *env;
+    Mode mode;
+    std::vector<std::string> keyPaths;
+    jobject predicate;
+    std::unordered_map<std::string, bool> decisions;
+
+    bool decide(const std::string &keyPath);
+};
+
+/*
+ * Deserializes OTIO JSON, leaving out the metadata entries that the filter drops.
+ * Dropped entries are skipped by a SAX pass in front of OTIO's parser and are
+ * never built. Returns false with a pending Java exception if the filter failed.
+ */
+bool deserializeJSONStringFiltered(
+        const std::string &input,
+        MetadataFilter &filter,
+        OTIO_NS::any *destination,
+        OTIO_NS::ErrorStatus *errorStatus);
+
+/*
+ * Like deserializeJSONStringFiltered(), reading the document from a file. The
+ * filtered JSON is streamed to OTIO's parser and never held in memory as a whole.
+ */
+bool deserializeJSONFileFiltered(
+        const std::string &fileName,
+        MetadataFilter &filter,
+        OTIO_NS::any *destination,
+        OTIO_NS::ErrorStatus *errorStatus);
+
+#endif
@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+#include <jni.h>
+#include <opentimelineio/any.h>
+#include <opentimelineio/anyDictionary.h>
+#include <opentimelineio/version.h>
+
+#include <cstdint>
+#include <string>
+#include <vector>
+
+#ifndef _METADATA_QUERY_H_INCLUDED_
+#define _METADATA_QUERY_H_INCLUDED_
+
+/*
+ * Native side of io.opentimeline.opentimelineio.MetadataQuery. The Java class
+ * parses the expression into postfix code, which is turned into an expression
+ * tree here and evaluated against metadata dictionaries without calling back
+ * into Java.
+ */
+class MetadataQuery {
+public:
+    // the constants of the Java class
+    static const int instructionSize = 6;
+
+    enum Opcode {
+        EXISTS = 0,
+        COMPARE = 1,
+        NOT = 2,
+        AND = 3,
+        OR = 4
+    };
+
+    enum Operator {
+        EQ = 0,
+        NE = 1,
+        LT = 2,
+        LE = 3,
+        GT = 4,
+        GE = 5
+    };
+
+    enum LiteralKind {
+        STRING_LITERAL = 0,
+        INTEGER_LITERAL = 1,
+        DOUBLE_LITERAL = 2,
+        BOOLEAN_LITERAL = 3,
+        NULL_LITERAL = 4
+    };
+
+    // leaves an IllegalArgumentException pending and valid() false if the code is malformed
+    MetadataQuery(
+            JNIEnv *env,
+            jintArray code,
+            jobjectArray keys,
+            jobjectArray strings,
+            jlongArray integers,
+            jdoubleArray doubles);
+
+    bool valid() const { return root >= 0; }
+
+    bool matches(const OTIO_NS::AnyDictionary &metadata) const;
+
+private:
+    struct Node {
+        int opcode;
+        int firstKey;
+        int keyCount;
+        int op;
+        int literalKind;
+        int literal;
+        // operands of NOT, AND and OR, indexes in nodes
+        int left;
+        int right;
+    };
+
+    std::vector<Node> nodes;
+    int root;
+    std::vector<std::string> keys;
+    std::vector<std::string> strings;
+    std::vector<int64_t> integers;
+    std::vector<double> doubles;
+
+    bool evaluate(const Node &node, const OTIO_NS::AnyDictionary &metadata) const;
+
+    const OTIO_NS::any *lookup(const Node &node, const OTIO_NS::AnyDictionary &metadata) const;
+
+    bool compare(const Node &node, const OTIO_NS::any &value) const;
+};
+
+#endif
@@ -39,15 +39,29 @@ inline void registerObjectToOTIOFactory(JNIEnv *env, jobject otioObject) {
         return;
     }
 
-    jclass otioFactoryClass = env->FindClass("io/opentimeline/OTIOFactory");
+    jobject factoryInstance = env->CallStaticObjectMethod(
+            jniCache.otioFactoryClass, jniCache.otioFactoryGetInstance);
 
-    jmethodID registerObject = env->GetMethodID(otioFactoryClass, "registerObject",
-                                                "(Lio/opentimeline/OTIOObject;)V");
-    jmethodID getFactoryInstance = env->GetStaticMethodID(otioFactoryClass, "getInstance",
-                                                          "()Lio/opentimeline/OTIOFactory;");
-    jobject factoryInstance = env->CallStaticObjectMethod(otioFactoryClass, getFactoryInstance);
+    env->CallVoidMethod(factoryInstance, jniCache.otioFactoryRegisterObject, otioObject);
+    env->DeleteLocalRef(factoryInstance);
+}
 
-    env->CallVoidMethod(factoryInstance, registerObject, otioObject);
+/* creates a new OTIONative holding nativeHandle, tagged with the Java class name used for disposal */
+inline jobject
+newOTIONative(JNIEnv *env, void *nativeHandle, const std::string &classNameStr) {
+    jobject otioNative = env->NewObject(
+            jniCache.otioNativeClass,
+            jniCache.otioNativeInit,
+            reinterpret_cast<jlong>(nativeHandle));
+    jstring className = cachedClassName(classNameStr);
+    if (className != nullptr) {
+        env->SetObjectField(otioNative, jniCache.otioNativeClassName, className);
+    } else {
+        jstring newClassName = env->NewStringUTF(classNameStr.c_str());
+        env->SetObjectField(otioNative, jniCache.otioNativeClassName, newClassName);
+        env->DeleteLocalRef(newClassName);
+    }
+    return otioNative;
 }
 
 inline std::vector<SerializableObject *>
@@ -167,37 +181,22 @@ inline std::string getSerializableObjectJavaClassFromNative(OTIO_NS::Serializabl
 inline jobject
 anyFromNative(JNIEnv *env, any *native) {
     if (native == nullptr)return nullptr;
-    jclass cls = env->FindClass("io/opentimeline/opentimelineio/Any");
-    if (cls == NULL) return NULL;
 
 //    std::string anyType = _type_dispatch_table[&native->type()];
 //    std::string anyType = getAnyType()[native->type()];
     std::string anyType = getAnyType(native->type());
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID anyInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == anyInit) return NULL;
 
     auto newAny = new any(*native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(newAny));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Any";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
+    jobject otioNative = newOTIONative(
+            env, newAny, "io.opentimeline.opentimelineio.Any");
 
     // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, anyInit, otioNative);
+    jobject newObj = env->NewObject(jniCache.any.cls, jniCache.any.init, otioNative);
+    env->DeleteLocalRef(otioNative);
 
-    jfieldID anyTypeStringID = env->GetFieldID(cls, "anyTypeClass", "Ljava/lang/String;");
     jstring anyTypeString = env->NewStringUTF(anyType.c_str());
-    env->SetObjectField(newObj, anyTypeStringID, anyTypeString);
+    env->SetObjectField(newObj, jniCache.anyTypeClass, anyTypeString);
+    env->DeleteLocalRef(anyTypeString);
 
     registerObjectToOTIOFactory(env, newObj);
     return newObj;
@@ -207,64 +206,33 @@ anyFromNative(JNIEnv *env, any *native) {
 inline jobject
 anyDictionaryFromNative(JNIEnv *env, OTIO_NS::AnyDictionary *native) {
     if (native == nullptr)return nullptr;
-    jclass cls = env->FindClass("io/opentimeline/opentimelineio/AnyDictionary");
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID dictInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == dictInit) return NULL;
 
     auto newDict = new AnyDictionary(*native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(newDict));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.AnyDictionary";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
+    jobject otioNative = newOTIONative(
+            env, newDict, "io.opentimeline.opentimelineio.AnyDictionary");
 
     // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, dictInit, otioNative);
+    jobject newObj = env->NewObject(
+            jniCache.anyDictionary.cls, jniCache.anyDictionary.init, otioNative);
+    env->DeleteLocalRef(otioNative);
     registerObjectToOTIOFactory(env, newObj);
     return newObj;
 }
 
-/* this deepcopies anyDictionary::iterator */
+/* this deepcopies anyDictionary::iterator, anyDictionaryObj is the AnyDictionary it iterates */
 inline jobject
 anyDictionaryIteratorFromNative(
-        JNIEnv *env, AnyDictionary::iterator *native) {
+        JNIEnv *env, jobject anyDictionaryObj, AnyDictionary::iterator *native) {
     if (native == nullptr)return nullptr;
-    jclass cls =
-            env->FindClass("io/opentimeline/opentimelineio/AnyDictionary$Iterator");
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID itInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == itInit) return NULL;
 
     auto newIt = new AnyDictionary::iterator(*native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(newIt));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.AnyDictionary.Iterator";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
+    jobject otioNative = newOTIONative(
+            env, newIt, "io.opentimeline.opentimelineio.AnyDictionary.Iterator");
 
     // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, itInit, otioNative);
+    jobject newObj = env->NewObject(
+            jniCache.anyDictionaryIterator.cls, jniCache.anyDictionaryIterator.init, anyDictionaryObj, otioNative);
+    env->DeleteLocalRef(otioNative);
     registerObjectToOTIOFactory(env, newObj);
     return newObj;
 }
@@ -273,776 +241,384 @@ anyDictionaryIteratorFromNative(
 inline jobject
 anyVectorFromNative(JNIEnv *env, AnyVector *native) {
     if (native == nullptr)return nullptr;
-    jclass cls = env->FindClass("io/opentimeline/opentimelineio/AnyVector");
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID vecInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == vecInit) return NULL;
 
     auto newVec = new AnyVector(*native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(newVec));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.AnyVector";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
+    jobject otioNative = newOTIONative(
+            env, newVec, "io.opentimeline.opentimelineio.AnyVector");
 
     // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, vecInit, otioNative);
+    jobject newObj = env->NewObject(
+            jniCache.anyVector.cls, jniCache.anyVector.init, otioNative);
+    env->DeleteLocalRef(otioNative);
     registerObjectToOTIOFactory(env, newObj);
     return newObj;
 }
 
-/* this deepcopies anyVector::iterator */
+/* this deepcopies anyVector::iterator, anyVectorObj is the AnyVector it iterates */
 inline jobject
-anyVectorIteratorFromNative(JNIEnv *env, AnyVector::iterator *native) {
+anyVectorIteratorFromNative(JNIEnv *env, jobject anyVectorObj, AnyVector::iterator *native) {
     if (native == nullptr)return nullptr;
-    jclass cls =
-            env->FindClass("io/opentimeline/opentimelineio/AnyVector$Iterator");
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID itInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == itInit) return NULL;
 
     auto newIt = new AnyVector::iterator(*native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(newIt));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.AnyVector.Iterator";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
+    jobject otioNative = newOTIONative(
+            env, newIt, "io.opentimeline.opentimelineio.AnyVector.Iterator");
 
     // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, itInit, otioNative);
+    jobject newObj = env->NewObject(
+            jniCache.anyVectorIterator.cls, jniCache.anyVectorIterator.init, anyVectorObj, otioNative);
+    env->DeleteLocalRef(otioNative);
     registerObjectToOTIOFactory(env, newObj);
     return newObj;
 }
 
 /* Following functions create new Retainer<T> objects thereby increasing the reference count */
 
+/*
+ * Returns the Java wrapper of native, reusing the one already handed out for the
+ * same native object if it is still alive and not closed by all its holders, in
+ * which case the lookup counts as one more hand-out to be closed. Otherwise wraps native in a new Retainer<T>
+ * and a Java object of the class matching its schema, and registers it in the wrapper cache.
+ * nativeClassName is stored in the OTIONative and decides how the Retainer is disposed.
+ */
+template<typename T>
 inline jobject
-serializableObjectFromNative(JNIEnv *env, SerializableObject *native) {
+retainedObjectFromNative(JNIEnv *env, T *native, const char *nativeClassName) {
     if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID soInit =
-            env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == soInit) return NULL;
-
-    auto serializableObjectManager =
-            new SerializableObject::Retainer<SerializableObject>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(serializableObjectManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.SerializableObject";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
+    jlong nativePointer = reinterpret_cast<jlong>(static_cast<SerializableObject *>(native));
+    jobject cached = env->CallStaticObjectMethod(
+            jniCache.wrapperCacheClass, jniCache.wrapperCacheLookup, nativePointer);
+    if (cached != nullptr) return cached;
+
+    jclass cls;
+    jmethodID init;
+    const JavaClassEntry *javaClass = javaClassForSchema(native->schema_name());
+    if (javaClass != nullptr) {
+        cls = javaClass->cls;
+        init = javaClass->init;
+    } else {
+        // unknown schema, fall back to resolving the class the slow way
+        std::string javaCls = getSerializableObjectJavaClassFromNative(native);
+        cls = env->FindClass(javaCls.c_str());
+        if (cls == NULL) return NULL;
+        init = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
+        if (NULL == init) return NULL;
+    }
+
+    auto manager = new SerializableObject::Retainer<T>(native);
+    jobject otioNative = newOTIONative(env, manager, nativeClassName);
 
     // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, soInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
+    jobject newObj = env->NewObject(cls, init, otioNative);
+    env->DeleteLocalRef(otioNative);
+    if (javaClass == nullptr) env->DeleteLocalRef(cls);
+
+    // tracks the wrapper in the OTIOFactory as well
+    env->CallStaticVoidMethod(
+            jniCache.wrapperCacheClass, jniCache.wrapperCacheRegister, newObj, nativePointer);
     return newObj;
 }
 
 inline jobject
-effectFromNative(JNIEnv *env, Effect *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID effectInit =
-            env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == effectInit) return NULL;
-
-    auto effectManager =
-            new SerializableObject::Retainer<Effect>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(effectManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Effect";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
+serializableObjectFromNative(JNIEnv *env, SerializableObject *native) {
+    return retainedObjectFromNative<SerializableObject>(
+            env, native, "io.opentimeline.opentimelineio.SerializableObject");
+}
 
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, effectInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+inline jobject
+effectFromNative(JNIEnv *env, Effect *native) {
+    return retainedObjectFromNative<Effect>(
+            env, native, "io.opentimeline.opentimelineio.Effect");
 }
 
 inline jobject
 markerFromNative(JNIEnv *env, Marker *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID markerInit =
-            env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == markerInit) return NULL;
-
-    auto effectManager =
-            new SerializableObject::Retainer<Marker>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(effectManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Marker";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, markerInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return retainedObjectFromNative<Marker>(
+            env, native, "io.opentimeline.opentimelineio.Marker");
 }
 
 inline jobject
 composableFromNative(JNIEnv *env, OTIO_NS::Composable *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNatove
-    jmethodID composableInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == composableInit) return NULL;
-
-    auto composableManager =
-            new SerializableObject::Retainer<Composable>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(composableManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Composable";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, composableInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return retainedObjectFromNative<Composable>(
+            env, native, "io.opentimeline.opentimelineio.Composable");
 }
 
 inline jobject
 compositionFromNative(JNIEnv *env, OTIO_NS::Composition *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID compositionInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == compositionInit) return NULL;
-
-    auto compositionManager =
-            new SerializableObject::Retainer<Composable>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(compositionManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Composition";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, compositionInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return retainedObjectFromNative<Composable>(
+            env, native, "io.opentimeline.opentimelineio.Composition");
 }
 
 inline jobject
 mediaReferenceFromNative(JNIEnv *env, OTIO_NS::MediaReference *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID mrInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == mrInit) return NULL;
-
-    auto mrManager =
-            new SerializableObject::Retainer<MediaReference>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(mrManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.MediaReference";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, mrInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return retainedObjectFromNative<MediaReference>(
+            env, native, "io.opentimeline.opentimelineio.MediaReference");
 }
 
 inline jobject
 stackFromNative(JNIEnv *env, OTIO_NS::Stack *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID stackInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == stackInit) return NULL;
-
-    auto stackManager =
-            new SerializableObject::Retainer<Stack>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(stackManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Stack";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an int argument
-    jobject newObj = env->NewObject(cls, stackInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return retainedObjectFromNative<Stack>(
+            env, native, "io.opentimeline.opentimelineio.Stack");
 }
 
 inline jobject
 clipFromNative(JNIEnv *env, OTIO_NS::Clip *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID clipInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == clipInit) return NULL;
-
-    auto clipManager =
-            new SerializableObject::Retainer<Clip>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(clipManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Clip";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, clipInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return retainedObjectFromNative<Clip>(
+            env, native, "io.opentimeline.opentimelineio.Clip");
 }
 
 inline jobject
 gapFromNative(JNIEnv *env, OTIO_NS::Gap *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID gapInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == gapInit) return NULL;
-
-    auto gapManager =
-            new SerializableObject::Retainer<Gap>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(gapManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Gap";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, gapInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return retainedObjectFromNative<Gap>(
+            env, native, "io.opentimeline.opentimelineio.Gap");
 }
 
 inline jobject
 trackFromNative(JNIEnv *env, OTIO_NS::Track *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID trackInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == trackInit) return NULL;
-
-    auto trackManager =
-            new SerializableObject::Retainer<Track>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(trackManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Track";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, trackInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return retainedObjectFromNative<Track>(
+            env, native, "io.opentimeline.opentimelineio.Track");
 }
 
 inline jobject
 transitionFromNative(JNIEnv *env, OTIO_NS::Transition *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID transitionInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == transitionInit) return NULL;
-
-    auto transitionManager =
-            new SerializableObject::Retainer<Transition>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(transitionManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Transition";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, transitionInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return retainedObjectFromNative<Transition>(
+            env, native, "io.opentimeline.opentimelineio.Transition");
 }
 
 inline jobject
 itemFromNative(JNIEnv *env, OTIO_NS::Item *native) {
-    if (native == nullptr)return nullptr;
-    std::string javaCls = getSerializableObjectJavaClassFromNative(native);
-    jclass cls =
-            env->FindClass(javaCls.c_str());
-    if (cls == NULL) return NULL;
-
-    // Get the Method ID of the constructor which takes an otioNative
-    jmethodID itemInit = env->GetMethodID(cls, "<init>", "(Lio/opentimeline/OTIONative;)V");
-    if (NULL == itemInit) return NULL;
-
-    auto itemManager =
-            new SerializableObject::Retainer<Item>(native);
-    jclass otioNativeClass = env->FindClass("io/opentimeline/OTIONative");
-    jfieldID classNameID =
-            env->GetFieldID(otioNativeClass, "className", "Ljava/lang/String;");
-    jmethodID otioNativeInit =
-            env->GetMethodID(otioNativeClass, "<init>", "(J)V");
-    jobject otioNative = env->NewObject(
-            otioNativeClass,
-            otioNativeInit,
-            reinterpret_cast<jlong>(itemManager));
-    std::string classNameStr =
-            "io.opentimeline.opentimelineio.Item";
-    jstring className = env->NewStringUTF(classNameStr.c_str());
-    env->SetObjectField(otioNative, classNameID, className);
-
-    // Call back constructor to allocate a new instance, with an otioNative argument
-    jobject newObj = env->NewObject(cls, itemInit, otioNative);
-    registerObjectToOTIOFactory(env, newObj);
-    return newObj;
+    return retainedObjectFromNative<Item>(
+            env, native, "io.opentimeline.opentimelineio.Item");
 }
 
+/*
+ * Builds a Java array of elementClass from a vector of native objects,
+ * wrapping each element with fromNative.
+ */
+template<typename V, typename F>
 inline jobjectArray
-serializableObjectRetainerVectorToArray(
-        JNIEnv *env,
-        std::vector<
-                OTIO_NS::SerializableObject::Retainer<OTIO_NS::SerializableObject>> &v) {
-    jclass serializableObjectClass = env->FindClass(
-            "io/opentimeline/opentimelineio/SerializableObject");
+nativeVectorToArray(JNIEnv *env, jclass elementClass, const V &v, F fromNative) {
     jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), serializableObjectClass, nullptr);
+            env->NewObjectArray((jsize)v.size(), elementClass, nullptr);
     for (int i = 0; i < v.size(); i++) {
-        auto newObj = serializableObjectFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
+        // fromNative has already registered the new object with the OTIOFactory
+        auto newObj = fromNative(env, v[i]);
         env->SetObjectArrayElement(
                 result, i, newObj);
+        env->DeleteLocalRef(newObj);
     }
     return result;
 }
 
+inline jobjectArray
+serializableObjectRetainerVectorToArray(
+        JNIEnv *env,
+        const std::vector<
+                OTIO_NS::SerializableObject::Retainer<OTIO_NS::SerializableObject>> &v) {
+    return nativeVectorToArray(env, jniCache.serializableObjectClass, v, serializableObjectFromNative);
+}
+
 inline jobjectArray
 effectRetainerVectorToArray(
         JNIEnv *env,
-        std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Effect>> &v) {
-    jclass effectClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Effect");
-    jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), effectClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = effectFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(
-                result, i, newObj);
-    }
-    return result;
+        const std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Effect>> &v) {
+    return nativeVectorToArray(env, jniCache.effectClass, v, effectFromNative);
 }
 
 inline jobjectArray
 markerRetainerVectorToArray(
         JNIEnv *env,
-        std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Marker>> &v) {
-    jclass markerClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Marker");
-    jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), markerClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = markerFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(
-                result, i, newObj);
-    }
-    return result;
+        const std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Marker>> &v) {
+    return nativeVectorToArray(env, jniCache.markerClass, v, markerFromNative);
 }
 
 inline jobjectArray
 composableRetainerVectorToArray(
         JNIEnv *env,
-        std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Composable>> &v) {
-    jclass composableClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Composable");
-    jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), composableClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = composableFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(
-                result, i, newObj);
-    }
-    return result;
+        const std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Composable>> &v) {
+    return nativeVectorToArray(env, jniCache.composableClass, v, composableFromNative);
 }
 
 inline jobjectArray
 clipRetainerVectorToArray(
         JNIEnv *env,
-        std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Clip>> &v) {
-    jclass clipClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Clip");
-    jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), clipClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = clipFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(
-                result, i, newObj);
-    }
-    return result;
+        const std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Clip>> &v) {
+    return nativeVectorToArray(env, jniCache.clipClass, v, clipFromNative);
 }
 
 
 inline jobjectArray
 gapRetainerVectorToArray(
         JNIEnv *env,
-        std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Gap>> &v) {
-    jclass gapClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Gap");
-    jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), gapClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = gapFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(
-                result, i, newObj);
-    }
-    return result;
+        const std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Gap>> &v) {
+    return nativeVectorToArray(env, jniCache.gapClass, v, gapFromNative);
 }
 
 
 inline jobjectArray
 trackRetainerVectorToArray(
         JNIEnv *env,
-        std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Track>> &v) {
-    jclass trackClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Track");
-    jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), trackClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = trackFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(
-                result, i, newObj);
-    }
-    return result;
+        const std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Track>> &v) {
+    return nativeVectorToArray(env, jniCache.trackClass, v, trackFromNative);
 }
 
 inline jobjectArray
 stackRetainerVectorToArray(
         JNIEnv *env,
-        std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Stack>> &v) {
-    jclass stackClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Stack");
-    jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), stackClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = stackFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(
-                result, i, newObj);
-    }
-    return result;
+        const std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Stack>> &v) {
+    return nativeVectorToArray(env, jniCache.stackClass, v, stackFromNative);
 }
 
 inline jobjectArray
 transitionRetainerVectorToArray(
         JNIEnv *env,
-        std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Transition>> &v) {
-    jclass transitionClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Transition");
-    jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), transitionClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = transitionFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(
-                result, i, newObj);
-    }
-    return result;
+        const std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Transition>> &v) {
+    return nativeVectorToArray(env, jniCache.transitionClass, v, transitionFromNative);
 }
 
 inline jobjectArray
 compositionRetainerVectorToArray(
         JNIEnv *env,
-        std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Composition>> &v) {
-    jclass compositionClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Composition");
-    jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), compositionClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = compositionFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(
-                result, i, newObj);
-    }
-    return result;
+        const std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Composition>> &v) {
+    return nativeVectorToArray(env, jniCache.compositionClass, v, compositionFromNative);
 }
 
 inline jobjectArray
 itemRetainerVectorToArray(
         JNIEnv *env,
-        std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Item>> &v) {
-    jclass itemClass = env->FindClass(
-            "io/opentimeline/opentimelineio/Item");
-    jobjectArray result =
-            env->NewObjectArray((jsize)v.size(), itemClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = itemFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(
-                result, i, newObj);
-    }
-    return result;
+        const std::vector<OTIO_NS::SerializableObject::Retainer<OTIO_NS::Item>> &v) {
+    return nativeVectorToArray(env, jniCache.itemClass, v, itemFromNative);
 }
 
 inline jobjectArray
-trackVectorToArray(JNIEnv *env, std::vector<OTIO_NS::Track *> &v) {
-    jclass trackClass = env->FindClass("io/opentimeline/opentimelineio/Track");
-    jobjectArray result = env->NewObjectArray((jsize)v.size(), trackClass, nullptr);
-    for (int i = 0; i < v.size(); i++) {
-        auto newObj = trackFromNative(env, v[i]);
-        registerObjectToOTIOFactory(env, newObj);
-        env->SetObjectArrayElement(result, i, newObj);
-    }
-    return result;
+trackVectorToArray(JNIEnv *env, const std::vector<OTIO_NS::Track *> &v) {
+    return nativeVectorToArray(env, jniCache.trackClass, v, trackFromNative);
 }
 
 inline opentime::RationalTime
 rationalTimeFromJObject(JNIEnv *env, jobject rtObject) {
-    jclass rtClass = env->FindClass("io/opentimeline/opentime/RationalTime");
-    jmethodID getValue = env->GetMethodID(rtClass, "getValue", "()D");
-    jmethodID getRate = env->GetMethodID(rtClass, "getRate", "()D");
-    double value = env->CallDoubleMethod(rtObject, getValue);
-    double rate = env->CallDoubleMethod(rtObject, getRate);
+    double value = env->GetDoubleField(rtObject, jniCache.rationalTimeValue);
+    double rate = env->GetDoubleField(rtObject, jniCache.rationalTimeRate);
     opentime::RationalTime rt(value, rate);
     return rt;
 }
 
 inline opentime::TimeRange
 timeRangeFromJObject(JNIEnv *env, jobject trObject) {
-    jclass trClass = env->FindClass("io/opentimeline/opentime/TimeRange");
-    jmethodID getStartTime = env->GetMethodID(
-            trClass, "getStartTime", "()Lio/opentimeline/opentime/RationalTime;");
-    jmethodID getDuration = env->GetMethodID(
-            trClass, "getDuration", "()Lio/opentimeline/opentime/RationalTime;");
-    jobject startTime = env->CallObjectMethod(trObject, getStartTime);
-    jobject duration = env->CallObjectMethod(trObject, getDuration);
-
-    jclass rtClass = env->FindClass("io/opentimeline/opentime/RationalTime");
-    jmethodID getValue = env->GetMethodID(rtClass, "getValue", "()D");
-    jmethodID getRate = env->GetMethodID(rtClass, "getRate", "()D");
-
-    double startTimeValue = env->CallDoubleMethod(startTime, getValue);
-    double startTimeRate = env->CallDoubleMethod(startTime, getRate);
-    double durationValue = env->CallDoubleMethod(duration, getValue);
-    double durationRate = env->CallDoubleMethod(duration, getRate);
+    jobject startTime = env->GetObjectField(trObject, jniCache.timeRangeStartTime);
+    jobject duration = env->GetObjectField(trObject, jniCache.timeRangeDuration);
 
     opentime::TimeRange tr(
-            opentime::RationalTime(startTimeValue, startTimeRate),
-            opentime::RationalTime(durationValue, durationRate));
+            rationalTimeFromJObject(env, startTime),
+            rationalTimeFromJObject(env, duration));
+    env->DeleteLocalRef(startTime);
+    env->DeleteLocalRef(duration);
 
     return tr;
 }
 
 inline opentime::TimeTransform
 timeTransformFromJObject(JNIEnv *env, jobject txObject) {
-    jclass trClass = env->FindClass("io/opentimeline/opentime/TimeTransform");
-    jmethodID getOffset = env->GetMethodID(
-            trClass, "getOffset", "()Lio/opentimeline/opentime/RationalTime;");
-    jmethodID getScale = env->GetMethodID(trClass, "getScale", "()D");
-    jmethodID getRate = env->GetMethodID(trClass, "getRate", "()D");
-    jobject offset = env->CallObjectMethod(txObject, getOffset);
-    double scale = env->CallDoubleMethod(txObject, getScale);
-    double rate = env->CallDoubleMethod(txObject, getRate);
-
-    jclass rtClass = env->FindClass("io/opentimeline/opentime/RationalTime");
-    jmethodID getRationalTimeValue =
-            env->GetMethodID(rtClass, "getValue", "()D");
-    jmethodID getRationalTimeRate = env->GetMethodID(rtClass, "getRate", "()D");
-
-    double offsetValue = env->CallDoubleMethod(offset, getRationalTimeValue);
-    double offsetRate = env->CallDoubleMethod(offset, getRationalTimeRate);
+    jobject offset = env->GetObjectField(txObject, jniCache.timeTransformOffset);
+    double scale = env->GetDoubleField(txObject, jniCache.timeTransformScale);
+    double rate = env->GetDoubleField(txObject, jniCache.timeTransformRate);
 
     opentime::TimeTransform timeTransform(
-            opentime::RationalTime(offsetValue, offsetRate), scale, rate);
+            rationalTimeFromJObject(env, offset), scale, rate);
+    env->DeleteLocalRef(offset);
     return timeTransform;
 }
 
 inline jobject
 rationalTimeToJObject(JNIEnv *env, opentime::RationalTime rationalTime) {
-    jclass rtClass = env->FindClass("io/opentimeline/opentime/RationalTime");
-    jmethodID rtInit = env->GetMethodID(rtClass, "<init>", "(DD)V");
     jobject rt = env->NewObject(
-            rtClass, rtInit, rationalTime.value(), rationalTime.rate());
+            jniCache.rationalTimeClass,
+            jniCache.rationalTimeInit,
+            rationalTime.value(),
+            rationalTime.rate());
     return rt;
 }
 
+/* builds the TimeRange and its two RationalTimes in a single call back into Java */
 inline jobject
 timeRangeToJObject(JNIEnv *env, opentime::TimeRange timeRange) {
-    jclass trClass = env->FindClass("io/opentimeline/opentime/TimeRange");
-    jmethodID trInit = env->GetMethodID(
-            trClass,
-            "<init>",
-            "(Lio/opentimeline/opentime/RationalTime;Lio/opentimeline/opentime/RationalTime;)V");
-    jobject startTime = rationalTimeToJObject(env, timeRange.start_time());
-    jobject duration = rationalTimeToJObject(env, timeRange.duration());
-    jobject tr = env->NewObject(trClass, trInit, startTime, duration);
+    jobject tr = env->NewObject(
+            jniCache.timeRangeClass,
+            jniCache.timeRangeInit,
+            timeRange.start_time().value(),
+            timeRange.start_time().rate(),
+            timeRange.duration().value(),
+            timeRange.duration().rate());
     return tr;
 }
 
 inline jobject
 timeTransformToJObject(JNIEnv *env, opentime::TimeTransform timeTransform) {
-    jclass txClass = env->FindClass("io/opentimeline/opentime/TimeTransform");
-    jmethodID txInit = env->GetMethodID(
-            txClass, "<init>", "(Lio/opentimeline/opentime/RationalTime;DD)V");
     jobject offset = rationalTimeToJObject(env, timeTransform.offset());
     jobject tx = env->NewObject(
-            txClass, txInit, offset, timeTransform.scale(), timeTransform.rate());
+            jniCache.timeTransformClass,
+            jniCache.timeTransformInit,
+            offset,
+            timeTransform.scale(),
+            timeTransform.rate());
+    env->DeleteLocalRef(offset);
     return tx;
 }
 
+/*
+ * Reads an Optional<TimeRange> passed from Java.
+ */
+inline optional<TimeRange>
+optionalTimeRangeFromJObject(JNIEnv *env, jobject timeRangeOptional) {
+    jboolean ifPresent = env->CallBooleanMethod(timeRangeOptional, jniCache.optionalIsPresent);
+    optional<TimeRange> timeRange = nullopt;
+    if (ifPresent) {
+        jobject timeRangeJObject = env->CallObjectMethod(timeRangeOptional, jniCache.optionalGet);
+        timeRange = timeRangeFromJObject(env, timeRangeJObject);
+        env->DeleteLocalRef(timeRangeJObject);
+    }
+    return timeRange;
+}
+
+/*
+ * Copies timeRanges into out as consecutive
+ * (start value, start rate, duration value, duration rate) quadruples
+ * with a single array region write. Returns the number of ranges written,
+ * or -1 with a pending exception when out is null or too small.
+ */
+inline jint
+timeRangesToDoubleArray(JNIEnv *env, const std::vector<TimeRange> &timeRanges, jdoubleArray out) {
+    if (out == nullptr) {
+        throwNullPointerException(env, "");
+        return -1;
+    }
+    jsize required = (jsize) (timeRanges.size() * 4);
+    if (env->GetArrayLength(out) < required) {
+        throwIndexOutOfBoundsException(env, "output array is too small for the ranges of all children");
+        return -1;
+    }
+    std::vector<jdouble> buffer(required);
+    for (size_t i = 0; i < timeRanges.size(); i++) {
+        buffer[i * 4] = timeRanges[i].start_time().value();
+        buffer[i * 4 + 1] = timeRanges[i].start_time().rate();
+        buffer[i * 4 + 2] = timeRanges[i].duration().value();
+        buffer[i * 4 + 3] = timeRanges[i].duration().rate();
+    }
+    env->SetDoubleArrayRegion(out, 0, required, buffer.data());
+    return (jint) timeRanges.size();
+}
+
+/*
+ * Copies bytes into a new Java byte[], returns nullptr with a pending
+ * OutOfMemoryError if it cannot be allocated.
+ */
+inline jbyteArray
+bytesToByteArray(JNIEnv *env, const std::string &bytes) {
+    jbyteArray result = env->NewByteArray((jsize) bytes.size());
+    if (result == nullptr) return nullptr;
+    env->SetByteArrayRegion(result, 0, (jsize) bytes.size(), reinterpret_cast<const jbyte *>(bytes.data()));
+    return result;
+}
+
 template<typename T>
 inline jobjectArray
 getChildrenIfResult(std::string clsNameString,
@@ -1054,35 +630,35 @@ getChildrenIfResult(std::string clsNameString,
     static std::unordered_map<std::string, std::function<jobjectArray()>> childrenIf_dispatch_table;
     (childrenIf_dispatch_table)["io.opentimeline.opentimelineio.Clip"] = [&](){
         auto result = baseClass->template children_if<Clip>(&errorStatus, searchRange, shallowSearch);
-        return clipRetainerVectorToArray(env,*(new std::vector<SerializableObject::Retainer<Clip>>(result)));
+        return clipRetainerVectorToArray(env, result);
     };
     (childrenIf_dispatch_table)["io.opentimeline.opentimelineio.Composable"] = [&](){
         auto result = baseClass->template children_if<Composable>(&errorStatus, searchRange, shallowSearch);
-        return composableRetainerVectorToArray(env,*(new std::vector<SerializableObject::Retainer<Composable>>(result)));
+        return composableRetainerVectorToArray(env, result);
     };
     (childrenIf_dispatch_table)["io.opentimeline.opentimelineio.Composition"] = [&](){
         auto result = baseClass->template children_if<Composition>(&errorStatus, searchRange, shallowSearch);
-        return compositionRetainerVectorToArray(env,*(new std::vector<SerializableObject::Retainer<Composition>>(result)));
+        return compositionRetainerVectorToArray(env, result);
     };
     (childrenIf_dispatch_table)["io.opentimeline.opentimelineio.Gap"] = [&](){
         auto result = baseClass->template children_if<Gap>(&errorStatus, searchRange, shallowSearch);
-        return gapRetainerVectorToArray(env,*(new std::vector<SerializableObject::Retainer<Gap>>(result)));
+        return gapRetainerVectorToArray(env, result);
     };
     (childrenIf_dispatch_table)["io.opentimeline.opentimelineio.Item"] = [&](){
         auto result = baseClass->template children_if<Item>(&errorStatus, searchRange, shallowSearch);
-        return itemRetainerVectorToArray(env,*(new std::vector<SerializableObject::Retainer<Item>>(result)));
+        return itemRetainerVectorToArray(env, result);
     };
     (childrenIf_dispatch_table)["io.opentimeline.opentimelineio.Stack"] = [&](){
         auto result = baseClass->template children_if<Stack>(&errorStatus, searchRange, shallowSearch);
-        return stackRetainerVectorToArray(env,*(new std::vector<SerializableObject::Retainer<Stack>>(result)));
+        return stackRetainerVectorToArray(env, result);
     };
     (childrenIf_dispatch_table)["io.opentimeline.opentimelineio.Track"] = [&](){
         auto result = baseClass->template children_if<Track>(&errorStatus, searchRange, shallowSearch);
-        return trackRetainerVectorToArray(env,*(new std::vector<SerializableObject::Retainer<Track>>(result)));
+        return trackRetainerVectorToArray(env, result);
     };
     (childrenIf_dispatch_table)["io.opentimeline.opentimelineio.Transition"] = [&](){
         auto result = baseClass->template children_if<Transition>(&errorStatus, searchRange, shallowSearch);
-        return transitionRetainerVectorToArray(env,*(new std::vector<SerializableObject::Retainer<Transition>>(result)));
+        return transitionRetainerVectorToArray(env, result);
     };
     return (childrenIf_dispatch_table)[clsNameString]();
 }
@@ -1093,22 +669,11 @@ childrenIfWrapperUtil(JNIEnv *env, jobject thisObj, jclass descendedFromCLass, j
     auto thisHandle =
             getHandle<SerializableObject::Retainer<T>>(env, thisObj);
     auto baseClass = thisHandle->value;
-    jclass cls = env->GetObjectClass(descendedFromCLass);
-    jmethodID getNameID = env->GetMethodID(cls, "getName", "()Ljava/lang/String;");
-    auto clsName = (jstring)env->CallObjectMethod(descendedFromCLass, getNameID);
+    auto clsName = (jstring)env->CallObjectMethod(descendedFromCLass, jniCache.classGetName);
     const char* clsNameString = env->GetStringUTFChars(clsName, NULL);
     auto errorStatus = OTIO_NS::ErrorStatus();
 
-    jclass optionalClass = env->GetObjectClass(searchRangeTimeRangeOptional);
-    jmethodID getMethodID = env->GetMethodID(optionalClass, "get", "()Ljava/lang/Object;");
-    jmethodID isPresentID = env->GetMethodID(optionalClass, "isPresent", "()Z");
-    jboolean ifPresent = env->CallBooleanMethod(searchRangeTimeRangeOptional, isPresentID);
-    optional<TimeRange> searchRange = nullopt;
-    if (ifPresent){
-        jobject searchRangeJObject = env->CallObjectMethod(searchRangeTimeRangeOptional, getMethodID);
-        searchRange = timeRangeFromJObject(env, searchRangeJObject);
-
-    }
+    optional<TimeRange> searchRange = optionalTimeRangeFromJObject(env, searchRangeTimeRangeOptional);
     jobjectArray descendedFromClassChildren = getChildrenIfResult<T>(clsNameString, env, baseClass, errorStatus, searchRange, shallowSearch);
     processOTIOErrorStatus(env, errorStatus);
     env->ReleaseStringUTFChars(clsName, clsNameString);
@@ -1122,19 +687,10 @@ getClipIfResult(JNIEnv *env, jobject thisObj, jobject searchRangeTimeRangeOption
             getHandle<SerializableObject::Retainer<T>>(env, thisObj);
     auto baseClass = thisHandle->value;
     auto errorStatus = OTIO_NS::ErrorStatus();
-    jclass optionalClass = env->GetObjectClass(searchRangeTimeRangeOptional);
-    jmethodID getMethodID = env->GetMethodID(optionalClass, "get", "()Ljava/lang/Object;");
-    jmethodID isPresentID = env->GetMethodID(optionalClass, "isPresent", "()Z");
-    jboolean ifPresent = env->CallBooleanMethod(searchRangeTimeRangeOptional, isPresentID);
-    optional<TimeRange> searchRange = nullopt;
-    if (ifPresent){
-        jobject searchRangeJObject = env->CallObjectMethod(searchRangeTimeRangeOptional, getMethodID);
-        searchRange = timeRangeFromJObject(env, searchRangeJObject);
-
-    }
+    optional<TimeRange> searchRange = optionalTimeRangeFromJObject(env, searchRangeTimeRangeOptional);
     auto result = baseClass->clip_if(&errorStatus, searchRange, shallowSearch);
     processOTIOErrorStatus(env, errorStatus);
-    return clipRetainerVectorToArray(env, *(new std::vector<SerializableObject::Retainer<Clip>>(result)));
+    return clipRetainerVectorToArray(env, result);
 }
 
 #endif
\ No newline at end of file
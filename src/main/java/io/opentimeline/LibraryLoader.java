@@ -13,6 +13,8 @@ import static io.opentimeline.OTIOFactory.OTIO_VERSION;
  */
 public class LibraryLoader {
     private static boolean libLoaded = false;
+    // JNI_OnLoad resolves the wrapper classes, whose static initializers call load() again
+    private static boolean libLoading = false;
 
     private static String getPlatformName() {
         String osName = System.getProperty("os.name").toLowerCase();
@@ -54,9 +56,10 @@ public class LibraryLoader {
         return platform;
     }
 
-    public static void load(String name) {
-        if (libLoaded)
+    public static synchronized void load(String name) {
+        if (libLoaded || libLoading)
             return;
+        libLoading = true;
         final String libname = System.mapLibraryName(name);
         final String opentimelibname = System.mapLibraryName("opentime");
         final String OTIOlibname = System.mapLibraryName("opentimelineio");
@@ -77,6 +80,8 @@ public class LibraryLoader {
         } catch (Exception e) {
             libLoaded = false;
             System.err.println("Unable to load native library.");
+        } finally {
+            libLoading = false;
         }
     }
 }
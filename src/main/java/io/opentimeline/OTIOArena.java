@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scope that owns every OTIO object created on its thread while it is open, including
+ * the wrappers handed out by native code such as SerializableObject.fromJSONFile().
+ * Closing the arena frees the native memory of all of them in a single JNI call, without
+ * waiting for the garbage collector.
+ * <pre>
+ * try (OTIOArena arena = OTIOArena.open()) {
+ *     Timeline timeline = (Timeline) SerializableObject.fromJSONFile(path);
+ *     ...
+ * }
+ * </pre>
+ * Objects owned by an arena must not be used after it is closed. Arenas can be nested,
+ * objects belong to the innermost open arena of the creating thread.
+ * Objects closed individually or collected before the arena closes are freed only once.
+ * A wrapper reused from the wrapper cache is owned once per hand-out: the arena closes the
+ * hand-outs made while it was open, and a wrapper also handed out elsewhere stays usable there.
+ */
+public final class OTIOArena implements AutoCloseable {
+
+    private static final ThreadLocal<OTIOArena> current = new ThreadLocal<>();
+
+    // lets track() skip the ThreadLocal lookup while no arena is open anywhere
+    private static volatile int openArenas = 0;
+
+    static {
+        LibraryLoader.load("jotio");
+    }
+
+    private final OTIOArena parent;
+    private final Thread owner;
+    private List<OTIOFinalizer> finalizers = new ArrayList<>();
+
+    private OTIOArena(OTIOArena parent) {
+        this.parent = parent;
+        this.owner = Thread.currentThread();
+    }
+
+    /**
+     * Opens an arena and makes it the current one of the calling thread.
+     *
+     * @return the new arena
+     */
+    public static OTIOArena open() {
+        OTIOArena arena = new OTIOArena(current.get());
+        current.set(arena);
+        synchronized (OTIOArena.class) {
+            openArenas++;
+        }
+        return arena;
+    }
+
+    static OTIOArena current() {
+        return openArenas == 0 ? null : current.get();
+    }
+
+    void add(OTIOFinalizer finalizer) {
+        finalizers.add(finalizer);
+    }
+
+    /**
+     * @return number of objects owned by this arena, counting a reused wrapper once per hand-out
+     */
+    public int size() {
+        return finalizers == null ? 0 : finalizers.size();
+    }
+
+    /**
+     * Frees the native memory of every object owned by this arena and restores the
+     * previously open arena of this thread.
+     */
+    @Override
+    public void close() {
+        if (finalizers == null) return;
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("An OTIOArena must be closed by the thread that opened it");
+        }
+        List<OTIOFinalizer> owned = finalizers;
+        finalizers = null;
+        if (current.get() == this) {
+            if (parent == null) current.remove();
+            else current.set(parent);
+        }
+        synchronized (OTIOArena.class) {
+            openArenas--;
+        }
+        OTIOFactory.getInstance().closeAll(owned);
+    }
+
+    /**
+     * @return indices of the objects that could not be disposed
+     */
+    static native int[] disposeAllNative(long[] nativeHandles, String[] nativeClassNames);
+}
@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ServiceLoader;
+
+/**
+ * Diagnostics for the native memory management of OTIO objects.
+ * <p>
+ * Messages are gated by a level which is OFF unless the JVM is started with
+ * <code>-Dio.opentimeline.diagnostics=error|debug</code> or {@link #setLevel(Level)} is called.
+ * While a level is disabled no message is built and no I/O happens, the check is a single
+ * volatile read. Messages go to a {@link Sink}, by default System.err.
+ * <p>
+ * Reclamation volume is reported through {@link OTIOMetrics} providers and the counters
+ * of {@link OTIOFactory}, not through messages.
+ */
+public final class OTIODiagnostics {
+
+    public static final String LEVEL_PROPERTY = "io.opentimeline.diagnostics";
+
+    public enum Level {
+        OFF,
+        ERROR,
+        DEBUG
+    }
+
+    /**
+     * Receives diagnostic messages that passed the level check.
+     */
+    public interface Sink {
+        void log(Level level, String message, Throwable error);
+    }
+
+    private static final Sink STDERR_SINK = (level, message, error) -> {
+        System.err.println("[otio " + level + "] " + message);
+        if (error != null) error.printStackTrace();
+    };
+
+    private static volatile Level level = parseLevel(System.getProperty(LEVEL_PROPERTY));
+    private static volatile Sink sink = STDERR_SINK;
+    private static volatile OTIOMetrics[] metrics = loadMetrics();
+
+    private OTIODiagnostics() {
+    }
+
+    /**
+     * @return the level named by value, ignoring case, or OFF if value is null or
+     * names no level, which is reported on System.err since no sink is set yet
+     */
+    static Level parseLevel(String value) {
+        if (value == null) return Level.OFF;
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            STDERR_SINK.log(Level.ERROR,
+                    "ignoring " + LEVEL_PROPERTY + "=" + value + ", expected one of "
+                            + Arrays.toString(Level.values()), null);
+            return Level.OFF;
+        }
+    }
+
+    private static OTIOMetrics[] loadMetrics() {
+        OTIOMetrics[] loaded = new OTIOMetrics[0];
+        for (OTIOMetrics provider : ServiceLoader.load(OTIOMetrics.class)) {
+            loaded = Arrays.copyOf(loaded, loaded.length + 1);
+            loaded[loaded.length - 1] = provider;
+        }
+        return loaded;
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static void setLevel(Level level) {
+        OTIODiagnostics.level = level;
+    }
+
+    /**
+     * @param sink receiver of diagnostic messages, null restores System.err
+     */
+    public static void setSink(Sink sink) {
+        OTIODiagnostics.sink = sink == null ? STDERR_SINK : sink;
+    }
+
+    public static synchronized void addMetrics(OTIOMetrics provider) {
+        OTIOMetrics[] updated = Arrays.copyOf(metrics, metrics.length + 1);
+        updated[updated.length - 1] = provider;
+        metrics = updated;
+    }
+
+    public static synchronized void removeMetrics(OTIOMetrics provider) {
+        OTIOMetrics[] current = metrics;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == provider) {
+                OTIOMetrics[] updated = new OTIOMetrics[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                metrics = updated;
+                return;
+            }
+        }
+    }
+
+    public static boolean isEnabled(Level messageLevel) {
+        return messageLevel != Level.OFF && messageLevel.compareTo(level) <= 0;
+    }
+
+    static void reclaimed(OTIOFinalizer finalizer, boolean leaked) {
+        for (OTIOMetrics provider : metrics) {
+            provider.onReclaimed(finalizer.nativeClassName, leaked);
+        }
+        if (isEnabled(Level.DEBUG)) {
+            sink.log(Level.DEBUG, (leaked ? "reclaimed unclosed " : "closed ")
+                    + finalizer.nativeClassName + " " + finalizer.nativeHandle, null);
+        }
+    }
+
+    static void disposeFailed(OTIOFinalizer finalizer, Throwable error) {
+        for (OTIOMetrics provider : metrics) {
+            provider.onDisposeFailed(finalizer.nativeClassName, error);
+        }
+        if (isEnabled(Level.ERROR)) {
+            sink.log(Level.ERROR, "couldn't dispose native object "
+                    + finalizer.nativeClassName + " " + finalizer.nativeHandle, error);
+        }
+    }
+}
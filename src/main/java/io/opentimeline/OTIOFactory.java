@@ -8,26 +8,22 @@ import io.opentimeline.opentime.TimeRange;
 import io.opentimeline.opentime.TimeTransform;
 import io.opentimeline.opentimelineio.*;
 
-import java.lang.ref.ReferenceQueue;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  * A singleton factory class that helps in creating all OTIO objects.
- * It is expected that the developers use this Factory to create objects and not the Classes' constructors.
- * After creation of each object the Factory adds a PhantomReference of the object to a ReferenceQueue.
- * Whenever the object is Garbage Collected it will be available for polling in the reference queue and
- * the native memory allocated for the object can be freed.
  * <p>
- * The factory does some minor cleanup everytime you interact with it, but the developers are expected to
- * setup a mechanism to call the cleanUp() method at regular intervals.
+ * Every OTIO object, whether it is created through this factory, a constructor, a builder
+ * or returned from native code, is tracked by a reclaimer. A daemon thread frees the native
+ * memory of each object as soon as its Java object is garbage collected; closing the object
+ * frees it right away instead. The native memory of an object is freed exactly once.
+ * The counters exposed here can be used to watch native memory keep up with the garbage collector.
  */
 public class OTIOFactory {
 
     public static String OTIO_VERSION = "0.14.0";
 
-    private ReferenceQueue<OTIONative> otioNativeReferenceQueue = new ReferenceQueue<>();
-    private List<OTIOFinalizer> references = new LinkedList();
+    private final OTIOReclaimer reclaimer = new OTIOReclaimer();
 
     private static final OTIOFactory instance = new OTIOFactory();
 
@@ -39,15 +35,43 @@ public class OTIOFactory {
     }
 
     void registerObject(OTIOObject otioObject) {
-        references.add(new OTIOFinalizer(otioObject.getNativeManager(), otioNativeReferenceQueue));
+        reclaimer.track(otioObject.getNativeManager());
+    }
+
+    void close(OTIOFinalizer finalizer) {
+        reclaimer.close(finalizer);
+    }
+
+    void closeAll(List<OTIOFinalizer> finalizers) {
+        reclaimer.closeAll(finalizers);
+    }
+
+    /**
+     * @return number of tracked objects whose native memory has not been freed yet
+     */
+    public long getPendingCount() {
+        return reclaimer.getPendingCount();
+    }
+
+    /**
+     * @return number of objects whose native memory has been freed, either on close or after garbage collection
+     */
+    public long getReclaimedCount() {
+        return reclaimer.getReclaimedCount();
+    }
+
+    /**
+     * @return number of objects that were garbage collected without being closed.
+     * Their native memory has been freed by the reclaimer and is included in getReclaimedCount().
+     */
+    public long getLeakedCount() {
+        return reclaimer.getLeakedCount();
     }
 
     // Any ////////////////////////////////////////////////////////////////////
 
     public <T> Any createAny(T value) {
-        cleanUp();
         Any any = new Any(value);
-        references.add(new OTIOFinalizer(any.getNativeManager(), otioNativeReferenceQueue));
         return any;
     }
 
@@ -56,16 +80,12 @@ public class OTIOFactory {
     // AnyDictionary //////////////////////////////////////////////////////////
 
     public AnyDictionary createAnyDictionary() {
-        cleanUp();
         AnyDictionary anyDictionary = new AnyDictionary();
-        references.add(new OTIOFinalizer(anyDictionary.getNativeManager(), otioNativeReferenceQueue));
         return anyDictionary;
     }
 
     public AnyDictionary.Iterator getAnyDictionaryIterator(AnyDictionary anyDictionary) {
-        cleanUp();
         AnyDictionary.Iterator iterator = anyDictionary.iterator();
-        references.add(new OTIOFinalizer(iterator.getNativeManager(), otioNativeReferenceQueue));
         return iterator;
     }
 
@@ -74,16 +94,12 @@ public class OTIOFactory {
     // AnyVector //////////////////////////////////////////////////////////////
 
     public AnyVector createAnyVector() {
-        cleanUp();
         AnyVector anyVector = new AnyVector();
-        references.add(new OTIOFinalizer(anyVector.getNativeManager(), otioNativeReferenceQueue));
         return anyVector;
     }
 
     public AnyVector.Iterator getAnyVectorIterator(AnyVector anyVector) {
-        cleanUp();
         AnyVector.Iterator iterator = anyVector.iterator();
-        references.add(new OTIOFinalizer(iterator.getNativeManager(), otioNativeReferenceQueue));
         return iterator;
     }
 
@@ -96,16 +112,12 @@ public class OTIOFactory {
             MediaReference mediaReference,
             TimeRange sourceRange,
             AnyDictionary metadata) {
-        cleanUp();
         Clip clip = new Clip(name, mediaReference, sourceRange, metadata);
-        references.add(new OTIOFinalizer(clip.getNativeManager(), otioNativeReferenceQueue));
         return clip;
     }
 
     public Clip createClip(Clip.ClipBuilder builder) {
-        cleanUp();
         Clip clip = builder.build();
-        references.add(new OTIOFinalizer(clip.getNativeManager(), otioNativeReferenceQueue));
         return clip;
     }
 
@@ -114,30 +126,22 @@ public class OTIOFactory {
     // Composable /////////////////////////////////////////////////////////////
 
     public Composable createComposable(String name, AnyDictionary metadata) {
-        cleanUp();
         Composable composable = new Composable(name, metadata);
-        references.add(new OTIOFinalizer(composable.getNativeManager(), otioNativeReferenceQueue));
         return composable;
     }
 
     public Composable createComposable(String name) {
-        cleanUp();
         Composable composable = new Composable(name);
-        references.add(new OTIOFinalizer(composable.getNativeManager(), otioNativeReferenceQueue));
         return composable;
     }
 
     public Composable createComposable(AnyDictionary metadata) {
-        cleanUp();
         Composable composable = new Composable(metadata);
-        references.add(new OTIOFinalizer(composable.getNativeManager(), otioNativeReferenceQueue));
         return composable;
     }
 
     public Composable createComposable(Composable.ComposableBuilder builder) {
-        cleanUp();
         Composable composable = builder.build();
-        references.add(new OTIOFinalizer(composable.getNativeManager(), otioNativeReferenceQueue));
         return composable;
     }
     ///////////////////////////////////////////////////////////////////////////
@@ -150,21 +154,17 @@ public class OTIOFactory {
             AnyDictionary metadata,
             List<Effect> effects,
             List<Marker> markers) {
-        cleanUp();
         Composition composition = new Composition(
                 name,
                 sourceRange,
                 metadata,
                 effects,
                 markers);
-        references.add(new OTIOFinalizer(composition.getNativeManager(), otioNativeReferenceQueue));
         return composition;
     }
 
     public Composition createComposition(Composition.CompositionBuilder builder) {
-        cleanUp();
         Composition composition = builder.build();
-        references.add(new OTIOFinalizer(composition.getNativeManager(), otioNativeReferenceQueue));
         return composition;
     }
 
@@ -176,16 +176,12 @@ public class OTIOFactory {
             String name,
             String effectName,
             AnyDictionary metadata) {
-        cleanUp();
         Effect effect = new Effect(name, effectName, metadata);
-        references.add(new OTIOFinalizer(effect.getNativeManager(), otioNativeReferenceQueue));
         return effect;
     }
 
     public Effect createEffect(Effect.EffectBuilder builder) {
-        cleanUp();
         Effect effect = builder.build();
-        references.add(new OTIOFinalizer(effect.getNativeManager(), otioNativeReferenceQueue));
         return effect;
     }
     
@@ -198,16 +194,12 @@ public class OTIOFactory {
             String targetURL,
             TimeRange availableRange,
             AnyDictionary metadata) {
-        cleanUp();
         ExternalReference externalReference = new ExternalReference(targetURL, availableRange, metadata);
-        references.add(new OTIOFinalizer(externalReference.getNativeManager(), otioNativeReferenceQueue));
         return externalReference;
     }
 
     public ExternalReference createExternalReference(ExternalReference.ExternalReferenceBuilder builder) {
-        cleanUp();
         ExternalReference externalReference = builder.build();
-        references.add(new OTIOFinalizer(externalReference.getNativeManager(), otioNativeReferenceQueue));
         return externalReference;
     }
 
@@ -216,16 +208,12 @@ public class OTIOFactory {
     // FreezeFrame ////////////////////////////////////////////////////////////
 
     public FreezeFrame createFreezeFrame(String name, AnyDictionary metadata) {
-        cleanUp();
         FreezeFrame freezeFrame = new FreezeFrame(name, metadata);
-        references.add(new OTIOFinalizer(freezeFrame.getNativeManager(), otioNativeReferenceQueue));
         return freezeFrame;
     }
 
     public FreezeFrame createFreezeFrame(FreezeFrame.FreezeFrameBuilder builder) {
-        cleanUp();
         FreezeFrame freezeFrame = builder.build();
-        references.add(new OTIOFinalizer(freezeFrame.getNativeManager(), otioNativeReferenceQueue));
         return freezeFrame;
     }
 
@@ -239,9 +227,7 @@ public class OTIOFactory {
             List<Effect> effects,
             List<Marker> markers,
             AnyDictionary metadata) {
-        cleanUp();
         Gap gap = new Gap(sourceRange, name, effects, markers, metadata);
-        references.add(new OTIOFinalizer(gap.getNativeManager(), otioNativeReferenceQueue));
         return gap;
     }
 
@@ -251,16 +237,12 @@ public class OTIOFactory {
             List<Effect> effects,
             List<Marker> markers,
             AnyDictionary metadata) {
-        cleanUp();
         Gap gap = new Gap(duration, name, effects, markers, metadata);
-        references.add(new OTIOFinalizer(gap.getNativeManager(), otioNativeReferenceQueue));
         return gap;
     }
 
     public Gap createGap(Gap.GapBuilder builder) {
-        cleanUp();
         Gap gap = builder.build();
-        references.add(new OTIOFinalizer(gap.getNativeManager(), otioNativeReferenceQueue));
         return gap;
     }
 
@@ -274,21 +256,17 @@ public class OTIOFactory {
             TimeRange availableRange,
             AnyDictionary parameters,
             AnyDictionary metadata) {
-        cleanUp();
         GeneratorReference generatorReference = new GeneratorReference(
                 name,
                 generatorKind,
                 availableRange,
                 parameters,
                 metadata);
-        references.add(new OTIOFinalizer(generatorReference.getNativeManager(), otioNativeReferenceQueue));
         return generatorReference;
     }
 
     public GeneratorReference createGeneratorReference(GeneratorReference.GeneratorReferenceBuilder builder) {
-        cleanUp();
         GeneratorReference generatorReference = builder.build();
-        references.add(new OTIOFinalizer(generatorReference.getNativeManager(), otioNativeReferenceQueue));
         return generatorReference;
     }
 
@@ -307,7 +285,6 @@ public class OTIOFactory {
             ImageSequenceReference.MissingFramePolicy missingFramePolicy,
             TimeRange availableRange,
             AnyDictionary metadata) {
-        cleanUp();
         ImageSequenceReference imageSequenceReference = new ImageSequenceReference(
                 targetURLBase,
                 namePrefix,
@@ -319,15 +296,12 @@ public class OTIOFactory {
                 missingFramePolicy,
                 availableRange,
                 metadata);
-        references.add(new OTIOFinalizer(imageSequenceReference.getNativeManager(), otioNativeReferenceQueue));
         return imageSequenceReference;
     }
 
     public ImageSequenceReference createImageSequenceReference(
             ImageSequenceReference.ImageSequenceReferenceBuilder builder) {
-        cleanUp();
         ImageSequenceReference imageSequenceReference = builder.build();
-        references.add(new OTIOFinalizer(imageSequenceReference.getNativeManager(), otioNativeReferenceQueue));
         return imageSequenceReference;
     }
 
@@ -342,16 +316,12 @@ public class OTIOFactory {
             List<Effect> effects,
             List<Marker> markers,
             boolean enabled) {
-        cleanUp();
         Item item = new Item(name, sourceRange, metadata, effects, markers, enabled);
-        references.add(new OTIOFinalizer(item.getNativeManager(), otioNativeReferenceQueue));
         return item;
     }
 
     public Item createItem(Item.ItemBuilder builder) {
-        cleanUp();
         Item item = builder.build();
-        references.add(new OTIOFinalizer(item.getNativeManager(), otioNativeReferenceQueue));
         return item;
     }
 
@@ -364,16 +334,12 @@ public class OTIOFactory {
             String effectName,
             double timeScalar,
             AnyDictionary metadata) {
-        cleanUp();
         LinearTimeWarp linearTimeWarp = new LinearTimeWarp(name, effectName, timeScalar, metadata);
-        references.add(new OTIOFinalizer(linearTimeWarp.getNativeManager(), otioNativeReferenceQueue));
         return linearTimeWarp;
     }
 
     public LinearTimeWarp createLinearTimeWarp(LinearTimeWarp.LinearTimeWarpBuilder builder) {
-        cleanUp();
         LinearTimeWarp linearTimeWarp = builder.build();
-        references.add(new OTIOFinalizer(linearTimeWarp.getNativeManager(), otioNativeReferenceQueue));
         return linearTimeWarp;
     }
 
@@ -382,16 +348,12 @@ public class OTIOFactory {
     // Marker /////////////////////////////////////////////////////////
 
     public Marker createMarker(String name, TimeRange markedRange, String color, AnyDictionary metadata) {
-        cleanUp();
         Marker marker = new Marker(name, markedRange, color, metadata);
-        references.add(new OTIOFinalizer(marker.getNativeManager(), otioNativeReferenceQueue));
         return marker;
     }
 
     public Marker createMarker(Marker.MarkerBuilder builder) {
-        cleanUp();
         Marker marker = builder.build();
-        references.add(new OTIOFinalizer(marker.getNativeManager(), otioNativeReferenceQueue));
         return marker;
     }
 
@@ -400,16 +362,12 @@ public class OTIOFactory {
     // MediaReference /////////////////////////////////////////////////
 
     public MediaReference createMediaReference(String name, TimeRange availableRange, AnyDictionary metadata) {
-        cleanUp();
         MediaReference mediaReference = new MediaReference(name, availableRange, metadata);
-        references.add(new OTIOFinalizer(mediaReference.getNativeManager(), otioNativeReferenceQueue));
         return mediaReference;
     }
 
     public MediaReference createMediaReference(MediaReference.MediaReferenceBuilder builder) {
-        cleanUp();
         MediaReference mediaReference = builder.build();
-        references.add(new OTIOFinalizer(mediaReference.getNativeManager(), otioNativeReferenceQueue));
         return mediaReference;
     }
 
@@ -418,16 +376,12 @@ public class OTIOFactory {
     // MediaReference /////////////////////////////////////////////////
 
     public MissingReference createMissingReference(String name, TimeRange availableRange, AnyDictionary metadata) {
-        cleanUp();
         MissingReference mediaReference = new MissingReference(name, availableRange, metadata);
-        references.add(new OTIOFinalizer(mediaReference.getNativeManager(), otioNativeReferenceQueue));
         return mediaReference;
     }
 
     public MissingReference createMediaReference(MissingReference.MissingReferenceBuilder builder) {
-        cleanUp();
         MissingReference mediaReference = builder.build();
-        references.add(new OTIOFinalizer(mediaReference.getNativeManager(), otioNativeReferenceQueue));
         return mediaReference;
     }
 
@@ -439,16 +393,12 @@ public class OTIOFactory {
             String name,
             List<SerializableObject> children,
             AnyDictionary metadata) {
-        cleanUp();
         SerializableCollection serializableCollection = new SerializableCollection(name, children, metadata);
-        references.add(new OTIOFinalizer(serializableCollection.getNativeManager(), otioNativeReferenceQueue));
         return serializableCollection;
     }
 
     public SerializableCollection createSerializableCollection(SerializableCollection.SerializableCollectionBuilder builder) {
-        cleanUp();
         SerializableCollection serializableCollection = builder.build();
-        references.add(new OTIOFinalizer(serializableCollection.getNativeManager(), otioNativeReferenceQueue));
         return serializableCollection;
     }
 
@@ -457,9 +407,7 @@ public class OTIOFactory {
     // SerializableObject /////////////////////////////////////////
 
     public SerializableObject createSerializableObject() {
-        cleanUp();
         SerializableObject serializableObject = new SerializableObject();
-        references.add(new OTIOFinalizer(serializableObject.getNativeManager(), otioNativeReferenceQueue));
         return serializableObject;
     }
 
@@ -468,31 +416,23 @@ public class OTIOFactory {
     // SerializableObjectWithMetadata /////////////////////////////
 
     public SerializableObjectWithMetadata createSerializableObjectWithMetadata(String name, AnyDictionary metadata) {
-        cleanUp();
         SerializableObjectWithMetadata serializableObjectWithMetadata = new SerializableObjectWithMetadata(name, metadata);
-        references.add(new OTIOFinalizer(serializableObjectWithMetadata.getNativeManager(), otioNativeReferenceQueue));
         return serializableObjectWithMetadata;
     }
 
     public SerializableObjectWithMetadata createSerializableObjectWithMetadata(String name) {
-        cleanUp();
         SerializableObjectWithMetadata serializableObjectWithMetadata = new SerializableObjectWithMetadata(name);
-        references.add(new OTIOFinalizer(serializableObjectWithMetadata.getNativeManager(), otioNativeReferenceQueue));
         return serializableObjectWithMetadata;
     }
 
     public SerializableObjectWithMetadata createSerializableObjectWithMetadata(AnyDictionary metadata) {
-        cleanUp();
         SerializableObjectWithMetadata serializableObjectWithMetadata = new SerializableObjectWithMetadata(metadata);
-        references.add(new OTIOFinalizer(serializableObjectWithMetadata.getNativeManager(), otioNativeReferenceQueue));
         return serializableObjectWithMetadata;
     }
 
     public SerializableObjectWithMetadata createSerializableObjectWithMetadata(
             SerializableObjectWithMetadata.SerializableObjectWithMetadataBuilder builder) {
-        cleanUp();
         SerializableObjectWithMetadata serializableObjectWithMetadata = builder.build();
-        references.add(new OTIOFinalizer(serializableObjectWithMetadata.getNativeManager(), otioNativeReferenceQueue));
         return serializableObjectWithMetadata;
     }
 
@@ -506,16 +446,12 @@ public class OTIOFactory {
             AnyDictionary metadata,
             List<Effect> effects,
             List<Marker> markers) {
-        cleanUp();
         Stack stack = new Stack(name, sourceRange, metadata, effects, markers);
-        references.add(new OTIOFinalizer(stack.getNativeManager(), otioNativeReferenceQueue));
         return stack;
     }
 
     public Stack createStack(Stack.StackBuilder builder) {
-        cleanUp();
         Stack stack = builder.build();
-        references.add(new OTIOFinalizer(stack.getNativeManager(), otioNativeReferenceQueue));
         return stack;
     }
 
@@ -524,16 +460,12 @@ public class OTIOFactory {
     // TimeEffect /////////////////////////////////////////////////
 
     public TimeEffect createTimeEffect(String name, String effectName, AnyDictionary metadata) {
-        cleanUp();
         TimeEffect timeEffect = new TimeEffect(name, effectName, metadata);
-        references.add(new OTIOFinalizer(timeEffect.getNativeManager(), otioNativeReferenceQueue));
         return timeEffect;
     }
 
     public TimeEffect createTimeEffect(TimeEffect.TimeEffectBuilder builder) {
-        cleanUp();
         TimeEffect timeEffect = builder.build();
-        references.add(new OTIOFinalizer(timeEffect.getNativeManager(), otioNativeReferenceQueue));
         return timeEffect;
     }
 
@@ -542,16 +474,12 @@ public class OTIOFactory {
     // Timeline ///////////////////////////////////////////////////
 
     public Timeline createTimeline(String name, RationalTime globalStartTime, AnyDictionary metadata) {
-        cleanUp();
         Timeline timeline = new Timeline(name, globalStartTime, metadata);
-        references.add(new OTIOFinalizer(timeline.getNativeManager(), otioNativeReferenceQueue));
         return timeline;
     }
 
     public Timeline createTimeline(Timeline.TimelineBuilder builder) {
-        cleanUp();
         Timeline timeline = builder.build();
-        references.add(new OTIOFinalizer(timeline.getNativeManager(), otioNativeReferenceQueue));
         return timeline;
     }
 
@@ -560,16 +488,12 @@ public class OTIOFactory {
     // Track //////////////////////////////////////////////////////
 
     public Track createTrack(String name, TimeRange sourceRange, String kind, AnyDictionary metadata) {
-        cleanUp();
         Track track = new Track(name, sourceRange, kind, metadata);
-        references.add(new OTIOFinalizer(track.getNativeManager(), otioNativeReferenceQueue));
         return track;
     }
 
     public Track createTrack(Track.TrackBuilder builder) {
-        cleanUp();
         Track track = builder.build();
-        references.add(new OTIOFinalizer(track.getNativeManager(), otioNativeReferenceQueue));
         return track;
     }
 
@@ -583,21 +507,17 @@ public class OTIOFactory {
             RationalTime inOffset,
             RationalTime outOffset,
             AnyDictionary metadata) {
-        cleanUp();
         Transition transition = new Transition(
                 name,
                 transitionType,
                 inOffset,
                 outOffset,
                 metadata);
-        references.add(new OTIOFinalizer(transition.getNativeManager(), otioNativeReferenceQueue));
         return transition;
     }
 
     public Transition createTransition(Transition.TransitionBuilder builder) {
-        cleanUp();
         Transition transition = builder.build();
-        references.add(new OTIOFinalizer(transition.getNativeManager(), otioNativeReferenceQueue));
         return transition;
     }
 
@@ -606,27 +526,23 @@ public class OTIOFactory {
     // UnknownSchema //////////////////////////////////////////////
 
     public UnknownSchema createUnknownSchema(String originalSchemaName, int originalSchemaVersion) {
-        cleanUp();
         UnknownSchema unknownSchema = new UnknownSchema(originalSchemaName, originalSchemaVersion);
-        references.add(new OTIOFinalizer(unknownSchema.getNativeManager(), otioNativeReferenceQueue));
         return unknownSchema;
     }
 
     public UnknownSchema createUnknownSchema(UnknownSchema.UnknownSchemaBuilder builder) {
-        cleanUp();
         UnknownSchema unknownSchema = builder.build();
-        references.add(new OTIOFinalizer(unknownSchema.getNativeManager(), otioNativeReferenceQueue));
         return unknownSchema;
     }
 
     ///////////////////////////////////////////////////////////////
 
+    /**
+     * Frees the native memory of every object that has been garbage collected but not
+     * yet reclaimed, on the calling thread. The reclaimer thread does this continuously,
+     * calling this is only needed to reclaim deterministically, e.g. right after System.gc().
+     */
     public void cleanUp() {
-        OTIOFinalizer finalizer = (OTIOFinalizer) otioNativeReferenceQueue.poll();
-        if (finalizer != null) {
-            System.out.println("Here");
-            finalizer.cleanUp();
-            references.remove(finalizer);
-        }
+        reclaimer.drain();
     }
 }
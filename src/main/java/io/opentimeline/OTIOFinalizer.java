@@ -5,6 +5,8 @@ package io.opentimeline;
 
 import java.lang.ref.PhantomReference;
 import java.lang.ref.ReferenceQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A finalizer class for internal use of the library.
@@ -12,12 +14,22 @@ import java.lang.ref.ReferenceQueue;
  * the class name and native handle of the object whose reference it holds.
  * <p>
  * The OTIOFactory will call the cleanUp() method of this class to free native memory allocated
- * after the Java object is Garbage Collected.
+ * after the Java object is Garbage Collected. The native object is disposed at most once,
+ * whether the Java object was closed, collected, or both.
+ * <p>
+ * A wrapper reused through the OTIOWrapperCache is handed out to several callers, each of
+ * which may close it. The finalizer counts the hand-outs and close() only frees the native
+ * object once every hand-out has been closed.
  */
 public class OTIOFinalizer extends PhantomReference<OTIONative> {
 
     String nativeClassName;
     long nativeHandle;
+    private final AtomicBoolean disposed = new AtomicBoolean(false);
+    // hand-outs of the wrapper not closed yet, the first one is its creation
+    private final AtomicInteger handOuts = new AtomicInteger(1);
+    // set when the wrapper is handed out through the OTIOWrapperCache
+    volatile OTIOWrapperCache.Entry cacheEntry;
 
     public OTIOFinalizer(OTIONative referent, ReferenceQueue<OTIONative> q) {
         super(referent, q);
@@ -27,13 +39,59 @@ public class OTIOFinalizer extends PhantomReference<OTIONative> {
 
     private native void disposeNativeObject(long nativeHandle, String nativeClassName);
 
-    public void cleanUp() {
+    /**
+     * Records one more hand-out of the wrapper.
+     *
+     * @return false if every hand-out has already been closed, the wrapper must then
+     * not be handed out again
+     */
+    boolean acquire() {
+        while (true) {
+            int count = handOuts.get();
+            if (count == 0) return false;
+            if (handOuts.compareAndSet(count, count + 1)) return true;
+        }
+    }
+
+    /**
+     * Closes one hand-out of the wrapper.
+     *
+     * @return true if it was the last one, the native object can then be freed
+     */
+    boolean release() {
+        while (true) {
+            int count = handOuts.get();
+            if (count == 0) return false;
+            if (handOuts.compareAndSet(count, count - 1)) return count == 1;
+        }
+    }
+
+    /**
+     * @return true if this call freed the native object, false if it had already been
+     * freed or disposing it failed
+     */
+    boolean dispose() {
+        if (!markDisposed()) return false;
         try {
-            System.out.println("native cleanup for " + nativeClassName + " " + nativeHandle);
             disposeNativeObject(nativeHandle, nativeClassName);
         } catch (Exception e) {
-            System.out.println("Couldn't dispose native object.");
+            OTIODiagnostics.disposeFailed(this, e);
+            return false;
         }
+        return true;
+    }
+
+    /**
+     * Claims the native object for disposal by the caller.
+     *
+     * @return false if it has already been claimed
+     */
+    boolean markDisposed() {
+        return disposed.compareAndSet(false, true);
+    }
+
+    public void cleanUp() {
+        dispose();
         clear();
     }
 }
@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+/**
+ * Service provider interface for exporting native memory reclamation to a metrics system.
+ * <p>
+ * Implementations are discovered with java.util.ServiceLoader through
+ * META-INF/services/io.opentimeline.OTIOMetrics, or added with
+ * {@link OTIODiagnostics#addMetrics(OTIOMetrics)}. They are called on the thread that frees
+ * the native object, usually the reclaimer thread, and must be cheap and thread safe.
+ */
+public interface OTIOMetrics {
+
+    /**
+     * Called after the native memory of an object has been freed.
+     *
+     * @param nativeClassName Java class name of the freed object
+     * @param leaked          true if the object was garbage collected without being closed
+     */
+    void onReclaimed(String nativeClassName, boolean leaked);
+
+    /**
+     * Called when freeing the native memory of an object failed.
+     *
+     * @param nativeClassName Java class name of the object
+     * @param error           the error raised while disposing the native object,
+     *                        null when it was disposed together with others by an OTIOArena
+     */
+    default void onDisposeFailed(String nativeClassName, Throwable error) {
+    }
+}
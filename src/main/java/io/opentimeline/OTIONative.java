@@ -15,6 +15,16 @@ public class OTIONative implements AutoCloseable {
 
     public String className;
 
+    /**
+     * Set once the OTIOFactory tracks this object, frees the native memory exactly once.
+     */
+    OTIOFinalizer finalizer;
+
+    /**
+     * Address of the actual native object, 0 until it is first needed.
+     */
+    long objectHandle;
+
     public OTIONative(long nativeHandle) {
         this.nativeHandle = nativeHandle;
     }
@@ -23,12 +33,31 @@ public class OTIONative implements AutoCloseable {
      * This method returns the native handle of the actual native object.
      * It can be used to check if two different Java objects hold reference to the same native object.
      * This is used to generate hash codes for OTIO objects so that they can be added to HashMaps.
+     * The native object behind a wrapper never changes, so it is only looked up once.
      *
      * @return native handle of the actual native object
      */
-    public native long getOTIOObjectNativeHandle();
+    public long getOTIOObjectNativeHandle() {
+        long handle = objectHandle;
+        if (handle == 0) {
+            handle = getOTIOObjectNativeHandleNative();
+            objectHandle = handle;
+        }
+        return handle;
+    }
+
+    private native long getOTIOObjectNativeHandleNative();
 
     @Override
-    public native void close() throws Exception;
+    public void close() throws Exception {
+        OTIOFinalizer finalizer = this.finalizer;
+        if (finalizer != null) {
+            OTIOFactory.getInstance().close(finalizer);
+        } else {
+            dispose();
+        }
+    }
+
+    private native void dispose();
 
 }
@@ -17,6 +17,22 @@ public class OTIOObject implements AutoCloseable {
         LibraryLoader.load("jotio");
     }
 
+    /**
+     * Tags the native manager with the class name used to dispose it and has the
+     * OTIOFactory track it, so that the native memory is freed once this object is
+     * garbage collected. Called by constructors right after the native object is created.
+     */
+    protected void initNativeManager() {
+        this.nativeManager.className = this.getClass().getCanonicalName();
+        OTIOFactory.getInstance().registerObject(this);
+    }
+
+    /**
+     * Frees the native memory of this object. Objects returned by native code may be the
+     * same Java object handed out to other callers as well, see OTIOWrapperCache: then
+     * close() releases this caller's hand-out only, and the native memory is freed once
+     * every hand-out has been closed. Close an object once per time it was handed to you.
+     */
     @Override
     public void close() throws Exception {
         this.getNativeManager().close();
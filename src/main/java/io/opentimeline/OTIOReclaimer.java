@@ -0,0 +1,156 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import java.lang.ref.ReferenceQueue;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Frees the native memory of OTIO objects, either when they are closed or once they
+ * have been garbage collected.
+ * <p>
+ * Every tracked OTIONative gets an OTIOFinalizer. The finalizers are kept reachable in a
+ * concurrent set so that removing one is O(1), and a daemon thread blocks on the reference
+ * queue and disposes every finalizer as soon as the garbage collector enqueues it.
+ */
+final class OTIOReclaimer implements Runnable {
+
+    private final ReferenceQueue<OTIONative> referenceQueue = new ReferenceQueue<>();
+    private final Set<OTIOFinalizer> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong reclaimedCount = new AtomicLong();
+    private final AtomicLong leakedCount = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    OTIOReclaimer() {
+        thread = new Thread(this, "otio-reclaimer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the daemon thread and frees what the garbage collector already enqueued.
+     * Objects still tracked are then only freed when closed or by drain(). The
+     * reclaimer of the OTIOFactory lives as long as the JVM, this is for other
+     * reclaimers, e.g. the ones created by tests.
+     */
+    void shutdown() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join();
+        drain();
+    }
+
+    void track(OTIONative otioNative) {
+        synchronized (otioNative) {
+            // objects can reach the factory twice, e.g. a constructor followed by a factory method
+            if (otioNative.finalizer != null) return;
+            OTIOFinalizer finalizer = new OTIOFinalizer(otioNative, referenceQueue);
+            pending.add(finalizer);
+            otioNative.finalizer = finalizer;
+            OTIOArena arena = OTIOArena.current();
+            if (arena != null) arena.add(finalizer);
+        }
+    }
+
+    /**
+     * Frees the native objects of an arena right away, with one JNI call for all of them.
+     */
+    void closeAll(List<OTIOFinalizer> finalizers) {
+        OTIOFinalizer[] claimed = new OTIOFinalizer[finalizers.size()];
+        int count = 0;
+        for (OTIOFinalizer finalizer : finalizers) {
+            // hand-outs made outside the arena keep the object alive
+            if (!finalizer.release()) continue;
+            untrack(finalizer);
+            if (finalizer.markDisposed()) claimed[count++] = finalizer;
+        }
+        long[] nativeHandles = new long[count];
+        String[] nativeClassNames = new String[count];
+        for (int i = 0; i < count; i++) {
+            nativeHandles[i] = claimed[i].nativeHandle;
+            nativeClassNames[i] = claimed[i].nativeClassName;
+        }
+        int[] failed = OTIOArena.disposeAllNative(nativeHandles, nativeClassNames);
+        boolean[] isFailed = new boolean[count];
+        for (int index : failed) {
+            isFailed[index] = true;
+            OTIODiagnostics.disposeFailed(claimed[index], null);
+        }
+        reclaimedCount.addAndGet(count - failed.length);
+        for (int i = 0; i < count; i++) {
+            if (!isFailed[i]) OTIODiagnostics.reclaimed(claimed[i], false);
+        }
+    }
+
+    /**
+     * Frees the native object right away, used when the Java object is closed. A wrapper
+     * handed out several times is only freed once every hand-out has been closed.
+     */
+    void close(OTIOFinalizer finalizer) {
+        if (!finalizer.release()) return;
+        untrack(finalizer);
+        if (finalizer.dispose()) {
+            reclaimedCount.incrementAndGet();
+            OTIODiagnostics.reclaimed(finalizer, false);
+        }
+    }
+
+    /**
+     * Frees every native object whose Java object has already been garbage collected.
+     */
+    void drain() {
+        OTIOFinalizer finalizer;
+        while ((finalizer = (OTIOFinalizer) referenceQueue.poll()) != null) {
+            reclaim(finalizer);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                reclaim((OTIOFinalizer) referenceQueue.remove());
+            } catch (InterruptedException e) {
+                // only shutdown() stops the reclaimer, keep draining otherwise
+            }
+        }
+    }
+
+    private void reclaim(OTIOFinalizer finalizer) {
+        untrack(finalizer);
+        if (finalizer.dispose()) {
+            leakedCount.incrementAndGet();
+            reclaimedCount.incrementAndGet();
+            OTIODiagnostics.reclaimed(finalizer, true);
+        }
+    }
+
+    /**
+     * Forgets the finalizer before its native object is freed, so that neither the
+     * reclaimer thread nor the wrapper cache can hand it out again.
+     */
+    private void untrack(OTIOFinalizer finalizer) {
+        // a cleared reference is never enqueued
+        finalizer.clear();
+        pending.remove(finalizer);
+        OTIOWrapperCache.Entry cacheEntry = finalizer.cacheEntry;
+        if (cacheEntry != null) OTIOWrapperCache.evict(cacheEntry);
+    }
+
+    long getPendingCount() {
+        return pending.size();
+    }
+
+    long getReclaimedCount() {
+        return reclaimedCount.get();
+    }
+
+    long getLeakedCount() {
+        return leakedCount.get();
+    }
+}
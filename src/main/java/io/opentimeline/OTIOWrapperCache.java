@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps native SerializableObject pointers to the Java wrapper already handed out for them,
+ * so that traversing the same timeline twice returns the same wrappers instead of a new
+ * wrapper, OTIONative and Retainer per visit.
+ * <p>
+ * Every lookup that returns a wrapper counts as one more hand-out of it, and is owned
+ * by the current OTIOArena if there is one. Closing the wrapper closes one hand-out; the
+ * native object is freed when all of them are closed or the wrapper is collected, so a
+ * caller closing its wrapper never frees it under another caller still using it.
+ * <p>
+ * Wrappers are held weakly. An entry is evicted when its last hand-out is closed or it is
+ * reclaimed, before the native object can be freed and its address reused.
+ * Native code calls lookup() and register() from retainedObjectFromNative().
+ */
+final class OTIOWrapperCache {
+
+    static final class Entry extends WeakReference<OTIOObject> {
+        final long nativePointer;
+
+        Entry(long nativePointer, OTIOObject wrapper) {
+            super(wrapper);
+            this.nativePointer = nativePointer;
+        }
+    }
+
+    private static final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private OTIOWrapperCache() {
+    }
+
+    static OTIOObject lookup(long nativePointer) {
+        Entry entry = entries.get(nativePointer);
+        if (entry == null) return null;
+        OTIOObject wrapper = entry.get();
+        OTIOFinalizer finalizer = wrapper == null ? null : wrapper.getNativeManager().finalizer;
+        if (finalizer == null || !finalizer.acquire()) {
+            // collected, or closed by every caller it was handed to and about to be freed
+            entries.remove(nativePointer, entry);
+            return null;
+        }
+        OTIOArena arena = OTIOArena.current();
+        if (arena != null) arena.add(finalizer);
+        return wrapper;
+    }
+
+    static void register(OTIOObject wrapper, long nativePointer) {
+        OTIONative otioNative = wrapper.getNativeManager();
+        otioNative.objectHandle = nativePointer;
+        OTIOFactory.getInstance().registerObject(wrapper);
+        Entry entry = new Entry(nativePointer, wrapper);
+        otioNative.finalizer.cacheEntry = entry;
+        entries.put(nativePointer, entry);
+    }
+
+    static void evict(Entry entry) {
+        entries.remove(entry.nativePointer, entry);
+    }
+
+    static int size() {
+        return entries.size();
+    }
+}
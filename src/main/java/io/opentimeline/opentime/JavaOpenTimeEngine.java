@@ -0,0 +1,431 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentime;
+
+/**
+ * Pure Java port of the opentime library (rationalTime.h / timeRange.h).
+ * Every operation evaluates the same double expressions in the same order as the
+ * C++ code, so results match the native engine bit for bit.
+ * Keep it in sync with the native library when updating OTIO.
+ */
+final class JavaOpenTimeEngine implements OpenTimeEngine {
+
+    /**
+     * DEFAULT_EPSILON_s in timeRange.h
+     */
+    static final double DEFAULT_EPSILON = 1.0 / (2 * 192000.0);
+
+    // helpers mirroring the C++ operators on (value, rate) pairs /////////////
+
+    private static double valueRescaled(double value, double rate, double newRate) {
+        return newRate == rate ? value : (value * newRate) / rate;
+    }
+
+    private static double toSeconds(double value, double rate) {
+        return valueRescaled(value, rate, 1);
+    }
+
+    private static double addValue(double lhsValue, double lhsRate, double rhsValue, double rhsRate) {
+        return lhsRate < rhsRate
+                ? valueRescaled(lhsValue, lhsRate, rhsRate) + rhsValue
+                : valueRescaled(rhsValue, rhsRate, lhsRate) + lhsValue;
+    }
+
+    private static double addRate(double lhsRate, double rhsRate) {
+        return lhsRate < rhsRate ? rhsRate : lhsRate;
+    }
+
+    private static double subtractValue(double lhsValue, double lhsRate, double rhsValue, double rhsRate) {
+        return lhsRate < rhsRate
+                ? valueRescaled(lhsValue, lhsRate, rhsRate) - rhsValue
+                : lhsValue - valueRescaled(rhsValue, rhsRate, lhsRate);
+    }
+
+    private static double subtractRate(double lhsRate, double rhsRate) {
+        return lhsRate < rhsRate ? rhsRate : lhsRate;
+    }
+
+    private static boolean greaterThan(double lhsValue, double lhsRate, double rhsValue, double rhsRate) {
+        return (lhsValue / lhsRate) > (rhsValue / rhsRate);
+    }
+
+    private static boolean greaterOrEqual(double lhsValue, double lhsRate, double rhsValue, double rhsRate) {
+        return (lhsValue / lhsRate) >= (rhsValue / rhsRate);
+    }
+
+    // operator< is !(lhs >= rhs) in rationalTime.h, which matters for NaN
+    private static boolean lessThan(double lhsValue, double lhsRate, double rhsValue, double rhsRate) {
+        return !greaterOrEqual(lhsValue, lhsRate, rhsValue, rhsRate);
+    }
+
+    // operator<= is !(lhs > rhs)
+    private static boolean lessOrEqual(double lhsValue, double lhsRate, double rhsValue, double rhsRate) {
+        return !greaterThan(lhsValue, lhsRate, rhsValue, rhsRate);
+    }
+
+    private static boolean equal(double lhsValue, double lhsRate, double rhsValue, double rhsRate) {
+        return valueRescaled(lhsValue, lhsRate, rhsRate) == rhsValue;
+    }
+
+    // TimeRange::greater_than / lesser_than
+    private static boolean greaterThan(double lhs, double rhs, double epsilon) {
+        return lhs - rhs >= epsilon;
+    }
+
+    private static boolean lesserThan(double lhs, double rhs, double epsilon) {
+        return rhs - lhs >= epsilon;
+    }
+
+    private static double endTimeExclusiveValue(double startTimeValue, double startTimeRate,
+                                                double durationValue, double durationRate) {
+        // _duration + _start_time.rescaled_to(_duration)
+        return addValue(durationValue, durationRate,
+                valueRescaled(startTimeValue, startTimeRate, durationRate), durationRate);
+    }
+
+    private static double endTimeExclusiveRate(double durationRate) {
+        return addRate(durationRate, durationRate);
+    }
+
+    private static double endTimeExclusiveSeconds(double startTimeValue, double startTimeRate,
+                                                  double durationValue, double durationRate) {
+        return toSeconds(
+                endTimeExclusiveValue(startTimeValue, startTimeRate, durationValue, durationRate),
+                endTimeExclusiveRate(durationRate));
+    }
+
+    private static double durationValue(double startValue, double startRate, double endValue, double endRate) {
+        return startRate == endRate
+                ? endValue - startValue
+                : valueRescaled(endValue, endRate, startRate) - startValue;
+    }
+
+    // RationalTime ///////////////////////////////////////////////////////////
+
+    @Override
+    public boolean isInvalidTime(double value, double rate) {
+        return (Double.isNaN(rate) || Double.isNaN(value)) || (rate <= 0);
+    }
+
+    @Override
+    public RationalTime add(double value, double rate, double otherValue, double otherRate) {
+        return new RationalTime(
+                addValue(value, rate, otherValue, otherRate),
+                addRate(rate, otherRate));
+    }
+
+    @Override
+    public RationalTime subtract(double value, double rate, double otherValue, double otherRate) {
+        return new RationalTime(
+                subtractValue(value, rate, otherValue, otherRate),
+                subtractRate(rate, otherRate));
+    }
+
+    @Override
+    public RationalTime rescaledTo(double value, double rate, double newRate) {
+        return new RationalTime(valueRescaled(value, rate, newRate), newRate);
+    }
+
+    @Override
+    public double valueRescaledTo(double value, double rate, double newRate) {
+        return valueRescaled(value, rate, newRate);
+    }
+
+    @Override
+    public boolean almostEqual(double value, double rate, double otherValue, double otherRate, double delta) {
+        return Math.abs(valueRescaled(value, rate, otherRate) - otherValue) <= delta;
+    }
+
+    @Override
+    public RationalTime durationFromStartEndTime(double startValue, double startRate,
+                                                 double endValue, double endRate) {
+        return new RationalTime(durationValue(startValue, startRate, endValue, endRate), startRate);
+    }
+
+    @Override
+    public boolean timeEquals(double value, double rate, double otherValue, double otherRate) {
+        return equal(value, rate, otherValue, otherRate);
+    }
+
+    @Override
+    public int compareTo(double value, double rate, double otherValue, double otherRate) {
+        if (lessThan(value, rate, otherValue, otherRate)) {
+            return -1;
+        } else if (greaterThan(value, rate, otherValue, otherRate)) {
+            return 1;
+        } else if (equal(value, rate, otherValue, otherRate)) {
+            return 0;
+        }
+        return -99;
+    }
+
+    // TimeRange //////////////////////////////////////////////////////////////
+
+    @Override
+    public RationalTime endTimeInclusive(double startTimeValue, double startTimeRate,
+                                         double durationValue, double durationRate) {
+        double etValue = endTimeExclusiveValue(startTimeValue, startTimeRate, durationValue, durationRate);
+        double etRate = endTimeExclusiveRate(durationRate);
+        double startRescaled = valueRescaled(startTimeValue, startTimeRate, durationRate);
+        if (subtractValue(etValue, etRate, startRescaled, durationRate) > 1) {
+            return durationValue != Math.floor(durationValue)
+                    ? new RationalTime(Math.floor(etValue), etRate)
+                    : new RationalTime(
+                    subtractValue(etValue, etRate, 1, durationRate),
+                    subtractRate(etRate, durationRate));
+        }
+        return new RationalTime(startTimeValue, startTimeRate);
+    }
+
+    @Override
+    public RationalTime endTimeExclusive(double startTimeValue, double startTimeRate,
+                                         double durationValue, double durationRate) {
+        return new RationalTime(
+                endTimeExclusiveValue(startTimeValue, startTimeRate, durationValue, durationRate),
+                endTimeExclusiveRate(durationRate));
+    }
+
+    @Override
+    public TimeRange durationExtendedBy(double startTimeValue, double startTimeRate,
+                                        double durationValue, double durationRate,
+                                        double otherValue, double otherRate) {
+        return new TimeRange(
+                new RationalTime(startTimeValue, startTimeRate),
+                add(durationValue, durationRate, otherValue, otherRate));
+    }
+
+    @Override
+    public TimeRange extendedBy(double startTimeValue, double startTimeRate,
+                                double durationValue, double durationRate,
+                                double otherStartTimeValue, double otherStartTimeRate,
+                                double otherDurationValue, double otherDurationRate) {
+        // std::min(_start_time, other._start_time)
+        double newStartValue = startTimeValue;
+        double newStartRate = startTimeRate;
+        if (lessThan(otherStartTimeValue, otherStartTimeRate, startTimeValue, startTimeRate)) {
+            newStartValue = otherStartTimeValue;
+            newStartRate = otherStartTimeRate;
+        }
+        // std::max(end_time_exclusive(), other.end_time_exclusive())
+        double newEndValue = endTimeExclusiveValue(startTimeValue, startTimeRate, durationValue, durationRate);
+        double newEndRate = endTimeExclusiveRate(durationRate);
+        double otherEndValue = endTimeExclusiveValue(
+                otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate);
+        double otherEndRate = endTimeExclusiveRate(otherDurationRate);
+        if (lessThan(newEndValue, newEndRate, otherEndValue, otherEndRate)) {
+            newEndValue = otherEndValue;
+            newEndRate = otherEndRate;
+        }
+        return new TimeRange(
+                new RationalTime(newStartValue, newStartRate),
+                durationFromStartEndTime(newStartValue, newStartRate, newEndValue, newEndRate));
+    }
+
+    @Override
+    public RationalTime clampedTime(double startTimeValue, double startTimeRate,
+                                    double durationValue, double durationRate,
+                                    double otherValue, double otherRate) {
+        // std::min(std::max(other, _start_time), end_time_inclusive())
+        double value = otherValue;
+        double rate = otherRate;
+        if (lessThan(otherValue, otherRate, startTimeValue, startTimeRate)) {
+            value = startTimeValue;
+            rate = startTimeRate;
+        }
+        RationalTime endTimeInclusive = endTimeInclusive(startTimeValue, startTimeRate, durationValue, durationRate);
+        if (lessThan(endTimeInclusive.getValue(), endTimeInclusive.getRate(), value, rate)) {
+            return endTimeInclusive;
+        }
+        return new RationalTime(value, rate);
+    }
+
+    @Override
+    public TimeRange clampedRange(double startTimeValue, double startTimeRate,
+                                  double durationValue, double durationRate,
+                                  double otherStartTimeValue, double otherStartTimeRate,
+                                  double otherDurationValue, double otherDurationRate) {
+        // r = TimeRange(std::max(other._start_time, _start_time), other._duration)
+        double rStartValue = otherStartTimeValue;
+        double rStartRate = otherStartTimeRate;
+        if (lessThan(otherStartTimeValue, otherStartTimeRate, startTimeValue, startTimeRate)) {
+            rStartValue = startTimeValue;
+            rStartRate = startTimeRate;
+        }
+        // end = std::min(r.end_time_exclusive(), end_time_exclusive())
+        double endValue = endTimeExclusiveValue(rStartValue, rStartRate, otherDurationValue, otherDurationRate);
+        double endRate = endTimeExclusiveRate(otherDurationRate);
+        double thisEndValue = endTimeExclusiveValue(startTimeValue, startTimeRate, durationValue, durationRate);
+        double thisEndRate = endTimeExclusiveRate(durationRate);
+        if (lessThan(thisEndValue, thisEndRate, endValue, endRate)) {
+            endValue = thisEndValue;
+            endRate = thisEndRate;
+        }
+        return new TimeRange(
+                new RationalTime(rStartValue, rStartRate),
+                subtract(endValue, endRate, rStartValue, rStartRate));
+    }
+
+    @Override
+    public boolean containsTime(double startTimeValue, double startTimeRate,
+                                double durationValue, double durationRate,
+                                double otherValue, double otherRate) {
+        return lessOrEqual(startTimeValue, startTimeRate, otherValue, otherRate)
+                && lessThan(otherValue, otherRate,
+                endTimeExclusiveValue(startTimeValue, startTimeRate, durationValue, durationRate),
+                endTimeExclusiveRate(durationRate));
+    }
+
+    @Override
+    public boolean containsRange(double startTimeValue, double startTimeRate,
+                                 double durationValue, double durationRate,
+                                 double otherStartTimeValue, double otherStartTimeRate,
+                                 double otherDurationValue, double otherDurationRate,
+                                 double epsilon) {
+        double thisStart = toSeconds(startTimeValue, startTimeRate);
+        double thisEnd = endTimeExclusiveSeconds(startTimeValue, startTimeRate, durationValue, durationRate);
+        double otherStart = toSeconds(otherStartTimeValue, otherStartTimeRate);
+        double otherEnd = endTimeExclusiveSeconds(
+                otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate);
+        return greaterThan(otherStart, thisStart, epsilon) && lesserThan(otherEnd, thisEnd, epsilon);
+    }
+
+    @Override
+    public boolean overlapsTime(double startTimeValue, double startTimeRate,
+                                double durationValue, double durationRate,
+                                double otherValue, double otherRate) {
+        return containsTime(startTimeValue, startTimeRate, durationValue, durationRate, otherValue, otherRate);
+    }
+
+    @Override
+    public boolean overlapsRange(double startTimeValue, double startTimeRate,
+                                 double durationValue, double durationRate,
+                                 double otherStartTimeValue, double otherStartTimeRate,
+                                 double otherDurationValue, double otherDurationRate,
+                                 double epsilon) {
+        double thisStart = toSeconds(startTimeValue, startTimeRate);
+        double thisEnd = endTimeExclusiveSeconds(startTimeValue, startTimeRate, durationValue, durationRate);
+        double otherStart = toSeconds(otherStartTimeValue, otherStartTimeRate);
+        double otherEnd = endTimeExclusiveSeconds(
+                otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate);
+        return lesserThan(thisStart, otherStart, epsilon)
+                && greaterThan(thisEnd, otherStart, epsilon)
+                && greaterThan(otherEnd, thisEnd, epsilon);
+    }
+
+    @Override
+    public boolean beforeTime(double startTimeValue, double startTimeRate,
+                              double durationValue, double durationRate,
+                              double otherValue, double otherRate,
+                              double epsilon) {
+        double thisEnd = endTimeExclusiveSeconds(startTimeValue, startTimeRate, durationValue, durationRate);
+        double otherTime = toSeconds(otherValue, otherRate);
+        return lesserThan(thisEnd, otherTime, epsilon);
+    }
+
+    @Override
+    public boolean beforeRange(double startTimeValue, double startTimeRate,
+                               double durationValue, double durationRate,
+                               double otherStartTimeValue, double otherStartTimeRate,
+                               double otherDurationValue, double otherDurationRate,
+                               double epsilon) {
+        double thisEnd = endTimeExclusiveSeconds(startTimeValue, startTimeRate, durationValue, durationRate);
+        double otherStart = toSeconds(otherStartTimeValue, otherStartTimeRate);
+        return greaterThan(otherStart, thisEnd, epsilon);
+    }
+
+    @Override
+    public boolean meets(double startTimeValue, double startTimeRate,
+                         double durationValue, double durationRate,
+                         double otherStartTimeValue, double otherStartTimeRate,
+                         double otherDurationValue, double otherDurationRate,
+                         double epsilon) {
+        double thisEnd = endTimeExclusiveSeconds(startTimeValue, startTimeRate, durationValue, durationRate);
+        double otherStart = toSeconds(otherStartTimeValue, otherStartTimeRate);
+        return otherStart - thisEnd <= epsilon && otherStart - thisEnd >= 0;
+    }
+
+    @Override
+    public boolean beginsTime(double startTimeValue, double startTimeRate,
+                              double durationValue, double durationRate,
+                              double otherValue, double otherRate,
+                              double epsilon) {
+        double thisStart = toSeconds(startTimeValue, startTimeRate);
+        double otherStart = toSeconds(otherValue, otherRate);
+        return Math.abs(otherStart - thisStart) <= epsilon;
+    }
+
+    @Override
+    public boolean beginsRange(double startTimeValue, double startTimeRate,
+                               double durationValue, double durationRate,
+                               double otherStartTimeValue, double otherStartTimeRate,
+                               double otherDurationValue, double otherDurationRate,
+                               double epsilon) {
+        double thisStart = toSeconds(startTimeValue, startTimeRate);
+        double thisEnd = endTimeExclusiveSeconds(startTimeValue, startTimeRate, durationValue, durationRate);
+        double otherStart = toSeconds(otherStartTimeValue, otherStartTimeRate);
+        double otherEnd = endTimeExclusiveSeconds(
+                otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate);
+        return Math.abs(otherStart - thisStart) <= epsilon && lesserThan(thisEnd, otherEnd, epsilon);
+    }
+
+    @Override
+    public boolean finishesTime(double startTimeValue, double startTimeRate,
+                                double durationValue, double durationRate,
+                                double otherValue, double otherRate,
+                                double epsilon) {
+        double thisEnd = endTimeExclusiveSeconds(startTimeValue, startTimeRate, durationValue, durationRate);
+        double otherEnd = toSeconds(otherValue, otherRate);
+        return Math.abs(thisEnd - otherEnd) <= epsilon;
+    }
+
+    @Override
+    public boolean finishesRange(double startTimeValue, double startTimeRate,
+                                 double durationValue, double durationRate,
+                                 double otherStartTimeValue, double otherStartTimeRate,
+                                 double otherDurationValue, double otherDurationRate,
+                                 double epsilon) {
+        double thisStart = toSeconds(startTimeValue, startTimeRate);
+        double thisEnd = endTimeExclusiveSeconds(startTimeValue, startTimeRate, durationValue, durationRate);
+        double otherStart = toSeconds(otherStartTimeValue, otherStartTimeRate);
+        double otherEnd = endTimeExclusiveSeconds(
+                otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate);
+        return Math.abs(thisEnd - otherEnd) <= epsilon && greaterThan(thisStart, otherStart, epsilon);
+    }
+
+    @Override
+    public boolean intersects(double startTimeValue, double startTimeRate,
+                              double durationValue, double durationRate,
+                              double otherStartTimeValue, double otherStartTimeRate,
+                              double otherDurationValue, double otherDurationRate,
+                              double epsilon) {
+        double thisStart = toSeconds(startTimeValue, startTimeRate);
+        double thisEnd = endTimeExclusiveSeconds(startTimeValue, startTimeRate, durationValue, durationRate);
+        double otherStart = toSeconds(otherStartTimeValue, otherStartTimeRate);
+        double otherEnd = endTimeExclusiveSeconds(
+                otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate);
+        return lesserThan(thisStart, otherEnd, epsilon) && greaterThan(thisEnd, otherStart, epsilon);
+    }
+
+    @Override
+    public boolean rangeEquals(double startTimeValue, double startTimeRate,
+                               double durationValue, double durationRate,
+                               double otherStartTimeValue, double otherStartTimeRate,
+                               double otherDurationValue, double otherDurationRate) {
+        double startDiffSeconds = toSeconds(
+                subtractValue(startTimeValue, startTimeRate, otherStartTimeValue, otherStartTimeRate),
+                subtractRate(startTimeRate, otherStartTimeRate));
+        double durationDiffSeconds = toSeconds(
+                subtractValue(durationValue, durationRate, otherDurationValue, otherDurationRate),
+                subtractRate(durationRate, otherDurationRate));
+        return Math.abs(startDiffSeconds) < DEFAULT_EPSILON && Math.abs(durationDiffSeconds) < DEFAULT_EPSILON;
+    }
+
+    @Override
+    public TimeRange rangeFromStartEndTime(double startValue, double startRate,
+                                           double endValue, double endRate) {
+        return new TimeRange(
+                new RationalTime(startValue, startRate),
+                durationFromStartEndTime(startValue, startRate, endValue, endRate));
+    }
+}
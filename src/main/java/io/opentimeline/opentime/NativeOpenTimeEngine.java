@@ -0,0 +1,286 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentime;
+
+import io.opentimeline.LibraryLoader;
+
+/**
+ * OpenTimeEngine backed by the native opentime library.
+ * Kept as the reference implementation the Java engine is verified against.
+ */
+final class NativeOpenTimeEngine implements OpenTimeEngine {
+
+    static {
+        LibraryLoader.load("jotio");
+    }
+
+    @Override
+    public boolean isInvalidTime(double value, double rate) {
+        return isInvalidTimeNative(value, rate);
+    }
+
+    private static native boolean isInvalidTimeNative(double value, double rate);
+
+    @Override
+    public RationalTime add(double value, double rate, double otherValue, double otherRate) {
+        return addNative(value, rate, otherValue, otherRate);
+    }
+
+    private static native RationalTime addNative(double value, double rate, double otherValue,
+            double otherRate);
+
+    @Override
+    public RationalTime subtract(double value, double rate, double otherValue, double otherRate) {
+        return subtractNative(value, rate, otherValue, otherRate);
+    }
+
+    private static native RationalTime subtractNative(double value, double rate, double otherValue,
+            double otherRate);
+
+    @Override
+    public RationalTime rescaledTo(double value, double rate, double newRate) {
+        return rescaledToNative(value, rate, newRate);
+    }
+
+    private static native RationalTime rescaledToNative(double value, double rate, double newRate);
+
+    @Override
+    public double valueRescaledTo(double value, double rate, double newRate) {
+        return valueRescaledToNative(value, rate, newRate);
+    }
+
+    private static native double valueRescaledToNative(double value, double rate, double newRate);
+
+    @Override
+    public boolean almostEqual(double value, double rate, double otherValue, double otherRate, double delta) {
+        return almostEqualNative(value, rate, otherValue, otherRate, delta);
+    }
+
+    private static native boolean almostEqualNative(double value, double rate, double otherValue,
+            double otherRate, double delta);
+
+    @Override
+    public RationalTime durationFromStartEndTime(double startValue, double startRate, double endValue,
+            double endRate) {
+        return durationFromStartEndTimeNative(startValue, startRate, endValue, endRate);
+    }
+
+    private static native RationalTime durationFromStartEndTimeNative(double startValue, double startRate,
+            double endValue, double endRate);
+
+    @Override
+    public boolean timeEquals(double value, double rate, double otherValue, double otherRate) {
+        return timeEqualsNative(value, rate, otherValue, otherRate);
+    }
+
+    private static native boolean timeEqualsNative(double value, double rate, double otherValue,
+            double otherRate);
+
+    @Override
+    public int compareTo(double value, double rate, double otherValue, double otherRate) {
+        return compareToNative(value, rate, otherValue, otherRate);
+    }
+
+    private static native int compareToNative(double value, double rate, double otherValue, double otherRate);
+
+    @Override
+    public RationalTime endTimeInclusive(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate) {
+        return endTimeInclusiveNative(startTimeValue, startTimeRate, durationValue, durationRate);
+    }
+
+    private static native RationalTime endTimeInclusiveNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate);
+
+    @Override
+    public RationalTime endTimeExclusive(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate) {
+        return endTimeExclusiveNative(startTimeValue, startTimeRate, durationValue, durationRate);
+    }
+
+    private static native RationalTime endTimeExclusiveNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate);
+
+    @Override
+    public TimeRange durationExtendedBy(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherValue, double otherRate) {
+        return durationExtendedByNative(startTimeValue, startTimeRate, durationValue, durationRate, otherValue, otherRate);
+    }
+
+    private static native TimeRange durationExtendedByNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherValue, double otherRate);
+
+    @Override
+    public TimeRange extendedBy(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate) {
+        return extendedByNative(startTimeValue, startTimeRate, durationValue, durationRate, otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate);
+    }
+
+    private static native TimeRange extendedByNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate);
+
+    @Override
+    public RationalTime clampedTime(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherValue, double otherRate) {
+        return clampedTimeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherValue, otherRate);
+    }
+
+    private static native RationalTime clampedTimeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherValue, double otherRate);
+
+    @Override
+    public TimeRange clampedRange(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate) {
+        return clampedRangeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate);
+    }
+
+    private static native TimeRange clampedRangeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate);
+
+    @Override
+    public boolean containsTime(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherValue, double otherRate) {
+        return containsTimeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherValue, otherRate);
+    }
+
+    private static native boolean containsTimeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherValue, double otherRate);
+
+    @Override
+    public boolean containsRange(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon) {
+        return containsRangeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate, epsilon);
+    }
+
+    private static native boolean containsRangeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon);
+
+    @Override
+    public boolean overlapsTime(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherValue, double otherRate) {
+        return overlapsTimeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherValue, otherRate);
+    }
+
+    private static native boolean overlapsTimeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherValue, double otherRate);
+
+    @Override
+    public boolean overlapsRange(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon) {
+        return overlapsRangeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate, epsilon);
+    }
+
+    private static native boolean overlapsRangeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon);
+
+    @Override
+    public boolean beforeTime(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherValue, double otherRate, double epsilon) {
+        return beforeTimeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherValue, otherRate, epsilon);
+    }
+
+    private static native boolean beforeTimeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherValue, double otherRate, double epsilon);
+
+    @Override
+    public boolean beforeRange(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon) {
+        return beforeRangeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate, epsilon);
+    }
+
+    private static native boolean beforeRangeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon);
+
+    @Override
+    public boolean meets(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon) {
+        return meetsNative(startTimeValue, startTimeRate, durationValue, durationRate, otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate, epsilon);
+    }
+
+    private static native boolean meetsNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon);
+
+    @Override
+    public boolean beginsTime(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherValue, double otherRate, double epsilon) {
+        return beginsTimeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherValue, otherRate, epsilon);
+    }
+
+    private static native boolean beginsTimeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherValue, double otherRate, double epsilon);
+
+    @Override
+    public boolean beginsRange(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon) {
+        return beginsRangeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate, epsilon);
+    }
+
+    private static native boolean beginsRangeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon);
+
+    @Override
+    public boolean finishesTime(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherValue, double otherRate, double epsilon) {
+        return finishesTimeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherValue, otherRate, epsilon);
+    }
+
+    private static native boolean finishesTimeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherValue, double otherRate, double epsilon);
+
+    @Override
+    public boolean finishesRange(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon) {
+        return finishesRangeNative(startTimeValue, startTimeRate, durationValue, durationRate, otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate, epsilon);
+    }
+
+    private static native boolean finishesRangeNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon);
+
+    @Override
+    public boolean intersects(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon) {
+        return intersectsNative(startTimeValue, startTimeRate, durationValue, durationRate, otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate, epsilon);
+    }
+
+    private static native boolean intersectsNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate, double epsilon);
+
+    @Override
+    public boolean rangeEquals(double startTimeValue, double startTimeRate, double durationValue,
+            double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate) {
+        return rangeEqualsNative(startTimeValue, startTimeRate, durationValue, durationRate, otherStartTimeValue, otherStartTimeRate, otherDurationValue, otherDurationRate);
+    }
+
+    private static native boolean rangeEqualsNative(double startTimeValue, double startTimeRate,
+            double durationValue, double durationRate, double otherStartTimeValue, double otherStartTimeRate,
+            double otherDurationValue, double otherDurationRate);
+
+    @Override
+    public TimeRange rangeFromStartEndTime(double startValue, double startRate, double endValue,
+            double endRate) {
+        return rangeFromStartEndTimeNative(startValue, startRate, endValue, endRate);
+    }
+
+    private static native TimeRange rangeFromStartEndTimeNative(double startValue, double startRate,
+            double endValue, double endRate);
+}
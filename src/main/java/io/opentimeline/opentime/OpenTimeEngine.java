@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentime;
+
+/**
+ * The arithmetic behind RationalTime and TimeRange, expressed over plain doubles.
+ * A RationalTime is passed as (value, rate) and a TimeRange as
+ * (startTime value, startTime rate, duration value, duration rate).
+ * <p>
+ * Two implementations exist: a pure Java one that mirrors the C++ opentime library
+ * operation by operation, and one that calls into the native opentime library.
+ * They produce identical results; the Java engine avoids a JNI transition per call.
+ * The engine used by RationalTime and TimeRange is chosen once, see {@link OpenTimeEngines}.
+ */
+public interface OpenTimeEngine {
+
+    // RationalTime ///////////////////////////////////////////////////////////
+
+    boolean isInvalidTime(double value, double rate);
+
+    RationalTime add(double value, double rate, double otherValue, double otherRate);
+
+    RationalTime subtract(double value, double rate, double otherValue, double otherRate);
+
+    RationalTime rescaledTo(double value, double rate, double newRate);
+
+    double valueRescaledTo(double value, double rate, double newRate);
+
+    boolean almostEqual(double value, double rate, double otherValue, double otherRate, double delta);
+
+    RationalTime durationFromStartEndTime(double startValue, double startRate,
+                                          double endValue, double endRate);
+
+    boolean timeEquals(double value, double rate, double otherValue, double otherRate);
+
+    /**
+     * @return -1 if lhs &lt; rhs, 1 if lhs &gt; rhs, 0 if they are equal
+     * and -99 if none of these hold (NaN values)
+     */
+    int compareTo(double value, double rate, double otherValue, double otherRate);
+
+    // TimeRange //////////////////////////////////////////////////////////////
+
+    RationalTime endTimeInclusive(double startTimeValue, double startTimeRate,
+                                  double durationValue, double durationRate);
+
+    RationalTime endTimeExclusive(double startTimeValue, double startTimeRate,
+                                  double durationValue, double durationRate);
+
+    TimeRange durationExtendedBy(double startTimeValue, double startTimeRate,
+                                 double durationValue, double durationRate,
+                                 double otherValue, double otherRate);
+
+    TimeRange extendedBy(double startTimeValue, double startTimeRate,
+                         double durationValue, double durationRate,
+                         double otherStartTimeValue, double otherStartTimeRate,
+                         double otherDurationValue, double otherDurationRate);
+
+    RationalTime clampedTime(double startTimeValue, double startTimeRate,
+                             double durationValue, double durationRate,
+                             double otherValue, double otherRate);
+
+    TimeRange clampedRange(double startTimeValue, double startTimeRate,
+                           double durationValue, double durationRate,
+                           double otherStartTimeValue, double otherStartTimeRate,
+                           double otherDurationValue, double otherDurationRate);
+
+    boolean containsTime(double startTimeValue, double startTimeRate,
+                         double durationValue, double durationRate,
+                         double otherValue, double otherRate);
+
+    boolean containsRange(double startTimeValue, double startTimeRate,
+                          double durationValue, double durationRate,
+                          double otherStartTimeValue, double otherStartTimeRate,
+                          double otherDurationValue, double otherDurationRate,
+                          double epsilon);
+
+    boolean overlapsTime(double startTimeValue, double startTimeRate,
+                         double durationValue, double durationRate,
+                         double otherValue, double otherRate);
+
+    boolean overlapsRange(double startTimeValue, double startTimeRate,
+                          double durationValue, double durationRate,
+                          double otherStartTimeValue, double otherStartTimeRate,
+                          double otherDurationValue, double otherDurationRate,
+                          double epsilon);
+
+    boolean beforeTime(double startTimeValue, double startTimeRate,
+                       double durationValue, double durationRate,
+                       double otherValue, double otherRate,
+                       double epsilon);
+
+    boolean beforeRange(double startTimeValue, double startTimeRate,
+                        double durationValue, double durationRate,
+                        double otherStartTimeValue, double otherStartTimeRate,
+                        double otherDurationValue, double otherDurationRate,
+                        double epsilon);
+
+    boolean meets(double startTimeValue, double startTimeRate,
+                  double durationValue, double durationRate,
+                  double otherStartTimeValue, double otherStartTimeRate,
+                  double otherDurationValue, double otherDurationRate,
+                  double epsilon);
+
+    boolean beginsTime(double startTimeValue, double startTimeRate,
+                       double durationValue, double durationRate,
+                       double otherValue, double otherRate,
+                       double epsilon);
+
+    boolean beginsRange(double startTimeValue, double startTimeRate,
+                        double durationValue, double durationRate,
+                        double otherStartTimeValue, double otherStartTimeRate,
+                        double otherDurationValue, double otherDurationRate,
+                        double epsilon);
+
+    boolean finishesTime(double startTimeValue, double startTimeRate,
+                         double durationValue, double durationRate,
+                         double otherValue, double otherRate,
+                         double epsilon);
+
+    boolean finishesRange(double startTimeValue, double startTimeRate,
+                          double durationValue, double durationRate,
+                          double otherStartTimeValue, double otherStartTimeRate,
+                          double otherDurationValue, double otherDurationRate,
+                          double epsilon);
+
+    boolean intersects(double startTimeValue, double startTimeRate,
+                       double durationValue, double durationRate,
+                       double otherStartTimeValue, double otherStartTimeRate,
+                       double otherDurationValue, double otherDurationRate,
+                       double epsilon);
+
+    boolean rangeEquals(double startTimeValue, double startTimeRate,
+                        double durationValue, double durationRate,
+                        double otherStartTimeValue, double otherStartTimeRate,
+                        double otherDurationValue, double otherDurationRate);
+
+    TimeRange rangeFromStartEndTime(double startValue, double startRate,
+                                    double endValue, double endRate);
+}
@@ -0,0 +1,40 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentime;
+
+/**
+ * Holds the available OpenTimeEngines and the one selected for this JVM.
+ * <p>
+ * The pure Java engine is used by default. Start the JVM with
+ * <code>-Dio.opentimeline.opentime.engine=native</code> to route all opentime
+ * arithmetic through the native opentime library instead.
+ */
+public final class OpenTimeEngines {
+
+    public static final String ENGINE_PROPERTY = "io.opentimeline.opentime.engine";
+
+    public static final OpenTimeEngine JAVA = new JavaOpenTimeEngine();
+
+    public static final OpenTimeEngine NATIVE = new NativeOpenTimeEngine();
+
+    /**
+     * The engine used by RationalTime and TimeRange. Read once so that the JIT can inline through it.
+     */
+    public static final OpenTimeEngine CURRENT = selectEngine(System.getProperty(ENGINE_PROPERTY, "java"));
+
+    private OpenTimeEngines() {
+    }
+
+    static OpenTimeEngine selectEngine(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "java":
+                return JAVA;
+            case "native":
+                return NATIVE;
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown opentime engine \"" + name + "\" for " + ENGINE_PROPERTY + ", expected java or native");
+        }
+    }
+}
@@ -16,6 +16,8 @@ public class RationalTime implements Comparable<RationalTime> {
         LibraryLoader.load("jotio");
     }
 
+    private static final OpenTimeEngine ENGINE = OpenTimeEngines.CURRENT;
+
     private final double value;
     private final double rate;
 
@@ -81,11 +83,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @return is value and rate pair a valid RationalTime?
      */
     public boolean isInvalidTime() {
-        return isInvalidTimeNative(value, rate);
+        return ENGINE.isInvalidTime(value, rate);
     }
 
-    private static native boolean isInvalidTimeNative(double value, double rate);
-
     /**
      * Returns a RationalTime object that is the sum of this and other.
      * If this and other have differing time rates, the result will have the
@@ -94,7 +94,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param other other RationalTime to add
      * @return sum of the two RationalTimes
      */
-    public native RationalTime add(RationalTime other);
+    public RationalTime add(RationalTime other) {
+        return ENGINE.add(value, rate, other.value, other.rate);
+    }
 
     /**
      * Returns a RationalTime object that is this - other.
@@ -104,7 +106,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param other other RationalTime to add
      * @return difference of the two RationalTimes
      */
-    public native RationalTime subtract(RationalTime other);
+    public RationalTime subtract(RationalTime other) {
+        return ENGINE.subtract(value, rate, other.value, other.rate);
+    }
 
     /**
      * Returns the time for this time converted to newRate
@@ -112,7 +116,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param newRate new rate
      * @return time for this time converted to newRate
      */
-    public native RationalTime rescaledTo(double newRate);
+    public RationalTime rescaledTo(double newRate) {
+        return ENGINE.rescaledTo(value, rate, newRate);
+    }
 
     /**
      * Returns the time for this time converted to new rate of a RationalTime
@@ -120,7 +126,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param rationalTime RationalTime for new rate
      * @return time for this time converted to new rate of a RationalTime
      */
-    public native RationalTime rescaledTo(RationalTime rationalTime);
+    public RationalTime rescaledTo(RationalTime rationalTime) {
+        return ENGINE.rescaledTo(value, rate, rationalTime.rate);
+    }
 
     /**
      * Returns the time value for this converted to newRate
@@ -128,7 +136,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param newRate new Rate
      * @return time value for this converted to newRate
      */
-    public native double valueRescaledTo(double newRate);
+    public double valueRescaledTo(double newRate) {
+        return ENGINE.valueRescaledTo(value, rate, newRate);
+    }
 
     /**
      * Returns the time value for this converted to new rate of a RationalTime
@@ -136,7 +146,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param rationalTime RationalTime for new rate
      * @return time value for this converted to new rate of a RationalTime
      */
-    public native double valueRescaledTo(RationalTime rationalTime);
+    public double valueRescaledTo(RationalTime rationalTime) {
+        return ENGINE.valueRescaledTo(value, rate, rationalTime.rate);
+    }
 
     /**
      * Checks if the two RationalTimes equal with a default tolerance of 0.
@@ -144,7 +156,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param other other RationalTime
      * @return are the two RationalTimes equal with a default tolerance of 0?
      */
-    public native boolean almostEqual(RationalTime other);
+    public boolean almostEqual(RationalTime other) {
+        return ENGINE.almostEqual(value, rate, other.value, other.rate, 0);
+    }
 
     /**
      * Checks if the two RationalTimes equal with a tolerance of delta.
@@ -153,7 +167,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param delta tolerance for equality comparison
      * @return are the two RationalTimes equal with a tolerance of delta?
      */
-    public native boolean almostEqual(RationalTime other, double delta);
+    public boolean almostEqual(RationalTime other, double delta) {
+        return ENGINE.almostEqual(value, rate, other.value, other.rate, delta);
+    }
 
     /**
      * Compute duration of samples from first to last.
@@ -165,7 +181,10 @@ public class RationalTime implements Comparable<RationalTime> {
      * @param endTimeExclusive end time of duration
      * @return duration
      */
-    public static native RationalTime durationFromStartEndTime(RationalTime startTime, RationalTime endTimeExclusive);
+    public static RationalTime durationFromStartEndTime(RationalTime startTime, RationalTime endTimeExclusive) {
+        return ENGINE.durationFromStartEndTime(
+                startTime.value, startTime.rate, endTimeExclusive.value, endTimeExclusive.rate);
+    }
 
     /**
      * Check if the timecode rate is valid.
@@ -271,7 +290,9 @@ public class RationalTime implements Comparable<RationalTime> {
      */
     public native String toTimeString();
 
-    public native boolean equals(RationalTime rationalTime);
+    public boolean equals(RationalTime rationalTime) {
+        return ENGINE.timeEquals(value, rate, rationalTime.value, rationalTime.rate);
+    }
 
     public static native double nearestValidTimecodeRate(double rate);
 
@@ -289,7 +310,9 @@ public class RationalTime implements Comparable<RationalTime> {
      * @return <b>0</b> if equal, <b>&lt;0</b> if lhs&lt;rhs, <b>&gt;0</b> if lhs&gt;rhs
      */
     @Override
-    public native int compareTo(RationalTime rationalTime);
+    public int compareTo(RationalTime rationalTime) {
+        return ENGINE.compareTo(value, rate, rationalTime.value, rationalTime.rate);
+    }
 
     @Override
     public String toString() {
@@ -8,7 +8,7 @@ import io.opentimeline.OTIOObject;
 
 /**
  * Contains a range of time, starting (and including) startTime and
- * lasting duration.value * (1/duration.rate) seconds.
+ * lasting duration.getValue() * (1/duration.getRate()) seconds.
  * <p>
  * It is possible to construct TimeRange object with a negative duration.
  * However, the logical predicates are written as if duration is positive,
@@ -28,6 +28,13 @@ public class TimeRange {
         LibraryLoader.load("jotio");
     }
 
+    private static final OpenTimeEngine ENGINE = OpenTimeEngines.CURRENT;
+
+    /**
+     * Default tolerance used by the predicates that take an epsilon, 1/(2 * 192000) seconds.
+     */
+    private static final double DEFAULT_EPSILON = JavaOpenTimeEngine.DEFAULT_EPSILON;
+
     private final RationalTime startTime;
     private final RationalTime duration;
 
@@ -67,6 +74,14 @@ public class TimeRange {
         this.duration = timeRange.getDuration();
     }
 
+    /**
+     * Used by the native code to return a TimeRange in a single call.
+     */
+    private TimeRange(double startTimeValue, double startTimeRate, double durationValue, double durationRate) {
+        this.startTime = new RationalTime(startTimeValue, startTimeRate);
+        this.duration = new RationalTime(durationValue, durationRate);
+    }
+
     public static class TimeRangeBuilder {
         private RationalTime startTime = null;
         private RationalTime duration = null;
@@ -115,7 +130,11 @@ public class TimeRange {
      *
      * @return time of the last sample that contains data in the TimeRange
      */
-    public native RationalTime endTimeInclusive();
+    public RationalTime endTimeInclusive() {
+        return ENGINE.endTimeInclusive(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate());
+    }
 
     /**
      * Time of the first sample outside the time range.
@@ -126,9 +145,18 @@ public class TimeRange {
      *
      * @return time of the first sample outside the time range
      */
-    public native RationalTime endTimeExclusive();
+    public RationalTime endTimeExclusive() {
+        return ENGINE.endTimeExclusive(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate());
+    }
 
-    public native TimeRange durationExtendedBy(RationalTime other);
+    public TimeRange durationExtendedBy(RationalTime other) {
+        return ENGINE.durationExtendedBy(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.getValue(), other.getRate());
+    }
 
     /**
      * Construct a new TimeRange that is this one extended by another
@@ -136,7 +164,13 @@ public class TimeRange {
      * @param other timeRange by which the duration is extended
      * @return extended TimeRange
      */
-    public native TimeRange extendedBy(TimeRange other);
+    public TimeRange extendedBy(TimeRange other) {
+        return ENGINE.extendedBy(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.startTime.getValue(), other.startTime.getRate(),
+                other.duration.getValue(), other.duration.getRate());
+    }
 
     /**
      * Clamp 'other', according to this.startTime/endTimeExclusive
@@ -144,7 +178,12 @@ public class TimeRange {
      * @param other RationalTime to clamp to
      * @return clamped TimeRange
      */
-    public native RationalTime clamped(RationalTime other);
+    public RationalTime clamped(RationalTime other) {
+        return ENGINE.clampedTime(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.getValue(), other.getRate());
+    }
 
     /**
      * Clamp 'other', according to this.startTime/endTimeExclusive
@@ -152,7 +191,13 @@ public class TimeRange {
      * @param other TimeRange to clamp to
      * @return clamped TimeRange
      */
-    public native TimeRange clamped(TimeRange other);
+    public TimeRange clamped(TimeRange other) {
+        return ENGINE.clampedRange(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.startTime.getValue(), other.startTime.getRate(),
+                other.duration.getValue(), other.duration.getRate());
+    }
 
     /*
      * These relations implement James F. Allen's thirteen basic time interval relations.
@@ -177,7 +222,12 @@ public class TimeRange {
      * @param other RationalTime to check for
      * @return does this contain other
      */
-    public native boolean contains(RationalTime other);
+    public boolean contains(RationalTime other) {
+        return ENGINE.containsTime(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.getValue(), other.getRate());
+    }
 
     /**
      * The start of <b>this</b> precedes start of <b>other</b>.
@@ -189,7 +239,14 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return does this contain other
      */
-    public native boolean contains(TimeRange other);
+    public boolean contains(TimeRange other) {
+        return ENGINE.containsRange(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.startTime.getValue(), other.startTime.getRate(),
+                other.duration.getValue(), other.duration.getRate(),
+                DEFAULT_EPSILON);
+    }
 
     /**
      * <b>this</b> contains <b>other</b>.
@@ -201,7 +258,12 @@ public class TimeRange {
      * @param other RationalTime to check for
      * @return does this overlap other
      */
-    public native boolean overlaps(RationalTime other);
+    public boolean overlaps(RationalTime other) {
+        return ENGINE.overlapsTime(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.getValue(), other.getRate());
+    }
 
     /**
      * The start of <b>this</b> strictly precedes end of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -214,7 +276,14 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return does this overlap other
      */
-    public native boolean overlaps(TimeRange other, double epsilon);
+    public boolean overlaps(TimeRange other, double epsilon) {
+        return ENGINE.overlapsRange(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.startTime.getValue(), other.startTime.getRate(),
+                other.duration.getValue(), other.duration.getRate(),
+                epsilon);
+    }
 
     /**
      * The start of <b>this</b> strictly precedes end of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -227,7 +296,9 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return does this overlap other
      */
-    public native boolean overlaps(TimeRange other);
+    public boolean overlaps(TimeRange other) {
+        return overlaps(other, DEFAULT_EPSILON);
+    }
 
     /**
      * The end of <b>this</b> strictly precedes the start of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -238,7 +309,14 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return is this before other
      */
-    public native boolean before(TimeRange other, double epsilon);
+    public boolean before(TimeRange other, double epsilon) {
+        return ENGINE.beforeRange(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.startTime.getValue(), other.startTime.getRate(),
+                other.duration.getValue(), other.duration.getRate(),
+                epsilon);
+    }
 
     /**
      * The end of <b>this</b> strictly precedes the start of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -249,7 +327,9 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return is this before other
      */
-    public native boolean before(TimeRange other);
+    public boolean before(TimeRange other) {
+        return before(other, DEFAULT_EPSILON);
+    }
 
     /**
      * The end of <b>this</b> strictly precedes <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -261,7 +341,13 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return is this before other
      */
-    public native boolean before(RationalTime other, double epsilon);
+    public boolean before(RationalTime other, double epsilon) {
+        return ENGINE.beforeTime(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.getValue(), other.getRate(),
+                epsilon);
+    }
 
     /**
      * The end of <b>this</b> strictly precedes <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -273,7 +359,9 @@ public class TimeRange {
      * @param other RationalTime to check for
      * @return is this before other
      */
-    public native boolean before(RationalTime other);
+    public boolean before(RationalTime other) {
+        return before(other, DEFAULT_EPSILON);
+    }
 
     /**
      * The end of <b>this</b> strictly equals the start of <b>other</b> and
@@ -285,7 +373,14 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return does this meet other
      */
-    public native boolean meets(TimeRange other, double epsilon);
+    public boolean meets(TimeRange other, double epsilon) {
+        return ENGINE.meets(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.startTime.getValue(), other.startTime.getRate(),
+                other.duration.getValue(), other.duration.getRate(),
+                epsilon);
+    }
 
     /**
      * The end of <b>this</b> strictly equals the start of <b>other</b> and
@@ -297,7 +392,9 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return does this meet other
      */
-    public native boolean meets(TimeRange other);
+    public boolean meets(TimeRange other) {
+        return meets(other, DEFAULT_EPSILON);
+    }
 
     /**
      * The start of <b>this</b> strictly equals the start of <b>other</b>.
@@ -310,7 +407,14 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return do the beginnings of both match
      */
-    public native boolean begins(TimeRange other, double epsilon);
+    public boolean begins(TimeRange other, double epsilon) {
+        return ENGINE.beginsRange(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.startTime.getValue(), other.startTime.getRate(),
+                other.duration.getValue(), other.duration.getRate(),
+                epsilon);
+    }
 
     /**
      * The start of <b>this</b> strictly equals the start of <b>other</b>.
@@ -323,7 +427,9 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return do the beginnings of both match
      */
-    public native boolean begins(TimeRange other);
+    public boolean begins(TimeRange other) {
+        return begins(other, DEFAULT_EPSILON);
+    }
 
     /**
      * The start of <b>this</b> strictly equals <b>other</b>.
@@ -336,7 +442,13 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return does the RationalTime match the beginning of this
      */
-    public native boolean begins(RationalTime other, double epsilon);
+    public boolean begins(RationalTime other, double epsilon) {
+        return ENGINE.beginsTime(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.getValue(), other.getRate(),
+                epsilon);
+    }
 
     /**
      * The start of <b>this</b> strictly equals <b>other</b>.
@@ -349,7 +461,9 @@ public class TimeRange {
      * @param other RationalTime to check for
      * @return does the RationalTime match the beginning of this
      */
-    public native boolean begins(RationalTime other);
+    public boolean begins(RationalTime other) {
+        return begins(other, DEFAULT_EPSILON);
+    }
 
     /**
      * The start of <b>this</b> strictly antecedes the start of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -362,7 +476,14 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return do the ends of both match
      */
-    public native boolean finishes(TimeRange other, double epsilon);
+    public boolean finishes(TimeRange other, double epsilon) {
+        return ENGINE.finishesRange(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.startTime.getValue(), other.startTime.getRate(),
+                other.duration.getValue(), other.duration.getRate(),
+                epsilon);
+    }
 
     /**
      * The start of <b>this</b> strictly antecedes the start of <b>other</b> by a value &gt;= <b>epsilon</b>.
@@ -375,7 +496,9 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return do the ends of both match
      */
-    public native boolean finishes(TimeRange other);
+    public boolean finishes(TimeRange other) {
+        return finishes(other, DEFAULT_EPSILON);
+    }
 
     /**
      * The end of <b>this</b> strictly equals <b>other</b>.
@@ -388,7 +511,13 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return does the RationalTime match the end of this
      */
-    public native boolean finishes(RationalTime other, double epsilon);
+    public boolean finishes(RationalTime other, double epsilon) {
+        return ENGINE.finishesTime(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.getValue(), other.getRate(),
+                epsilon);
+    }
 
     /**
      * The end of <b>this</b> strictly equals <b>other</b>.
@@ -400,7 +529,9 @@ public class TimeRange {
      * @param other RationalTime to check for
      * @return does the RationalTime match the end of this
      */
-    public native boolean finishes(RationalTime other);
+    public boolean finishes(RationalTime other) {
+        return finishes(other, DEFAULT_EPSILON);
+    }
 
     /**
      * The start of <b>this</b> precedes or equals the end of <b>other</b> by a value &gt;= <b>epsilon_s</b>.
@@ -413,7 +544,14 @@ public class TimeRange {
      * @param epsilon comparison tolerance
      * @return does the other TimeRange intersect this
      */
-    public native boolean intersects(TimeRange other, double epsilon);
+    public boolean intersects(TimeRange other, double epsilon) {
+        return ENGINE.intersects(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.startTime.getValue(), other.startTime.getRate(),
+                other.duration.getValue(), other.duration.getRate(),
+                epsilon);
+    }
 
     /**
      * The start of <b>this</b> precedes or equals the end of <b>other</b> by a value &gt;= <b>epsilon_s</b>.
@@ -426,9 +564,17 @@ public class TimeRange {
      * @param other TimeRange to check for
      * @return does the other TimeRange intersect this
      */
-    public native boolean intersects(TimeRange other);
+    public boolean intersects(TimeRange other) {
+        return intersects(other, DEFAULT_EPSILON);
+    }
 
-    public native boolean equals(TimeRange other);
+    public boolean equals(TimeRange other) {
+        return ENGINE.rangeEquals(
+                startTime.getValue(), startTime.getRate(),
+                duration.getValue(), duration.getRate(),
+                other.startTime.getValue(), other.startTime.getRate(),
+                other.duration.getValue(), other.duration.getRate());
+    }
 
     @Override
     public boolean equals(Object obj) {
@@ -437,7 +583,9 @@ public class TimeRange {
         return this.equals((TimeRange) obj);
     }
 
-    public native boolean notEquals(TimeRange other);
+    public boolean notEquals(TimeRange other) {
+        return !equals(other);
+    }
 
     /**
      * Create a TimeRange from start and end RationalTimes
@@ -446,7 +594,11 @@ public class TimeRange {
      * @param endTime   end time
      * @return TimeRange from start and end RationalTimes
      */
-    public native static TimeRange rangeFromStartEndTime(RationalTime startTime, RationalTime endTime);
+    public static TimeRange rangeFromStartEndTime(RationalTime startTime, RationalTime endTime) {
+        return ENGINE.rangeFromStartEndTime(
+                startTime.getValue(), startTime.getRate(),
+                endTime.getValue(), endTime.getRate());
+    }
 
     @Override
     public String toString() {
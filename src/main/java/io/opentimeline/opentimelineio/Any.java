@@ -61,57 +61,57 @@ public class Any extends OTIOObject {
 
     private void initBool(boolean b) {
         this.initializeBool(b);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initInt(int i) {
         this.initializeInt(i);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initLong(long a) {
         this.initializeLong(a);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initDouble(double d) {
         this.initializeDouble(d);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initString(String string) {
         this.initializeString(string);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initRationalTime(RationalTime rationalTime) {
         this.initializeRationalTime(rationalTime);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initTimeRange(TimeRange timeRange) {
         this.initializeTimeRange(timeRange);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initTimeTransform(TimeTransform timeTransform) {
         this.initializeTimeTransform(timeTransform);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initAnyVector(AnyVector anyVector) {
         this.initializeAnyVector(anyVector);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initAnyDictionary(AnyDictionary anyDictionary) {
         this.initializeAnyDictionary(anyDictionary);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initSerializableObject(SerializableObject serializableObject) {
         this.initializeSerializableObject(serializableObject);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initializeBool(boolean a);
@@ -5,6 +5,8 @@ package io.opentimeline.opentimelineio;
 
 import io.opentimeline.OTIONative;
 import io.opentimeline.OTIOObject;
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
 
 import java.util.*;
 import java.util.function.BiConsumer;
@@ -13,6 +15,12 @@ import java.util.stream.Collectors;
 /**
  * AnyDictionary has the same API as java.util.Map.
  * It is a Map&lt;String, Any&gt;.
+ * <p>
+ * The typed getters and putters such as getDouble() and putLong() read and write the
+ * native value directly, without an Any in between. The getters throw
+ * NoSuchElementException if the key is not mapped and ClassCastException if its value
+ * has another type, the putters replace the value of an existing key.
+ * toJavaMap() and putAllFromJava() convert whole dictionary trees in one native call.
  */
 public class AnyDictionary extends OTIOObject implements Map<String, Any> {
 
@@ -26,7 +34,7 @@ public class AnyDictionary extends OTIOObject implements Map<String, Any> {
 
     private void initObject() {
         this.initialize();
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize();
@@ -76,7 +84,7 @@ public class AnyDictionary extends OTIOObject implements Map<String, Any> {
 
         private void initObject(AnyDictionary anyDictionary) {
             this.initialize(anyDictionary);
-            this.nativeManager.className = this.getClass().getCanonicalName();
+            this.initNativeManager();
         }
 
         private native void initialize(AnyDictionary anyDictionary);
@@ -248,6 +256,73 @@ public class AnyDictionary extends OTIOObject implements Map<String, Any> {
 
     public native int remove(String key);
 
+    public native boolean getBoolean(String key);
+
+    /**
+     * Integers read from JSON are stored as 64 bit values,
+     * they are returned as long as they fit an int.
+     *
+     * @param key String key
+     * @return the integer value of the key
+     */
+    public native int getInt(String key);
+
+    /**
+     * @param key String key
+     * @return the integer value of the key, 32 or 64 bit
+     */
+    public native long getLong(String key);
+
+    /**
+     * @param key String key
+     * @return the floating point or integer value of the key
+     */
+    public native double getDouble(String key);
+
+    public native String getString(String key);
+
+    public native RationalTime getRationalTime(String key);
+
+    public native TimeRange getTimeRange(String key);
+
+    public native void putBoolean(String key, boolean value);
+
+    public native void putInt(String key, int value);
+
+    public native void putLong(String key, long value);
+
+    public native void putDouble(String key, double value);
+
+    public native void putString(String key, String value);
+
+    public native void putRationalTime(String key, RationalTime value);
+
+    public native void putTimeRange(String key, TimeRange value);
+
+    /**
+     * Converts the whole dictionary tree to plain Java values in a single native call.
+     * Nested dictionaries become HashMaps and vectors ArrayLists. Scalars become Boolean,
+     * Integer, Long, Double and String, the opentime types stay themselves,
+     * SerializableObjects are returned as their wrappers and empty values as null.
+     * The result is a copy, changing it does not change this dictionary.
+     *
+     * @return a new HashMap with the contents of this dictionary
+     */
+    public native Map<String, Object> toJavaMap();
+
+    /**
+     * Adds all entries of a Java map in a single native call, the reverse of toJavaMap().
+     * Values may be anything toJavaMap() returns, Short, Byte and Float, any Map with String
+     * keys, any other Iterable, and Any, AnyDictionary and AnyVector, which are copied.
+     * Existing keys are replaced. If a value cannot be converted this dictionary is left
+     * unchanged.
+     *
+     * @param map entries to add
+     * @throws IllegalArgumentException if a value, or a value nested in it, has no OTIO type
+     * @throws ClassCastException       if a nested map has a key that is not a String
+     */
+    public native void putAllFromJava(Map<String, ?> map);
+
     public boolean equals(AnyDictionary anyDictionary) {
         if (size() != anyDictionary.size()) return false;
 
@@ -29,7 +29,7 @@ public class AnyVector extends OTIOObject implements Collection<Any> {
 
     private void initObject() {
         this.initialize();
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize();
@@ -47,7 +47,7 @@ public class AnyVector extends OTIOObject implements Collection<Any> {
 
         private void initObject(AnyVector anyVector) {
             this.initialize(anyVector);
-            this.nativeManager.className = this.getClass().getCanonicalName();
+            this.initNativeManager();
         }
 
         private native void initialize(AnyVector anyVector);
@@ -0,0 +1,209 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.exception.CannotComputeAvailableRangeException;
+import io.opentimeline.opentimelineio.exception.NotAChildException;
+import io.opentimeline.opentimelineio.exception.ObjectWithoutDurationException;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Depth first cursor over the descendants of a Composition, in the order of
+ * Composition.eachChild(): a composition comes before its children.
+ * <p>
+ * The cursor walks the tree with an explicit stack holding one level per
+ * composition being visited, so the depth of the tree is not limited by the
+ * Java stack. Children are fetched from native code only when the cursor
+ * reaches them, in batches of up to BATCH_SIZE per JNI call, and children that
+ * are neither of the requested type nor compositions to descend into are
+ * skipped natively without creating a Java object for them. Stopping early
+ * leaves the rest of the tree untouched.
+ * <p>
+ * With a search range only the children whose range intersects it are visited,
+ * the range being transformed into the space of every nested composition.
+ * Compositions with their time index enabled select those children from the index.
+ * <p>
+ * A ChildCursor is not thread safe. Editing a composition while it is being
+ * walked gives unspecified results.
+ *
+ * @param <T> type of the children returned
+ */
+public final class ChildCursor<T extends Composable> {
+
+    static final int BATCH_SIZE = 64;
+
+    private final Class<T> descendedFrom;
+    private final boolean shallowSearch;
+    private final ArrayDeque<Level> levels = new ArrayDeque<>();
+    private T next = null;
+
+    private static final class Level {
+        final Composition composition;
+        // composition which searchRange is in, null once it is transformed
+        Composition parent;
+        TimeRange searchRange;
+        // positions of the children in the search range, null for all children
+        int[] positions = null;
+        int position = 0;
+        int end = -1;
+        final Composable[] batch = new Composable[BATCH_SIZE];
+        final boolean[] matches = new boolean[BATCH_SIZE];
+        int batchSize = 0;
+        int batchPosition = 0;
+
+        Level(Composition composition, Composition parent, TimeRange searchRange) {
+            this.composition = composition;
+            this.parent = parent;
+            this.searchRange = searchRange;
+        }
+
+        boolean isStarted() {
+            return end >= 0;
+        }
+
+        void start() throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+            if (searchRange == null) {
+                end = composition.getChildrenCount();
+                return;
+            }
+            if (parent != null) {
+                searchRange = parent.getTransformedTimeRange(searchRange, composition);
+                parent = null;
+            }
+            positions = composition.childIndicesInRange(searchRange);
+            end = positions.length;
+        }
+    }
+
+    ChildCursor(Composition composition, TimeRange searchRange, Class<T> descendedFrom, boolean shallowSearch)
+            throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        if (composition == null || descendedFrom == null) {
+            throw new NullPointerException();
+        }
+        this.descendedFrom = descendedFrom;
+        this.shallowSearch = shallowSearch;
+        Level root = new Level(composition, null, searchRange);
+        // errors on the composition itself are reported right away
+        root.start();
+        levels.push(root);
+    }
+
+    /**
+     * Cursor over the children of composition at positions [from, to) only, or
+     * at positions[from] to positions[to - 1] if positions is not null, and their
+     * descendants. Used by ClipSpliterator to walk a part of a composition.
+     *
+     * @param searchRange range in the space of composition that selected positions, or null
+     */
+    ChildCursor(Composition composition, TimeRange searchRange, int[] positions, int from, int to,
+                Class<T> descendedFrom, boolean shallowSearch) {
+        this.descendedFrom = descendedFrom;
+        this.shallowSearch = shallowSearch;
+        Level root = new Level(composition, null, searchRange);
+        root.positions = positions;
+        root.position = from;
+        root.end = to;
+        levels.push(root);
+    }
+
+    /**
+     * @return true if there is another child to return
+     */
+    public boolean hasNext() throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        while (next == null) {
+            Level level = levels.peek();
+            if (level == null) return false;
+            if (level.batchPosition == level.batchSize) {
+                if (!level.isStarted()) level.start();
+                if (level.position == level.end) {
+                    levels.pop();
+                    continue;
+                }
+                int to = Math.min(level.position + BATCH_SIZE, level.end);
+                level.batchSize = fetchNative(level.composition, level.positions, level.position, to,
+                        descendedFrom, shallowSearch, level.batch, level.matches);
+                level.batchPosition = 0;
+                level.position = to;
+                continue;
+            }
+            Composable child = level.batch[level.batchPosition];
+            boolean matches = level.matches[level.batchPosition];
+            level.batch[level.batchPosition++] = null;
+            // visited after the child itself is returned
+            if (!shallowSearch && child instanceof Composition) {
+                levels.push(new Level((Composition) child, level.composition, level.searchRange));
+            }
+            if (matches) next = descendedFrom.cast(child);
+        }
+        return true;
+    }
+
+    /**
+     * @return the next child
+     * @throws NoSuchElementException if there are no more children
+     */
+    public T next() throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        if (!hasNext()) throw new NoSuchElementException();
+        T result = next;
+        next = null;
+        return result;
+    }
+
+    /**
+     * Sequential, lazily advancing Stream over the remaining children. Exceptions
+     * raised while walking nested compositions are thrown wrapped in a
+     * RuntimeException, as the deprecated eachChild() methods always did.
+     *
+     * @return a Stream of the remaining children
+     */
+    public Stream<T> stream() {
+        Iterator<T> iterator = new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return ChildCursor.this.hasNext();
+                } catch (OpenTimelineIOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return ChildCursor.this.next();
+                } catch (OpenTimelineIOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Fill children with the children of composition at positions [from, to), or
+     * at positions[from] to positions[to - 1] if positions is not null, that are
+     * descended from descendedFrom or, unless shallowSearch, are compositions.
+     * matches tells which of them are descended from descendedFrom.
+     * <p>
+     * Only reads the composition. Calls from several threads on the same
+     * composition are safe while nothing edits it, provided they ask for
+     * different positions: creating the wrapper of a child retains it.
+     *
+     * @return number of children written
+     */
+    private native int fetchNative(Composition composition, int[] positions, int from, int to,
+                                   Class<T> descendedFrom, boolean shallowSearch,
+                                   Composable[] children, boolean[] matches);
+}
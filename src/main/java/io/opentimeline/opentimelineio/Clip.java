@@ -51,7 +51,7 @@ public class Clip extends Item {
                 mediaReference,
                 sourceRange,
                 metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name,
@@ -93,7 +93,12 @@ public class Clip extends Item {
         }
     }
 
-    public native void setMediaReference(MediaReference mediaReference);
+    public void setMediaReference(MediaReference mediaReference) {
+        setMediaReferenceNative(mediaReference);
+        CompositionTimeIndex.edited(this);
+    }
+
+    private native void setMediaReferenceNative(MediaReference mediaReference);
 
     public native MediaReference getMediaReference();
 
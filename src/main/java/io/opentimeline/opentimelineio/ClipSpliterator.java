@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.exception.CannotComputeAvailableRangeException;
+import io.opentimeline.opentimelineio.exception.NotAChildException;
+import io.opentimeline.opentimelineio.exception.ObjectWithoutDurationException;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splittable Spliterator over the clips of a composition or a timeline, in the
+ * order of eachClip(). The work is a run of units, each unit being the children
+ * of one composition, typically a track, at some positions. Splitting hands
+ * out whole units first and then halves of the positions left in the last
+ * unit, so a timeline spreads by track and a long track by index range. Each
+ * part walks its positions and everything nested below them with a ChildCursor.
+ * <p>
+ * Everything the parts share is worked out when the Spliterator is created, on
+ * the calling thread: the wrappers of the tracks, the search range in the space
+ * of every track and the positions in it. Parts then only read the timeline and
+ * create wrappers for clips no other part visits, so they can run on different
+ * threads, for example in a parallel Stream or a ForkJoinPool, as long as
+ * nothing edits the timeline meanwhile.
+ */
+final class ClipSpliterator implements Spliterator<Clip> {
+
+    private static final class Unit {
+        final Composition composition;
+        // in the space of composition, null for no search range
+        final TimeRange searchRange;
+        // positions of the children to visit, null for all children
+        final int[] positions;
+        final int count;
+        final boolean shallowSearch;
+
+        Unit(Composition composition, TimeRange searchRange, int[] positions, int count, boolean shallowSearch) {
+            this.composition = composition;
+            this.searchRange = searchRange;
+            this.positions = positions;
+            this.count = count;
+            this.shallowSearch = shallowSearch;
+        }
+    }
+
+    private final Unit[] units;
+    // remaining work, from position `from` of units[first] to position `to` (excluded) of units[last]
+    private int first;
+    private int from;
+    private final int last;
+    private int to;
+    private ChildCursor<Clip> cursor = null;
+
+    private ClipSpliterator(Unit[] units, int first, int from, int last, int to) {
+        this.units = units;
+        this.first = first;
+        this.from = from;
+        this.last = last;
+        this.to = to;
+    }
+
+    private static Unit unit(Composition composition, TimeRange searchRange)
+            throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        if (searchRange == null) {
+            return new Unit(composition, null, null, composition.getChildrenCount(), false);
+        }
+        int[] positions = composition.childIndicesInRange(searchRange);
+        return new Unit(composition, searchRange, positions, positions.length, false);
+    }
+
+    private static ClipSpliterator of(List<Unit> units) {
+        Unit[] array = units.toArray(new Unit[0]);
+        int last = array.length - 1;
+        return new ClipSpliterator(array, 0, 0, last, last < 0 ? 0 : array[last].count);
+    }
+
+    /**
+     * Clips of composition, splitting by index range among its children.
+     */
+    static ClipSpliterator of(Composition composition, TimeRange searchRange)
+            throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        List<Unit> units = new ArrayList<>();
+        units.add(unit(composition, searchRange));
+        return of(units);
+    }
+
+    /**
+     * Clips of the tracks of a timeline, splitting by track first.
+     */
+    static ClipSpliterator ofTracks(Stack tracks, TimeRange searchRange)
+            throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        List<Composable> children = tracks.getChildren();
+        int[] positions = null;
+        if (searchRange != null) {
+            positions = tracks.childIndicesInRange(searchRange);
+        }
+        int count = positions == null ? children.size() : positions.length;
+        List<Unit> units = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int position = positions == null ? i : positions[i];
+            Composable child = children.get(position);
+            if (child instanceof Composition) {
+                Composition composition = (Composition) child;
+                units.add(unit(composition,
+                        searchRange == null ? null : tracks.getTransformedTimeRange(searchRange, composition)));
+            } else if (child instanceof Clip) {
+                // a clip right in the stack, visited where it is
+                units.add(new Unit(tracks, searchRange, new int[]{position}, 1, true));
+            }
+        }
+        return of(units);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Clip> action) {
+        try {
+            while (first <= last) {
+                if (cursor == null) {
+                    Unit unit = units[first];
+                    int end = first == last ? to : unit.count;
+                    cursor = new ChildCursor<>(unit.composition, unit.searchRange, unit.positions, from, end,
+                            Clip.class, unit.shallowSearch);
+                }
+                if (cursor.hasNext()) {
+                    action.accept(cursor.next());
+                    return true;
+                }
+                cursor = null;
+                first++;
+                from = 0;
+            }
+            return false;
+        } catch (OpenTimelineIOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Splits off a prefix of the units left or, with one unit left, the first half
+     * of its positions. Returns null once this Spliterator started advancing.
+     */
+    @Override
+    public Spliterator<Clip> trySplit() {
+        if (cursor != null || first > last) return null;
+        if (first < last) {
+            int mid = (first + last) >>> 1;
+            ClipSpliterator prefix = new ClipSpliterator(units, first, from, mid, units[mid].count);
+            first = mid + 1;
+            from = 0;
+            return prefix;
+        }
+        if (to - from >= 2 * ChildCursor.BATCH_SIZE) {
+            int mid = (from + to) >>> 1;
+            ClipSpliterator prefix = new ClipSpliterator(units, first, from, first, mid);
+            from = mid;
+            return prefix;
+        }
+        return null;
+    }
+
+    /**
+     * @return number of top level children left, clips nested below them are not counted
+     */
+    @Override
+    public long estimateSize() {
+        if (first > last) return 0;
+        if (first == last) return to - from;
+        long size = units[first].count - from + to;
+        for (int i = first + 1; i < last; i++) {
+            size += units[i].count;
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
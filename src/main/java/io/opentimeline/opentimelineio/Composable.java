@@ -37,7 +37,7 @@ public class Composable extends SerializableObjectWithMetadata {
 
     private void initObject(String name, AnyDictionary metadata) {
         this.initialize(name, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name, AnyDictionary metadata);
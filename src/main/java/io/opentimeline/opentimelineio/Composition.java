@@ -10,7 +10,6 @@ import io.opentimeline.util.Pair;
 import io.opentimeline.opentimelineio.exception.*;
 
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -20,6 +19,10 @@ import java.util.stream.Stream;
  */
 public class Composition extends Item {
 
+    // see setTimeIndexEnabled()
+    private volatile boolean timeIndexEnabled = false;
+    private volatile CompositionTimeIndex timeIndex = null;
+
     protected Composition() {
     }
 
@@ -65,7 +68,7 @@ public class Composition extends Item {
                 metadata,
                 effectsArray,
                 markersArray);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name,
@@ -130,10 +133,41 @@ public class Composition extends Item {
 
     private native Composable[] getChildrenNative();
 
+    /**
+     * Only reads this Composition, so it may be called from several threads
+     * at once while no thread edits it.
+     *
+     * @return number of children held by this Composition, without creating a Java object for each of them.
+     */
+    public native int getChildrenCount();
+
+    /**
+     * Look up a single child without creating a Java object for each of the others,
+     * as getChildren() does.
+     *
+     * @param index index of the child
+     * @return the child at index
+     */
+    public native Composable getChild(int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Find the index of a child by comparing native objects, without creating a
+     * Java object for each of the other children.
+     *
+     * @param child child Composable to look for
+     * @return index of the child in this Composition
+     */
+    public native int getIndexOfChild(Composable child) throws NotAChildException;
+
     /**
      * Remove all children from the composition and clear their parents.
      */
-    public native void clearChildren();
+    public void clearChildren() {
+        clearChildrenNative();
+        CompositionTimeIndex.edited(this);
+    }
+
+    private native void clearChildrenNative();
 
     /**
      * Set children for this Composition.
@@ -144,6 +178,7 @@ public class Composition extends Item {
         Composable[] childrenArray = new Composable[children.size()];
         childrenArray = children.toArray(childrenArray);
         setChildrenNative(childrenArray);
+        CompositionTimeIndex.edited(this);
     }
 
     private native void setChildrenNative(Composable[] children) throws ChildAlreadyParentedException;
@@ -155,7 +190,13 @@ public class Composition extends Item {
      * @param child child Composable to be inserted.
      * @return was the child inserted successfully?
      */
-    public native boolean insertChild(int index, Composable child) throws ChildAlreadyParentedException;
+    public boolean insertChild(int index, Composable child) throws ChildAlreadyParentedException {
+        boolean result = insertChildNative(index, child);
+        CompositionTimeIndex.edited(this);
+        return result;
+    }
+
+    private native boolean insertChildNative(int index, Composable child) throws ChildAlreadyParentedException;
 
     /**
      * Set the child at a particular index. The needs to exist for the child to be set.
@@ -164,7 +205,13 @@ public class Composition extends Item {
      * @param child child Composable to be set
      * @return was the child set successfully?
      */
-    public native boolean setChild(int index, Composable child) throws IndexOutOfBoundsException, ChildAlreadyParentedException;
+    public boolean setChild(int index, Composable child) throws IndexOutOfBoundsException, ChildAlreadyParentedException {
+        boolean result = setChildNative(index, child);
+        CompositionTimeIndex.edited(this);
+        return result;
+    }
+
+    private native boolean setChildNative(int index, Composable child) throws IndexOutOfBoundsException, ChildAlreadyParentedException;
 
     /**
      * Remove the child at any index.
@@ -172,7 +219,13 @@ public class Composition extends Item {
      * @param index index from which the child needs to be removed.
      * @return was the child removed successfully?
      */
-    public native boolean removeChild(int index) throws IndexOutOfBoundsException;
+    public boolean removeChild(int index) throws IndexOutOfBoundsException {
+        boolean result = removeChildNative(index);
+        CompositionTimeIndex.edited(this);
+        return result;
+    }
+
+    private native boolean removeChildNative(int index) throws IndexOutOfBoundsException;
 
     /**
      * Append the child to the end of the Composition.
@@ -180,7 +233,54 @@ public class Composition extends Item {
      * @param child child to be appended
      * @return was the child appended successfully?
      */
-    public native boolean appendChild(Composable child) throws ChildAlreadyParentedException;
+    public boolean appendChild(Composable child) throws ChildAlreadyParentedException {
+        boolean result = appendChildNative(child);
+        CompositionTimeIndex.edited(this);
+        return result;
+    }
+
+    private native boolean appendChildNative(Composable child) throws ChildAlreadyParentedException;
+
+    /**
+     * Enable or disable the time index of this Composition. While enabled,
+     * getChildAtTime() and the range searches of eachChild() answer from an
+     * interval tree over the ranges of the children, built on first use, instead
+     * of fetching and bisecting the ranges of all children on every call. Editing
+     * the children of this Composition or of any composition below it, their
+     * source ranges or transition offsets rebuilds the index on next use, edits
+     * elsewhere in the timeline leave it as it is. Setting the available range of
+     * a MediaReference rebuilds every index, as the reference does not know the
+     * clips using it.
+     * <p>
+     * Worth enabling on compositions with many children that are queried
+     * repeatedly, for example when scrubbing a playhead.
+     *
+     * @param enabled should the time index be used?
+     */
+    public void setTimeIndexEnabled(boolean enabled) {
+        this.timeIndexEnabled = enabled;
+        this.timeIndex = null;
+    }
+
+    /**
+     * @return true if getChildAtTime() and eachChild() use the time index of this Composition.
+     */
+    public boolean isTimeIndexEnabled() {
+        return timeIndexEnabled;
+    }
+
+    /**
+     * @return the up to date time index or null if it is not enabled
+     */
+    private CompositionTimeIndex timeIndex() throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        if (!timeIndexEnabled) return null;
+        CompositionTimeIndex index = timeIndex;
+        if (index == null || index.isStale()) {
+            index = CompositionTimeIndex.build(this);
+            timeIndex = index;
+        }
+        return index;
+    }
 
     /**
      * @param composable Composable to check ancestry of
@@ -294,39 +394,42 @@ public class Composition extends Item {
      */
     public native HashMap<Composable, TimeRange> getRangeOfAllChildren() throws UnsupportedOperationException, IndexOutOfBoundsException, ObjectWithoutDurationException, CannotComputeAvailableRangeException;
 
+    /**
+     * Fill out with the range of every child in this object, in child order.
+     * Each child takes four consecutive slots:
+     * startTime value, startTime rate, duration value, duration rate.
+     * The ranges are the same as those of getRangeOfAllChildren() but no Java
+     * object is created per child and only one JNI call is made.
+     * Like getChildrenCount() it only reads this Composition and its children.
+     *
+     * @param out array of at least 4 * getChildrenCount() doubles
+     * @return number of children written to out
+     */
+    public int getRangeOfAllChildren(double[] out) throws UnsupportedOperationException, IndexOutOfBoundsException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        return getRangeOfAllChildrenNative(out);
+    }
+
+    private native int getRangeOfAllChildrenNative(double[] out);
+
     /**
      * Return the child that overlaps with time searchTime.
      * searchTime is in the space of self.
      * If shallowSearch is false, will recurse into compositions.
+     * Where children overlap, the first one in child order is returned.
+     * <p>
+     * Unless the time index of this Composition is enabled the whole descent,
+     * through any number of nested compositions, is made in a single native call.
      *
      * @param searchTime    the time at which the child is to be fetched
      * @param shallowSearch should the algorithm recurse into compositions or not?
      * @return the child that overlaps with time searchTime
      */
     public Composable getChildAtTime(RationalTime searchTime, boolean shallowSearch) throws UnsupportedOperationException, IndexOutOfBoundsException, ObjectWithoutDurationException, CannotComputeAvailableRangeException, NotAChildException {
-        HashMap<Composable, TimeRange> rangeOfAllChildren = this.getRangeOfAllChildren();
-        List<Composable> children = this.getChildren();
-        // find the first item whose endTimeExclusive is after the target
-        int firstInsideRange = bisectLeft(
-                children,
-                searchTime,
-                child -> rangeOfAllChildren.get(child).endTimeExclusive(),
-                0, null);
-        // find the last item whose startTime is before the target
-        int lastInRange = bisectRight(
-                children,
-                searchTime,
-                child -> rangeOfAllChildren.get(child).getStartTime(),
-                firstInsideRange, null);
-        // limit the search to children who are in the searchRange
-        children = children.subList(firstInsideRange, lastInRange);
-        Composable result = null;
-        for (Composable potentialMatch : children) {
-            if (rangeOfAllChildren.get(potentialMatch).overlaps(searchTime)) {
-                result = potentialMatch;
-                break;
-            }
+        CompositionTimeIndex index = timeIndex();
+        if (index == null) {
+            return getChildAtTimeNative(searchTime.getValue(), searchTime.getRate(), shallowSearch, null);
         }
+        Composable result = index.childAtTime(searchTime);
         // if the search cannot or should not continue
         if (shallowSearch || !(result instanceof Composition))
             return result;
@@ -334,10 +437,32 @@ public class Composition extends Item {
         // before you recurse, you have to transform the time into the
         // space of the child
         RationalTime childSearchTime = this.getTransformedTime(searchTime, (Composition) result);
-//        if (errorStatus.getOutcome() != ErrorStatus.Outcome.OK) throw new RuntimeException();
         return ((Composition) result).getChildAtTime(childSearchTime, shallowSearch);
     }
 
+    /**
+     * Same as getChildAtTime(searchTime, shallowSearch), also returning searchTime
+     * transformed into the space of the child found, as getTransformedTime() would.
+     * For a clip this is the time in its media. A Transition has no space of its
+     * own, for one the time is in the space of its parent.
+     * <p>
+     * The time index is not used, the lookup is always a single native call.
+     *
+     * @param searchTime    the time at which the child is to be fetched
+     * @param shallowSearch should the algorithm recurse into compositions or not?
+     * @return the child and the time in its space, or null if no child overlaps searchTime
+     */
+    public Pair<Composable, RationalTime> getChildAndLocalTimeAtTime(RationalTime searchTime, boolean shallowSearch) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        double[] localTime = new double[2];
+        Composable child = getChildAtTimeNative(searchTime.getValue(), searchTime.getRate(), shallowSearch, localTime);
+        return child == null ? null : new Pair<>(child, new RationalTime(localTime[0], localTime[1]));
+    }
+
+    /**
+     * @param localTime if not null, receives value and rate of the time in the space of the child found
+     */
+    private native Composable getChildAtTimeNative(double searchTimeValue, double searchTimeRate, boolean shallowSearch, double[] localTime);
+
     /**
      * Return the child that overlaps with time searchTime.
      * searchTime is in the space of self.
@@ -350,6 +475,50 @@ public class Composition extends Item {
         return this.getChildAtTime(searchTime, false);
     }
 
+    /**
+     * Cursor over each child of specified type contained in the composition in
+     * the order in which it is found. It fetches children lazily and in batches,
+     * see ChildCursor.
+     *
+     * @param searchRange   if not null, only children whose range overlaps with the search range are returned.
+     * @param descendedFrom only children who are a descendent of the descendedFrom type are returned
+     * @param shallowSearch should the cursor recurse into compositions or not?
+     * @param <T>           type of children to fetch
+     * @return a cursor positioned before the first child
+     */
+    public <T extends Composable> ChildCursor<T> childCursor(
+            TimeRange searchRange, Class<T> descendedFrom, boolean shallowSearch) throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        return new ChildCursor<>(this, searchRange, descendedFrom, shallowSearch);
+    }
+
+    /**
+     * Splittable Spliterator over each clip contained in the composition, at any
+     * depth, in the order in which it is found. It splits by index range among the
+     * children of this composition and is safe to use from a parallel Stream as
+     * long as the composition is not edited meanwhile, see ClipSpliterator.
+     * The search range is applied when the Spliterator is created.
+     *
+     * @param searchRange if not null, only clips whose range overlaps with the search range are returned.
+     * @return a Spliterator over the clips
+     */
+    public Spliterator<Clip> clipSpliterator(TimeRange searchRange) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        return ClipSpliterator.of(this, searchRange);
+    }
+
+    /**
+     * Indexes of the children whose range intersects searchRange, both ends
+     * included, in child order. Uses the time index if it is enabled.
+     */
+    int[] childIndicesInRange(TimeRange searchRange) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        CompositionTimeIndex index = timeIndex();
+        if (index != null) {
+            return index.childIndicesInRange(searchRange);
+        }
+        double[] ranges = new double[4 * getChildrenCount()];
+        int count = getRangeOfAllChildren(ranges);
+        return CompositionTimeIndex.childIndicesInRange(ranges, count, searchRange);
+    }
+
     /**
      * Stream that returns each child of specified type contained in the composition in
      * the order in which it is found.
@@ -359,66 +528,12 @@ public class Composition extends Item {
      * @param shallowSearch should the algorithm recurse into compositions or not?
      * @param <T>           type of children to fetch
      * @return a Stream consisting of all the children of specified type in the composition in the order in which it is found
+     * @see #childCursor(TimeRange, Class, boolean)
      */
     @Deprecated
     public <T extends Composable> Stream<T> eachChild(
             TimeRange searchRange, Class<T> descendedFrom, boolean shallowSearch) throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
-        List<Composable> children;
-        if (searchRange != null) {
-            HashMap<Composable, TimeRange> rangeOfAllChildren = this.getRangeOfAllChildren();
-            children = this.getChildren();
-            // find the first item whose endTimeInclusive is after the
-            // startTime of the searchRange
-            int firstInsideRange = bisectLeft(
-                    children,
-                    searchRange.getStartTime(),
-                    child -> rangeOfAllChildren.get(child).endTimeInclusive(),
-                    0, null);
-            // find the last item whose startTime is before the
-            // endTimeInclusive of the searchRange
-            int lastInRange = bisectRight(
-                    children,
-                    searchRange.endTimeInclusive(),
-                    child -> rangeOfAllChildren.get(child).getStartTime(),
-                    firstInsideRange, null);
-            children = children.subList(firstInsideRange, lastInRange);
-        } else {
-            children = this.getChildren();
-        }
-
-        Stream<T> resultStream;
-        // TODO: Use functional exception handling for exceptions in lambdas
-        try {
-            resultStream = children.stream()
-                    .flatMap(element -> {
-                                Stream<T> currentElementStream = Stream.empty();
-                                if (descendedFrom.isAssignableFrom(element.getClass()))
-                                    currentElementStream = Stream.concat(Stream.of(descendedFrom.cast(element)), currentElementStream);
-                                Stream<T> nestedStream = Stream.empty();
-                                if (!shallowSearch && element instanceof Composition) {
-                                    try {
-                                        nestedStream = ((Composition) element).eachChild(
-                                                searchRange == null ? null : this.getTransformedTimeRange(searchRange, ((Composition) element)),
-                                                descendedFrom,
-                                                shallowSearch);
-                                    } catch (Exception e) {
-                                        throw new RuntimeException(e);
-                                    }
-                                }
-                                return Stream.concat(currentElementStream, nestedStream);
-                            }
-                    );
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof NotAChildException)
-                throw (NotAChildException) e.getCause();
-            else if (e.getCause() instanceof ObjectWithoutDurationException)
-                throw (ObjectWithoutDurationException) e.getCause();
-            else if (e.getCause() instanceof CannotComputeAvailableRangeException)
-                throw (CannotComputeAvailableRangeException) e.getCause();
-            else throw e;
-        }
-
-        return resultStream;
+        return childCursor(searchRange, descendedFrom, shallowSearch).stream();
     }
 
     /**
@@ -447,78 +562,6 @@ public class Composition extends Item {
         return eachChild(null, descendedFrom, false);
     }
 
-    /**
-     * Return the index of the last item in seqChildren such that all e in seqChildren[:index]
-     * have keyFunction(e) <= target, and all e in seq[index:] have keyFunction(e) > target.
-     * <p>
-     * Thus, seqChildren.insert(index, value) will insert value after the rightmost item
-     * such that meets the above condition.
-     * <p>
-     * lowerSearchBound and upperSearchBound bound the range of elements to be searched.
-     * <p>
-     * Assumes that seqChildren is already sorted.
-     */
-    private int bisectRight(
-            List<Composable> seqChildren,
-            RationalTime target,
-            Function<Composable, RationalTime> keyFunction,
-            Integer lowerSearchBound,
-            Integer upperSearchBound) {
-        if (lowerSearchBound == null)
-            lowerSearchBound = 0;
-        if (lowerSearchBound < 0)
-            throw new IndexOutOfBoundsException("lowerSearchBound must be non-negative");
-        if (upperSearchBound == null)
-            upperSearchBound = seqChildren.size();
-
-        while (lowerSearchBound < upperSearchBound) {
-            int midPointIndex = Math.floorDiv(lowerSearchBound + upperSearchBound, 2);
-
-            if (target.compareTo(keyFunction.apply(seqChildren.get(midPointIndex))) < 0) {
-                upperSearchBound = midPointIndex;
-            } else {
-                lowerSearchBound = midPointIndex + 1;
-            }
-        }
-        return lowerSearchBound;
-    }
-
-    /**
-     * Return the index of the last item in seqChildren such that all e in seqChildren[:index]
-     * have keyFunction(e) < target, and all e in seqChildren[index:] have keyFunction(e) >= target.
-     * <p>
-     * Thus, seqChildren.insert(index, value) will insert value before the leftmost item
-     * such that meets the above condition.
-     * <p>
-     * lowerSearchBound and upperSearchBound bound the range of elements to be searched.
-     * <p>
-     * Assumes that seqChildren is already sorted.
-     */
-    private int bisectLeft(
-            List<Composable> seqChildren,
-            RationalTime target,
-            Function<Composable, RationalTime> keyFunction,
-            Integer lowerSearchBound,
-            Integer upperSearchBound) {
-        if (lowerSearchBound == null)
-            lowerSearchBound = 0;
-        if (lowerSearchBound < 0)
-            throw new IndexOutOfBoundsException("lowerSearchBound must be non-negative");
-        if (upperSearchBound == null)
-            upperSearchBound = seqChildren.size();
-
-        while (lowerSearchBound < upperSearchBound) {
-            int midPointIndex = Math.floorDiv(lowerSearchBound + upperSearchBound, 2);
-
-            if (keyFunction.apply(seqChildren.get(midPointIndex)).compareTo(target) < 0) {
-                lowerSearchBound = midPointIndex + 1;
-            } else {
-                upperSearchBound = midPointIndex;
-            }
-        }
-        return lowerSearchBound;
-    }
-
     @Override
     public String toString() {
         return this.getClass().getCanonicalName() +
@@ -0,0 +1,274 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.exception.CannotComputeAvailableRangeException;
+import io.opentimeline.opentimelineio.exception.ObjectWithoutDurationException;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Interval tree over the ranges of the children of a Composition, as returned by
+ * Composition.getRangeOfAllChildren(). Backs Composition.getChildAtTime() and the
+ * range searches of ChildCursor once the time index of the Composition is enabled.
+ * <p>
+ * The children are sorted by start time and the tree is implicit in that order:
+ * the root of the range [lo, hi) is its middle element, which also holds the
+ * largest end time of the range. Point and range queries visit O(log n + k)
+ * elements and make no JNI calls.
+ * <p>
+ * Every indexed Composition has an edit stamp, kept by native object because
+ * several wrappers may stand for the same composition. An edit that may move a
+ * child bumps the stamps of the compositions it affects: the edited object if it
+ * is a composition, and all its ancestors, whose children's durations may have
+ * changed with it. Only the indexes of those compositions are rebuilt on next use.
+ * Edits that cannot be traced to a composition, like setting the available range
+ * of a MediaReference, bump a global edit count that makes every index stale.
+ */
+final class CompositionTimeIndex {
+
+    private static final class Stamp extends WeakReference<AtomicLong> {
+        final long nativePointer;
+
+        Stamp(long nativePointer, AtomicLong edits, ReferenceQueue<AtomicLong> queue) {
+            super(edits, queue);
+            this.nativePointer = nativePointer;
+        }
+    }
+
+    // held weakly, an entry lives as long as an index built with it
+    private static final ConcurrentHashMap<Long, Stamp> stamps = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<AtomicLong> releasedStamps = new ReferenceQueue<>();
+    private static final AtomicLong globalEdits = new AtomicLong();
+
+    private final AtomicLong edits;
+    private final long builtAtEdit;
+    private final long builtAtGlobalEdit;
+    private final Composable[] children;
+    // all sorted by start, the time values in seconds
+    private final int[] childIndex;
+    private final double[] start;
+    private final double[] endExclusive;
+    private final double[] endInclusive;
+    // largest end time of the subtree rooted at each element
+    private final double[] maxEndExclusive;
+    private final double[] maxEndInclusive;
+
+    private CompositionTimeIndex(AtomicLong edits, long builtAtEdit, long builtAtGlobalEdit,
+                                 Composable[] children, double[] ranges) {
+        this.edits = edits;
+        this.builtAtEdit = builtAtEdit;
+        this.builtAtGlobalEdit = builtAtGlobalEdit;
+        this.children = children;
+        int count = children.length;
+
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        // stable, so children starting together stay in child order
+        Arrays.sort(order, (a, b) -> Double.compare(
+                ranges[4 * a] / ranges[4 * a + 1],
+                ranges[4 * b] / ranges[4 * b + 1]));
+
+        childIndex = new int[count];
+        start = new double[count];
+        endExclusive = new double[count];
+        endInclusive = new double[count];
+        for (int i = 0; i < count; i++) {
+            int child = order[i];
+            TimeRange range = rangeAt(ranges, child);
+            childIndex[i] = child;
+            start[i] = range.getStartTime().toSeconds();
+            endExclusive[i] = range.endTimeExclusive().toSeconds();
+            endInclusive[i] = range.endTimeInclusive().toSeconds();
+        }
+        maxEndExclusive = new double[count];
+        maxEndInclusive = new double[count];
+        buildMaxEnds(0, count);
+    }
+
+    /**
+     * Index the current children of composition.
+     */
+    static CompositionTimeIndex build(Composition composition)
+            throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        AtomicLong edits = stampOf(composition.getNativeManager().getOTIOObjectNativeHandle());
+        // read before the children so that a concurrent edit leaves the index stale
+        long builtAtEdit = edits.get();
+        long builtAtGlobalEdit = globalEdits.get();
+        Composable[] children = composition.getChildren().toArray(new Composable[0]);
+        double[] ranges = new double[4 * children.length];
+        composition.getRangeOfAllChildren(ranges);
+        return new CompositionTimeIndex(edits, builtAtEdit, builtAtGlobalEdit, children, ranges);
+    }
+
+    private static AtomicLong stampOf(long nativePointer) {
+        expungeReleasedStamps();
+        while (true) {
+            Stamp stamp = stamps.get(nativePointer);
+            AtomicLong edits = stamp == null ? null : stamp.get();
+            if (edits != null) return edits;
+            edits = new AtomicLong();
+            Stamp created = new Stamp(nativePointer, edits, releasedStamps);
+            if (stamp == null ? stamps.putIfAbsent(nativePointer, created) == null
+                    : stamps.replace(nativePointer, stamp, created)) {
+                return edits;
+            }
+        }
+    }
+
+    private static void expungeReleasedStamps() {
+        Stamp stamp;
+        while ((stamp = (Stamp) releasedStamps.poll()) != null) {
+            stamps.remove(stamp.nativePointer, stamp);
+        }
+    }
+
+    /**
+     * Called after every edit that may change the range of a child in a Composition,
+     * with the object that was edited. Costs one JNI call while any index exists
+     * and nothing otherwise.
+     *
+     * @param edited the edited Composition, or the Item whose range in its parent may have changed
+     */
+    static void edited(Composable edited) {
+        expungeReleasedStamps();
+        if (stamps.isEmpty()) return;
+        for (long nativePointer : lineageNative(edited)) {
+            Stamp stamp = stamps.get(nativePointer);
+            AtomicLong edits = stamp == null ? null : stamp.get();
+            if (edits != null) edits.incrementAndGet();
+        }
+    }
+
+    /**
+     * Called after an edit that may change the range of a child in any Composition,
+     * because the object edited does not know the compositions using it.
+     */
+    static void editedAnywhere() {
+        globalEdits.incrementAndGet();
+    }
+
+    /**
+     * @return native pointers of composable and of its parent, grandparent and so on
+     */
+    private static native long[] lineageNative(Composable composable);
+
+    /**
+     * @return true if the index may no longer match the children it was built from.
+     */
+    boolean isStale() {
+        return builtAtEdit != edits.get() || builtAtGlobalEdit != globalEdits.get();
+    }
+
+    private void buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        buildMaxEnds(lo, mid);
+        buildMaxEnds(mid + 1, hi);
+        double exclusive = endExclusive[mid];
+        double inclusive = endInclusive[mid];
+        if (lo < mid) {
+            int left = (lo + mid) >>> 1;
+            exclusive = Math.max(exclusive, maxEndExclusive[left]);
+            inclusive = Math.max(inclusive, maxEndInclusive[left]);
+        }
+        if (mid + 1 < hi) {
+            int right = (mid + 1 + hi) >>> 1;
+            exclusive = Math.max(exclusive, maxEndExclusive[right]);
+            inclusive = Math.max(inclusive, maxEndInclusive[right]);
+        }
+        maxEndExclusive[mid] = exclusive;
+        maxEndInclusive[mid] = inclusive;
+    }
+
+    /**
+     * Same as the non indexed Composition.getChildAtTime() with a shallow search:
+     * the first child, in child order, whose range overlaps time.
+     *
+     * @param time time in the space of the composition
+     * @return the child or null if no child overlaps time
+     */
+    Composable childAtTime(RationalTime time) {
+        int best = childAtTime(time.toSeconds(), 0, start.length, Integer.MAX_VALUE);
+        return best == Integer.MAX_VALUE ? null : children[best];
+    }
+
+    private int childAtTime(double time, int lo, int hi, int best) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            // nothing in [lo, hi) ends after time
+            if (maxEndExclusive[mid] <= time) return best;
+            best = childAtTime(time, lo, mid, best);
+            // everything from mid on starts after time
+            if (start[mid] > time) return best;
+            if (endExclusive[mid] > time && childIndex[mid] < best) best = childIndex[mid];
+            lo = mid + 1;
+        }
+        return best;
+    }
+
+    /**
+     * Same selection as Composition.childIndicesInRange() without an index.
+     *
+     * @param searchRange range in the space of the composition
+     * @return indexes of the children whose range intersects searchRange, in child order
+     */
+    int[] childIndicesInRange(TimeRange searchRange) {
+        int[] found = new int[start.length];
+        int count = childIndicesInRange(searchRange.getStartTime().toSeconds(),
+                searchRange.endTimeInclusive().toSeconds(), 0, start.length, found, 0);
+        found = Arrays.copyOf(found, count);
+        Arrays.sort(found);
+        return found;
+    }
+
+    private int childIndicesInRange(double searchStart, double searchEnd, int lo, int hi, int[] found, int count) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (maxEndInclusive[mid] < searchStart) return count;
+            count = childIndicesInRange(searchStart, searchEnd, lo, mid, found, count);
+            if (start[mid] > searchEnd) return count;
+            if (endInclusive[mid] >= searchStart) found[count++] = childIndex[mid];
+            lo = mid + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Linear scan for compositions without an index.
+     *
+     * @param ranges as filled by Composition.getRangeOfAllChildren(double[])
+     * @param count  number of children in ranges
+     * @param searchRange range in the space of the composition
+     * @return indexes of the children whose range intersects searchRange, in child order
+     */
+    static int[] childIndicesInRange(double[] ranges, int count, TimeRange searchRange) {
+        double searchStart = searchRange.getStartTime().toSeconds();
+        double searchEnd = searchRange.endTimeInclusive().toSeconds();
+        int[] found = new int[count];
+        int foundCount = 0;
+        for (int i = 0; i < count; i++) {
+            TimeRange range = rangeAt(ranges, i);
+            if (range.getStartTime().toSeconds() <= searchEnd
+                    && range.endTimeInclusive().toSeconds() >= searchStart) {
+                found[foundCount++] = i;
+            }
+        }
+        return Arrays.copyOf(found, foundCount);
+    }
+
+    private static TimeRange rangeAt(double[] ranges, int child) {
+        return new TimeRange(
+                new RationalTime(ranges[4 * child], ranges[4 * child + 1]),
+                new RationalTime(ranges[4 * child + 2], ranges[4 * child + 3]));
+    }
+}
@@ -0,0 +1,48 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A compression format that streamed OTIO JSON can be written and read through,
+ * such as gzip for .otio.gz files.
+ * <p>
+ * gzip is built in as {@link CompressionCodecs#GZIP}. Other formats are plugged in with
+ * {@link java.util.ServiceLoader}: list the implementing class in
+ * <code>META-INF/services/io.opentimeline.opentimelineio.CompressionCodec</code>
+ * and it becomes available through {@link CompressionCodecs}.
+ */
+public interface CompressionCodec {
+
+    /**
+     * @return unique name of the format, such as "gzip"
+     */
+    String getName();
+
+    /**
+     * @return suffix of compressed file names including the dot, such as ".gz"
+     */
+    String getFileExtension();
+
+    /**
+     * Wrap a stream so that everything written to the returned stream reaches out compressed.
+     * Closing the returned stream must complete the compressed data and close out.
+     *
+     * @param out stream receiving the compressed bytes
+     * @return stream accepting uncompressed bytes
+     */
+    OutputStream compress(OutputStream out) throws IOException;
+
+    /**
+     * Wrap a stream of compressed bytes so that reading the returned stream yields them uncompressed.
+     * Closing the returned stream must close in.
+     *
+     * @param in stream of compressed bytes
+     * @return stream of uncompressed bytes
+     */
+    InputStream decompress(InputStream in) throws IOException;
+}
@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The {@link CompressionCodec}s known to the bindings: gzip followed by every codec
+ * registered with {@link ServiceLoader}.
+ */
+public final class CompressionCodecs {
+
+    /**
+     * gzip through java.util.zip.
+     */
+    public static final CompressionCodec GZIP = new GzipCodec();
+
+    private static final CompressionCodec[] codecs = loadCodecs();
+
+    private CompressionCodecs() {
+    }
+
+    private static CompressionCodec[] loadCodecs() {
+        CompressionCodec[] loaded = new CompressionCodec[]{GZIP};
+        for (CompressionCodec provider : ServiceLoader.load(CompressionCodec.class)) {
+            loaded = Arrays.copyOf(loaded, loaded.length + 1);
+            loaded[loaded.length - 1] = provider;
+        }
+        return loaded;
+    }
+
+    /**
+     * @return all known codecs, gzip first
+     */
+    public static List<CompressionCodec> getCodecs() {
+        return Collections.unmodifiableList(Arrays.asList(codecs));
+    }
+
+    /**
+     * @param name name of a codec, compared ignoring case
+     * @return the first codec with that name, null if there is none
+     */
+    public static CompressionCodec forName(String name) {
+        if (name == null) {
+            throw new NullPointerException();
+        }
+        for (CompressionCodec codec : codecs) {
+            if (codec.getName().equalsIgnoreCase(name)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param fileName name or path of a file, such as "edit.otio.gz"
+     * @return the first codec whose file extension ends the name, null if the file looks uncompressed
+     */
+    public static CompressionCodec forFileName(String fileName) {
+        if (fileName == null) {
+            throw new NullPointerException();
+        }
+        for (CompressionCodec codec : codecs) {
+            if (fileName.endsWith(codec.getFileExtension())) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    private static class GzipCodec implements CompressionCodec {
+        // matches the chunks that streamed JSON arrives in
+        private static final int BUFFER_SIZE = Serialization.STREAM_BUFFER_SIZE;
+
+        @Override
+        public String getName() {
+            return "gzip";
+        }
+
+        @Override
+        public String getFileExtension() {
+            return ".gz";
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) throws IOException {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+
+        @Override
+        public String toString() {
+            return this.getClass().getCanonicalName() + "(name=gzip)";
+        }
+    }
+}
@@ -5,8 +5,139 @@ package io.opentimeline.opentimelineio;
 
 import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
 public class Deserialization {
 
+    // one buffer per thread, reused by every streamed read on that thread
+    static final ThreadLocal<ByteBuffer> streamBuffer =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(Serialization.STREAM_BUFFER_SIZE));
+
+    /**
+     * Outcome of loading one file with {@link #loadAll(Collection, Executor)}.
+     */
+    public static class LoadResult {
+        private final Path path;
+        private final SerializableObject object;
+        private final Throwable error;
+
+        LoadResult(Path path, SerializableObject object, Throwable error) {
+            this.path = path;
+            this.object = object;
+            this.error = error;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        /**
+         * @return the deserialized object, null if loading failed
+         */
+        public SerializableObject getObject() {
+            return object;
+        }
+
+        /**
+         * @return why loading failed, null if it succeeded
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return this.getClass().getCanonicalName() +
+                    "(path=" + path +
+                    (error == null ? ", object=" + object : ", error=" + error) + ")";
+        }
+    }
+
+    /**
+     * Loads many .otio files concurrently, each one with SerializableObject.fromJSONFile()
+     * as a separate task on the executor.
+     * <p>
+     * Files are read and parsed entirely in native code, without any lock shared between
+     * tasks. The only shared state is OTIO's schema registry and the binding's object
+     * bookkeeping, both of which are thread safe, so throughput scales with the number of
+     * executor threads until the disks or memory bandwidth saturate.
+     * <p>
+     * Every returned object is independent of the others and owned by the caller, who is
+     * responsible for closing it. Objects are created on the executor threads, so they do not
+     * belong to an OTIOArena open on the calling thread. As with any OTIO object, a single
+     * object must not be mutated from several threads at once.
+     *
+     * @param paths    files to load
+     * @param executor executor that runs one task per file
+     * @return a future completing once every file is loaded, with one result per path in
+     * iteration order. It never completes exceptionally, a file that cannot be loaded only
+     * fails its own result.
+     */
+    public static CompletableFuture<List<LoadResult>> loadAll(Collection<Path> paths, Executor executor) {
+        if (paths == null || executor == null) {
+            throw new NullPointerException();
+        }
+        List<CompletableFuture<LoadResult>> futures = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            futures.add(CompletableFuture
+                    .supplyAsync(() -> load(path), executor)
+                    .handle((object, error) -> new LoadResult(path, object, unwrap(error))));
+        }
+        return CompletableFuture
+                .allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> {
+                    List<LoadResult> results = new ArrayList<>(futures.size());
+                    for (CompletableFuture<LoadResult> future : futures) {
+                        results.add(future.join());
+                    }
+                    return results;
+                });
+    }
+
+    /**
+     * Loads many .otio files concurrently on the common fork join pool.
+     *
+     * @param paths files to load
+     * @return a future completing once every file is loaded, with one result per path
+     * @see #loadAll(Collection, Executor)
+     */
+    public static CompletableFuture<List<LoadResult>> loadAll(Collection<Path> paths) {
+        return loadAll(paths, ForkJoinPool.commonPool());
+    }
+
+    private static SerializableObject load(Path path) {
+        try {
+            return SerializableObject.fromJSONFile(path.toString());
+        } catch (OpenTimelineIOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
     /**
      * Deserialize an OTIO JSON String and get the result in an Any object.
      *
@@ -27,4 +158,180 @@ public class Deserialization {
     public native boolean deserializeJSONFromFile(
             String fileName, Any destination) throws OpenTimelineIOException;
 
+    /**
+     * Deserialize an OTIO JSON String without the metadata entries that the filter drops
+     * and get the result in an Any object.
+     *
+     * @param input       JSON String
+     * @param destination JSON will be deserialized into this object
+     * @param filter      metadata entries to keep
+     * @return was the JSON deserialized successfully?
+     */
+    public boolean deserializeJSONFromString(
+            String input, Any destination, MetadataFilter filter) throws OpenTimelineIOException {
+        if (input == null || destination == null || filter == null) {
+            throw new NullPointerException();
+        }
+        return deserializeJSONFromStringFilteredNative(
+                input, destination, filter.getMode(), filter.getKeyPaths(), filter.getPredicate());
+    }
+
+    private native boolean deserializeJSONFromStringFilteredNative(
+            String input, Any destination, int filterMode, String[] keyPaths, Predicate<String> predicate)
+            throws OpenTimelineIOException;
+
+    /**
+     * Deserialize an OTIO JSON file without the metadata entries that the filter drops
+     * and get the result in an Any object.
+     *
+     * @param fileName    path to JSON file
+     * @param destination JSON will be deserialized into this object
+     * @param filter      metadata entries to keep
+     * @return was the JSON deserialized successfully?
+     */
+    public boolean deserializeJSONFromFile(
+            String fileName, Any destination, MetadataFilter filter) throws OpenTimelineIOException {
+        if (fileName == null || destination == null || filter == null) {
+            throw new NullPointerException();
+        }
+        return deserializeJSONFromFileFilteredNative(
+                fileName, destination, filter.getMode(), filter.getKeyPaths(), filter.getPredicate());
+    }
+
+    private native boolean deserializeJSONFromFileFilteredNative(
+            String fileName, Any destination, int filterMode, String[] keyPaths, Predicate<String> predicate)
+            throws OpenTimelineIOException;
+
+    /**
+     * Deserialize UTF-8 OTIO JSON from the remaining bytes of a buffer and get the result in an Any object.
+     * Direct buffers, including MappedByteBuffers from FileChannel.map(), are parsed by native code
+     * where they are, without copying the document into a String first. Heap buffers are copied once.
+     * On success the position of the buffer is moved to its limit.
+     *
+     * @param input       buffer holding the JSON between its position and limit
+     * @param destination JSON will be deserialized into this object
+     * @return was the JSON deserialized successfully?
+     */
+    public boolean deserializeJSONFromBuffer(
+            ByteBuffer input, Any destination) throws OpenTimelineIOException {
+        if (input == null || destination == null) {
+            throw new NullPointerException();
+        }
+        ByteBuffer direct = directBuffer(input);
+        boolean result = deserializeJSONFromBufferNative(
+                direct, direct.position(), direct.remaining(), destination);
+        if (result) {
+            input.position(input.limit());
+        }
+        return result;
+    }
+
+    private native boolean deserializeJSONFromBufferNative(
+            ByteBuffer input, int offset, int length, Any destination) throws OpenTimelineIOException;
+
+    /**
+     * Deserialize UTF-8 OTIO JSON read from a channel and get the result in an Any object.
+     * The JSON is handed to the native parser chunk by chunk while it is being read,
+     * it is never held in memory as a whole. The channel must be in blocking mode and is not closed.
+     *
+     * @param input       channel to read the JSON from until its end
+     * @param destination JSON will be deserialized into this object
+     * @return was the JSON deserialized successfully?
+     * @throws IOException if reading the channel fails
+     */
+    public boolean deserializeJSONFromChannel(
+            ReadableByteChannel input, Any destination) throws IOException, OpenTimelineIOException {
+        if (input == null || destination == null) {
+            throw new NullPointerException();
+        }
+        return deserializeJSONFromChannelNative(input, streamBuffer.get(), destination);
+    }
+
+    /**
+     * Deserialize UTF-8 OTIO JSON read from a stream and get the result in an Any object.
+     * The stream is not closed.
+     *
+     * @param input       stream to read the JSON from until its end
+     * @param destination JSON will be deserialized into this object
+     * @return was the JSON deserialized successfully?
+     * @throws IOException if reading the stream fails
+     * @see #deserializeJSONFromChannel(ReadableByteChannel, Any)
+     */
+    public boolean deserializeJSONFromStream(
+            InputStream input, Any destination) throws IOException, OpenTimelineIOException {
+        if (input == null) {
+            throw new NullPointerException();
+        }
+        return deserializeJSONFromChannel(Channels.newChannel(input), destination);
+    }
+
+    /**
+     * Deserialize a compressed OTIO JSON file, such as one written by
+     * Serialization.serializeJSONToFile(Any, Path, CompressionCodec, int), and get the result in an Any object.
+     * The file is decompressed while it is being parsed, the uncompressed JSON is never held in memory as a whole.
+     *
+     * @param path        file to read
+     * @param codec       compression the file was written with, or null for plain JSON
+     * @param destination JSON will be deserialized into this object
+     * @return was the JSON deserialized successfully?
+     * @throws IOException if the file cannot be read or decompressed
+     * @see CompressionCodecs#forFileName(String)
+     */
+    public boolean deserializeJSONFromFile(
+            Path path, CompressionCodec codec, Any destination) throws IOException, OpenTimelineIOException {
+        if (path == null || destination == null) {
+            throw new NullPointerException();
+        }
+        try (InputStream file = Files.newInputStream(path);
+             InputStream in = codec == null ? file : codec.decompress(file)) {
+            return deserializeJSONFromStream(in, destination);
+        }
+    }
+
+    private native boolean deserializeJSONFromChannelNative(
+            ReadableByteChannel input, ByteBuffer buffer, Any destination)
+            throws IOException, OpenTimelineIOException;
+
+    /**
+     * Deserialize a document written by Serialization.serializeBinary() and get the result in an Any object.
+     *
+     * @param input       binary document
+     * @param destination the document will be deserialized into this object
+     * @return was the document deserialized successfully?
+     */
+    public boolean deserializeBinary(byte[] input, Any destination) throws OpenTimelineIOException {
+        if (input == null || destination == null) {
+            throw new NullPointerException();
+        }
+        return deserializeBinaryNative(input, destination);
+    }
+
+    private native boolean deserializeBinaryNative(byte[] input, Any destination) throws OpenTimelineIOException;
+
+    /**
+     * @return the buffer itself if it is direct, otherwise a direct copy of its remaining bytes
+     */
+    static ByteBuffer directBuffer(ByteBuffer buffer) {
+        if (buffer.isDirect()) {
+            return buffer;
+        }
+        ByteBuffer direct = ByteBuffer.allocateDirect(buffer.remaining());
+        direct.put(buffer.duplicate());
+        direct.flip();
+        return direct;
+    }
+
+    /**
+     * Called from native code for the next chunk, which is placed at the start of buffer.
+     *
+     * @return number of bytes read, -1 at the end of the channel
+     */
+    private static int readChunk(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        int count;
+        do {
+            count = channel.read(buffer);
+        } while (count == 0);
+        return count;
+    }
 }
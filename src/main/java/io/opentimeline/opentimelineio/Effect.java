@@ -27,7 +27,7 @@ public class Effect extends SerializableObjectWithMetadata {
 
     private void initObject(String name, String effectName, AnyDictionary metadata) {
         this.initialize(name, effectName, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name, String effectName, AnyDictionary metadata);
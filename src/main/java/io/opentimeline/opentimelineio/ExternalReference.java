@@ -31,7 +31,7 @@ public class ExternalReference extends MediaReference {
 
     private void initObject(String targetURL, TimeRange availableRange, AnyDictionary metadata) {
         this.initialize(targetURL, availableRange, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name, TimeRange availableRange, AnyDictionary metadata);
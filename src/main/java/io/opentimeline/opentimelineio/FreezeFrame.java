@@ -27,7 +27,7 @@ public class FreezeFrame extends LinearTimeWarp {
 
     private void initObject(String name, AnyDictionary metadata) {
         this.initialize(name, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name, AnyDictionary metadata);
@@ -83,7 +83,7 @@ public class Gap extends Item {
                 effectsArray,
                 markersArray,
                 metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private void initObject(RationalTime duration,
@@ -101,7 +101,7 @@ public class Gap extends Item {
                 effectsArray,
                 markersArray,
                 metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initializeSourceRange(TimeRange sourceRange,
@@ -54,7 +54,7 @@ public class GeneratorReference extends MediaReference {
                 availableRange,
                 parameters,
                 metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name,
@@ -130,7 +130,7 @@ public class ImageSequenceReference extends MediaReference {
                 missingFramePolicy.ordinal(),
                 availableRange,
                 metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String targetURLBase,
@@ -87,7 +87,7 @@ public class Item extends Composable {
                 effectsArray,
                 markersArray,
                 enabled);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name,
@@ -159,7 +159,12 @@ public class Item extends Composable {
 
     public native TimeRange getSourceRange();
 
-    public native void setSourceRange(TimeRange sourceRange);
+    public void setSourceRange(TimeRange sourceRange) {
+        setSourceRangeNative(sourceRange);
+        CompositionTimeIndex.edited(this);
+    }
+
+    private native void setSourceRangeNative(TimeRange sourceRange);
 
     public List<Effect> getEffects() {
         return Arrays.asList(getEffectsNative());
@@ -0,0 +1,588 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.exception.JSONParseException;
+import io.opentimeline.opentimelineio.exception.MalformedSchemaException;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+import io.opentimeline.opentimelineio.exception.TypeMismatchException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An OTIO Timeline JSON document that is indexed instead of loaded.
+ * <p>
+ * Opening a document only records where the timeline's metadata, its tracks and the
+ * children of every track are, along with the names and kinds of the tracks. No native
+ * object is built until one is asked for: getTrack(), getChild() and getMetadata()
+ * deserialize just that part of the document, and getDuration() loads one track at a time.
+ * "Peek" queries on large timelines therefore answer sooner and with a fraction of the
+ * memory that SerializableObject.fromJSONFile() needs, which builds the whole graph
+ * including every metadata dictionary.
+ * <p>
+ * Only the timeline's own metadata is deferred to getMetadata(). A track or child is
+ * deserialized as a whole, so its metadata, and that of every object below it, is decoded
+ * along with it even if it is never read. Where that metadata is large and not needed,
+ * load the document with SerializableObject.fromJSONFile(String, MetadataFilter) instead.
+ * <pre>
+ * LazyTimeline lazy = LazyTimeline.open(Paths.get("show.otio"));
+ * for (int i = 0; i &lt; lazy.getTrackCount(); i++) {
+ *     if (Track.Kind.audio.equals(lazy.getTrackKind(i))) continue;
+ *     Composable first = lazy.getChild(i, 0);
+ *     ...
+ *     first.close();
+ * }
+ * </pre>
+ * Every returned object is newly deserialized, independent of the others and owned by the
+ * caller, who is responsible for closing it. The index only checks the structure it needs,
+ * errors elsewhere in the document surface when that part is deserialized.
+ * Instances are immutable and can be shared between threads.
+ */
+public class LazyTimeline {
+
+    private final ByteBuffer json;
+    private final String name;
+    private final int metadataStart;
+    private final int metadataEnd;
+    private final int tracksStart;
+    private final int tracksEnd;
+    private final int tracksChildrenStart;
+    private final int tracksChildrenEnd;
+    // start and end offsets of the children of the stack, then of the children of every track
+    private final int[] trackRanges;
+    private final int[][] childRanges;
+    private final String[] trackNames;
+    private final String[] trackKinds;
+
+    private LazyTimeline(ByteBuffer json) throws OpenTimelineIOException {
+        this.json = json;
+        Scanner scanner = new Scanner(json);
+
+        Field[] root = scanner.scanObject(scanner.skipWhitespace(0), "OTIO_SCHEMA", "name", "metadata", "tracks");
+        String schema = scanner.readString(root[0]);
+        if (schema == null || !schema.startsWith("Timeline.")) {
+            throw new MalformedSchemaException("expected a Timeline document but found schema " + schema);
+        }
+        this.name = scanner.readString(root[1]);
+        this.metadataStart = root[2] == null ? -1 : root[2].start;
+        this.metadataEnd = root[2] == null ? -1 : root[2].end;
+        if (root[3] == null || root[3].isNull(json)) {
+            throw new MalformedSchemaException("Timeline document without tracks");
+        }
+        this.tracksStart = root[3].start;
+        this.tracksEnd = root[3].end;
+
+        Field tracksChildren = scanner.scanObject(tracksStart, "children")[0];
+        if (tracksChildren == null) {
+            throw new MalformedSchemaException("tracks of the Timeline without children");
+        }
+        this.tracksChildrenStart = tracksChildren.start;
+        this.tracksChildrenEnd = tracksChildren.end;
+        this.trackRanges = scanner.scanArray(tracksChildrenStart);
+
+        int trackCount = trackRanges.length / 2;
+        this.childRanges = new int[trackCount][];
+        this.trackNames = new String[trackCount];
+        this.trackKinds = new String[trackCount];
+        for (int i = 0; i < trackCount; i++) {
+            Field[] track = scanner.scanObject(trackRanges[2 * i], "name", "kind", "children");
+            trackNames[i] = scanner.readString(track[0]);
+            trackKinds[i] = scanner.readString(track[1]);
+            childRanges[i] = track[2] == null ? new int[0] : scanner.scanArray(track[2].start);
+        }
+    }
+
+    /**
+     * Index a Timeline JSON file. The file is memory mapped, so only the pages that are
+     * scanned or deserialized are read and none of it is copied into the Java heap.
+     * Files must be smaller than 2GB.
+     *
+     * @param path .otio file
+     * @return the indexed timeline
+     * @throws IOException if the file cannot be read
+     */
+    public static LazyTimeline open(Path path) throws IOException, OpenTimelineIOException {
+        if (path == null) {
+            throw new NullPointerException();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new LazyTimeline(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Index Timeline JSON held between the position and limit of a buffer.
+     * Direct buffers are used in place and must not change while the LazyTimeline is in use,
+     * heap buffers are copied once.
+     *
+     * @param input buffer holding UTF-8 JSON
+     * @return the indexed timeline
+     */
+    public static LazyTimeline fromJSON(ByteBuffer input) throws OpenTimelineIOException {
+        if (input == null) {
+            throw new NullPointerException();
+        }
+        return new LazyTimeline(Deserialization.directBuffer(input).slice());
+    }
+
+    /**
+     * @return name of the timeline, null if the document has none
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of children of the timeline's stack, usually tracks
+     */
+    public int getTrackCount() {
+        return trackRanges.length / 2;
+    }
+
+    /**
+     * @param track index of the track
+     * @return name of the track, null if it has none
+     */
+    public String getTrackName(int track) {
+        checkTrackIndex(track);
+        return trackNames[track];
+    }
+
+    /**
+     * @param track index of the track
+     * @return kind of the track, such as Track.Kind.video, null if it is not a track
+     */
+    public String getTrackKind(int track) {
+        checkTrackIndex(track);
+        return trackKinds[track];
+    }
+
+    /**
+     * @param track index of the track
+     * @return number of children of the track
+     */
+    public int getChildCount(int track) {
+        checkTrackIndex(track);
+        return childRanges[track].length / 2;
+    }
+
+    /**
+     * Deserialize one track with all its children.
+     * The metadata of the track and of its children is decoded with them.
+     *
+     * @param track index of the track
+     * @return the track, usually a Track, a Stack if tracks are nested
+     */
+    public Composition getTrack(int track) throws OpenTimelineIOException {
+        checkTrackIndex(track);
+        return deserialize(trackRanges[2 * track], trackRanges[2 * track + 1], Composition.class);
+    }
+
+    /**
+     * Deserialize a single child of a track without the rest of the track.
+     * The child has no parent, and its metadata is decoded with it.
+     *
+     * @param track index of the track
+     * @param child index of the child in the track
+     * @return the child, such as a Clip, Gap or Transition
+     */
+    public Composable getChild(int track, int child) throws OpenTimelineIOException {
+        checkTrackIndex(track);
+        int[] ranges = childRanges[track];
+        if (child < 0 || child >= ranges.length / 2) {
+            throw new IndexOutOfBoundsException("child " + child + " of " + ranges.length / 2);
+        }
+        return deserialize(ranges[2 * child], ranges[2 * child + 1], Composable.class);
+    }
+
+    /**
+     * Deserialize the metadata of the timeline alone.
+     *
+     * @return the metadata, empty if the document has none
+     */
+    public AnyDictionary getMetadata() throws OpenTimelineIOException {
+        if (metadataStart < 0 || json.get(metadataStart) == 'n') {
+            return new AnyDictionary();
+        }
+        Any destination = new Any(new AnyDictionary());
+        try {
+            ByteBuffer slice = slice(metadataStart, metadataEnd);
+            if (!new Deserialization().deserializeJSONFromBuffer(slice, destination)) {
+                throw new JSONParseException("could not deserialize the metadata of the timeline");
+            }
+            return destination.safelyCastAnyDictionary();
+        } finally {
+            try {
+                destination.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Compute the duration of the timeline as Timeline.getDuration() does.
+     * The stack is deserialized without its children, then the tracks one after another,
+     * so no more than one track is held in memory at a time.
+     *
+     * @return duration of the timeline
+     */
+    public RationalTime getDuration() throws OpenTimelineIOException {
+        Stack stack = deserializeStackWithoutChildren();
+        try {
+            TimeRange sourceRange = stack.getSourceRange();
+            if (sourceRange != null) {
+                return sourceRange.getDuration();
+            }
+        } finally {
+            try {
+                stack.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        RationalTime duration = null;
+        for (int i = 0; i < getTrackCount(); i++) {
+            Composition track = getTrack(i);
+            try {
+                RationalTime trackDuration = track.getDuration();
+                if (duration == null || trackDuration.compareTo(duration) > 0) {
+                    duration = trackDuration;
+                }
+            } finally {
+                try {
+                    track.close();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+        return duration == null ? new RationalTime() : duration;
+    }
+
+    /**
+     * Deserialize the whole document, the same as SerializableObject.fromJSON() would.
+     *
+     * @return the timeline
+     */
+    public Timeline load() throws OpenTimelineIOException {
+        return deserialize(0, json.limit(), Timeline.class);
+    }
+
+    private Stack deserializeStackWithoutChildren() throws OpenTimelineIOException {
+        int head = tracksChildrenStart - tracksStart;
+        int tail = tracksEnd - tracksChildrenEnd;
+        byte[] bytes = new byte[head + 2 + tail];
+        slice(tracksStart, tracksChildrenStart).get(bytes, 0, head);
+        bytes[head] = '[';
+        bytes[head + 1] = ']';
+        slice(tracksChildrenEnd, tracksEnd).get(bytes, head + 2, tail);
+        SerializableObject object = SerializableObject.fromJSON(ByteBuffer.wrap(bytes));
+        return cast(object, Stack.class);
+    }
+
+    private <T extends SerializableObject> T deserialize(
+            int start, int end, Class<T> type) throws OpenTimelineIOException {
+        return cast(SerializableObject.fromJSON(slice(start, end)), type);
+    }
+
+    private static <T extends SerializableObject> T cast(
+            SerializableObject object, Class<T> type) throws TypeMismatchException {
+        if (!type.isInstance(object)) {
+            String found = object.getClass().getSimpleName();
+            try {
+                object.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            throw new TypeMismatchException("expected " + type.getSimpleName() + " but found " + found);
+        }
+        return type.cast(object);
+    }
+
+    private ByteBuffer slice(int start, int end) {
+        ByteBuffer slice = json.duplicate();
+        slice.limit(end);
+        slice.position(start);
+        return slice.slice();
+    }
+
+    private void checkTrackIndex(int track) {
+        if (track < 0 || track >= getTrackCount()) {
+            throw new IndexOutOfBoundsException("track " + track + " of " + getTrackCount());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getCanonicalName() +
+                "(name=" + name +
+                ", tracks=" + Arrays.toString(trackNames) + ")";
+    }
+
+    /**
+     * Offsets of a value in the document, end exclusive.
+     */
+    private static class Field {
+        final int start;
+        final int end;
+
+        Field(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        boolean isNull(ByteBuffer json) {
+            return json.get(start) == 'n';
+        }
+    }
+
+    /**
+     * Skips over JSON values, only decoding the keys and strings it is asked for.
+     */
+    private static class Scanner {
+        private final ByteBuffer json;
+        private final int end;
+
+        Scanner(ByteBuffer json) {
+            this.json = json;
+            this.end = json.limit();
+        }
+
+        int skipWhitespace(int pos) {
+            while (pos < end) {
+                byte b = json.get(pos);
+                if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    break;
+                }
+                pos++;
+            }
+            return pos;
+        }
+
+        /**
+         * Finds the values of the given keys among the members of the object at pos.
+         *
+         * @return the value of every key in the order of keys, null where a key is missing
+         */
+        Field[] scanObject(int pos, String... keys) throws JSONParseException {
+            Field[] fields = new Field[keys.length];
+            pos = expect(pos, '{');
+            pos = skipWhitespace(pos);
+            if (peek(pos) == '}') {
+                return fields;
+            }
+            for (; ; ) {
+                pos = skipWhitespace(pos);
+                if (peek(pos) != '"') {
+                    throw error(pos, "expected a key");
+                }
+                int keyEnd = skipString(pos);
+                int valueStart = skipWhitespace(expect(keyEnd, ':'));
+                int valueEnd = skipValue(valueStart);
+                for (int i = 0; i < keys.length; i++) {
+                    if (fields[i] == null && keyEquals(pos, keyEnd, keys[i])) {
+                        fields[i] = new Field(valueStart, valueEnd);
+                        break;
+                    }
+                }
+                pos = skipWhitespace(valueEnd);
+                byte b = peek(pos++);
+                if (b == '}') {
+                    return fields;
+                }
+                if (b != ',') {
+                    throw error(pos - 1, "expected ',' or '}'");
+                }
+            }
+        }
+
+        /**
+         * @return start and end offsets of every element of the array at pos
+         */
+        int[] scanArray(int pos) throws JSONParseException {
+            int[] ranges = new int[16];
+            int count = 0;
+            pos = skipWhitespace(expect(pos, '['));
+            if (peek(pos) == ']') {
+                return new int[0];
+            }
+            for (; ; ) {
+                int valueStart = skipWhitespace(pos);
+                int valueEnd = skipValue(valueStart);
+                if (count + 2 > ranges.length) {
+                    ranges = Arrays.copyOf(ranges, ranges.length * 2);
+                }
+                ranges[count++] = valueStart;
+                ranges[count++] = valueEnd;
+                pos = skipWhitespace(valueEnd);
+                byte b = peek(pos++);
+                if (b == ']') {
+                    return Arrays.copyOf(ranges, count);
+                }
+                if (b != ',') {
+                    throw error(pos - 1, "expected ',' or ']'");
+                }
+            }
+        }
+
+        /**
+         * @return the decoded string, null if the field is missing or not a string
+         */
+        String readString(Field field) throws JSONParseException {
+            if (field == null || json.get(field.start) != '"') {
+                return null;
+            }
+            StringBuilder builder = new StringBuilder(field.end - field.start);
+            int runStart = field.start + 1;
+            int pos = runStart;
+            int last = field.end - 1;
+            while (pos < last) {
+                if (json.get(pos) != '\\') {
+                    pos++;
+                    continue;
+                }
+                appendUTF8(builder, runStart, pos);
+                byte escaped = peek(pos + 1);
+                pos += 2;
+                switch (escaped) {
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'u':
+                        if (pos + 4 > last) {
+                            throw error(pos, "truncated unicode escape");
+                        }
+                        builder.append((char) Integer.parseInt(ascii(pos, pos + 4), 16));
+                        pos += 4;
+                        break;
+                    default:
+                        builder.append((char) escaped);
+                }
+                runStart = pos;
+            }
+            appendUTF8(builder, runStart, last);
+            return builder.toString();
+        }
+
+        private void appendUTF8(StringBuilder builder, int start, int end) {
+            if (start < end) {
+                byte[] bytes = new byte[end - start];
+                for (int i = start; i < end; i++) {
+                    bytes[i - start] = json.get(i);
+                }
+                builder.append(new String(bytes, StandardCharsets.UTF_8));
+            }
+        }
+
+        private String ascii(int start, int end) {
+            char[] chars = new char[end - start];
+            for (int i = start; i < end; i++) {
+                chars[i - start] = (char) json.get(i);
+            }
+            return new String(chars);
+        }
+
+        private boolean keyEquals(int start, int end, String key) {
+            // keys of the OTIO schemas are plain ASCII, a key with escapes never matches
+            if (end - start - 2 != key.length()) {
+                return false;
+            }
+            for (int i = 0; i < key.length(); i++) {
+                if (json.get(start + 1 + i) != key.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int skipValue(int pos) throws JSONParseException {
+            byte b = peek(pos);
+            if (b == '"') {
+                return skipString(pos);
+            }
+            if (b == '{' || b == '[') {
+                int depth = 0;
+                do {
+                    b = peek(pos);
+                    if (b == '"') {
+                        pos = skipString(pos);
+                        continue;
+                    }
+                    if (b == '{' || b == '[') {
+                        depth++;
+                    } else if (b == '}' || b == ']') {
+                        depth--;
+                    }
+                    pos++;
+                } while (depth > 0);
+                return pos;
+            }
+            int start = pos;
+            while (pos < end) {
+                b = json.get(pos);
+                if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    break;
+                }
+                pos++;
+            }
+            if (pos == start) {
+                throw error(pos, "expected a value");
+            }
+            return pos;
+        }
+
+        private int skipString(int pos) throws JSONParseException {
+            pos++;
+            for (; ; ) {
+                byte b = peek(pos++);
+                if (b == '"') {
+                    return pos;
+                }
+                if (b == '\\') {
+                    pos++;
+                }
+            }
+        }
+
+        private int expect(int pos, char c) throws JSONParseException {
+            pos = skipWhitespace(pos);
+            if (peek(pos) != c) {
+                throw error(pos, "expected '" + c + "'");
+            }
+            return pos + 1;
+        }
+
+        private byte peek(int pos) throws JSONParseException {
+            if (pos >= end) {
+                throw error(pos, "unexpected end of document");
+            }
+            return json.get(pos);
+        }
+
+        private JSONParseException error(int pos, String message) {
+            return new JSONParseException(message + " at offset " + pos);
+        }
+    }
+}
@@ -35,7 +35,7 @@ public class LinearTimeWarp extends TimeEffect {
             double timeScalar,
             AnyDictionary metadata) {
         this.initialize(name, effectName, timeScalar, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(
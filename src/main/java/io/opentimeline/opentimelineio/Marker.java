@@ -48,7 +48,7 @@ public class Marker extends SerializableObjectWithMetadata {
             String color,
             AnyDictionary metadata) {
         this.initialize(name, markedRange, color, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(
@@ -31,7 +31,7 @@ public class MediaReference extends SerializableObjectWithMetadata {
 
     private void initObject(String name, TimeRange availableRange, AnyDictionary metadata) {
         this.initialize(name, availableRange, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name, TimeRange availableRange, AnyDictionary metadata);
@@ -67,7 +67,12 @@ public class MediaReference extends SerializableObjectWithMetadata {
 
     public native TimeRange getAvailableRange();
 
-    public native void setAvailableRange(TimeRange availableRange);
+    public void setAvailableRange(TimeRange availableRange) {
+        setAvailableRangeNative(availableRange);
+        CompositionTimeIndex.editedAnywhere();
+    }
+
+    private native void setAvailableRangeNative(TimeRange availableRange);
 
     public native boolean isMissingReference();
 
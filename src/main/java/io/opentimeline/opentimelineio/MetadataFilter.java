@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Selects the metadata entries that are kept when a document is deserialized.
+ * <p>
+ * Dropped entries are skipped while the JSON is parsed, they are never built as
+ * AnyDictionary or AnyVector values. The filter applies to the metadata of every object
+ * in the document. Entries are named by key paths, the keys from the metadata dictionary
+ * down to the entry joined with dots: "AAF.ComponentAttributeList" is the
+ * ComponentAttributeList entry of the AAF dictionary in the metadata of an object.
+ * Lists do not add to key paths, the dictionaries in a list share the path of the list.
+ * Objects stored in metadata, such as a Marker, are kept or dropped whole, the filter is not
+ * asked for the entries below them: allowing "marker.name" keeps the entire Marker stored
+ * under "marker". Without its OTIO_SCHEMA entry an object would come back as a dictionary,
+ * and without a field it requires it would fail to load.
+ * <pre>
+ * // vendor leftovers are never loaded
+ * SerializableObject timeline = SerializableObject.fromJSONFile("show.otio", MetadataFilter.deny("AAF", "ALE"));
+ * </pre>
+ */
+public final class MetadataFilter {
+
+    // same values as MetadataFilter::Mode in metadata_filter.h
+    static final int ALLOW = 0;
+    static final int DENY = 1;
+    static final int PREDICATE = 2;
+
+    private final int mode;
+    private final String[] keyPaths;
+    private final Predicate<String> predicate;
+
+    private MetadataFilter(int mode, String[] keyPaths, Predicate<String> predicate) {
+        this.mode = mode;
+        this.keyPaths = keyPaths;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Keep only the given entries, everything below them and the dictionaries leading to them.
+     *
+     * @param keyPaths key paths of the entries to keep
+     * @return the filter
+     */
+    public static MetadataFilter allow(String... keyPaths) {
+        return new MetadataFilter(ALLOW, checkKeyPaths(keyPaths), null);
+    }
+
+    /**
+     * Drop the given entries and everything below them, keep everything else.
+     *
+     * @param keyPaths key paths of the entries to drop
+     * @return the filter
+     */
+    public static MetadataFilter deny(String... keyPaths) {
+        return new MetadataFilter(DENY, checkKeyPaths(keyPaths), null);
+    }
+
+    /**
+     * Keep the entries whose key path the predicate accepts. The predicate is asked once for every
+     * distinct key path in a document and is not asked for paths below an entry it dropped.
+     * It runs on the deserializing thread, an exception it throws ends deserialization.
+     *
+     * @param predicate test for key paths
+     * @return the filter
+     */
+    public static MetadataFilter matching(Predicate<String> predicate) {
+        if (predicate == null) {
+            throw new NullPointerException();
+        }
+        return new MetadataFilter(PREDICATE, new String[0], predicate);
+    }
+
+    private static String[] checkKeyPaths(String[] keyPaths) {
+        String[] copy = keyPaths.clone();
+        for (String keyPath : copy) {
+            if (keyPath == null) {
+                throw new NullPointerException();
+            }
+        }
+        return copy;
+    }
+
+    int getMode() {
+        return mode;
+    }
+
+    String[] getKeyPaths() {
+        return keyPaths;
+    }
+
+    Predicate<String> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public String toString() {
+        switch (mode) {
+            case ALLOW:
+                return this.getClass().getCanonicalName() + "(allow=" + Arrays.toString(keyPaths) + ")";
+            case DENY:
+                return this.getClass().getCanonicalName() + "(deny=" + Arrays.toString(keyPaths) + ")";
+            default:
+                return this.getClass().getCanonicalName() + "(predicate=" + predicate + ")";
+        }
+    }
+}
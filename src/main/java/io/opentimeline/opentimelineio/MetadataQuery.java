@@ -0,0 +1,387 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.OTIOObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compiled predicate over metadata, evaluated in native code.
+ * <p>
+ * An expression compares metadata values, named by key paths, with literals:
+ * <pre>
+ * cmx_3600.reel == 'A001' &amp;&amp; (fps &gt;= 24 || !proxy)
+ * </pre>
+ * Key paths are relative to the metadata dictionary, the keys leading to a value joined
+ * with dots. Keys are letters, digits and any of _-$, other keys are quoted with backticks:
+ * <code>`AAF`.`Component Attributes`.reel</code>. Literals are strings in single or double
+ * quotes, integers, floating point numbers, true, false and null. The operators are
+ * ==, !=, &lt;, &lt;=, &gt; and &gt;= for comparisons, and !, &amp;&amp; and || with
+ * parentheses to combine them.
+ * <ul>
+ * <li>A key path on its own is true if the value exists and is not null.</li>
+ * <li>Numbers compare numerically whether stored as integers or floating point,
+ * strings compare by their UTF-8 bytes, booleans and null only compare with == and !=.</li>
+ * <li>A comparison is false when the key path does not exist or holds a value of
+ * another type, for != as well. Use !path to match objects without a value.</li>
+ * </ul>
+ * <pre>
+ * MetadataQuery query = MetadataQuery.compile("cmx_3600.reel == 'A001'");
+ * List&lt;Clip&gt; clips = query.find(timeline.getTracks(), Clip.class);
+ * </pre>
+ * The expression is compiled into native code once, when the query is created, and
+ * every matches() and find() call evaluates that compiled form. It is freed by close()
+ * or once the query is garbage collected.
+ * Queries are immutable and can be shared between threads.
+ */
+public final class MetadataQuery extends OTIOObject {
+
+    // same values as the constants in metadata_query.h
+    static final int INSTRUCTION_SIZE = 6;
+
+    static final int EXISTS = 0;
+    static final int COMPARE = 1;
+    static final int NOT = 2;
+    static final int AND = 3;
+    static final int OR = 4;
+
+    static final int EQ = 0;
+    static final int NE = 1;
+    static final int LT = 2;
+    static final int LE = 3;
+    static final int GT = 4;
+    static final int GE = 5;
+
+    static final int STRING = 0;
+    static final int INTEGER = 1;
+    static final int DOUBLE = 2;
+    static final int BOOLEAN = 3;
+    static final int NULL = 4;
+
+    private final String expression;
+
+    private MetadataQuery(String expression, Parser parser) {
+        this.expression = expression;
+        this.initialize(
+                parser.code.stream().mapToInt(Integer::intValue).toArray(),
+                parser.keys.toArray(new String[0]),
+                parser.strings.toArray(new String[0]),
+                parser.integers.stream().mapToLong(Long::longValue).toArray(),
+                parser.doubles.stream().mapToDouble(Double::doubleValue).toArray());
+        this.initNativeManager();
+    }
+
+    /*
+     * code is the expression in postfix order, INSTRUCTION_SIZE ints per instruction:
+     * opcode, first key of the path in keys, key count, operator,
+     * literal kind, index of the literal in strings/integers/doubles (or the boolean).
+     */
+    private native void initialize(
+            int[] code, String[] keys, String[] strings, long[] integers, double[] doubles);
+
+    /**
+     * Compile a metadata expression.
+     *
+     * @param expression metadata expression
+     * @return the compiled query
+     * @throws IllegalArgumentException if the expression is not valid
+     */
+    public static MetadataQuery compile(String expression) {
+        if (expression == null) {
+            throw new NullPointerException();
+        }
+        Parser parser = new Parser(expression);
+        parser.parse();
+        return new MetadataQuery(expression, parser);
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @param object object to test
+     * @return does the metadata of the object match the query?
+     */
+    public boolean matches(SerializableObjectWithMetadata object) {
+        if (object == null) {
+            throw new NullPointerException();
+        }
+        return matchesNative(object);
+    }
+
+    /**
+     * Find the descendants of a composition whose metadata matches the query,
+     * at any depth and in the order of Composition.eachChild(). The composition
+     * itself is not tested. Only the matches cross into Java.
+     *
+     * @param root composition to search
+     * @return matching children and grandchildren
+     */
+    public List<Composable> find(Composition root) {
+        return find(root, Composable.class);
+    }
+
+    /**
+     * Find the descendants of a composition of a class whose metadata matches the query,
+     * at any depth and in the order of Composition.eachChild(). The composition itself
+     * is not tested. Only the matches cross into Java.
+     *
+     * @param root          composition to search
+     * @param descendedFrom class of the descendants to test
+     * @param <T>           type of the descendants
+     * @return matching children and grandchildren of class descendedFrom
+     */
+    public <T extends Composable> List<T> find(Composition root, Class<T> descendedFrom) {
+        if (root == null || descendedFrom == null) {
+            throw new NullPointerException();
+        }
+        return Arrays.asList(findNative(root, descendedFrom));
+    }
+
+    private native boolean matchesNative(SerializableObjectWithMetadata object);
+
+    private native <T extends Composable> T[] findNative(Composition root, Class<T> descendedFrom);
+
+    @Override
+    public String toString() {
+        return this.getClass().getCanonicalName() + "(" + expression + ")";
+    }
+
+    /*
+     * Recursive descent parser emitting postfix code:
+     *   or         := and ("||" and)*
+     *   and        := unary ("&&" unary)*
+     *   unary      := "!" unary | "(" or ")" | comparison
+     *   comparison := path (operator literal)?
+     */
+    private static class Parser {
+        private final String input;
+        private int position;
+
+        private final List<Integer> code = new ArrayList<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<String> strings = new ArrayList<>();
+        private final List<Long> integers = new ArrayList<>();
+        private final List<Double> doubles = new ArrayList<>();
+
+        private Parser(String input) {
+            this.input = input;
+        }
+
+        private void parse() {
+            parseOr();
+            skipWhitespace();
+            if (position < input.length()) {
+                throw error("unexpected '" + input.charAt(position) + "'");
+            }
+        }
+
+        private void parseOr() {
+            parseAnd();
+            while (accept("||")) {
+                parseAnd();
+                emit(OR, 0, 0, 0, 0, 0);
+            }
+        }
+
+        private void parseAnd() {
+            parseUnary();
+            while (accept("&&")) {
+                parseUnary();
+                emit(AND, 0, 0, 0, 0, 0);
+            }
+        }
+
+        private void parseUnary() {
+            skipWhitespace();
+            if (accept("!")) {
+                parseUnary();
+                emit(NOT, 0, 0, 0, 0, 0);
+            } else if (accept("(")) {
+                parseOr();
+                if (!accept(")")) {
+                    throw error("expected ')'");
+                }
+            } else {
+                parseComparison();
+            }
+        }
+
+        private void parseComparison() {
+            int firstKey = keys.size();
+            parseKey();
+            while (accept(".")) {
+                parseKey();
+            }
+            int keyCount = keys.size() - firstKey;
+
+            int operator;
+            if (accept("==")) {
+                operator = EQ;
+            } else if (accept("!=")) {
+                operator = NE;
+            } else if (accept("<=")) {
+                operator = LE;
+            } else if (accept(">=")) {
+                operator = GE;
+            } else if (accept("<")) {
+                operator = LT;
+            } else if (accept(">")) {
+                operator = GT;
+            } else {
+                emit(EXISTS, firstKey, keyCount, 0, 0, 0);
+                return;
+            }
+            parseLiteral(firstKey, keyCount, operator);
+        }
+
+        private void parseKey() {
+            skipWhitespace();
+            int start = position;
+            if (position < input.length() && input.charAt(position) == '`') {
+                int end = input.indexOf('`', position + 1);
+                if (end < 0) {
+                    throw error("unterminated key");
+                }
+                keys.add(input.substring(position + 1, end));
+                position = end + 1;
+                return;
+            }
+            while (position < input.length() && isKeyCharacter(input.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw error("expected a key");
+            }
+            keys.add(input.substring(start, position));
+        }
+
+        private void parseLiteral(int firstKey, int keyCount, int operator) {
+            skipWhitespace();
+            if (position >= input.length()) {
+                throw error("expected a literal");
+            }
+            char c = input.charAt(position);
+            if (c == '\'' || c == '"') {
+                strings.add(parseString(c));
+                emit(COMPARE, firstKey, keyCount, operator, STRING, strings.size() - 1);
+            } else if (c == '-' || c == '+' || c == '.' || Character.isDigit(c)) {
+                parseNumber(firstKey, keyCount, operator);
+            } else if (acceptWord("true")) {
+                checkEquality(operator, "booleans");
+                emit(COMPARE, firstKey, keyCount, operator, BOOLEAN, 1);
+            } else if (acceptWord("false")) {
+                checkEquality(operator, "booleans");
+                emit(COMPARE, firstKey, keyCount, operator, BOOLEAN, 0);
+            } else if (acceptWord("null")) {
+                checkEquality(operator, "null");
+                emit(COMPARE, firstKey, keyCount, operator, NULL, 0);
+            } else {
+                throw error("expected a literal");
+            }
+        }
+
+        private String parseString(char quote) {
+            StringBuilder builder = new StringBuilder();
+            position++;
+            while (position < input.length()) {
+                char c = input.charAt(position++);
+                if (c == quote) {
+                    return builder.toString();
+                }
+                if (c == '\\' && position < input.length()) {
+                    c = input.charAt(position++);
+                }
+                builder.append(c);
+            }
+            throw error("unterminated string");
+        }
+
+        private void parseNumber(int firstKey, int keyCount, int operator) {
+            int start = position;
+            if (input.charAt(position) == '-' || input.charAt(position) == '+') {
+                position++;
+            }
+            boolean integral = true;
+            while (position < input.length()) {
+                char c = input.charAt(position);
+                if (c == '.' || c == 'e' || c == 'E') {
+                    integral = false;
+                } else if ((c == '-' || c == '+') && !integral) {
+                    char previous = input.charAt(position - 1);
+                    if (previous != 'e' && previous != 'E') break;
+                } else if (!Character.isDigit(c)) {
+                    break;
+                }
+                position++;
+            }
+            String number = input.substring(start, position);
+            try {
+                if (integral) {
+                    integers.add(Long.parseLong(number));
+                    emit(COMPARE, firstKey, keyCount, operator, INTEGER, integers.size() - 1);
+                } else {
+                    doubles.add(Double.parseDouble(number));
+                    emit(COMPARE, firstKey, keyCount, operator, DOUBLE, doubles.size() - 1);
+                }
+            } catch (NumberFormatException e) {
+                position = start;
+                throw error("invalid number '" + number + "'");
+            }
+        }
+
+        private void checkEquality(int operator, String what) {
+            if (operator != EQ && operator != NE) {
+                throw error(what + " can only be compared with == and !=");
+            }
+        }
+
+        private static boolean isKeyCharacter(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '$';
+        }
+
+        private boolean accept(String token) {
+            skipWhitespace();
+            if (input.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean acceptWord(String word) {
+            int end = position + word.length();
+            if (input.startsWith(word, position)
+                    && (end == input.length() || !isKeyCharacter(input.charAt(end)))) {
+                position = end;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+                position++;
+            }
+        }
+
+        private void emit(int opcode, int firstKey, int keyCount, int operator, int literalKind, int literal) {
+            code.add(opcode);
+            code.add(firstKey);
+            code.add(keyCount);
+            code.add(operator);
+            code.add(literalKind);
+            code.add(literal);
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(
+                    message + " at position " + position + " in metadata query: " + input);
+        }
+    }
+}
@@ -31,7 +31,7 @@ public class MissingReference extends MediaReference {
 
     private void initObject(String name, TimeRange availableRange, AnyDictionary metadata) {
         this.initialize(name, availableRange, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name, TimeRange availableRange, AnyDictionary metadata);
@@ -45,7 +45,7 @@ public class SerializableCollection extends SerializableObjectWithMetadata {
         SerializableObject[] serializableObjects = new SerializableObject[children.size()];
         serializableObjects = children.toArray(serializableObjects);
         this.initialize(name, serializableObjects, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name, SerializableObject[] children, AnyDictionary metadata);
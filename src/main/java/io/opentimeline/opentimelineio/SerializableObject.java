@@ -7,6 +7,17 @@ import io.opentimeline.OTIONative;
 import io.opentimeline.OTIOObject;
 import io.opentimeline.opentimelineio.exception.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
 /**
  * Base object for things that can be [de]serialized to/from .otio files.
  */
@@ -24,7 +35,7 @@ public class SerializableObject extends OTIOObject {
         if (this.getClass().getCanonicalName().equals("io.opentimeline.opentimelineio.SerializableObject"))
             this.initialize();
         if (this.nativeManager != null)
-            this.nativeManager.className = this.getClass().getCanonicalName();
+            this.initNativeManager();
     }
 
     private native void initialize();
@@ -37,10 +48,191 @@ public class SerializableObject extends OTIOObject {
 
     public native String toJSONString(int indent) throws OpenTimelineIOException;
 
+    /**
+     * Serialize this object as UTF-8 JSON to a channel without building the whole document in memory.
+     *
+     * @param channel channel to write to, must be in blocking mode
+     * @param indent  number of spaces to use for indentation in JSON
+     * @throws IOException if writing to the channel fails
+     * @see Serialization#serializeJSON(Any, WritableByteChannel, int)
+     */
+    public void toJSON(WritableByteChannel channel, int indent) throws IOException, OpenTimelineIOException {
+        Any value = new Any(this);
+        try {
+            new Serialization().serializeJSON(value, channel, indent);
+        } finally {
+            try {
+                value.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Serialize this object as UTF-8 JSON to a stream without building the whole document in memory.
+     *
+     * @param out    stream to write to
+     * @param indent number of spaces to use for indentation in JSON
+     * @throws IOException if writing to the stream fails
+     */
+    public void toJSON(OutputStream out, int indent) throws IOException, OpenTimelineIOException {
+        if (out == null) {
+            throw new NullPointerException();
+        }
+        toJSON(Channels.newChannel(out), indent);
+    }
+
     public static native SerializableObject fromJSONFile(String fileName) throws OpenTimelineIOException;
 
     public static native SerializableObject fromJSONString(String input) throws OpenTimelineIOException;
 
+    /**
+     * Deserialize a SerializableObject from a JSON file without the metadata entries that the filter drops.
+     *
+     * @param fileName path to JSON file
+     * @param filter   metadata entries to keep
+     * @return the deserialized object
+     * @see MetadataFilter
+     */
+    public static SerializableObject fromJSONFile(
+            String fileName, MetadataFilter filter) throws OpenTimelineIOException {
+        if (fileName == null || filter == null) {
+            throw new NullPointerException();
+        }
+        return fromJSONFileFilteredNative(fileName, filter.getMode(), filter.getKeyPaths(), filter.getPredicate());
+    }
+
+    private static native SerializableObject fromJSONFileFilteredNative(
+            String fileName, int filterMode, String[] keyPaths, Predicate<String> predicate)
+            throws OpenTimelineIOException;
+
+    /**
+     * Deserialize a SerializableObject from a JSON String without the metadata entries that the filter drops.
+     *
+     * @param input  JSON String
+     * @param filter metadata entries to keep
+     * @return the deserialized object
+     * @see MetadataFilter
+     */
+    public static SerializableObject fromJSONString(
+            String input, MetadataFilter filter) throws OpenTimelineIOException {
+        if (input == null || filter == null) {
+            throw new NullPointerException();
+        }
+        return fromJSONStringFilteredNative(input, filter.getMode(), filter.getKeyPaths(), filter.getPredicate());
+    }
+
+    private static native SerializableObject fromJSONStringFilteredNative(
+            String input, int filterMode, String[] keyPaths, Predicate<String> predicate)
+            throws OpenTimelineIOException;
+
+    /**
+     * Deserialize a SerializableObject from UTF-8 JSON between the position and limit of a buffer.
+     * Direct buffers, including MappedByteBuffers, are parsed in native memory without a String copy.
+     * On success the position of the buffer is moved to its limit.
+     *
+     * @param input buffer holding the JSON
+     * @return the deserialized object
+     * @see Deserialization#deserializeJSONFromBuffer(ByteBuffer, Any)
+     */
+    public static SerializableObject fromJSON(ByteBuffer input) throws OpenTimelineIOException {
+        if (input == null) {
+            throw new NullPointerException();
+        }
+        ByteBuffer direct = Deserialization.directBuffer(input);
+        SerializableObject result = fromJSONBufferNative(direct, direct.position(), direct.remaining());
+        input.position(input.limit());
+        return result;
+    }
+
+    private static native SerializableObject fromJSONBufferNative(
+            ByteBuffer input, int offset, int length) throws OpenTimelineIOException;
+
+    /**
+     * Deserialize a SerializableObject from UTF-8 JSON read from a stream until its end.
+     * The JSON is parsed while it is being read, it is never held in memory as a whole. The stream is not closed.
+     *
+     * @param input stream to read the JSON from
+     * @return the deserialized object
+     * @throws IOException if reading the stream fails
+     * @see Deserialization#deserializeJSONFromStream(InputStream, Any)
+     */
+    public static SerializableObject fromJSON(InputStream input) throws IOException, OpenTimelineIOException {
+        if (input == null) {
+            throw new NullPointerException();
+        }
+        return fromJSONChannelNative(Channels.newChannel(input), Deserialization.streamBuffer.get());
+    }
+
+    private static native SerializableObject fromJSONChannelNative(
+            ReadableByteChannel input, ByteBuffer buffer) throws IOException, OpenTimelineIOException;
+
+    /**
+     * Deserialize a SerializableObject from a JSON file that is optionally compressed, such as an .otio.gz file.
+     *
+     * @param path  file to read
+     * @param codec compression the file was written with, or null for plain JSON
+     * @return the deserialized object
+     * @throws IOException if the file cannot be read or decompressed
+     * @see CompressionCodecs#forFileName(String)
+     */
+    public static SerializableObject fromJSONFile(
+            Path path, CompressionCodec codec) throws IOException, OpenTimelineIOException {
+        if (path == null) {
+            throw new NullPointerException();
+        }
+        try (InputStream file = Files.newInputStream(path);
+             InputStream in = codec == null ? file : codec.decompress(file)) {
+            return fromJSON(in);
+        }
+    }
+
+    /**
+     * Serialize this object as JSON to a file, compressed with the given codec while it is being written.
+     *
+     * @param path   file to create or replace
+     * @param codec  compression to apply, such as {@link CompressionCodecs#GZIP}, or null to write plain JSON
+     * @param indent number of spaces to use for indentation in JSON
+     * @throws IOException if the file cannot be written
+     * @see Serialization#serializeJSONToFile(Any, Path, CompressionCodec, int)
+     */
+    public void toJSONFile(Path path, CompressionCodec codec, int indent) throws IOException, OpenTimelineIOException {
+        Any value = new Any(this);
+        try {
+            new Serialization().serializeJSONToFile(value, path, codec, indent);
+        } finally {
+            try {
+                value.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Serialize this object to the compact binary format.
+     *
+     * @return the encoded document
+     * @see Serialization#serializeBinary(Any)
+     */
+    public native byte[] toBinary() throws OpenTimelineIOException;
+
+    /**
+     * Deserialize a SerializableObject written by toBinary() or Serialization.serializeBinary().
+     *
+     * @param input binary document
+     * @return the deserialized object
+     */
+    public static SerializableObject fromBinary(byte[] input) throws OpenTimelineIOException {
+        if (input == null) {
+            throw new NullPointerException();
+        }
+        return fromBinaryNative(input);
+    }
+
+    private static native SerializableObject fromBinaryNative(byte[] input) throws OpenTimelineIOException;
+
     /**
      * Returns true if the contents of self and other match.
      *
@@ -74,6 +266,8 @@ public class SerializableObject extends OTIOObject {
 
     @Override
     public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
         if (!(obj instanceof SerializableObject))
             return false;
         return this.isEquivalentTo((SerializableObject) obj);
@@ -35,7 +35,7 @@ public class SerializableObjectWithMetadata extends SerializableObject {
 
     private void initObject(String name, AnyDictionary metadata) {
         this.initialize(name, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name, AnyDictionary metadata);
@@ -5,8 +5,25 @@ package io.opentimeline.opentimelineio;
 
 import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 public class Serialization {
 
+    /**
+     * Size of the direct buffer that streamed JSON passes through.
+     */
+    static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    // one buffer per thread, reused by every serializeJSON() call on that thread
+    private static final ThreadLocal<ByteBuffer> streamBuffer =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(STREAM_BUFFER_SIZE));
+
     /**
      * Serialize any OTIO object contained in an Any to a String.
      *
@@ -59,4 +76,96 @@ public class Serialization {
     private native boolean serializeJSONToFileNative(
             Any value, String fileName, int indent) throws OpenTimelineIOException ;
 
+    /**
+     * Serialize any OTIO object contained in an Any as UTF-8 JSON to a channel.
+     * The JSON is written in chunks while it is being produced, it is never held in memory as a whole.
+     * The channel must be in blocking mode and is not closed.
+     *
+     * @param value   Any to be serialized
+     * @param channel channel to write to
+     * @param indent  number of spaces to use for indentation in JSON
+     * @throws IOException if writing to the channel fails, the output is then incomplete
+     */
+    public void serializeJSON(
+            Any value, WritableByteChannel channel, int indent) throws IOException, OpenTimelineIOException {
+        if (value == null || channel == null) {
+            throw new NullPointerException();
+        }
+        serializeJSONToChannelNative(value, indent, channel, streamBuffer.get());
+    }
+
+    /**
+     * Serialize any OTIO object contained in an Any as UTF-8 JSON to a stream.
+     * The stream is not closed.
+     *
+     * @param value  Any to be serialized
+     * @param out    stream to write to
+     * @param indent number of spaces to use for indentation in JSON
+     * @throws IOException if writing to the stream fails, the output is then incomplete
+     * @see #serializeJSON(Any, WritableByteChannel, int)
+     */
+    public void serializeJSON(
+            Any value, OutputStream out, int indent) throws IOException, OpenTimelineIOException {
+        if (out == null) {
+            throw new NullPointerException();
+        }
+        serializeJSON(value, Channels.newChannel(out), indent);
+    }
+
+    /**
+     * Serialize any OTIO object contained in an Any as UTF-8 JSON to a file, compressed on the way.
+     * The JSON is streamed through the codec, neither it nor the compressed output is held in memory as a whole.
+     *
+     * @param value  Any to be serialized
+     * @param path   file to create or replace
+     * @param codec  compression to apply, such as {@link CompressionCodecs#GZIP}, or null to write plain JSON
+     * @param indent number of spaces to use for indentation in JSON
+     * @throws IOException if the file cannot be written, it is then incomplete
+     * @see Deserialization#deserializeJSONFromFile(Path, CompressionCodec, Any)
+     */
+    public void serializeJSONToFile(
+            Any value, Path path, CompressionCodec codec, int indent) throws IOException, OpenTimelineIOException {
+        if (value == null || path == null) {
+            throw new NullPointerException();
+        }
+        try (OutputStream file = Files.newOutputStream(path);
+             OutputStream out = codec == null ? file : codec.compress(file)) {
+            serializeJSON(value, out, indent);
+        }
+    }
+
+    private native void serializeJSONToChannelNative(
+            Any value, int indent, WritableByteChannel channel, ByteBuffer buffer)
+            throws IOException, OpenTimelineIOException;
+
+    /**
+     * Serialize any OTIO object contained in an Any to the compact binary format.
+     * The binary form holds exactly what the JSON form holds, with dictionary keys and schema
+     * names written once and time values stored as raw doubles.
+     *
+     * @param value Any to be serialized
+     * @return the encoded document
+     * @see Deserialization#deserializeBinary(byte[], Any)
+     */
+    public byte[] serializeBinary(Any value) throws OpenTimelineIOException {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        return serializeBinaryNative(value);
+    }
+
+    private native byte[] serializeBinaryNative(Any value) throws OpenTimelineIOException;
+
+    /**
+     * Called from native code with the next chunk in the first length bytes of buffer.
+     */
+    private static void writeChunk(
+            WritableByteChannel channel, ByteBuffer buffer, int length) throws IOException {
+        buffer.clear();
+        buffer.limit(length);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
 }
@@ -73,7 +73,7 @@ public class Stack extends Composition {
                 metadata,
                 effectsArray,
                 markersArray);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name,
@@ -138,7 +138,7 @@ public class Stack extends Composition {
 
     @Deprecated
     public Stream<Clip> eachClip() throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
-        return this.eachChild(null);
+        return this.eachClip(null);
     }
 
     public List<Clip> clipIf(Optional<TimeRange> search_range, boolean shallow_search){
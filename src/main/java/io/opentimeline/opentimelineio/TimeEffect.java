@@ -27,7 +27,7 @@ public class TimeEffect extends Effect {
 
     private void initObject(String name, String effectName, AnyDictionary metadata) {
         this.initialize(name, effectName, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name, String effectName, AnyDictionary metadata);
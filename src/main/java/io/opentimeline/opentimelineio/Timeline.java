@@ -11,7 +11,9 @@ import io.opentimeline.opentimelineio.exception.*;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A class that contains a Stack.
@@ -43,7 +45,7 @@ public class Timeline extends SerializableObjectWithMetadata {
                             RationalTime globalStartTime,
                             AnyDictionary metadata) {
         this.initialize(name, globalStartTime, metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name,
@@ -150,6 +152,21 @@ public class Timeline extends SerializableObjectWithMetadata {
         return this.getTracks().eachChild(searchRange, descendedFrom, false);
     }
 
+    /**
+     * Cursor over each child of specified type in the tracks of the timeline,
+     * limited to the search range. This recursively searches all compositions.
+     *
+     * @param searchRange   if not null, only children whose range overlaps with the search range are returned
+     * @param descendedFrom only children who are a descendent of the descendedFrom type are returned
+     * @param <T>           type of children to fetch
+     * @return a cursor positioned before the first child
+     * @see Composition#childCursor(TimeRange, Class, boolean)
+     */
+    public <T extends Composable> ChildCursor<T> childCursor(
+            TimeRange searchRange, Class<T> descendedFrom) throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        return this.getTracks().childCursor(searchRange, descendedFrom, false);
+    }
+
     /**
      * Return a flat Stream of each child, limited to the search_range.
      * This recursively searches all compositions.
@@ -187,6 +204,66 @@ public class Timeline extends SerializableObjectWithMetadata {
         return this.eachChild(null, descendedFrom);
     }
 
+    /**
+     * Splittable Spliterator over each clip in the tracks of the timeline, limited
+     * to the search range. It splits by track first and then by index range within
+     * a track, so that a parallel Stream over it spreads across both. Parts of it
+     * may run on different threads as long as nothing edits the timeline while
+     * they do.
+     *
+     * @param searchRange if not null, only clips whose range overlaps with the search range are returned
+     * @return a Spliterator over the clips in the order they are found
+     */
+    public Spliterator<Clip> clipSpliterator(TimeRange searchRange) throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        return ClipSpliterator.ofTracks(this.getTracks(), searchRange);
+    }
+
+    /**
+     * Stream of each clip in the tracks of the timeline, limited to the search range.
+     *
+     * @param searchRange if not null, only clips whose range overlaps with the search range will be in the stream
+     * @param parallel    should the stream be parallel?
+     * @return a Stream of the clips in the order they are found
+     * @see #clipSpliterator(TimeRange)
+     */
+    public Stream<Clip> clipStream(TimeRange searchRange, boolean parallel) throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        return StreamSupport.stream(clipSpliterator(searchRange), parallel);
+    }
+
+    /**
+     * Items active during a window of global time, in every track of the
+     * timeline, with the index of their track and their trimmed range in global
+     * time: the range in their track trimmed to what the track and the stack of
+     * tracks show, offset by the global start time. Items whose range overlaps
+     * the window are returned; a window of zero duration returns the items
+     * showing at its start time, as for a playhead.
+     * <p>
+     * The whole query is one native call: the ranges of the children of a
+     * track are summed up from its start and the scan stops at the first child
+     * past the window, without building a map of every child, and wrappers are
+     * created for the selected items only. The cost therefore grows with the
+     * number of children before the end of the window, not with the length of
+     * the track. It is meant for redrawing a view of the timeline, where
+     * clipIf() followed by getTrimmedRangeInParent() on every clip would cross
+     * into native code and compute the ranges of the track again for each clip.
+     * Transitions are left out, and items nested in an item of a track, like
+     * the children of a nested Stack, are reported through that item.
+     *
+     * @param window range of global time to query
+     * @return the items in the window, by track and then in track order
+     */
+    public TimelineWindow itemsInWindow(TimeRange window) throws ObjectWithoutDurationException, CannotComputeAvailableRangeException {
+        return itemsInWindowNative(
+                window.getStartTime().getValue(),
+                window.getStartTime().getRate(),
+                window.getDuration().getValue(),
+                window.getDuration().getRate());
+    }
+
+    private native TimelineWindow itemsInWindowNative(
+            double startValue, double startRate, double durationValue, double durationRate)
+            throws ObjectWithoutDurationException, CannotComputeAvailableRangeException;
+
     /**
      * Return a flat Stream of each clip, limited to the search_range.
      *
@@ -196,7 +273,7 @@ public class Timeline extends SerializableObjectWithMetadata {
     @Deprecated
     public Stream<Clip> eachClip(
             TimeRange searchRange) throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
-        return this.getTracks().eachClip(searchRange);
+        return this.getTracks().childCursor(searchRange, Clip.class, false).stream();
     }
 
     /**
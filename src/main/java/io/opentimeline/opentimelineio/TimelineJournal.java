@@ -0,0 +1,568 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentimelineio.exception.ChildAlreadyParentedException;
+import io.opentimeline.opentimelineio.exception.MalformedSchemaException;
+import io.opentimeline.opentimelineio.exception.NotAChildException;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+import io.opentimeline.opentimelineio.exception.TypeMismatchException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead journal of the edits made to a Timeline that is being built live.
+ * <p>
+ * Instead of serializing the whole timeline after every change, the journal starts with one
+ * snapshot of the timeline and then appends a small record per edit, holding only the child
+ * that was added or replaced in the compact binary format, and the indices leading to its
+ * parent. Those indices are found natively, one lookup per level of nesting, so apart from
+ * comparing native pointers among the siblings of each level the cost of an edit does not
+ * grow with the size of the timeline.
+ * <pre>
+ * TimelineJournal journal = TimelineJournal.create(Paths.get("day1.otioj"), timeline);
+ * journal.appendChild(track, clip);      // mutates the timeline and logs the clip
+ * ...
+ * journal.compact(Paths.get("day1.otio"));
+ *
+ * // after a crash
+ * TimelineJournal recovered = TimelineJournal.resume(Paths.get("day1.otioj"));
+ * Timeline timeline = recovered.getTimeline();
+ * </pre>
+ * Edits must go through the journal to be recorded. A child that is changed in place after
+ * it was recorded is recorded again with {@link #childChanged(Composition, int)}.
+ * Compositions are addressed by their position below the timeline's tracks, so edits to
+ * compositions outside the timeline are rejected.
+ * <p>
+ * Records are checksummed. A torn record at the end of the file, as a crash leaves it, ends
+ * replay without error and everything before it is recovered. A damaged record followed by
+ * more of the journal fails replay with an IOException instead, so that resuming never cuts
+ * off the records after it. Records reach the operating system as soon as they are written,
+ * {@link #sync()} or {@link TimelineJournalBuilder#setSyncEveryRecord(boolean)} also force
+ * them to the disk. The journal does not own the timeline, closing one leaves the other open.
+ * A journal is not thread safe.
+ */
+public class TimelineJournal implements Closeable {
+
+    private static final byte[] MAGIC = {'O', 'T', 'J', 1};
+
+    private static final byte SNAPSHOT = 0;
+    private static final byte APPEND = 1;
+    private static final byte INSERT = 2;
+    private static final byte SET = 3;
+    private static final byte REMOVE = 4;
+
+    private final Path path;
+    private final boolean syncEveryRecord;
+    private final Timeline timeline;
+    private FileChannel channel;
+    private long recordCount;
+    private boolean failed;
+
+    private TimelineJournal(Path path, boolean syncEveryRecord, Timeline timeline, FileChannel channel, long recordCount) {
+        this.path = path;
+        this.syncEveryRecord = syncEveryRecord;
+        this.timeline = timeline;
+        this.channel = channel;
+        this.recordCount = recordCount;
+    }
+
+    public static class TimelineJournalBuilder {
+        private boolean syncEveryRecord = false;
+
+        public TimelineJournalBuilder() {
+        }
+
+        /**
+         * Force every record to the disk before the edit returns. Safer against power loss
+         * and much slower than the default, which leaves flushing to the operating system.
+         */
+        public TimelineJournal.TimelineJournalBuilder setSyncEveryRecord(boolean syncEveryRecord) {
+            this.syncEveryRecord = syncEveryRecord;
+            return this;
+        }
+
+        /**
+         * Start a new journal at path with a snapshot of the timeline, replacing any file there.
+         *
+         * @param path     journal file
+         * @param timeline timeline to journal, it stays owned by the caller
+         * @return the journal
+         */
+        public TimelineJournal create(Path path, Timeline timeline) throws IOException, OpenTimelineIOException {
+            if (path == null || timeline == null) {
+                throw new NullPointerException();
+            }
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            TimelineJournal journal = new TimelineJournal(path, syncEveryRecord, timeline, channel, 0);
+            try {
+                journal.writeHeader(timeline);
+            } catch (IOException | OpenTimelineIOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            return journal;
+        }
+
+        /**
+         * Recover the timeline recorded in a journal and keep journaling edits to it.
+         * A torn record at the end of the file is cut off first.
+         *
+         * @param path journal file
+         * @return the journal, its timeline is owned by the caller
+         */
+        public TimelineJournal resume(Path path) throws IOException, OpenTimelineIOException {
+            if (path == null) {
+                throw new NullPointerException();
+            }
+            Replay replay = replay(path);
+            try {
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+                channel.truncate(replay.validLength);
+                channel.position(replay.validLength);
+                return new TimelineJournal(path, syncEveryRecord, replay.timeline, channel, replay.recordCount);
+            } catch (IOException | RuntimeException e) {
+                try {
+                    replay.timeline.close();
+                } catch (Exception closeException) {
+                    closeException.printStackTrace();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Start a new journal with the default settings.
+     *
+     * @see TimelineJournalBuilder#create(Path, Timeline)
+     */
+    public static TimelineJournal create(Path path, Timeline timeline) throws IOException, OpenTimelineIOException {
+        return new TimelineJournalBuilder().create(path, timeline);
+    }
+
+    /**
+     * Resume a journal with the default settings.
+     *
+     * @see TimelineJournalBuilder#resume(Path)
+     */
+    public static TimelineJournal resume(Path path) throws IOException, OpenTimelineIOException {
+        return new TimelineJournalBuilder().resume(path);
+    }
+
+    /**
+     * Rebuild the timeline recorded in a journal without modifying the file.
+     *
+     * @param path journal file
+     * @return the timeline as of the last complete record, owned by the caller
+     */
+    public static Timeline recover(Path path) throws IOException, OpenTimelineIOException {
+        if (path == null) {
+            throw new NullPointerException();
+        }
+        return replay(path).timeline;
+    }
+
+    public Timeline getTimeline() {
+        return timeline;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return number of edits recorded since the last snapshot
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Append a child to a composition of the timeline and record it.
+     *
+     * @see Composition#appendChild(Composable)
+     */
+    public boolean appendChild(Composition parent, Composable child)
+            throws IOException, OpenTimelineIOException {
+        int[] parentPath = pathOf(parent);
+        boolean result = parent.appendChild(child);
+        writeRecord(APPEND, parentPath, -1, child);
+        return result;
+    }
+
+    /**
+     * Insert a child into a composition of the timeline and record it.
+     *
+     * @see Composition#insertChild(int, Composable)
+     */
+    public boolean insertChild(Composition parent, int index, Composable child)
+            throws IOException, OpenTimelineIOException {
+        int[] parentPath = pathOf(parent);
+        boolean result = parent.insertChild(index, child);
+        writeRecord(INSERT, parentPath, index, child);
+        return result;
+    }
+
+    /**
+     * Replace a child of a composition of the timeline and record the new child.
+     *
+     * @see Composition#setChild(int, Composable)
+     */
+    public boolean setChild(Composition parent, int index, Composable child)
+            throws IOException, OpenTimelineIOException {
+        int[] parentPath = pathOf(parent);
+        boolean result = parent.setChild(index, child);
+        writeRecord(SET, parentPath, index, child);
+        return result;
+    }
+
+    /**
+     * Remove a child from a composition of the timeline and record it.
+     *
+     * @see Composition#removeChild(int)
+     */
+    public boolean removeChild(Composition parent, int index)
+            throws IOException, OpenTimelineIOException {
+        int[] parentPath = pathOf(parent);
+        boolean result = parent.removeChild(index);
+        writeRecord(REMOVE, parentPath, index, null);
+        return result;
+    }
+
+    /**
+     * Record the current state of a child that was changed in place, for example after
+     * its source range or metadata was set.
+     *
+     * @param parent composition of the timeline holding the child
+     * @param index  index of the child
+     */
+    public void childChanged(Composition parent, int index) throws IOException, OpenTimelineIOException {
+        int[] parentPath = pathOf(parent);
+        if (index < 0 || index >= parent.getChildrenCount()) {
+            throw new IndexOutOfBoundsException("child " + index + " of " + parent.getChildrenCount());
+        }
+        Composable child = parent.getChild(index);
+        writeRecord(SET, parentPath, index, child);
+    }
+
+    /**
+     * Force everything recorded so far to the disk.
+     */
+    public void sync() throws IOException {
+        checkUsable();
+        channel.force(false);
+    }
+
+    /**
+     * Replace the journal with a single snapshot of the timeline as it is now.
+     * The new journal is written next to the old one and moved over it, so a crash
+     * leaves either the old or the new journal in place. If the new journal cannot be
+     * moved into place or reopened, this journal records no further edits.
+     */
+    public void checkpoint() throws IOException, OpenTimelineIOException {
+        checkUsable();
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        TimelineJournal fresh = new TimelineJournalBuilder()
+                .setSyncEveryRecord(syncEveryRecord)
+                .create(temporary, timeline);
+        fresh.channel.force(false);
+        fresh.channel.close();
+        try {
+            channel.close();
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        } catch (IOException | RuntimeException e) {
+            // the old channel is closed, later edits could not be recorded
+            failed = true;
+            throw e;
+        }
+        recordCount = 0;
+    }
+
+    /**
+     * Write the timeline as a standard .otio document, then checkpoint the journal.
+     * The document is written to a temporary file and moved into place.
+     *
+     * @param otioFile .otio file to create or replace
+     */
+    public void compact(Path otioFile) throws IOException, OpenTimelineIOException {
+        if (otioFile == null) {
+            throw new NullPointerException();
+        }
+        checkUsable();
+        Path temporary = otioFile.resolveSibling(otioFile.getFileName() + ".tmp");
+        timeline.toJSONFile(temporary, null, 4);
+        try (FileChannel written = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            written.force(true);
+        }
+        Files.move(temporary, otioFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpoint();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getCanonicalName() +
+                "(path=" + path +
+                ", recordCount=" + recordCount + ")";
+    }
+
+    /**
+     * @return indices leading from the timeline's tracks down to the composition
+     */
+    private int[] pathOf(Composition composition) throws OpenTimelineIOException {
+        if (composition == null) {
+            throw new NullPointerException();
+        }
+        long root = timeline.getTracks().getNativeManager().getOTIOObjectNativeHandle();
+        List<Integer> indices = new ArrayList<>();
+        Composable current = composition;
+        while (current.getNativeManager().getOTIOObjectNativeHandle() != root) {
+            Composition parent = current.parent();
+            if (parent == null) {
+                throw new NotAChildException("composition is not part of the journaled timeline");
+            }
+            indices.add(parent.getIndexOfChild(current));
+            current = parent;
+        }
+        int[] path = new int[indices.size()];
+        for (int i = 0; i < path.length; i++) {
+            path[i] = indices.get(path.length - 1 - i);
+        }
+        return path;
+    }
+
+    private void writeHeader(Timeline timeline) throws IOException, OpenTimelineIOException {
+        writeFully(ByteBuffer.wrap(MAGIC));
+        writeRecord(SNAPSHOT, new int[0], -1, timeline);
+        recordCount = 0;
+    }
+
+    private void writeRecord(byte operation, int[] parentPath, int index, SerializableObject payload)
+            throws IOException, OpenTimelineIOException {
+        checkUsable();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(bytes);
+        body.writeByte(operation);
+        body.writeInt(parentPath.length);
+        for (int i : parentPath) {
+            body.writeInt(i);
+        }
+        body.writeInt(index);
+        byte[] encoded = payload == null ? new byte[0] : payload.toBinary();
+        body.writeInt(encoded.length);
+        body.write(encoded);
+        byte[] record = bytes.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        ByteBuffer frame = ByteBuffer.allocate(8 + record.length);
+        frame.putInt(record.length);
+        frame.putInt((int) crc.getValue());
+        frame.put(record);
+        frame.flip();
+        try {
+            writeFully(frame);
+            if (syncEveryRecord) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            // the timeline already holds the edit, later records would not match it
+            failed = true;
+            throw e;
+        }
+        recordCount++;
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void checkUsable() throws IOException {
+        if (failed) {
+            throw new IOException("journal " + path + " failed to record an edit or to checkpoint"
+                    + " and no longer matches its timeline");
+        }
+    }
+
+    private static class Replay {
+        Timeline timeline;
+        long validLength;
+        long recordCount;
+    }
+
+    private static Replay replay(Path path) throws IOException, OpenTimelineIOException {
+        long fileLength = Files.size(path);
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file, Serialization.STREAM_BUFFER_SIZE))) {
+            byte[] magic = new byte[MAGIC.length];
+            if (fileLength < MAGIC.length + 8) {
+                throw new MalformedSchemaException(path + " is not a timeline journal");
+            }
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new MalformedSchemaException(path + " is not a timeline journal");
+            }
+            long offset = MAGIC.length;
+            byte[] snapshot = readRecord(in, path, offset, fileLength);
+            if (snapshot == null) {
+                throw new MalformedSchemaException(path + " has no complete snapshot");
+            }
+            offset += 8 + snapshot.length;
+
+            Replay replay = new Replay();
+            replay.timeline = cast(decodeRecord(snapshot).payload, Timeline.class);
+            try {
+                byte[] record;
+                while ((record = readRecord(in, path, offset, fileLength)) != null) {
+                    apply(replay.timeline, decodeRecord(record));
+                    offset += 8 + record.length;
+                    replay.recordCount++;
+                }
+            } catch (IOException | OpenTimelineIOException | RuntimeException e) {
+                try {
+                    replay.timeline.close();
+                } catch (Exception closeException) {
+                    closeException.printStackTrace();
+                }
+                throw e;
+            }
+            replay.validLength = offset;
+            return replay;
+        }
+    }
+
+    /**
+     * @param offset     position of the record in the file
+     * @param fileLength length of the file
+     * @return the body of the next record, null at the end of the file or at a torn last record
+     * @throws IOException if the record is damaged and more of the journal follows it
+     */
+    private static byte[] readRecord(DataInputStream in, Path path, long offset, long fileLength) throws IOException {
+        long remaining = fileLength - offset;
+        if (remaining < 8) {
+            return null;
+        }
+        int length = in.readInt();
+        int expectedCrc = in.readInt();
+        if (length > remaining - 8) {
+            return null;
+        }
+        if (length >= 0) {
+            byte[] record = new byte[length];
+            in.readFully(record);
+            CRC32 crc = new CRC32();
+            crc.update(record);
+            if ((int) crc.getValue() == expectedCrc) {
+                return record;
+            }
+            if (length == remaining - 8) {
+                return null;
+            }
+        }
+        throw new IOException("journal " + path + " has a damaged record at offset " + offset
+                + " followed by " + (remaining - 8 - Math.max(length, 0)) + " more bytes");
+    }
+
+    private static class Record {
+        byte operation;
+        int[] parentPath;
+        int index;
+        SerializableObject payload;
+    }
+
+    private static Record decodeRecord(byte[] bytes) throws IOException, OpenTimelineIOException {
+        DataInputStream body = new DataInputStream(new ByteArrayInputStream(bytes));
+        Record record = new Record();
+        record.operation = body.readByte();
+        record.parentPath = new int[body.readInt()];
+        for (int i = 0; i < record.parentPath.length; i++) {
+            record.parentPath[i] = body.readInt();
+        }
+        record.index = body.readInt();
+        byte[] encoded = new byte[body.readInt()];
+        body.readFully(encoded);
+        if (encoded.length > 0) {
+            record.payload = SerializableObject.fromBinary(encoded);
+        }
+        return record;
+    }
+
+    private static void apply(Timeline timeline, Record record) throws OpenTimelineIOException {
+        Composition parent = timeline.getTracks();
+        for (int index : record.parentPath) {
+            parent = cast(parent.getChild(index), Composition.class);
+        }
+        switch (record.operation) {
+            case APPEND:
+                appendAndClose(parent, -1, cast(record.payload, Composable.class), false);
+                break;
+            case INSERT:
+                appendAndClose(parent, record.index, cast(record.payload, Composable.class), false);
+                break;
+            case SET:
+                appendAndClose(parent, record.index, cast(record.payload, Composable.class), true);
+                break;
+            case REMOVE:
+                parent.removeChild(record.index);
+                break;
+            default:
+                throw new MalformedSchemaException("unknown journal record " + record.operation);
+        }
+    }
+
+    private static void appendAndClose(Composition parent, int index, Composable child, boolean replace)
+            throws ChildAlreadyParentedException {
+        try {
+            if (replace) {
+                parent.setChild(index, child);
+            } else if (index < 0) {
+                parent.appendChild(child);
+            } else {
+                parent.insertChild(index, child);
+            }
+        } finally {
+            try {
+                child.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static <T extends SerializableObject> T cast(
+            SerializableObject object, Class<T> type) throws TypeMismatchException {
+        if (!type.isInstance(object)) {
+            throw new TypeMismatchException("expected " + type.getSimpleName() + " in journal but found " +
+                    (object == null ? "nothing" : object.getClass().getSimpleName()));
+        }
+        return type.cast(object);
+    }
+}
@@ -0,0 +1,115 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.opentimelineio;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Items of a timeline active in a window of time, as returned by
+ * Timeline.itemsInWindow(). Item i is items[i], in track trackIndices[i] of the
+ * timeline, and shows during its trimmed range in global time, stored in ranges
+ * from 4 * i as (start value, start rate, duration value, duration rate) like
+ * Composition.getRangeOfAllChildren(double[]) does.
+ * <p>
+ * The ranges are kept packed so that drawing a window does not have to create
+ * a TimeRange per item, see getStartSeconds() and getEndSeconds().
+ */
+public final class TimelineWindow {
+
+    private final Item[] items;
+    private final int[] trackIndices;
+    private final double[] ranges;
+
+    // created by native code
+    TimelineWindow(Item[] items, int[] trackIndices, double[] ranges) {
+        this.items = items;
+        this.trackIndices = trackIndices;
+        this.ranges = ranges;
+    }
+
+    /**
+     * @return number of items in the window
+     */
+    public int size() {
+        return items.length;
+    }
+
+    public Item getItem(int index) {
+        return items[index];
+    }
+
+    /**
+     * @return items in the window, by track and then in track order
+     */
+    public List<Item> getItems() {
+        return Collections.unmodifiableList(Arrays.asList(items));
+    }
+
+    /**
+     * @return index of the track of the item among the tracks of the timeline
+     */
+    public int getTrackIndex(int index) {
+        return trackIndices[index];
+    }
+
+    /**
+     * @return trimmed range of the item in global time
+     */
+    public TimeRange getRange(int index) {
+        int offset = checkedOffset(index);
+        return new TimeRange(
+                new RationalTime(ranges[offset], ranges[offset + 1]),
+                new RationalTime(ranges[offset + 2], ranges[offset + 3]));
+    }
+
+    /**
+     * @return start of the trimmed range of the item in global time, in seconds
+     */
+    public double getStartSeconds(int index) {
+        int offset = checkedOffset(index);
+        return ranges[offset] / ranges[offset + 1];
+    }
+
+    /**
+     * @return exclusive end of the trimmed range of the item in global time, in seconds
+     */
+    public double getEndSeconds(int index) {
+        int offset = checkedOffset(index);
+        return ranges[offset] / ranges[offset + 1] + ranges[offset + 2] / ranges[offset + 3];
+    }
+
+    /**
+     * @return a copy of the track indices, one per item
+     */
+    public int[] getTrackIndices() {
+        return trackIndices.clone();
+    }
+
+    /**
+     * @return a copy of the packed ranges, 4 doubles per item
+     */
+    public double[] getRanges() {
+        return ranges.clone();
+    }
+
+    private int checkedOffset(int index) {
+        if (index < 0 || index >= items.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + items.length);
+        }
+        return index * 4;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getCanonicalName() +
+                "(" +
+                "size=" + size() +
+                ")";
+    }
+}
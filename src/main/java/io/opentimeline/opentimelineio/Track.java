@@ -69,7 +69,7 @@ public class Track extends Composition {
                 sourceRange,
                 kind,
                 metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name,
@@ -175,6 +175,19 @@ public class Track extends Composition {
      */
     public native HashMap<Composable, TimeRange> getRangeOfAllChildren() throws IndexOutOfBoundsException, UnsupportedOperationException, CannotComputeAvailableRangeException;
 
+    /**
+     * Fill out with the trimmed range of every child in this track, in child order.
+     * Each child takes four consecutive slots:
+     * startTime value, startTime rate, duration value, duration rate.
+     * The ranges are those of trimmedRangeOfChildAtIndex() computed in a single
+     * pass, except that a child lying entirely outside the sourceRange of this
+     * track gets NaN in all four slots instead of raising an exception.
+     *
+     * @param out array of at least 4 * getChildrenCount() doubles
+     * @return number of children written to out
+     */
+    public native int trimmedRangesOfAllChildren(double[] out) throws IndexOutOfBoundsException, UnsupportedOperationException, CannotComputeAvailableRangeException;
+
     /**
      * Return a flat Stream of each clip, limited to the search_range.
      *
@@ -185,7 +198,7 @@ public class Track extends Composition {
     @Deprecated
     public Stream<Clip> eachClip(
             TimeRange searchRange, boolean shallowSearch) throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
-        return this.eachChild(searchRange, Clip.class, shallowSearch);
+        return this.childCursor(searchRange, Clip.class, shallowSearch).stream();
     }
 
     /**
@@ -198,7 +211,7 @@ public class Track extends Composition {
     @Deprecated
     public Stream<Clip> eachClip(
             TimeRange searchRange) throws NotAChildException, ObjectWithoutDurationException, CannotComputeAvailableRangeException {
-        return this.eachChild(searchRange, Clip.class, false);
+        return this.childCursor(searchRange, Clip.class, false).stream();
     }
 
     public List<Clip> clipIf(Optional<TimeRange> search_range, boolean shallow_search){
@@ -65,7 +65,7 @@ public class Transition extends Composable {
                 inOffset,
                 outOffset,
                 metadata);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String name,
@@ -132,7 +132,12 @@ public class Transition extends Composable {
      *
      * @param inOffset amount of the previous clip this transition overlaps, exclusive.
      */
-    public native void setInOffset(RationalTime inOffset);
+    public void setInOffset(RationalTime inOffset) {
+        setInOffsetNative(inOffset);
+        CompositionTimeIndex.edited(this);
+    }
+
+    private native void setInOffsetNative(RationalTime inOffset);
 
     /**
      * Get amount of the next clip this transition overlaps, exclusive.
@@ -146,7 +151,12 @@ public class Transition extends Composable {
      *
      * @param outOffset amount of the next clip this transition overlaps, exclusive.
      */
-    public native void setOutOffset(RationalTime outOffset);
+    public void setOutOffset(RationalTime outOffset) {
+        setOutOffsetNative(outOffset);
+        CompositionTimeIndex.edited(this);
+    }
+
+    private native void setOutOffsetNative(RationalTime outOffset);
 
     public native RationalTime getDuration() throws UnsupportedOperationException, CannotComputeAvailableRangeException;
 
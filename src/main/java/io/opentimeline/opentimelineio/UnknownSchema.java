@@ -29,7 +29,7 @@ public class UnknownSchema extends SerializableObject {
 
     private void initObject(String originalSchemaName, int originalSchemaVersion) {
         this.initialize(originalSchemaName, originalSchemaVersion);
-        this.nativeManager.className = this.getClass().getCanonicalName();
+        this.initNativeManager();
     }
 
     private native void initialize(String originalSchemaName, int originalSchemaVersion);
@@ -0,0 +1,419 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline.util;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.ChildAlreadyParentedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates large synthetic timelines for benchmarks, stress tests and capacity planning.
+ * <p>
+ * The output only depends on the settings and the seed, so two generators built alike produce
+ * equivalent timelines. Items are appended to their parent as soon as they are built and their
+ * Java wrappers are closed right away, so the size of a timeline is bounded by native memory
+ * only and no Java lists of items are kept.
+ * <pre>
+ * TimelineGenerator generator = new TimelineGenerator.TimelineGeneratorBuilder()
+ *         .setSeed(42)
+ *         .setTracks(8)
+ *         .setItemsPerTrack(10000)
+ *         .build();
+ * Timeline timeline = generator.generateTimeline();
+ * </pre>
+ * Effects and markers are placed on gaps and nested stacks, clips are built with
+ * Clip.ClipBuilder which does not take them.
+ */
+public class TimelineGenerator {
+
+    private static final String[] MARKER_COLORS = {
+            Marker.Color.red, Marker.Color.green, Marker.Color.blue, Marker.Color.yellow};
+
+    private final long seed;
+    private final int tracks;
+    private final int itemsPerTrack;
+    private final double rate;
+    private final int maxClipFrames;
+    private final double gapProbability;
+    private final double transitionProbability;
+    private final double nestedStackProbability;
+    private final int maxNestingDepth;
+    private final double imageSequenceProbability;
+    private final int markersPerItem;
+    private final int effectsPerItem;
+    private final int metadataDepth;
+    private final int metadataWidth;
+
+    private TimelineGenerator(TimelineGeneratorBuilder builder) {
+        this.seed = builder.seed;
+        this.tracks = builder.tracks;
+        this.itemsPerTrack = builder.itemsPerTrack;
+        this.rate = builder.rate;
+        this.maxClipFrames = builder.maxClipFrames;
+        this.gapProbability = builder.gapProbability;
+        this.transitionProbability = builder.transitionProbability;
+        this.nestedStackProbability = builder.nestedStackProbability;
+        this.maxNestingDepth = builder.maxNestingDepth;
+        this.imageSequenceProbability = builder.imageSequenceProbability;
+        this.markersPerItem = builder.markersPerItem;
+        this.effectsPerItem = builder.effectsPerItem;
+        this.metadataDepth = builder.metadataDepth;
+        this.metadataWidth = builder.metadataWidth;
+    }
+
+    public static class TimelineGeneratorBuilder {
+        private long seed = 0;
+        private int tracks = 1;
+        private int itemsPerTrack = 100;
+        private double rate = 24;
+        private int maxClipFrames = 48;
+        private double gapProbability = 0.1;
+        private double transitionProbability = 0.05;
+        private double nestedStackProbability = 0;
+        private int maxNestingDepth = 1;
+        private double imageSequenceProbability = 0.2;
+        private int markersPerItem = 0;
+        private int effectsPerItem = 0;
+        private int metadataDepth = 0;
+        private int metadataWidth = 4;
+
+        public TimelineGeneratorBuilder() {
+        }
+
+        public TimelineGenerator.TimelineGeneratorBuilder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public TimelineGenerator.TimelineGeneratorBuilder setTracks(int tracks) {
+            this.tracks = tracks;
+            return this;
+        }
+
+        public TimelineGenerator.TimelineGeneratorBuilder setItemsPerTrack(int itemsPerTrack) {
+            this.itemsPerTrack = itemsPerTrack;
+            return this;
+        }
+
+        public TimelineGenerator.TimelineGeneratorBuilder setRate(double rate) {
+            this.rate = rate;
+            return this;
+        }
+
+        /**
+         * Clip and gap durations are drawn uniformly from 1 to maxClipFrames frames.
+         */
+        public TimelineGenerator.TimelineGeneratorBuilder setMaxClipFrames(int maxClipFrames) {
+            this.maxClipFrames = maxClipFrames;
+            return this;
+        }
+
+        public TimelineGenerator.TimelineGeneratorBuilder setGapProbability(double gapProbability) {
+            this.gapProbability = gapProbability;
+            return this;
+        }
+
+        /**
+         * Probability of a transition between two items of a track.
+         */
+        public TimelineGenerator.TimelineGeneratorBuilder setTransitionProbability(double transitionProbability) {
+            this.transitionProbability = transitionProbability;
+            return this;
+        }
+
+        /**
+         * Probability of an item being a stack of two shorter tracks instead of a clip.
+         */
+        public TimelineGenerator.TimelineGeneratorBuilder setNestedStackProbability(double nestedStackProbability) {
+            this.nestedStackProbability = nestedStackProbability;
+            return this;
+        }
+
+        public TimelineGenerator.TimelineGeneratorBuilder setMaxNestingDepth(int maxNestingDepth) {
+            this.maxNestingDepth = maxNestingDepth;
+            return this;
+        }
+
+        /**
+         * Probability of a clip referencing an image sequence instead of an external file.
+         */
+        public TimelineGenerator.TimelineGeneratorBuilder setImageSequenceProbability(double imageSequenceProbability) {
+            this.imageSequenceProbability = imageSequenceProbability;
+            return this;
+        }
+
+        public TimelineGenerator.TimelineGeneratorBuilder setMarkersPerItem(int markersPerItem) {
+            this.markersPerItem = markersPerItem;
+            return this;
+        }
+
+        public TimelineGenerator.TimelineGeneratorBuilder setEffectsPerItem(int effectsPerItem) {
+            this.effectsPerItem = effectsPerItem;
+            return this;
+        }
+
+        /**
+         * Clips get a metadata dictionary nested metadataDepth levels deep with metadataWidth
+         * entries per level, 0 leaves their metadata empty.
+         */
+        public TimelineGenerator.TimelineGeneratorBuilder setMetadataDepth(int metadataDepth) {
+            this.metadataDepth = metadataDepth;
+            return this;
+        }
+
+        public TimelineGenerator.TimelineGeneratorBuilder setMetadataWidth(int metadataWidth) {
+            this.metadataWidth = metadataWidth;
+            return this;
+        }
+
+        public TimelineGenerator build() {
+            if (tracks < 0 || itemsPerTrack < 0 || maxClipFrames < 1 || maxNestingDepth < 0
+                    || markersPerItem < 0 || effectsPerItem < 0 || metadataDepth < 0 || metadataWidth < 0) {
+                throw new IllegalArgumentException("TimelineGenerator: counts must not be negative");
+            }
+            if (!(rate > 0)) {
+                throw new IllegalArgumentException("TimelineGenerator: rate must be positive");
+            }
+            return new TimelineGenerator(this);
+        }
+    }
+
+    /**
+     * Generates a timeline holding the generated tracks.
+     *
+     * @return a new timeline owned by the caller
+     */
+    public Timeline generateTimeline() throws ChildAlreadyParentedException {
+        Timeline timeline = new Timeline.TimelineBuilder()
+                .setName("synthetic-" + seed)
+                .setGlobalStartTime(new RationalTime(0, rate))
+                .build();
+        Stack stack = new Stack.StackBuilder().setName("tracks").build();
+        try {
+            generateInto(stack);
+            timeline.setTracks(stack);
+        } finally {
+            close(stack);
+        }
+        return timeline;
+    }
+
+    /**
+     * Appends the generated tracks to a stack.
+     *
+     * @param stack stack to append to
+     */
+    public void generateInto(Stack stack) throws ChildAlreadyParentedException {
+        for (int i = 0; i < tracks; i++) {
+            appendAndClose(stack, generateTrack(i));
+        }
+    }
+
+    /**
+     * Generates a single track. The same index always generates the same track, whatever
+     * was generated before it.
+     *
+     * @param index index of the track
+     * @return a new track owned by the caller
+     */
+    public Track generateTrack(int index) throws ChildAlreadyParentedException {
+        Random random = new Random(trackSeed(seed, index));
+        String kind = index % 2 == 0 ? Track.Kind.video : Track.Kind.audio;
+        return generateTrack(random, "track" + index, kind, itemsPerTrack, 0);
+    }
+
+    /**
+     * Seed of the random sequence of a track. Both the seed and the index go through
+     * SplitMix64's finalizer, so different pairs, such as the same track of neighbouring
+     * seeds, get unrelated sequences.
+     */
+    private static long trackSeed(long seed, int index) {
+        return mix64(mix64(seed) + index);
+    }
+
+    private static long mix64(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private Track generateTrack(Random random, String name, String kind, int items, int depth)
+            throws ChildAlreadyParentedException {
+        Track track = new Track.TrackBuilder().setName(name).setKind(kind).build();
+        boolean previousWasTransition = true;
+        for (int i = 0; i < items; i++) {
+            // transitions sit between two items, never at an end or next to another transition
+            if (!previousWasTransition && random.nextDouble() < transitionProbability) {
+                appendAndClose(track, transition(random, i));
+                previousWasTransition = true;
+            } else {
+                previousWasTransition = false;
+            }
+            double roll = random.nextDouble();
+            if (roll < gapProbability) {
+                appendAndClose(track, gap(random, i));
+            } else if (depth < maxNestingDepth && roll < gapProbability + nestedStackProbability) {
+                appendAndClose(track, nestedStack(random, name + "." + i, kind, depth + 1));
+            } else {
+                appendAndClose(track, clip(random, name, i));
+            }
+        }
+        return track;
+    }
+
+    private Stack nestedStack(Random random, String name, String kind, int depth)
+            throws ChildAlreadyParentedException {
+        List<Marker> markers = markers(random);
+        List<Effect> effects = effects(random);
+        Stack stack = new Stack.StackBuilder()
+                .setName(name)
+                .setMarkers(markers)
+                .setEffects(effects)
+                .build();
+        closeAll(markers);
+        closeAll(effects);
+        int items = Math.max(1, Math.min(itemsPerTrack, 4));
+        for (int i = 0; i < 2; i++) {
+            appendAndClose(stack, generateTrack(random, name + ".track" + i, kind, items, depth));
+        }
+        return stack;
+    }
+
+    private Clip clip(Random random, String trackName, int index) {
+        RationalTime duration = new RationalTime(1 + random.nextInt(maxClipFrames), rate);
+        RationalTime start = new RationalTime(random.nextInt(maxClipFrames), rate);
+        TimeRange availableRange = new TimeRange(new RationalTime(0, rate),
+                new RationalTime(start.getValue() + duration.getValue() + random.nextInt(maxClipFrames), rate));
+        MediaReference mediaReference;
+        if (random.nextDouble() < imageSequenceProbability) {
+            mediaReference = new ImageSequenceReference.ImageSequenceReferenceBuilder()
+                    .setTargetURLBase("file:///synthetic/" + trackName + "/")
+                    .setNamePrefix("frame.")
+                    .setNameSuffix(".exr")
+                    .setRate(rate)
+                    .setFrameZeroPadding(6)
+                    .setAvailableRange(availableRange)
+                    .build();
+        } else {
+            mediaReference = new ExternalReference.ExternalReferenceBuilder()
+                    .setTargetURL("file:///synthetic/" + trackName + "/clip" + index + ".mov")
+                    .setAvailableRange(availableRange)
+                    .build();
+        }
+        AnyDictionary metadata = metadata(random, metadataDepth);
+        Clip clip = new Clip.ClipBuilder()
+                .setName(trackName + ".clip" + index)
+                .setMediaReference(mediaReference)
+                .setSourceRange(new TimeRange(start, duration))
+                .setMetadata(metadata)
+                .build();
+        close(mediaReference);
+        close(metadata);
+        return clip;
+    }
+
+    private Gap gap(Random random, int index) {
+        List<Marker> markers = markers(random);
+        List<Effect> effects = effects(random);
+        Gap gap = new Gap.GapBuilder()
+                .setName("gap" + index)
+                .setDuration(new RationalTime(1 + random.nextInt(maxClipFrames), rate))
+                .setMarkers(markers)
+                .setEffects(effects)
+                .build();
+        closeAll(markers);
+        closeAll(effects);
+        return gap;
+    }
+
+    private Transition transition(Random random, int index) {
+        return new Transition.TransitionBuilder()
+                .setName("transition" + index)
+                .setTransitionType("SMPTE_Dissolve")
+                .setInOffset(new RationalTime(random.nextInt(3), rate))
+                .setOutOffset(new RationalTime(random.nextInt(3), rate))
+                .build();
+    }
+
+    private List<Marker> markers(Random random) {
+        if (markersPerItem == 0) return Collections.emptyList();
+        List<Marker> markers = new ArrayList<>(markersPerItem);
+        for (int i = 0; i < markersPerItem; i++) {
+            markers.add(new Marker.MarkerBuilder()
+                    .setName("marker" + i)
+                    .setColor(MARKER_COLORS[random.nextInt(MARKER_COLORS.length)])
+                    .setMarkedRange(new TimeRange(
+                            new RationalTime(random.nextInt(maxClipFrames), rate),
+                            new RationalTime(1, rate)))
+                    .build());
+        }
+        return markers;
+    }
+
+    private List<Effect> effects(Random random) {
+        if (effectsPerItem == 0) return Collections.emptyList();
+        List<Effect> effects = new ArrayList<>(effectsPerItem);
+        for (int i = 0; i < effectsPerItem; i++) {
+            effects.add(new Effect.EffectBuilder()
+                    .setName("effect" + i)
+                    .setEffectName(random.nextBoolean() ? "Blur" : "ColorCorrection")
+                    .build());
+        }
+        return effects;
+    }
+
+    private AnyDictionary metadata(Random random, int depth) {
+        AnyDictionary dictionary = new AnyDictionary();
+        if (depth == 0) return dictionary;
+        for (int i = 0; i < metadataWidth; i++) {
+            Any value;
+            switch (i % 4) {
+                case 0:
+                    value = new Any(random.nextInt());
+                    break;
+                case 1:
+                    value = new Any(Long.toHexString(random.nextLong()));
+                    break;
+                case 2:
+                    value = new Any(random.nextDouble());
+                    break;
+                default:
+                    AnyDictionary child = metadata(random, depth - 1);
+                    value = new Any(child);
+                    close(child);
+                    break;
+            }
+            dictionary.put("key" + i, value);
+            close(value);
+        }
+        return dictionary;
+    }
+
+    private static void appendAndClose(Composition parent, Composable child) throws ChildAlreadyParentedException {
+        parent.appendChild(child);
+        close(child);
+    }
+
+    private static void closeAll(List<? extends AutoCloseable> objects) {
+        for (AutoCloseable object : objects) {
+            close(object);
+        }
+    }
+
+    // the parent or the copy made by the native constructor keeps the native object alive
+    private static void close(AutoCloseable object) {
+        try {
+            object.close();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
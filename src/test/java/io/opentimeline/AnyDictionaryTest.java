@@ -0,0 +1,144 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnyDictionaryTest {
+
+    @Test
+    public void testTypedAccess() {
+        AnyDictionary dictionary = new AnyDictionary();
+        dictionary.putBoolean("bool", true);
+        dictionary.putInt("int", 42);
+        dictionary.putLong("long", 1L << 40);
+        dictionary.putDouble("double", 2.5);
+        dictionary.putString("string", "foo");
+        dictionary.putRationalTime("time", new RationalTime(12, 24));
+        dictionary.putTimeRange("range", new TimeRange(new RationalTime(0, 24), new RationalTime(48, 24)));
+
+        assertTrue(dictionary.getBoolean("bool"));
+        assertEquals(42, dictionary.getInt("int"));
+        assertEquals(42L, dictionary.getLong("int"));
+        assertEquals(42.0, dictionary.getDouble("int"));
+        assertEquals(1L << 40, dictionary.getLong("long"));
+        assertEquals(2.5, dictionary.getDouble("double"));
+        assertEquals("foo", dictionary.getString("string"));
+        assertEquals(new RationalTime(12, 24), dictionary.getRationalTime("time"));
+        assertEquals(new TimeRange(new RationalTime(0, 24), new RationalTime(48, 24)),
+                dictionary.getTimeRange("range"));
+        // typed values are the same as the ones stored through Any
+        assertEquals("foo", dictionary.get("string").safelyCastString());
+
+        // the putters replace existing values
+        dictionary.putString("string", "bar");
+        assertEquals("bar", dictionary.getString("string"));
+        assertEquals(7, dictionary.size());
+
+        assertThrows(NoSuchElementException.class, () -> dictionary.getInt("missing"));
+        assertThrows(ClassCastException.class, () -> dictionary.getString("int"));
+        assertThrows(ClassCastException.class, () -> dictionary.getInt("long"));
+        assertThrows(ClassCastException.class, () -> dictionary.getDouble("string"));
+        assertThrows(NullPointerException.class, () -> dictionary.putString("string", null));
+        try {
+            dictionary.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testTypedAccessFromJSON() throws OpenTimelineIOException {
+        Any destination = new Any(new SerializableObject());
+        Deserialization deserialization = new Deserialization();
+        assertTrue(deserialization.deserializeJSONFromString(
+                "{\"frames\": 1001, \"fps\": 24, \"gamma\": 2.2}", destination));
+        AnyDictionary dictionary = destination.safelyCastAnyDictionary();
+        // JSON integers are 64 bit
+        assertEquals(1001, dictionary.getInt("frames"));
+        assertEquals(1001L, dictionary.getLong("frames"));
+        assertEquals(24.0, dictionary.getDouble("fps"));
+        assertEquals(2.2, dictionary.getDouble("gamma"));
+        try {
+            dictionary.close();
+            destination.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testJavaMap() {
+        Clip clip = new Clip.ClipBuilder().setName("clip").build();
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("names", Arrays.asList("a", "b", null));
+        nested.put("float", 0.5f);
+        Map<String, Object> map = new HashMap<>();
+        map.put("bool", false);
+        map.put("int", 1);
+        map.put("long", 2L);
+        map.put("double", 3.5);
+        map.put("string", "foo");
+        map.put("time", new RationalTime(1, 24));
+        map.put("nested", nested);
+        map.put("clip", clip);
+        map.put("none", null);
+
+        AnyDictionary dictionary = new AnyDictionary();
+        dictionary.putString("string", "replaced");
+        dictionary.putString("kept", "kept");
+        dictionary.putAllFromJava(map);
+        assertEquals(10, dictionary.size());
+        assertEquals("foo", dictionary.getString("string"));
+        assertEquals("kept", dictionary.getString("kept"));
+        assertEquals(0.5, dictionary.get("nested").safelyCastAnyDictionary().getDouble("float"));
+
+        Map<String, Object> javaMap = dictionary.toJavaMap();
+        assertEquals(10, javaMap.size());
+        assertEquals(false, javaMap.get("bool"));
+        assertEquals(1, javaMap.get("int"));
+        assertEquals(2L, javaMap.get("long"));
+        assertEquals(3.5, javaMap.get("double"));
+        assertEquals("foo", javaMap.get("string"));
+        assertEquals(new RationalTime(1, 24), javaMap.get("time"));
+        assertTrue(javaMap.containsKey("none"));
+        assertNull(javaMap.get("none"));
+        Map<?, ?> javaNested = (Map<?, ?>) javaMap.get("nested");
+        assertEquals(Arrays.asList("a", "b", null), javaNested.get("names"));
+        assertEquals(0.5, javaNested.get("float"));
+        assertTrue(javaMap.get("clip") instanceof Clip);
+        assertEquals("clip", ((Clip) javaMap.get("clip")).getName());
+
+        // a round trip gives an equal dictionary
+        AnyDictionary copy = new AnyDictionary();
+        copy.putAllFromJava(javaMap);
+        assertEquals(javaMap, copy.toJavaMap());
+
+        // a value without an OTIO type leaves the dictionary unchanged
+        Map<String, Object> invalid = new HashMap<>();
+        invalid.put("string", "changed");
+        invalid.put("object", new Object());
+        assertThrows(IllegalArgumentException.class, () -> dictionary.putAllFromJava(invalid));
+        assertEquals("foo", dictionary.getString("string"));
+        Map<Object, Object> invalidKey = new HashMap<>();
+        invalidKey.put(1, "one");
+        assertThrows(ClassCastException.class,
+                () -> dictionary.putAllFromJava(Collections.singletonMap("nested", invalidKey)));
+        try {
+            copy.close();
+            dictionary.close();
+            clip.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
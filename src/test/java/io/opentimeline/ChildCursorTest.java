@@ -0,0 +1,127 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChildCursorTest {
+
+    private static TimeRange frames(double start, double duration) {
+        return new TimeRange(new RationalTime(start, 24), new RationalTime(duration, 24));
+    }
+
+    private static Clip clip(String name, double duration) {
+        return new Clip.ClipBuilder().setName(name).setSourceRange(frames(0, duration)).build();
+    }
+
+    private static <T extends Composable> List<String> names(ChildCursor<T> cursor) throws Exception {
+        List<String> names = new ArrayList<>();
+        while (cursor.hasNext()) {
+            names.add(cursor.next().getName());
+        }
+        return names;
+    }
+
+    @Test
+    public void testOrder() throws Exception {
+        // [a 10][gap 5][stack [inner [b 4][c 4]] [d 8]][e 10]
+        Track track = new Track.TrackBuilder().setName("track").build();
+        assertTrue(track.appendChild(clip("a", 10)));
+        assertTrue(track.appendChild(new Gap.GapBuilder().setName("gap").setSourceRange(frames(0, 5)).build()));
+        Stack stack = new Stack.StackBuilder().setName("stack").build();
+        Track inner = new Track.TrackBuilder().setName("inner").build();
+        assertTrue(inner.appendChild(clip("b", 4)));
+        assertTrue(inner.appendChild(clip("c", 4)));
+        assertTrue(stack.appendChild(inner));
+        assertTrue(stack.appendChild(clip("d", 8)));
+        assertTrue(track.appendChild(stack));
+        assertTrue(track.appendChild(clip("e", 10)));
+
+        assertEquals(Arrays.asList("a", "gap", "stack", "inner", "b", "c", "d", "e"),
+                names(track.childCursor(null, Composable.class, false)));
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"),
+                names(track.childCursor(null, Clip.class, false)));
+        assertEquals(Arrays.asList("a", "e"),
+                names(track.childCursor(null, Clip.class, true)));
+        assertEquals(Arrays.asList("stack", "inner"),
+                names(track.childCursor(null, Composition.class, false)));
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"),
+                track.eachClip(null).map(Clip::getName).collect(Collectors.toList()));
+
+        // frames 16 to 20 cover the stack and in it b and the start of c
+        TimeRange searchRange = frames(16, 5);
+        assertEquals(Arrays.asList("stack", "inner", "b", "c", "d"),
+                names(track.childCursor(searchRange, Composable.class, false)));
+        assertEquals(track.eachChild(searchRange, Composable.class, false)
+                        .map(Composable::getName).collect(Collectors.toList()),
+                names(track.childCursor(searchRange, Composable.class, false)));
+        track.setTimeIndexEnabled(true);
+        inner.setTimeIndexEnabled(true);
+        assertEquals(Arrays.asList("b", "c", "d"),
+                names(track.childCursor(searchRange, Clip.class, false)));
+        assertEquals(Arrays.asList("e"),
+                names(track.childCursor(frames(25, 2), Clip.class, false)));
+        assertEquals(Arrays.asList(),
+                names(track.childCursor(frames(100, 2), Clip.class, false)));
+
+        ChildCursor<Clip> cursor = track.childCursor(null, Clip.class, false);
+        assertEquals("a", cursor.next().getName());
+        assertEquals("b", cursor.stream().findFirst().get().getName());
+        assertEquals("c", cursor.next().getName());
+        assertEquals(Arrays.asList("d", "e"), names(cursor));
+        assertThrows(NoSuchElementException.class, cursor::next);
+
+        assertThrows(NullPointerException.class, () -> track.childCursor(null, null, false));
+
+        try {
+            track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testLargeAndDeep() throws Exception {
+        Track track = new Track.TrackBuilder().build();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(track.appendChild(i % 3 == 0
+                    ? new Gap.GapBuilder().setSourceRange(frames(0, 1)).build()
+                    : clip("clip" + i, 1)));
+        }
+        assertEquals(666, track.childCursor(null, Clip.class, true).stream().count());
+        assertEquals(1000, track.childCursor(null, Composable.class, true).stream().count());
+        assertEquals(10, track.childCursor(frames(100, 10), Item.class, true).stream().count());
+
+        // nesting is walked without recursion
+        Stack root = new Stack.StackBuilder().build();
+        Stack current = root;
+        for (int i = 0; i < 2000; i++) {
+            Stack nested = new Stack.StackBuilder().build();
+            assertTrue(current.appendChild(nested));
+            current = nested;
+        }
+        assertTrue(current.appendChild(clip("leaf", 1)));
+        ChildCursor<Clip> cursor = root.childCursor(null, Clip.class, false);
+        assertEquals("leaf", cursor.next().getName());
+        assertFalse(cursor.hasNext());
+
+        try {
+            track.close();
+            root.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
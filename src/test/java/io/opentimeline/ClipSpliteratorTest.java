@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.util.TimelineGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClipSpliteratorTest {
+
+    private static Timeline generate() throws Exception {
+        return new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(11)
+                .setTracks(4)
+                .setItemsPerTrack(500)
+                .setNestedStackProbability(0.05)
+                .build()
+                .generateTimeline();
+    }
+
+    @Test
+    public void testTimeline() throws Exception {
+        Timeline timeline = generate();
+        List<Clip> expected = timeline.eachClip().collect(Collectors.toList());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, timeline.clipStream(null, false).collect(Collectors.toList()));
+        assertEquals(expected, timeline.clipStream(null, true).collect(Collectors.toList()));
+
+        TimeRange searchRange = new TimeRange(new RationalTime(300, 24), new RationalTime(200, 24));
+        List<Clip> inRange = timeline.eachClip(searchRange).collect(Collectors.toList());
+        assertFalse(inRange.isEmpty());
+        assertEquals(inRange, timeline.clipStream(searchRange, true).collect(Collectors.toList()));
+
+        // prefixes come out first, by track and then by index range
+        List<Clip> split = new ArrayList<>();
+        Spliterator<Clip> spliterator = timeline.clipSpliterator(null);
+        Spliterator<Clip> firstTracks = spliterator.trySplit();
+        assertNotNull(firstTracks);
+        Spliterator<Clip> firstHalf = firstTracks.trySplit();
+        assertNotNull(firstHalf);
+        Spliterator<Clip> firstQuarter = firstHalf.trySplit();
+        assertNotNull(firstQuarter);
+        firstQuarter.forEachRemaining(split::add);
+        firstHalf.forEachRemaining(split::add);
+        firstTracks.forEachRemaining(split::add);
+        assertTrue(spliterator.tryAdvance(split::add));
+        assertNull(spliterator.trySplit());
+        spliterator.forEachRemaining(split::add);
+        assertEquals(expected, split);
+        assertEquals(0, spliterator.estimateSize());
+
+        try {
+            timeline.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testTrackInForkJoinPool() throws Exception {
+        Timeline timeline = generate();
+        Track track = (Track) timeline.getTracks().getChildren().get(0);
+        List<String> expected = track.eachClip(null).map(Clip::getName).collect(Collectors.toList());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<String> names = pool.submit(() -> StreamSupport.stream(track.clipSpliterator(null), true)
+                    .map(Clip::getName)
+                    .collect(Collectors.toList())).get();
+            assertEquals(expected, names);
+        } finally {
+            pool.shutdown();
+        }
+
+        try {
+            timeline.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
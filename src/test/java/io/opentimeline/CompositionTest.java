@@ -7,6 +7,7 @@ import io.opentimeline.opentime.RationalTime;
 import io.opentimeline.opentime.TimeRange;
 import io.opentimeline.opentimelineio.*;
 import io.opentimeline.opentimelineio.exception.*;
+import io.opentimeline.util.Pair;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -376,6 +377,209 @@ public class CompositionTest {
         }
     }
 
+    private static Clip clipWithDuration(String name, double frames) {
+        return new Clip.ClipBuilder()
+                .setName(name)
+                .setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(frames, 24)))
+                .build();
+    }
+
+    private static String nameOf(Composable composable) {
+        return composable == null ? null : composable.getName();
+    }
+
+    private static void assertSameLookups(Composition indexed, Composition plain, double frames) throws Exception {
+        for (double frame = -2; frame < frames + 2; frame += 0.5) {
+            RationalTime time = new RationalTime(frame, 24);
+            assertEquals(nameOf(plain.getChildAtTime(time, true)), nameOf(indexed.getChildAtTime(time, true)),
+                    "at " + frame);
+            TimeRange range = new TimeRange(time, new RationalTime(7, 24));
+            assertEquals(plain.eachChild(range, Composable.class, true).map(Composable::getName).collect(Collectors.toList()),
+                    indexed.eachChild(range, Composable.class, true).map(Composable::getName).collect(Collectors.toList()),
+                    "in " + range);
+        }
+    }
+
+    @Test
+    public void testTimeIndex() throws Exception {
+        Track track = new Track.TrackBuilder().build();
+        for (int i = 0; i < 20; i++) {
+            assertTrue(track.appendChild(clipWithDuration("clip" + i, 3 + i % 7)));
+        }
+        Transition transition = new Transition.TransitionBuilder()
+                .setInOffset(new RationalTime(2, 24))
+                .setOutOffset(new RationalTime(1, 24))
+                .build();
+        assertTrue(track.insertChild(5, transition));
+        Track copy = (Track) track.deepCopy();
+        assertFalse(copy.isTimeIndexEnabled());
+        copy.setTimeIndexEnabled(true);
+        assertTrue(copy.isTimeIndexEnabled());
+        assertSameLookups(copy, track, track.getDuration().getValue());
+
+        // edits through either object show in the index
+        Clip first = (Clip) copy.getChildren().get(0);
+        assertEquals("clip0", copy.getChildAtTime(new RationalTime(2, 24), true).getName());
+        first.setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(1, 24)));
+        assertEquals("clip1", copy.getChildAtTime(new RationalTime(2, 24), true).getName());
+        assertTrue(copy.removeChild(0));
+        assertTrue(copy.insertChild(0, clipWithDuration("inserted", 4)));
+        assertEquals("inserted", copy.getChildAtTime(new RationalTime(2, 24), true).getName());
+        assertTrue(copy.setChild(0, clipWithDuration("set", 4)));
+        assertEquals("set", copy.getChildAtTime(new RationalTime(2, 24), true).getName());
+        ((Transition) copy.getChildren().get(5)).setInOffset(new RationalTime(3, 24));
+        assertTrue(copy.appendChild(clipWithDuration("appended", 10)));
+        Track expected = (Track) copy.deepCopy();
+        assertSameLookups(copy, expected, expected.getDuration().getValue());
+
+        // overlapping children, the first one in child order wins
+        Stack stack = new Stack.StackBuilder().build();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(stack.appendChild(clipWithDuration("layer" + i, 3 + 3 * i)));
+        }
+        Stack indexedStack = (Stack) stack.deepCopy();
+        indexedStack.setTimeIndexEnabled(true);
+        assertSameLookups(indexedStack, stack, 30);
+        assertEquals("layer0", indexedStack.getChildAtTime(new RationalTime(1, 24), true).getName());
+        assertEquals("layer9", indexedStack.getChildAtTime(new RationalTime(29, 24), true).getName());
+        indexedStack.clearChildren();
+        assertNull(indexedStack.getChildAtTime(new RationalTime(1, 24), true));
+
+        try {
+            track.close();
+            copy.close();
+            expected.close();
+            stack.close();
+            indexedStack.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testTimeIndexSeesEditsBelowIt() throws Exception {
+        // [stack [innerTrack [clipA 10]]][clipB 5]
+        Track track = new Track.TrackBuilder().build();
+        Stack stack = new Stack.StackBuilder().setName("stack").build();
+        Track innerTrack = new Track.TrackBuilder().setName("innerTrack").build();
+        assertTrue(innerTrack.appendChild(clipWithDuration("clipA", 10)));
+        assertTrue(stack.appendChild(innerTrack));
+        assertTrue(track.appendChild(stack));
+        assertTrue(track.appendChild(clipWithDuration("clipB", 5)));
+        Track other = new Track.TrackBuilder().build();
+        assertTrue(other.appendChild(clipWithDuration("otherClip", 5)));
+        track.setTimeIndexEnabled(true);
+        other.setTimeIndexEnabled(true);
+        RationalTime time = new RationalTime(12, 24);
+        assertEquals("clipB", track.getChildAtTime(time, true).getName());
+        assertEquals("otherClip", other.getChildAtTime(new RationalTime(2, 24), true).getName());
+
+        // through a wrapper found by a traversal, two levels below the index
+        Clip clipA = (Clip) ((Track) ((Stack) track.getChildren().get(0)).getChildren().get(0)).getChildren().get(0);
+        clipA.setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(20, 24)));
+        assertEquals("stack", track.getChildAtTime(time, true).getName());
+        assertEquals("otherClip", other.getChildAtTime(new RationalTime(2, 24), true).getName());
+
+        // the available range of a media reference is used without a source range
+        Clip clipC = new Clip.ClipBuilder()
+                .setName("clipC")
+                .setMediaReference(new ExternalReference.ExternalReferenceBuilder()
+                        .setAvailableRange(new TimeRange(new RationalTime(0, 24), new RationalTime(5, 24)))
+                        .build())
+                .build();
+        assertTrue(innerTrack.appendChild(clipC));
+        RationalTime later = new RationalTime(27, 24);
+        assertEquals("clipB", track.getChildAtTime(later, true).getName());
+        clipC.getMediaReference().setAvailableRange(
+                new TimeRange(new RationalTime(0, 24), new RationalTime(10, 24)));
+        assertEquals("stack", track.getChildAtTime(later, true).getName());
+
+        try {
+            track.close();
+            other.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testChildAndLocalTimeAtTime() throws Exception {
+        // [clipA 10][stack [track [gap 5][clipB 100..120]]]
+        Track track = new Track.TrackBuilder().build();
+        assertTrue(track.appendChild(clipWithDuration("clipA", 10)));
+        Stack stack = new Stack.StackBuilder().setName("stack").build();
+        Track innerTrack = new Track.TrackBuilder().setName("innerTrack").build();
+        assertTrue(innerTrack.appendChild(new Gap.GapBuilder()
+                .setName("gap")
+                .setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(5, 24)))
+                .build()));
+        Clip clipB = new Clip.ClipBuilder()
+                .setName("clipB")
+                .setSourceRange(new TimeRange(new RationalTime(100, 24), new RationalTime(20, 24)))
+                .build();
+        assertTrue(innerTrack.appendChild(clipB));
+        assertTrue(stack.appendChild(innerTrack));
+        assertTrue(track.appendChild(stack));
+
+        RationalTime time = new RationalTime(17, 24);
+        Pair<Composable, RationalTime> found = track.getChildAndLocalTimeAtTime(time, false);
+        assertEquals("clipB", found.getFirst().getName());
+        assertEquals(new RationalTime(102, 24), found.getSecond());
+        assertEquals(track.getTransformedTime(time, clipB), found.getSecond());
+        assertEquals("clipB", track.getChildAtTime(time).getName());
+
+        found = track.getChildAndLocalTimeAtTime(time, true);
+        assertEquals("stack", found.getFirst().getName());
+        assertEquals(new RationalTime(7, 24), found.getSecond());
+        assertEquals("stack", track.getChildAtTime(time, true).getName());
+
+        found = track.getChildAndLocalTimeAtTime(new RationalTime(12, 24), false);
+        assertEquals("gap", found.getFirst().getName());
+        assertEquals(new RationalTime(2, 24), found.getSecond());
+        found = track.getChildAndLocalTimeAtTime(new RationalTime(3, 24), false);
+        assertEquals("clipA", found.getFirst().getName());
+        assertEquals(new RationalTime(3, 24), found.getSecond());
+
+        assertNull(track.getChildAndLocalTimeAtTime(new RationalTime(40, 24), false));
+        assertNull(track.getChildAtTime(new RationalTime(40, 24)));
+
+        // an indexed level hands the descent on to the levels below it
+        track.setTimeIndexEnabled(true);
+        assertEquals("clipB", track.getChildAtTime(time).getName());
+        assertEquals("stack", track.getChildAtTime(time, true).getName());
+
+        try {
+            track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testChildAndIndexOfChild() throws ChildAlreadyParentedException, NotAChildException {
+        Composition composition = new Composition.CompositionBuilder().build();
+        Item itemA = new Item.ItemBuilder().setName("a").build();
+        Item itemB = new Item.ItemBuilder().setName("b").build();
+        Item stranger = new Item.ItemBuilder().setName("c").build();
+        composition.appendChild(itemA);
+        composition.appendChild(itemB);
+
+        assertEquals("b", composition.getChild(1).getName());
+        assertEquals(0, composition.getIndexOfChild(itemA));
+        assertEquals(1, composition.getIndexOfChild(itemB));
+        assertThrows(IndexOutOfBoundsException.class, () -> composition.getChild(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> composition.getChild(-1));
+        assertThrows(NotAChildException.class, () -> composition.getIndexOfChild(stranger));
+        try {
+            itemA.close();
+            itemB.close();
+            stranger.close();
+            composition.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
     @Test
     public void testChildrenIfNullTimeRange() throws Exception{
         try(Composition composition = new Composition.CompositionBuilder().build();)
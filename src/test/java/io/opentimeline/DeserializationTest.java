@@ -0,0 +1,201 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+import io.opentimeline.util.TimelineGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeserializationTest {
+
+    @Test
+    public void testLoadAll() throws Exception {
+        Path directory = Files.createTempDirectory("loadAll");
+        List<Path> paths = new ArrayList<>();
+        List<Timeline> timelines = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Timeline timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                    .setSeed(i)
+                    .setTracks(2)
+                    .setItemsPerTrack(20)
+                    .build()
+                    .generateTimeline();
+            Path path = directory.resolve("timeline" + i + ".otio");
+            assertTrue(timeline.toJSONFile(path.toString()));
+            paths.add(path);
+            timelines.add(timeline);
+        }
+        Path broken = directory.resolve("broken.otio");
+        Files.write(broken, "{\"OTIO_SCHEMA\": ".getBytes(StandardCharsets.UTF_8));
+        paths.add(3, broken);
+        Path missing = directory.resolve("missing.otio");
+        paths.add(missing);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Deserialization.LoadResult> results =
+                    Deserialization.loadAll(paths, executor).get(1, TimeUnit.MINUTES);
+            assertEquals(paths.size(), results.size());
+            int loaded = 0;
+            for (int i = 0; i < results.size(); i++) {
+                Deserialization.LoadResult result = results.get(i);
+                assertEquals(paths.get(i), result.getPath());
+                if (result.getPath().equals(broken) || result.getPath().equals(missing)) {
+                    assertFalse(result.isSuccess());
+                    assertNull(result.getObject());
+                    assertTrue(result.getError() instanceof OpenTimelineIOException);
+                } else {
+                    assertTrue(result.isSuccess(), String.valueOf(result.getError()));
+                    assertTrue(timelines.get(loaded).isEquivalentTo(result.getObject()));
+                    result.getObject().close();
+                    loaded++;
+                }
+            }
+            assertEquals(timelines.size(), loaded);
+        } finally {
+            executor.shutdown();
+            for (Timeline timeline : timelines) {
+                timeline.close();
+            }
+            for (Path path : paths) {
+                Files.deleteIfExists(path);
+            }
+            Files.delete(directory);
+        }
+    }
+
+    private static AnyDictionary dictionary(Object... entries) {
+        AnyDictionary dictionary = new AnyDictionary();
+        for (int i = 0; i < entries.length; i += 2) {
+            Object value = entries[i + 1];
+            dictionary.put((String) entries[i], value instanceof Any ? (Any) value : new Any(value));
+        }
+        return dictionary;
+    }
+
+    @Test
+    public void testMetadataFilter() throws Exception {
+        AnyVector list = new AnyVector();
+        list.add(new Any(dictionary("a", 1, "b", 2)));
+        list.add(new Any(dictionary("a", 3, "b", 4)));
+        AnyDictionary metadata = dictionary(
+                "AAF", new Any(dictionary("Name", "A001", "ComponentAttributeList", new Any(dictionary("x", 1.5)))),
+                "ALE", new Any(dictionary("Tape", "T1")),
+                "reel", "A001",
+                "list", new Any(list));
+        Clip clip = new Clip.ClipBuilder().setName("clip").setMetadata(metadata).build();
+        String json = clip.toJSONString();
+
+        Clip denied = (Clip) SerializableObject.fromJSONString(json, MetadataFilter.deny("AAF", "list.b"));
+        assertEquals("clip", denied.getName());
+        AnyDictionary deniedMetadata = denied.getMetadata();
+        assertEquals(new TreeSet<>(Arrays.asList("ALE", "list", "reel")), new TreeSet<>(deniedMetadata.keySet()));
+        AnyVector deniedList = deniedMetadata.get("list").safelyCastAnyVector();
+        assertEquals(2, deniedList.size());
+        assertEquals(1, deniedList.get(0).safelyCastAnyDictionary().size());
+        assertEquals(3, deniedList.get(1).safelyCastAnyDictionary().get("a").safelyCastInt());
+
+        Clip allowed = (Clip) SerializableObject.fromJSONString(json, MetadataFilter.allow("AAF.Name"));
+        AnyDictionary allowedMetadata = allowed.getMetadata();
+        assertEquals(1, allowedMetadata.size());
+        AnyDictionary aaf = allowedMetadata.get("AAF").safelyCastAnyDictionary();
+        assertEquals(1, aaf.size());
+        assertEquals("A001", aaf.get("Name").safelyCastString());
+
+        // the predicate sees every distinct key path once, but nothing below what it dropped
+        Set<String> asked = new TreeSet<>();
+        MetadataFilter predicate = MetadataFilter.matching(keyPath -> {
+            assertTrue(asked.add(keyPath));
+            return !keyPath.equals("ALE");
+        });
+        Path file = Files.createTempFile("filtered", ".otio");
+        assertTrue(clip.toJSONFile(file.toString()));
+        Any destination = new Any(new SerializableObject());
+        assertTrue(new Deserialization().deserializeJSONFromFile(file.toString(), destination, predicate));
+        Clip matched = (Clip) destination.safelyCastSerializableObject();
+        assertFalse(matched.getMetadata().containsKey("ALE"));
+        assertEquals(metadata.get("AAF"), matched.getMetadata().get("AAF"));
+        assertEquals(new TreeSet<>(Arrays.asList(
+                "AAF", "AAF.ComponentAttributeList", "AAF.ComponentAttributeList.x", "AAF.Name",
+                "ALE", "list", "list.a", "list.b", "reel")), asked);
+
+        // nothing else is filtered, and a predicate failure ends deserialization
+        Clip unfiltered = (Clip) SerializableObject.fromJSONFile(file.toString(), MetadataFilter.deny());
+        assertTrue(clip.isEquivalentTo(unfiltered));
+        assertThrows(IllegalStateException.class, () -> SerializableObject.fromJSONString(json,
+                MetadataFilter.matching(keyPath -> {
+                    throw new IllegalStateException(keyPath);
+                })));
+        assertThrows(OpenTimelineIOException.class, () -> SerializableObject.fromJSONString(
+                json.substring(0, json.length() / 2), MetadataFilter.deny("AAF")));
+
+        unfiltered.close();
+        matched.close();
+        destination.close();
+        allowed.close();
+        denied.close();
+        clip.close();
+        Files.delete(file);
+    }
+
+    @Test
+    public void testMetadataFilterKeepsObjectsWhole() throws Exception {
+        TimeRange range = new TimeRange(new RationalTime(12, 24), new RationalTime(48, 24));
+        Marker marker = new Marker.MarkerBuilder()
+                .setName("marker")
+                .setMarkedRange(range)
+                .setColor(Marker.Color.blue)
+                .build();
+        AnyDictionary metadata = dictionary(
+                "marker", marker,
+                "range", range,
+                "AAF", new Any(dictionary("Name", "A001", "Tape", "T1")));
+        Clip clip = new Clip.ClipBuilder().setName("clip").setMetadata(metadata).build();
+        String json = clip.toJSONString();
+
+        // a path through an object keeps all of it, with its schema and the fields it requires
+        Clip allowed = (Clip) SerializableObject.fromJSONString(json,
+                MetadataFilter.allow("marker.name", "range.duration.value", "AAF.Name"));
+        AnyDictionary allowedMetadata = allowed.getMetadata();
+        assertEquals(new TreeSet<>(Arrays.asList("AAF", "marker", "range")),
+                new TreeSet<>(allowedMetadata.keySet()));
+        SerializableObject allowedMarker = allowedMetadata.get("marker").safelyCastSerializableObject();
+        assertTrue(allowedMarker instanceof Marker);
+        assertTrue(marker.isEquivalentTo(allowedMarker));
+        assertEquals(range, allowedMetadata.get("range").safelyCastTimeRange());
+        assertEquals(1, allowedMetadata.get("AAF").safelyCastAnyDictionary().size());
+
+        // the filter is asked for objects but not for what is inside them
+        Set<String> asked = new TreeSet<>();
+        Clip matched = (Clip) SerializableObject.fromJSONString(json, MetadataFilter.matching(keyPath -> {
+            asked.add(keyPath);
+            return !keyPath.equals("marker.color");
+        }));
+        assertEquals(new TreeSet<>(Arrays.asList("AAF", "AAF.Name", "AAF.Tape", "marker", "range")), asked);
+        assertTrue(clip.isEquivalentTo(matched));
+
+        matched.close();
+        allowedMarker.close();
+        allowed.close();
+        clip.close();
+        marker.close();
+    }
+}
@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.MalformedSchemaException;
+import io.opentimeline.util.TimelineGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyTimelineTest {
+
+    @Test
+    public void testPeekMatchesFullLoad(@TempDir Path directory) throws Exception {
+        Timeline timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(9)
+                .setTracks(3)
+                .setItemsPerTrack(100)
+                .setTransitionProbability(0.1)
+                .setNestedStackProbability(0.05)
+                .setMarkersPerItem(1)
+                .setMetadataDepth(2)
+                .build()
+                .generateTimeline();
+        AnyDictionary metadata = new AnyDictionary();
+        metadata.put("show", new Any("pilot \"draft\" é"));
+        timeline.setMetadata(metadata);
+        // the mapping of the file lives until the LazyTimeline is collected, so the file
+        // is left for JUnit to delete after the test
+        Path file = directory.resolve("lazy.otio");
+        timeline.toJSONFile(file.toString());
+
+        LazyTimeline lazy = LazyTimeline.open(file);
+        assertEquals(timeline.getName(), lazy.getName());
+        Stack stack = timeline.getTracks();
+        assertEquals(stack.getChildrenCount(), lazy.getTrackCount());
+        for (int i = 0; i < lazy.getTrackCount(); i++) {
+            Track track = (Track) stack.getChildren().get(i);
+            assertEquals(track.getName(), lazy.getTrackName(i));
+            assertEquals(track.getKind(), lazy.getTrackKind(i));
+            assertEquals(track.getChildrenCount(), lazy.getChildCount(i));
+
+            Composition lazyTrack = lazy.getTrack(i);
+            assertTrue(track.isEquivalentTo(lazyTrack));
+            lazyTrack.close();
+
+            int last = lazy.getChildCount(i) - 1;
+            Composable child = lazy.getChild(i, last);
+            assertNull(child.parent());
+            assertTrue(track.getChildren().get(last).isEquivalentTo(child));
+            child.close();
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> lazy.getTrack(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> lazy.getChild(0, -1));
+
+        AnyDictionary lazyMetadata = lazy.getMetadata();
+        assertEquals("pilot \"draft\" é", lazyMetadata.get("show").safelyCastString());
+        assertEquals(timeline.getDuration(), lazy.getDuration());
+
+        Timeline loaded = lazy.load();
+        assertTrue(timeline.isEquivalentTo(loaded));
+
+        // a source range on the stack decides the duration without loading any track
+        stack.setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(48, 24)));
+        LazyTimeline trimmed = LazyTimeline.fromJSON(
+                ByteBuffer.wrap(timeline.toJSONString().getBytes(StandardCharsets.UTF_8)));
+        assertEquals(new RationalTime(48, 24), trimmed.getDuration());
+
+        loaded.close();
+        timeline.close();
+    }
+
+    @Test
+    public void testNotATimeline() throws Exception {
+        Clip clip = new Clip.ClipBuilder().setName("clip").build();
+        ByteBuffer json = ByteBuffer.wrap(clip.toJSONString().getBytes(StandardCharsets.UTF_8));
+        assertThrows(MalformedSchemaException.class, () -> LazyTimeline.fromJSON(json));
+        assertThrows(Exception.class, () -> LazyTimeline.fromJSON(
+                ByteBuffer.wrap("{\"OTIO_SCHEMA\": \"Timeline.1\", \"tracks\": {\"children\": [".getBytes(StandardCharsets.UTF_8))));
+        clip.close();
+    }
+}
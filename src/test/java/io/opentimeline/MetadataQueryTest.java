@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetadataQueryTest {
+
+    private static AnyDictionary metadata(String reel, Object fps) {
+        Map<String, Object> cmx = new HashMap<>();
+        cmx.put("reel", reel);
+        Map<String, Object> map = new HashMap<>();
+        map.put("cmx_3600", cmx);
+        map.put("fps", fps);
+        AnyDictionary metadata = new AnyDictionary();
+        metadata.putAllFromJava(map);
+        return metadata;
+    }
+
+    private static List<String> names(List<? extends Composable> composables) {
+        return composables.stream().map(Composable::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testFind() throws Exception {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        track.appendChild(new Clip.ClipBuilder().setName("a").setMetadata(metadata("A001", 24L)).build());
+        track.appendChild(new Clip.ClipBuilder().setName("b").setMetadata(metadata("A002", 25.0)).build());
+        Stack nested = new Stack.StackBuilder().setName("nested").setMetadata(metadata("A001", 30L)).build();
+        Track nestedTrack = new Track.TrackBuilder().setName("nestedTrack").build();
+        nestedTrack.appendChild(new Clip.ClipBuilder().setName("c").setMetadata(metadata("A001", 23.976)).build());
+        nestedTrack.appendChild(new Gap.GapBuilder().setName("gap").build());
+        nested.appendChild(nestedTrack);
+        track.appendChild(nested);
+
+        MetadataQuery reel = MetadataQuery.compile("cmx_3600.reel == 'A001'");
+        assertEquals(Arrays.asList("a", "nested", "c"), names(reel.find(track)));
+        List<Clip> clips = reel.find(track, Clip.class);
+        assertEquals(Arrays.asList("a", "c"), names(clips));
+
+        // integers and floating point values compare numerically
+        assertEquals(Arrays.asList("b", "nested"),
+                names(MetadataQuery.compile("fps >= 25").find(track)));
+        assertEquals(Arrays.asList("a", "c"),
+                names(MetadataQuery.compile("fps < 24.5 && fps > 23").find(track)));
+        // missing values only match negated, nestedTrack and gap have no fps
+        assertEquals(Arrays.asList("b", "nestedTrack", "c", "gap"),
+                names(MetadataQuery.compile("cmx_3600.reel != \"A001\" || !(fps >= 24)").find(track)));
+        assertEquals(Arrays.asList("nestedTrack", "gap"),
+                names(MetadataQuery.compile("!cmx_3600").find(track)));
+        assertEquals(Collections.emptyList(), MetadataQuery.compile("cmx_3600.reel.name == 'A001'").find(track));
+        assertEquals(Collections.emptyList(), MetadataQuery.compile("fps == 'A001'").find(track));
+
+        assertTrue(reel.matches(nested));
+        assertFalse(reel.matches(nestedTrack));
+
+        reel.close();
+        track.close();
+    }
+
+    @Test
+    public void testCompile() {
+        MetadataQuery query = MetadataQuery.compile(" `AAF`.`Component Attributes`.reel == 'A\\'001' ");
+        assertEquals(" `AAF`.`Component Attributes`.reel == 'A\\'001' ", query.getExpression());
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("reel", "A'001");
+        AnyDictionary metadata = new AnyDictionary();
+        metadata.putAllFromJava(Collections.singletonMap(
+                "AAF", Collections.singletonMap("Component Attributes", attributes)));
+        SerializableObjectWithMetadata object = new SerializableObjectWithMetadata.SerializableObjectWithMetadataBuilder()
+                .setMetadata(metadata)
+                .build();
+        assertTrue(query.matches(object));
+        assertTrue(MetadataQuery.compile("AAF.`Component Attributes`.reel >= 'A'").matches(object));
+
+        metadata.putBoolean("proxy", false);
+        metadata.putAllFromJava(Collections.singletonMap("note", null));
+        object.setMetadata(metadata);
+        // the compiled query is evaluated again, against the new metadata
+        assertTrue(query.matches(object));
+        assertTrue(MetadataQuery.compile("proxy == false && note == null").matches(object));
+        assertFalse(MetadataQuery.compile("note").matches(object));
+        assertTrue(MetadataQuery.compile("proxy").matches(object));
+
+        for (String invalid : new String[]{"", "reel ==", "reel == A001", "(reel", "reel == 'A001",
+                "proxy < true", "reel == 1 1", "&& reel", "reel == 1.2.3"}) {
+            assertThrows(IllegalArgumentException.class, () -> MetadataQuery.compile(invalid), invalid);
+        }
+        try {
+            query.close();
+            metadata.close();
+            object.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
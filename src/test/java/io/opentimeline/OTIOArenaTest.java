@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.Clip;
+import io.opentimeline.opentimelineio.Composable;
+import io.opentimeline.opentimelineio.SerializableObject;
+import io.opentimeline.opentimelineio.Timeline;
+import io.opentimeline.opentimelineio.Track;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OTIOArenaTest {
+
+    @Test
+    public void testCloseFreesEverything() throws Exception {
+        String projectRootDir = System.getProperty("user.dir");
+        String sampleDataDir = projectRootDir + File.separator +
+                "src" + File.separator + "test" + File.separator + "sample_data";
+        String genRefTest = sampleDataDir + File.separator + "transition_test.otio";
+
+        List<OTIOObject> objects = new ArrayList<>();
+        OTIOArena arena = OTIOArena.open();
+        try {
+            Timeline timeline = (Timeline) SerializableObject.fromJSONFile(genRefTest);
+            objects.add(timeline);
+            for (Composable track : timeline.getTracks().getChildren()) {
+                objects.add(track);
+                objects.addAll(((Track) track).getChildren());
+            }
+            assertTrue(arena.size() >= objects.size());
+        } finally {
+            arena.close();
+        }
+        assertEquals(0, arena.size());
+        for (OTIOObject object : objects) {
+            // already claimed by the arena
+            assertFalse(object.getNativeManager().finalizer.markDisposed());
+        }
+        // closing again is a no-op
+        arena.close();
+    }
+
+    @Test
+    public void testNestedArenas() throws Exception {
+        Clip outerClip;
+        Clip innerClip;
+        Clip closedClip;
+        try (OTIOArena outer = OTIOArena.open()) {
+            outerClip = new Clip.ClipBuilder().setName("outer").build();
+            try (OTIOArena inner = OTIOArena.open()) {
+                innerClip = new Clip.ClipBuilder().setName("inner").build();
+                closedClip = new Clip.ClipBuilder().setName("closed").build();
+                closedClip.close();
+                assertEquals(2, inner.size());
+            }
+            assertFalse(innerClip.getNativeManager().finalizer.markDisposed());
+            assertEquals(1, outer.size());
+            assertEquals("outer", outerClip.getName());
+        }
+        assertFalse(outerClip.getNativeManager().finalizer.markDisposed());
+    }
+
+    @Test
+    public void testWrapperAlsoHandedOutElsewhere() throws Exception {
+        Track track = new Track.TrackBuilder().build();
+        assertTrue(track.appendChild(new Clip.ClipBuilder().setName("clip").build()));
+        Composable outside = track.getChildren().get(0);
+        try (OTIOArena arena = OTIOArena.open()) {
+            assertSame(outside, track.getChildren().get(0));
+            assertEquals(1, arena.size());
+        }
+        // the arena only closed its own hand-out
+        assertEquals("clip", outside.getName());
+        try {
+            outside.close();
+            track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testCloseFromOtherThread() throws Exception {
+        OTIOArena arena = OTIOArena.open();
+        Thread thread = new Thread(() ->
+                assertThrows(IllegalStateException.class, arena::close));
+        thread.start();
+        thread.join();
+        arena.close();
+    }
+}
@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.AnyDictionary;
+import io.opentimeline.opentimelineio.Clip;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OTIOFactoryTest {
+
+    @BeforeAll
+    public static void loadLibrary() {
+        LibraryLoader.load("jotio");
+    }
+
+    /* a handle of 0 makes disposal a no-op delete of nullptr */
+    private static OTIONative nullAny() {
+        OTIONative otioNative = new OTIONative(0);
+        otioNative.className = "io.opentimeline.opentimelineio.Any";
+        return otioNative;
+    }
+
+    @Test
+    public void testConstructedObjectsAreTracked() throws Exception {
+        Clip clip = new Clip.ClipBuilder().setName("clip").build();
+        assertNotNull(clip.getNativeManager().finalizer);
+        Clip factoryClip = OTIOFactory.getInstance().createClip(new Clip.ClipBuilder());
+        assertNotNull(factoryClip.getNativeManager().finalizer);
+        AnyDictionary anyDictionary = new AnyDictionary();
+        assertNotNull(anyDictionary.getNativeManager().finalizer);
+        clip.close();
+        factoryClip.close();
+        anyDictionary.close();
+    }
+
+    @Test
+    public void testTrackOnce() throws InterruptedException {
+        OTIOReclaimer reclaimer = new OTIOReclaimer();
+        try {
+            OTIONative otioNative = nullAny();
+            reclaimer.track(otioNative);
+            OTIOFinalizer finalizer = otioNative.finalizer;
+            reclaimer.track(otioNative);
+            assertSame(finalizer, otioNative.finalizer);
+            assertEquals(1, reclaimer.getPendingCount());
+
+            reclaimer.close(finalizer);
+            reclaimer.close(finalizer);
+            assertEquals(0, reclaimer.getPendingCount());
+            assertEquals(1, reclaimer.getReclaimedCount());
+            assertEquals(0, reclaimer.getLeakedCount());
+        } finally {
+            reclaimer.shutdown();
+        }
+    }
+
+    @Test
+    public void testCloseCountsHandOuts() throws InterruptedException {
+        OTIOReclaimer reclaimer = new OTIOReclaimer();
+        try {
+            OTIONative otioNative = nullAny();
+            reclaimer.track(otioNative);
+            OTIOFinalizer finalizer = otioNative.finalizer;
+            // handed out a second time, e.g. through the wrapper cache
+            assertTrue(finalizer.acquire());
+
+            reclaimer.close(finalizer);
+            assertEquals(0, reclaimer.getReclaimedCount());
+            assertEquals(1, reclaimer.getPendingCount());
+            reclaimer.close(finalizer);
+            assertEquals(1, reclaimer.getReclaimedCount());
+            assertEquals(0, reclaimer.getPendingCount());
+            // freed, it cannot be handed out again
+            assertFalse(finalizer.acquire());
+            reclaimer.close(finalizer);
+            assertEquals(1, reclaimer.getReclaimedCount());
+        } finally {
+            reclaimer.shutdown();
+        }
+    }
+
+    @Test
+    public void testReclaimAfterGarbageCollection() throws InterruptedException {
+        OTIOReclaimer reclaimer = new OTIOReclaimer();
+        try {
+            int count = 100;
+            for (int i = 0; i < count; i++) {
+                reclaimer.track(nullAny());
+            }
+            OTIONative closed = nullAny();
+            reclaimer.track(closed);
+            reclaimer.close(closed.finalizer);
+
+            long deadline = System.currentTimeMillis() + 10000;
+            while (reclaimer.getReclaimedCount() < count + 1 && System.currentTimeMillis() < deadline) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertEquals(count + 1, reclaimer.getReclaimedCount());
+            assertEquals(count, reclaimer.getLeakedCount());
+            assertEquals(0, reclaimer.getPendingCount());
+        } finally {
+            reclaimer.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdown() throws InterruptedException {
+        OTIOReclaimer reclaimer = new OTIOReclaimer();
+        reclaimer.shutdown();
+        OTIONative otioNative = nullAny();
+        reclaimer.track(otioNative);
+        reclaimer.close(otioNative.finalizer);
+        assertEquals(1, reclaimer.getReclaimedCount());
+        assertEquals(0, reclaimer.getPendingCount());
+    }
+
+    @Test
+    public void testDiagnosticsLevelProperty() {
+        assertEquals(OTIODiagnostics.Level.OFF, OTIODiagnostics.parseLevel(null));
+        assertEquals(OTIODiagnostics.Level.DEBUG, OTIODiagnostics.parseLevel(" Debug "));
+        assertEquals(OTIODiagnostics.Level.ERROR, OTIODiagnostics.parseLevel("error"));
+        // a typo falls back to OFF instead of failing the class initialization
+        assertEquals(OTIODiagnostics.Level.OFF, OTIODiagnostics.parseLevel("debgu"));
+    }
+
+    @Test
+    public void testDiagnostics() throws InterruptedException {
+        // other reclaimers may report concurrently, only look for our own events
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        List<Boolean> reclaimed = Collections.synchronizedList(new ArrayList<>());
+        OTIOMetrics metrics = (nativeClassName, leaked) -> reclaimed.add(leaked);
+        OTIODiagnostics.setSink((level, message, error) -> messages.add(level + " " + message));
+        OTIODiagnostics.addMetrics(metrics);
+        OTIOReclaimer reclaimer = new OTIOReclaimer();
+        try {
+            assertEquals(OTIODiagnostics.Level.OFF, OTIODiagnostics.getLevel());
+            assertFalse(OTIODiagnostics.isEnabled(OTIODiagnostics.Level.ERROR));
+            OTIONative first = nullAny();
+            reclaimer.track(first);
+            reclaimer.close(first.finalizer);
+            assertFalse(messages.contains("DEBUG closed io.opentimeline.opentimelineio.Any 0"));
+
+            OTIODiagnostics.setLevel(OTIODiagnostics.Level.DEBUG);
+            OTIONative second = nullAny();
+            reclaimer.track(second);
+            reclaimer.close(second.finalizer);
+            assertTrue(messages.contains("DEBUG closed io.opentimeline.opentimelineio.Any 0"));
+            assertTrue(reclaimed.size() >= 2);
+            assertTrue(reclaimed.contains(false));
+        } finally {
+            reclaimer.shutdown();
+            OTIODiagnostics.setLevel(OTIODiagnostics.Level.OFF);
+            OTIODiagnostics.setSink(null);
+            OTIODiagnostics.removeMetrics(metrics);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.opentimeline.opentime.OpenTimeEngine;
+import io.opentimeline.opentime.OpenTimeEngines;
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Checks that the pure Java opentime engine produces bit-identical results to
+ * the native opentime library for every operation.
+ */
+public class OpenTimeEngineConformanceTest {
+
+    private static final int ITERATIONS = 2000;
+
+    private static final double[] EDGE_VALUES = {
+            0, -0.0, 1, -1, 0.5, 10, -10, 23.976, 24, 29.97, 30000.0 / 1001, 48, 60, 192000,
+            1e-9, 1.0 / (2 * 192000.0), 1e12, Double.NaN, Double.POSITIVE_INFINITY};
+
+    private static final double[] RATES = {1, 24, 25, 30, 48, 60, 23.976, 24000.0 / 1001, 30000.0 / 1001, 192000};
+
+    @Test
+    public void testEdgeValues() throws Exception {
+        Random random = new Random(0x07105EEDL);
+        for (Method method : OpenTimeEngine.class.getMethods()) {
+            for (int i = 0; i < ITERATIONS; i++) {
+                Object[] args = new Object[method.getParameterCount()];
+                for (int p = 0; p < args.length; p++) {
+                    args[p] = EDGE_VALUES[random.nextInt(EDGE_VALUES.length)];
+                }
+                assertConformant(method, args);
+            }
+        }
+    }
+
+    @Test
+    public void testRandomValues() throws Exception {
+        Random random = new Random(42);
+        for (Method method : OpenTimeEngine.class.getMethods()) {
+            for (int i = 0; i < ITERATIONS; i++) {
+                Object[] args = new Object[method.getParameterCount()];
+                for (int p = 0; p < args.length; p++) {
+                    // values and rates alternate in every signature, a trailing odd parameter is an epsilon or rate
+                    if (p % 2 == 1 || p == args.length - 1) {
+                        args[p] = RATES[random.nextInt(RATES.length)];
+                    } else {
+                        args[p] = random.nextBoolean()
+                                ? (double) (random.nextInt(2000) - 1000)
+                                : (random.nextDouble() - 0.5) * 100000;
+                    }
+                }
+                assertConformant(method, args);
+            }
+        }
+    }
+
+    @Test
+    public void testAdjacentRanges() throws Exception {
+        Random random = new Random(7);
+        Method[] methods = OpenTimeEngine.class.getMethods();
+        for (int i = 0; i < ITERATIONS; i++) {
+            double rate = RATES[random.nextInt(RATES.length)];
+            double start = random.nextInt(1000);
+            double duration = random.nextInt(100);
+            // the other range starts exactly at, just before or just after the end of this one
+            double otherStart = start + duration + (random.nextInt(3) - 1) * 1e-7;
+            double otherDuration = random.nextInt(100);
+            double epsilon = random.nextBoolean() ? 1.0 / (2 * 192000.0) : 0;
+            for (Method method : methods) {
+                if (method.getParameterCount() == 9) {
+                    assertConformant(method, new Object[]{
+                            start, rate, duration, rate, otherStart, rate, otherDuration, rate, epsilon});
+                }
+            }
+        }
+    }
+
+    private static void assertConformant(Method method, Object[] args) throws Exception {
+        Object expected = method.invoke(OpenTimeEngines.NATIVE, args);
+        Object actual = method.invoke(OpenTimeEngines.JAVA, args);
+        String message = method.getName() + Arrays.toString(args);
+        if (expected instanceof Double) {
+            assertSameDouble((Double) expected, (Double) actual, message);
+        } else if (expected instanceof RationalTime) {
+            assertSameTime((RationalTime) expected, (RationalTime) actual, message);
+        } else if (expected instanceof TimeRange) {
+            TimeRange expectedRange = (TimeRange) expected;
+            TimeRange actualRange = (TimeRange) actual;
+            assertSameTime(expectedRange.getStartTime(), actualRange.getStartTime(), message);
+            assertSameTime(expectedRange.getDuration(), actualRange.getDuration(), message);
+        } else {
+            assertEquals(expected, actual, message);
+        }
+    }
+
+    private static void assertSameTime(RationalTime expected, RationalTime actual, String message) {
+        assertSameDouble(expected.getValue(), actual.getValue(), message);
+        assertSameDouble(expected.getRate(), actual.getRate(), message);
+    }
+
+    private static void assertSameDouble(double expected, double actual, String message) {
+        assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual),
+                message + " expected " + expected + " but was " + actual);
+    }
+}
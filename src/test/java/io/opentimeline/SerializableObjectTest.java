@@ -5,10 +5,36 @@ package io.opentimeline;
 
 import io.opentimeline.opentimelineio.Any;
 import io.opentimeline.opentimelineio.AnyDictionary;
+import io.opentimeline.opentimelineio.CompressionCodec;
+import io.opentimeline.opentimelineio.CompressionCodecs;
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentimelineio.Deserialization;
 import io.opentimeline.opentimelineio.SerializableObject;
 import io.opentimeline.opentimelineio.SerializableObjectWithMetadata;
+import io.opentimeline.opentimelineio.Serialization;
+import io.opentimeline.opentimelineio.Timeline;
+import io.opentimeline.opentimelineio.exception.OpenTimelineIOException;
+import io.opentimeline.util.TimelineGenerator;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class SerializableObjectTest {
@@ -91,4 +117,262 @@ public class SerializableObjectTest {
             e.printStackTrace();
         }
     }
+
+    @Test
+    public void testStreamingJSON() throws Exception {
+        // large enough to pass through the stream buffer many times
+        Timeline timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(3)
+                .setTracks(2)
+                .setItemsPerTrack(500)
+                .setMetadataDepth(2)
+                .build()
+                .generateTimeline();
+        String expected = timeline.toJSONString(4);
+        assertTrue(expected.length() > 4 * 64 * 1024);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        timeline.toJSON(out, 4);
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        Any any = new Any(timeline);
+        ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+        int[] chunks = {0};
+        WritableByteChannel channel = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) {
+                chunks[0]++;
+                int length = src.remaining();
+                byte[] bytes = new byte[length];
+                src.get(bytes);
+                channelOut.write(bytes, 0, length);
+                return length;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        new Serialization().serializeJSON(any, channel, 4);
+        assertEquals(expected, new String(channelOut.toByteArray(), StandardCharsets.UTF_8));
+        assertTrue(chunks[0] > 1);
+
+        // a failing stream surfaces its IOException and leaves the writer usable
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        IOException e = assertThrows(IOException.class, () -> timeline.toJSON(failing, 4));
+        assertEquals("disk full", e.getMessage());
+        out.reset();
+        new Serialization().serializeJSON(any, out, 0);
+        assertEquals(timeline.toJSONString(0), new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        any.close();
+        timeline.close();
+    }
+
+    @Test
+    public void testFromJSONBuffer() throws Exception {
+        Timeline timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(5)
+                .setTracks(4)
+                .setItemsPerTrack(1000)
+                .setMetadataDepth(2)
+                .build()
+                .generateTimeline();
+        byte[] json = timeline.toJSONString().getBytes(StandardCharsets.UTF_8);
+        // large enough to be fed to the parser through a pipe
+        assertTrue(json.length > 1 << 20);
+
+        // direct buffer, with bytes outside position and limit that must be ignored
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length + 8);
+        direct.put("garbage!".getBytes(StandardCharsets.UTF_8), 0, 4);
+        direct.put(json);
+        direct.put("!!!!".getBytes(StandardCharsets.UTF_8));
+        direct.position(4).limit(4 + json.length);
+        SerializableObject fromDirect = SerializableObject.fromJSON(direct);
+        assertEquals(direct.limit(), direct.position());
+        assertTrue(timeline.isEquivalentTo(fromDirect));
+
+        // memory-mapped file
+        Path path = Files.createTempFile("timeline", ".otio");
+        Files.write(path, json);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            SerializableObject fromMapped = SerializableObject.fromJSON(mapped);
+            assertTrue(timeline.isEquivalentTo(fromMapped));
+            fromMapped.close();
+        } finally {
+            Files.delete(path);
+        }
+
+        // heap buffer and a small document through Deserialization
+        RationalTime time = new RationalTime(15, 24);
+        Any timeAny = new Any(time);
+        byte[] small = new Serialization().serializeJSONToString(timeAny).getBytes(StandardCharsets.UTF_8);
+        Any destination = new Any(new RationalTime());
+        assertTrue(new Deserialization().deserializeJSONFromBuffer(ByteBuffer.wrap(small), destination));
+        assertEquals(time, destination.safelyCastRationalTime());
+
+        // a buffer that is not a SerializableObject
+        assertThrows(Exception.class, () -> SerializableObject.fromJSON(ByteBuffer.wrap(small)));
+
+        destination.close();
+        timeAny.close();
+        fromDirect.close();
+        timeline.close();
+    }
+
+    @Test
+    public void testBinaryRoundTrip() throws Exception {
+        Timeline timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(11)
+                .setTracks(3)
+                .setItemsPerTrack(200)
+                .setTransitionProbability(0.1)
+                .setNestedStackProbability(0.05)
+                .setMarkersPerItem(1)
+                .setEffectsPerItem(1)
+                .setMetadataDepth(3)
+                .build()
+                .generateTimeline();
+        byte[] binary = timeline.toBinary();
+        String json = timeline.toJSONString();
+        assertTrue(binary.length < json.getBytes(StandardCharsets.UTF_8).length / 2);
+
+        SerializableObject decoded = SerializableObject.fromBinary(binary);
+        assertTrue(decoded instanceof Timeline);
+        assertTrue(timeline.isEquivalentTo(decoded));
+        assertEquals(json, decoded.toJSONString());
+        assertArrayEquals(binary, decoded.toBinary());
+
+        // plain values through Serialization and Deserialization
+        RationalTime time = new RationalTime(1001, 30000);
+        Any timeAny = new Any(time);
+        byte[] timeBinary = new Serialization().serializeBinary(timeAny);
+        Any destination = new Any(new RationalTime());
+        assertTrue(new Deserialization().deserializeBinary(timeBinary, destination));
+        assertEquals(time, destination.safelyCastRationalTime());
+
+        // a RationalTime is not a SerializableObject
+        assertThrows(Exception.class, () -> SerializableObject.fromBinary(timeBinary));
+        // truncated and foreign input
+        assertThrows(Exception.class, () ->
+                SerializableObject.fromBinary(Arrays.copyOf(binary, binary.length / 2)));
+        assertThrows(Exception.class, () ->
+                SerializableObject.fromBinary(json.getBytes(StandardCharsets.UTF_8)));
+        // a document with trailing bytes leaves the destination as it was
+        byte[] trailing = Arrays.copyOf(timeBinary, timeBinary.length + 1);
+        try {
+            assertFalse(new Deserialization().deserializeBinary(trailing, destination));
+        } catch (OpenTimelineIOException e) {
+            // reported as an exception instead
+        }
+        assertEquals(time, destination.safelyCastRationalTime());
+
+        destination.close();
+        timeAny.close();
+        decoded.close();
+        timeline.close();
+    }
+
+    @Test
+    public void testCompressedJSON() throws Exception {
+        Timeline timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(5)
+                .setTracks(2)
+                .setItemsPerTrack(300)
+                .setMetadataDepth(2)
+                .build()
+                .generateTimeline();
+        String json = timeline.toJSONString();
+        Path directory = Files.createTempDirectory("otio-compressed");
+
+        // gzip, readable by any gzip tool
+        Path gzipFile = directory.resolve("timeline.otio.gz");
+        assertSame(CompressionCodecs.GZIP, CompressionCodecs.forFileName(gzipFile.toString()));
+        timeline.toJSONFile(gzipFile, CompressionCodecs.GZIP, 4);
+        assertTrue(Files.size(gzipFile) < json.length() / 4);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(gzipFile))) {
+            ByteArrayOutputStream plain = new ByteArrayOutputStream();
+            byte[] bytes = new byte[8192];
+            for (int count; (count = in.read(bytes)) != -1; ) {
+                plain.write(bytes, 0, count);
+            }
+            assertEquals(json, new String(plain.toByteArray(), StandardCharsets.UTF_8));
+        }
+        SerializableObject fromGzip = SerializableObject.fromJSONFile(gzipFile, CompressionCodecs.GZIP);
+        assertTrue(timeline.isEquivalentTo(fromGzip));
+
+        // any other codec plugs in the same way
+        CompressionCodec deflate = new CompressionCodec() {
+            @Override
+            public String getName() {
+                return "deflate";
+            }
+
+            @Override
+            public String getFileExtension() {
+                return ".zz";
+            }
+
+            @Override
+            public OutputStream compress(OutputStream out) {
+                return new DeflaterOutputStream(out);
+            }
+
+            @Override
+            public InputStream decompress(InputStream in) {
+                return new InflaterInputStream(in);
+            }
+        };
+        Path deflateFile = directory.resolve("timeline.otio.zz");
+        Any any = new Any(timeline);
+        new Serialization().serializeJSONToFile(any, deflateFile, deflate, 4);
+        Any destination = new Any(new SerializableObject());
+        assertTrue(new Deserialization().deserializeJSONFromFile(deflateFile, deflate, destination));
+        assertTrue(timeline.isEquivalentTo(destination.safelyCastSerializableObject()));
+
+        // no codec is plain JSON
+        Path plainFile = directory.resolve("timeline.otio");
+        assertNull(CompressionCodecs.forFileName(plainFile.toString()));
+        timeline.toJSONFile(plainFile, null, 4);
+        assertEquals(json, new String(Files.readAllBytes(plainFile), StandardCharsets.UTF_8));
+
+        // a failing stream surfaces as IOException instead of a parse error
+        InputStream failing = new InputStream() {
+            private final InputStream json = new ByteArrayInputStream(
+                    Arrays.copyOf(Files.readAllBytes(plainFile), 100_000));
+
+            @Override
+            public int read() throws IOException {
+                int value = json.read();
+                if (value == -1) {
+                    throw new IOException("disconnected");
+                }
+                return value;
+            }
+        };
+        assertThrows(IOException.class, () -> SerializableObject.fromJSON(failing));
+        // truncated input is a parse error
+        assertThrows(Exception.class, () -> SerializableObject.fromJSON(
+                new ByteArrayInputStream(Arrays.copyOf(json.getBytes(StandardCharsets.UTF_8), 100_000))));
+
+        destination.close();
+        any.close();
+        fromGzip.close();
+        timeline.close();
+        Files.delete(gzipFile);
+        Files.delete(deflateFile);
+        Files.delete(plainFile);
+        Files.delete(directory);
+    }
 }
@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.util.TimelineGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimelineGeneratorTest {
+
+    private TimelineGenerator.TimelineGeneratorBuilder builder(long seed) {
+        return new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(seed)
+                .setTracks(3)
+                .setItemsPerTrack(50)
+                .setTransitionProbability(0.2)
+                .setNestedStackProbability(0.1)
+                .setMarkersPerItem(2)
+                .setEffectsPerItem(1)
+                .setMetadataDepth(3);
+    }
+
+    @Test
+    public void testSameSeedSameTimeline() throws Exception {
+        Timeline first = builder(7).build().generateTimeline();
+        Timeline second = builder(7).build().generateTimeline();
+        Timeline other = builder(8).build().generateTimeline();
+        assertTrue(first.isEquivalentTo(second));
+        assertFalse(first.isEquivalentTo(other));
+        assertEquals(first.toJSONString(), second.toJSONString());
+        first.close();
+        second.close();
+        other.close();
+    }
+
+    private static List<Double> durations(Track track) throws Exception {
+        List<Double> durations = new ArrayList<>();
+        for (Composable child : track.getChildren()) {
+            if (child instanceof Item) {
+                durations.add(((Item) child).getDuration().getValue());
+            }
+        }
+        return durations;
+    }
+
+    @Test
+    public void testNeighbouringSeedsShareNoTrack() throws Exception {
+        // seed * 31 + index would give both tracks the same random sequence
+        Track first = builder(0).setTracks(32).build().generateTrack(31);
+        Track second = builder(1).build().generateTrack(0);
+        assertNotEquals(durations(first), durations(second));
+        first.close();
+        second.close();
+    }
+
+    @Test
+    public void testStructure() throws Exception {
+        TimelineGenerator generator = builder(42).build();
+        Timeline timeline = generator.generateTimeline();
+        Stack stack = timeline.getTracks();
+        assertEquals(3, stack.getChildrenCount());
+        for (Composable composable : stack.getChildren()) {
+            Track track = (Track) composable;
+            int items = 0;
+            Composable previous = null;
+            for (Composable child : track.getChildren()) {
+                if (child instanceof Transition) {
+                    assertNotNull(previous);
+                    assertFalse(previous instanceof Transition);
+                } else {
+                    items++;
+                }
+                previous = child;
+            }
+            assertFalse(previous instanceof Transition);
+            assertEquals(50, items);
+        }
+        assertTrue(timeline.getDuration().getValue() > 0);
+
+        // a single track comes out the same as inside the timeline
+        Track track = generator.generateTrack(1);
+        assertTrue(track.isEquivalentTo((Track) stack.getChildren().get(1)));
+        track.close();
+        timeline.close();
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new TimelineGenerator.TimelineGeneratorBuilder().setTracks(-1).build());
+        assertThrows(IllegalArgumentException.class, () ->
+                new TimelineGenerator.TimelineGeneratorBuilder().setRate(0).build());
+    }
+}
@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright Contributors to the OpenTimelineIO Project.
+
+package io.opentimeline;
+
+import io.opentimeline.opentime.RationalTime;
+import io.opentimeline.opentime.TimeRange;
+import io.opentimeline.opentimelineio.*;
+import io.opentimeline.opentimelineio.exception.NotAChildException;
+import io.opentimeline.util.TimelineGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimelineJournalTest {
+
+    private static Clip clip(String name, int frames) {
+        return new Clip.ClipBuilder()
+                .setName(name)
+                .setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(frames, 24)))
+                .build();
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+        Timeline timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(1)
+                .setTracks(2)
+                .setItemsPerTrack(10)
+                .build()
+                .generateTimeline();
+        Path directory = Files.createTempDirectory("journal");
+        Path path = directory.resolve("live.otioj");
+        TimelineJournal journal = TimelineJournal.create(path, timeline);
+        Track track = (Track) timeline.getTracks().getChildren().get(0);
+
+        for (int i = 0; i < 20; i++) {
+            journal.appendChild(track, clip("take" + i, 10 + i));
+        }
+        journal.insertChild(track, 0, clip("slate", 5));
+        journal.removeChild(track, 3);
+        journal.setChild(track, 4, clip("replacement", 7));
+        Clip last = (Clip) track.getChildren().get(track.getChildrenCount() - 1);
+        last.setSourceRange(new TimeRange(new RationalTime(0, 24), new RationalTime(100, 24)));
+        journal.childChanged(track, track.getChildrenCount() - 1);
+        assertEquals(24, journal.getRecordCount());
+
+        Track outside = new Track.TrackBuilder().build();
+        assertThrows(NotAChildException.class, () -> journal.appendChild(outside, clip("lost", 1)));
+        journal.close();
+
+        Timeline recovered = TimelineJournal.recover(path);
+        assertTrue(timeline.isEquivalentTo(recovered));
+        recovered.close();
+
+        // a record torn by a crash is dropped, everything before it survives
+        long length = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(length - 3);
+        }
+        Timeline torn = TimelineJournal.recover(path);
+        assertFalse(timeline.isEquivalentTo(torn));
+        Track tornTrack = (Track) torn.getTracks().getChildren().get(0);
+        assertEquals(track.getChildrenCount(), tornTrack.getChildrenCount());
+        Item tornLast = (Item) tornTrack.getChildren().get(tornTrack.getChildrenCount() - 1);
+        assertEquals(29, tornLast.getSourceRange().getDuration().getValue());
+        torn.close();
+
+        // resuming cuts the torn record off and records after the last good one
+        TimelineJournal resumed = TimelineJournal.resume(path);
+        assertEquals(23, resumed.getRecordCount());
+        Track resumedTrack = (Track) resumed.getTimeline().getTracks().getChildren().get(0);
+        resumed.childChanged(resumedTrack, resumedTrack.getChildrenCount() - 1);
+        resumed.sync();
+        resumed.close();
+        Timeline again = TimelineJournal.recover(path);
+        assertTrue(resumed.getTimeline().isEquivalentTo(again));
+        again.close();
+
+        // compaction writes a standard document and starts the journal over
+        Path otio = directory.resolve("live.otio");
+        TimelineJournal compacting = TimelineJournal.resume(path);
+        compacting.compact(otio);
+        assertEquals(0, compacting.getRecordCount());
+        SerializableObject compacted = SerializableObject.fromJSONFile(otio.toString());
+        assertTrue(compacting.getTimeline().isEquivalentTo(compacted));
+        compacting.close();
+        Timeline fromCheckpoint = TimelineJournal.recover(path);
+        assertTrue(compacting.getTimeline().isEquivalentTo(fromCheckpoint));
+
+        fromCheckpoint.close();
+        compacted.close();
+        compacting.getTimeline().close();
+        resumed.getTimeline().close();
+        outside.close();
+        timeline.close();
+        Files.delete(otio);
+        Files.delete(path);
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testDamagedRecordIsNotCutOff() throws Exception {
+        Timeline timeline = new TimelineGenerator.TimelineGeneratorBuilder()
+                .setSeed(2)
+                .setItemsPerTrack(5)
+                .build()
+                .generateTimeline();
+        Path directory = Files.createTempDirectory("journal");
+        Path path = directory.resolve("damaged.otioj");
+        TimelineJournal journal = TimelineJournal.create(path, timeline);
+        Track track = (Track) timeline.getTracks().getChildren().get(0);
+        for (int i = 0; i < 3; i++) {
+            journal.appendChild(track, clip("take" + i, 10 + i));
+        }
+        journal.close();
+
+        // flip a byte in the body of the first record after the snapshot,
+        // each record is its length, its CRC and its body
+        byte[] bytes = Files.readAllBytes(path);
+        int snapshotLength = ByteBuffer.wrap(bytes, 4, 4).getInt();
+        int firstRecord = 4 + 8 + snapshotLength;
+        bytes[firstRecord + 8] ^= 0x40;
+        Files.write(path, bytes);
+
+        assertThrows(IOException.class, () -> TimelineJournal.recover(path));
+        assertThrows(IOException.class, () -> TimelineJournal.resume(path));
+        assertEquals(bytes.length, Files.size(path));
+
+        timeline.close();
+        Files.delete(path);
+        Files.delete(directory);
+    }
+}
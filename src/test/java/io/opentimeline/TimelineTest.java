@@ -127,6 +127,66 @@ public class TimelineTest {
         }
     }
 
+    private static TimeRange frames(double start, double duration) {
+        return new TimeRange(new RationalTime(start, 24), new RationalTime(duration, 24));
+    }
+
+    @Test
+    public void testItemsInWindow() throws Exception {
+        // V1: [a 10][gap 5][transition][b 10]
+        Track v1 = new Track.TrackBuilder().setName("V1").build();
+        Clip a = new Clip.ClipBuilder().setName("a").setSourceRange(frames(0, 10)).build();
+        Gap gap = new Gap.GapBuilder().setSourceRange(frames(0, 5)).build();
+        Clip b = new Clip.ClipBuilder().setName("b").setSourceRange(frames(0, 10)).build();
+        assertTrue(v1.appendChild(a));
+        assertTrue(v1.appendChild(gap));
+        assertTrue(v1.appendChild(new Transition.TransitionBuilder()
+                .setInOffset(new RationalTime(2, 24))
+                .setOutOffset(new RationalTime(2, 24))
+                .build()));
+        assertTrue(v1.appendChild(b));
+        // V2: [c 20][d 20] showing frames 5 to 25 only
+        Track v2 = new Track.TrackBuilder().setName("V2").setSourceRange(frames(5, 20)).build();
+        Clip c = new Clip.ClipBuilder().setName("c").setSourceRange(frames(0, 20)).build();
+        Clip d = new Clip.ClipBuilder().setName("d").setSourceRange(frames(0, 20)).build();
+        assertTrue(v2.appendChild(c));
+        assertTrue(v2.appendChild(d));
+        Stack stack = new Stack.StackBuilder().build();
+        assertTrue(stack.appendChild(v1));
+        assertTrue(stack.appendChild(v2));
+        Timeline timeline = new Timeline.TimelineBuilder()
+                .setGlobalStartTime(new RationalTime(100, 24))
+                .build();
+        timeline.setTracks(stack);
+
+        TimelineWindow window = timeline.itemsInWindow(frames(108, 4));
+        assertEquals(Arrays.asList(a, gap, c), window.getItems());
+        assertArrayEquals(new int[]{0, 0, 1}, window.getTrackIndices());
+        assertEquals(frames(100, 10), window.getRange(0));
+        assertEquals(frames(110, 5), window.getRange(1));
+        assertEquals(frames(100, 15), window.getRange(2));
+        assertEquals(100 / 24.0, window.getStartSeconds(2), 1e-9);
+        assertEquals(115 / 24.0, window.getEndSeconds(2), 1e-9);
+        assertEquals(12, window.getRanges().length);
+
+        // a playhead on frame 115 is over the start of b and of d
+        TimelineWindow playhead = timeline.itemsInWindow(frames(115, 0));
+        assertEquals(Arrays.asList(b, d), playhead.getItems());
+        assertEquals(0, playhead.getTrackIndex(0));
+        assertEquals(1, playhead.getTrackIndex(1));
+        assertEquals(frames(115, 10), playhead.getRange(0));
+        assertEquals(frames(115, 5), playhead.getRange(1));
+
+        assertEquals(0, timeline.itemsInWindow(frames(200, 10)).size());
+        assertThrows(IndexOutOfBoundsException.class, () -> playhead.getRange(2));
+
+        try {
+            timeline.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
     @Test
     public void testSerialize() throws OpenTimelineIOException {
         Clip clip = new Clip.ClipBuilder()
@@ -721,6 +721,122 @@ public class TrackTest {
         }
     }
 
+    @Test
+    public void testRangeOfAllChildrenArray() throws OpenTimelineIOException {
+        String projectRootDir = System.getProperty("user.dir");
+        String sampleDataDir = projectRootDir + File.separator +
+                "src" + File.separator + "test" + File.separator + "sample_data";
+        String genRefTest = sampleDataDir + File.separator + "transition_test.otio";
+        Timeline timeline = (Timeline) SerializableObject.fromJSONFile(genRefTest);
+        Track track = (Track) timeline.getTracks().getChildren().get(0);
+        HashMap<Composable, TimeRange> rangeOfAllChildren = track.getRangeOfAllChildren();
+        List<Composable> trackChildren = track.getChildren();
+        assertEquals(track.getChildrenCount(), trackChildren.size());
+
+        double[] ranges = new double[4 * track.getChildrenCount()];
+        assertEquals(track.getRangeOfAllChildren(ranges), trackChildren.size());
+        for (int i = 0; i < trackChildren.size(); i++) {
+            TimeRange expected = rangeOfAllChildren.get(trackChildren.get(i));
+            assertEquals(expected, new TimeRange(
+                    new RationalTime(ranges[4 * i], ranges[4 * i + 1]),
+                    new RationalTime(ranges[4 * i + 2], ranges[4 * i + 3])));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            track.getRangeOfAllChildren(new double[4 * trackChildren.size() - 1]);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            track.getRangeOfAllChildren(null);
+        });
+        try {
+            timeline.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testTrimmedRangesOfAllChildren() throws OpenTimelineIOException {
+        Clip clip1 = new Clip.ClipBuilder()
+                .setName("clip1")
+                .setSourceRange(
+                        new TimeRange(
+                                new RationalTime(100, 24),
+                                new RationalTime(50, 24)
+                        ))
+                .build();
+        Clip clip2 = new Clip.ClipBuilder()
+                .setName("clip2")
+                .setSourceRange(
+                        new TimeRange(
+                                new RationalTime(101, 24),
+                                new RationalTime(50, 24)
+                        ))
+                .build();
+        Track track = new Track.TrackBuilder()
+                .setName("foo")
+                .build();
+        assertTrue(track.appendChild(clip1));
+        assertTrue(track.appendChild(clip2));
+
+        double[] ranges = new double[8];
+        assertEquals(track.trimmedRangesOfAllChildren(ranges), 2);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(track.trimmedRangeOfChildAtIndex(i), new TimeRange(
+                    new RationalTime(ranges[4 * i], ranges[4 * i + 1]),
+                    new RationalTime(ranges[4 * i + 2], ranges[4 * i + 3])));
+        }
+
+        // should trim out clip 1, which is reported as NaN instead of throwing
+        track.setSourceRange(new TimeRange(
+                new RationalTime(60, 24),
+                new RationalTime(10, 24)));
+        assertEquals(track.trimmedRangesOfAllChildren(ranges), 2);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(Double.isNaN(ranges[i]));
+        }
+        assertEquals(track.trimmedRangeOfChildAtIndex(1), new TimeRange(
+                new RationalTime(ranges[4], ranges[5]),
+                new RationalTime(ranges[6], ranges[7])));
+        try {
+            clip1.close();
+            clip2.close();
+            track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testChildWrappersAreReused() throws Exception {
+        Track track = new Track.TrackBuilder().setName("track").build();
+        Clip clip = new Clip.ClipBuilder().setName("clip").build();
+        assertTrue(track.appendChild(clip));
+
+        Composable first = track.getChildren().get(0);
+        Composable second = track.getChildren().get(0);
+        assertSame(first, second);
+        assertEquals(first.hashCode(), clip.hashCode());
+        // the track was built in Java, its wrapper is not the one native code hands out
+        assertEquals(track.hashCode(), first.parent().hashCode());
+
+        // two lookups, each closed by its own caller: the wrapper stays usable until the last close
+        first.close();
+        assertEquals("clip", second.getName());
+        second.close();
+
+        // once every hand-out is closed the wrapper is never handed out again
+        Composable fresh = track.getChildren().get(0);
+        assertNotSame(first, fresh);
+        assertEquals("clip", fresh.getName());
+        try {
+            clip.close();
+            track.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
     @Test
     public void testClipIfNullTimeRange() throws Exception{
         try(Track track = new Track.TrackBuilder().build();)